@@ -0,0 +1,79 @@
+package io.jhchoe.familytree.common.auth.adapter.out;
+
+import io.jhchoe.familytree.common.auth.application.port.out.RateLimitPort;
+import java.time.Clock;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 여러 스레드가 같은 Rate Limit 저장소를 동시에 사용할 때 {@link SlidingWindowRateLimitAdapter}의 CAS 갱신과
+ * {@link InMemoryRateLimitAdapter}의 윈도우별 synchronized 갱신의 처리량을 비교합니다.
+ *
+ * <p>{@code keys}가 1이면 모든 스레드가 한 키(예: 같은 IP)를 두고 경합하고, 1024이면 스레드마다 키를 돌아가며 사용합니다.
+ * 제한은 1초에 {@code limit}회이므로 제한을 채운 뒤에는 거부 경로도 함께 측정됩니다. 실행은 {@code ./gradlew jmh}입니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class RateLimitAdapterBenchmark {
+
+    private static final long WINDOW_SECONDS = 1L;
+
+    @Param({"sliding", "fixed"})
+    private String adapter;
+
+    @Param({"1", "1024"})
+    private int keys;
+
+    @Param({"1000"})
+    private int limit;
+
+    private RateLimitPort port;
+    private String[] keyNames;
+
+    @Setup
+    public void setUp() {
+        port = "sliding".equals(adapter)
+            ? new SlidingWindowRateLimitAdapter(Clock.systemUTC(), keys * 2)
+            : new InMemoryRateLimitAdapter(Clock.systemUTC());
+        keyNames = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            keyNames[i] = "token_refresh:10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public boolean checkAndIncrement(final KeyCursor cursor) {
+        return port.checkAndIncrement(keyNames[cursor.next(keys)], limit, WINDOW_SECONDS);
+    }
+
+    /**
+     * 스레드마다 사용할 다음 키 위치를 가리키는 상태입니다.
+     */
+    @State(Scope.Thread)
+    public static class KeyCursor {
+
+        private int position;
+
+        @Setup
+        public void setUp() {
+            // 스레드들이 같은 순서로 같은 키를 동시에 밟지 않도록 시작 위치를 흩어 둔다
+            position = ThreadLocalRandom.current().nextInt(1024);
+        }
+
+        int next(final int keys) {
+            position = (position + 1) % keys;
+            return position;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.jhchoe.familytree.common.auth.util;
+
+import io.jhchoe.familytree.common.auth.config.JwtProperties;
+import io.jhchoe.familytree.common.auth.domain.FTUser;
+import io.jhchoe.familytree.common.auth.domain.JwtClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 인증 요청 한 건에서 JWT 클레임을 꺼내는 비용을 측정합니다.
+ *
+ * <p>{@link JwtTokenUtil#extractVerifiedClaims}의 한 번 파싱과, 검증 후 클레임마다 개별 extract 메서드를 호출하던
+ * 이전 인증 필터 방식을 비교합니다. 이전 방식은 호출마다 서명 키와 파서를 새로 만들던 구현({@code legacy})과
+ * 파서만 재사용하는 현재 개별 extract 메서드({@code perClaim})로 나누어 측정합니다. 실행은 {@code ./gradlew jmh}입니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtClaimsExtractionBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-token-signing-must-be-at-least-256-bits";
+
+    private JwtTokenUtil jwtTokenUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        final JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setAccessTokenExpiration(3600L);
+        jwtProperties.setRefreshTokenExpiration(604800L);
+        jwtProperties.setIssuer("family-tree-benchmark");
+
+        jwtTokenUtil = new JwtTokenUtil(jwtProperties);
+        token = jwtTokenUtil.generateAccessToken(FTUser.ofJwtUser(1L, "벤치마크 사용자", "bench@example.com", "USER"));
+    }
+
+    @Benchmark
+    public JwtClaims extractVerifiedClaims() {
+        return jwtTokenUtil.extractVerifiedClaims(token);
+    }
+
+    @Benchmark
+    public void perClaim(final Blackhole blackhole) {
+        blackhole.consume(jwtTokenUtil.validateToken(token));
+        blackhole.consume(jwtTokenUtil.extractUserId(token));
+        blackhole.consume(jwtTokenUtil.extractEmail(token));
+        blackhole.consume(jwtTokenUtil.extractName(token));
+        blackhole.consume(jwtTokenUtil.extractRole(token));
+    }
+
+    @Benchmark
+    public void legacy(final Blackhole blackhole) {
+        // 이전 구현은 검증과 클레임 추출마다 서명 키와 파서를 새로 만들어 토큰을 다시 파싱했다
+        blackhole.consume(legacyParse());
+        blackhole.consume(Long.parseLong(legacyParse().getSubject()));
+        blackhole.consume(legacyParse().get("email", String.class));
+        blackhole.consume(legacyParse().get("name", String.class));
+        blackhole.consume(legacyParse().get("role", String.class));
+    }
+
+    private Claims legacyParse() {
+        return Jwts.parserBuilder()
+            .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+            .build()
+            .parseClaimsJws(token)
+            .getBody();
+    }
+}
@@ -0,0 +1,151 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * 합성 가계도에서 {@link FamilyMemberAdapter}의 조상·자손 재귀 조회 SQL을 측정합니다.
+ *
+ * <p>H2 메모리 DB에 구성원 {@code members}명을 한 Family로 만들고, 구성원 i(2 이상)의 부모를 i / 2로 두어
+ * 같은 수의 부모·자녀 관계 행을 채웁니다. 스키마는 V16 마이그레이션의 테이블·인덱스 중 조회에 쓰는 부분만 만듭니다.
+ * 비교 대상은 WITH RECURSIVE를 쓸 수 없을 때처럼 Family의 관계를 모두 읽어 메모리에서 조상을 찾는 방식입니다.
+ * 실행은 {@code ./gradlew jmh}입니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FamilyMemberLineageQueryBenchmark {
+
+    private static final long FAMILY_ID = 1L;
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"100000"})
+    private int members;
+
+    @Param({"4", "8"})
+    private int maxDepth;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:lineage;DB_CLOSE_DELAY=-1", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("CREATE TABLE family_member (id BIGINT PRIMARY KEY, family_id BIGINT NOT NULL)");
+        jdbcTemplate.execute("""
+            CREATE TABLE family_member_parent (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                family_id BIGINT NOT NULL,
+                child_member_id BIGINT NOT NULL,
+                parent_member_id BIGINT NOT NULL,
+                generations SMALLINT NOT NULL DEFAULT 1,
+                CONSTRAINT uk_member_parent UNIQUE (family_id, child_member_id, parent_member_id)
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE INDEX idx_member_parent_parent ON family_member_parent (family_id, parent_member_id, child_member_id)
+            """);
+
+        for (int from = 1; from <= members; from += BATCH_SIZE) {
+            final int start = from;
+            final int end = Math.min(from + BATCH_SIZE - 1, members);
+            jdbcTemplate.batchUpdate("INSERT INTO family_member (id, family_id) VALUES (?, ?)",
+                new IdBatch(start, end, (ps, id) -> {
+                    ps.setLong(1, id);
+                    ps.setLong(2, FAMILY_ID);
+                }));
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO family_member_parent (family_id, child_member_id, parent_member_id) VALUES (?, ?, ?)",
+                new IdBatch(Math.max(start, 2), end, (ps, id) -> {
+                    ps.setLong(1, FAMILY_ID);
+                    ps.setLong(2, id);
+                    ps.setLong(3, id / 2);
+                }));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> findAncestorsOfLeaf() {
+        return jdbcTemplate.queryForList(
+            FamilyMemberAdapter.FIND_ANCESTORS_SQL, (long) members, FAMILY_ID, FAMILY_ID, maxDepth
+        );
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> findDescendantsOfRoot() {
+        return jdbcTemplate.queryForList(
+            FamilyMemberAdapter.FIND_DESCENDANTS_SQL, 1L, FAMILY_ID, FAMILY_ID, maxDepth
+        );
+    }
+
+    @Benchmark
+    public List<Long> findAncestorsOfLeafFromLoadedEdges() {
+        final Map<Long, List<Long>> parentsByChild = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT child_member_id, parent_member_id FROM family_member_parent WHERE family_id = ?",
+            rs -> {
+                parentsByChild.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getLong(2));
+            },
+            FAMILY_ID
+        );
+
+        final List<Long> ancestors = new ArrayList<>();
+        List<Long> frontier = List.of((long) members);
+        for (int depth = 1; depth <= maxDepth && !frontier.isEmpty(); depth++) {
+            final List<Long> next = new ArrayList<>();
+            for (Long memberId : frontier) {
+                next.addAll(parentsByChild.getOrDefault(memberId, List.of()));
+            }
+            ancestors.addAll(next);
+            frontier = next;
+        }
+        return ancestors;
+    }
+
+    /**
+     * 연속된 ID 범위를 배치 파라미터로 넘기는 헬퍼입니다.
+     */
+    private record IdBatch(int start, int end, IdSetter setter) implements BatchPreparedStatementSetter {
+
+        @Override
+        public void setValues(final PreparedStatement ps, final int i) throws SQLException {
+            setter.set(ps, start + i);
+        }
+
+        @Override
+        public int getBatchSize() {
+            return Math.max(0, end - start + 1);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IdSetter {
+        void set(PreparedStatement ps, long id) throws SQLException;
+    }
+}
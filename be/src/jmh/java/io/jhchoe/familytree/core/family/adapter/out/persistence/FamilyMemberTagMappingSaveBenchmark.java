@@ -0,0 +1,105 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+import io.jhchoe.familytree.common.config.JpaBatchProperties;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberTagMapping;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+/**
+ * 태그 매핑을 여러 건 저장할 때의 초당 저장 행 수를 Hibernate JDBC 배치 적용 여부에 따라 비교합니다.
+ *
+ * <p>{@link FamilyMemberTagMappingAdapter#saveAll}과 같은 경로로, 실제 엔티티를
+ * Spring Data JPA의 {@link SimpleJpaRepository#saveAll}로 저장하고 커밋합니다.
+ * H2 메모리 DB와 Hibernate를 직접 구성하며, 배치를 켜면 {@code JpaBatchConfig}와 같은 설정
+ * (배치 크기 {@link JpaBatchProperties#getSize()}, INSERT 정렬)을 적용합니다.
+ * 엔티티는 pooled 시퀀스를 사용하므로 배치를 끄면 행마다 INSERT를 전송하는 것만 달라집니다.</p>
+ * <p>한 번 호출에 {@value #ROWS}행을 저장하므로 처리량은 초당 저장 행 수입니다.
+ * 실행은 {@code ./gradlew jmh}입니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FamilyMemberTagMappingSaveBenchmark {
+
+    private static final int ROWS = 500;
+    private static final long TAG_ID = 1L;
+
+    @Param({"false", "true"})
+    private boolean batching;
+
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final StandardServiceRegistryBuilder builder = new StandardServiceRegistryBuilder()
+            .applySetting(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:tag_mapping_save;DB_CLOSE_DELAY=-1")
+            .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .applySetting(AvailableSettings.SHOW_SQL, false);
+        if (batching) {
+            builder.applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, new JpaBatchProperties().getSize())
+                .applySetting(AvailableSettings.ORDER_INSERTS, true);
+        } else {
+            builder.applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 1);
+        }
+        registry = builder.build();
+        sessionFactory = new MetadataSources(registry)
+            .addAnnotatedClass(FamilyMemberTagMappingJpaEntity.class)
+            .buildMetadata()
+            .buildSessionFactory();
+    }
+
+    // 테이블이 계속 커지면 뒤쪽 측정일수록 느려지므로 호출마다 비운다
+    @Setup(Level.Invocation)
+    public void truncate() {
+        sessionFactory.inTransaction(session ->
+            session.createNativeMutationQuery("TRUNCATE TABLE family_member_tag_mapping").executeUpdate()
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int saveAll() {
+        final List<FamilyMemberTagMappingJpaEntity> mappings = new ArrayList<>(ROWS);
+        for (long memberId = 1; memberId <= ROWS; memberId++) {
+            mappings.add(FamilyMemberTagMappingJpaEntity.from(FamilyMemberTagMapping.newMapping(TAG_ID, memberId)));
+        }
+
+        final EntityManager entityManager = sessionFactory.createEntityManager();
+        try {
+            final SimpleJpaRepository<FamilyMemberTagMappingJpaEntity, Long> repository =
+                new SimpleJpaRepository<>(FamilyMemberTagMappingJpaEntity.class, entityManager);
+            entityManager.getTransaction().begin();
+            final int saved = repository.saveAll(mappings).size();
+            entityManager.getTransaction().commit();
+            return saved;
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+import io.jhchoe.familytree.core.family.domain.FamilyMember;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberTag;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberTagMapping;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberWithTags;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+
+/**
+ * 홈 화면 구성원 목록(구성원 + 태그) 조회 비용을 구성원 수백 명인 Family에서 측정합니다.
+ *
+ * <p>{@link FamilyMemberAdapter#findAllByFamilyIdAndStatusIn}의 조인 쿼리 한 번과,
+ * 이전 서비스처럼 구성원·태그·태그 매핑을 각각 조회해 메모리에서 상태 필터·나이순 정렬·조인하던 방식을 비교합니다.
+ * H2 메모리 DB와 Hibernate를 직접 구성하고, 리포지토리는 Spring Data JPA의 {@link JpaRepositoryFactory}로 만듭니다.
+ * 구성원마다 태그를 {@code tagsPerMember}개 붙이며, 구성원 열 명 중 한 명은 정지 상태입니다. 실행은 {@code ./gradlew jmh}입니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FamilyMemberWithTagsQueryBenchmark {
+
+    private static final long FAMILY_ID = 1L;
+    private static final int TAGS = 10;
+    private static final Set<FamilyMemberStatus> VISIBLE_STATUSES = EnumSet.of(FamilyMemberStatus.ACTIVE);
+
+    @Param({"300", "800"})
+    private int members;
+
+    @Param({"2"})
+    private int tagsPerMember;
+
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private FamilyMemberAdapter adapter;
+    private FamilyMemberJpaRepository memberRepository;
+    private FamilyMemberTagJpaRepository tagRepository;
+    private FamilyMemberTagMappingJpaRepository mappingRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        registry = new StandardServiceRegistryBuilder()
+            .applySetting(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:member_with_tags;DB_CLOSE_DELAY=-1")
+            .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .applySetting(AvailableSettings.SHOW_SQL, false)
+            .build();
+        sessionFactory = new MetadataSources(registry)
+            .addAnnotatedClass(FamilyJpaEntity.class)
+            .addAnnotatedClass(FamilyMemberJpaEntity.class)
+            .addAnnotatedClass(FamilyMemberTagJpaEntity.class)
+            .addAnnotatedClass(FamilyMemberTagMappingJpaEntity.class)
+            .buildMetadata()
+            .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            session.createNativeMutationQuery("""
+                INSERT INTO family (id, name, is_public, deleted, member_count, active_member_count, content_version,
+                                    created_by, created_at)
+                VALUES (:familyId, '벤치마크 가족', true, false, 0, 0, 0, 1, CURRENT_TIMESTAMP)
+                """).setParameter("familyId", FAMILY_ID).executeUpdate();
+            for (long tagId = 1; tagId <= TAGS; tagId++) {
+                session.createNativeMutationQuery("""
+                    INSERT INTO family_member_tag (id, family_id, name, color, created_by, created_at)
+                    VALUES (:id, :familyId, :name, '#FFFFFF', 1, CURRENT_TIMESTAMP)
+                    """)
+                    .setParameter("id", tagId)
+                    .setParameter("familyId", FAMILY_ID)
+                    .setParameter("name", "태그" + tagId)
+                    .executeUpdate();
+            }
+            long mappingId = 1;
+            for (long memberId = 1; memberId <= members; memberId++) {
+                // 생일은 ID와 무관하게 흩어 두어 정렬 비용이 실제처럼 들도록 한다
+                session.createNativeMutationQuery("""
+                    INSERT INTO family_member (id, family_id, name, birthday, status, role, created_by, created_at)
+                    VALUES (:id, :familyId, :name, :birthday, :status, 'MEMBER', 1, CURRENT_TIMESTAMP)
+                    """)
+                    .setParameter("id", memberId)
+                    .setParameter("familyId", FAMILY_ID)
+                    .setParameter("name", "구성원" + memberId)
+                    .setParameter("birthday", memberId % 7 == 0 ? null : LocalDateTime.of(1950, 1, 1, 0, 0)
+                        .plusDays(memberId * 7919 % 25_000), LocalDateTime.class)
+                    .setParameter("status", memberId % 10 == 0 ? "SUSPENDED" : "ACTIVE")
+                    .executeUpdate();
+                for (int i = 0; i < tagsPerMember; i++) {
+                    session.createNativeMutationQuery("""
+                        INSERT INTO family_member_tag_mapping (id, tag_id, member_id, created_at)
+                        VALUES (:id, :tagId, :memberId, CURRENT_TIMESTAMP)
+                        """)
+                        .setParameter("id", mappingId++)
+                        .setParameter("tagId", (memberId + i) % TAGS + 1)
+                        .setParameter("memberId", memberId)
+                        .executeUpdate();
+                }
+            }
+        });
+
+        entityManager = sessionFactory.createEntityManager();
+        final JpaRepositoryFactory factory = new JpaRepositoryFactory(entityManager);
+        memberRepository = factory.getRepository(FamilyMemberJpaRepository.class);
+        tagRepository = factory.getRepository(FamilyMemberTagJpaRepository.class);
+        mappingRepository = factory.getRepository(FamilyMemberTagMappingJpaRepository.class);
+        // 이 조회는 구성원 리포지토리만 사용하므로 나머지 의존성은 비워 둔다
+        adapter = new FamilyMemberAdapter(memberRepository, null, null, null, null, null);
+    }
+
+    // 요청마다 새 영속성 컨텍스트에서 조회하는 것과 같도록 이전 호출에서 읽은 엔티티를 비운다
+    @Setup(Level.Invocation)
+    public void clear() {
+        entityManager.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Benchmark
+    public List<FamilyMemberWithTags> joinedQuery() {
+        return adapter.findAllByFamilyIdAndStatusIn(FAMILY_ID, VISIBLE_STATUSES);
+    }
+
+    @Benchmark
+    public List<FamilyMemberWithTags> separateQueries() {
+        // 이전 FindFamilyMemberService와 같이 구성원 전체를 읽어 메모리에서 상태 필터와 나이순 정렬을 한다
+        final List<FamilyMember> filteredMembers = memberRepository.findAllByFamilyId(FAMILY_ID).stream()
+            .map(FamilyMemberJpaEntity::toFamilyMember)
+            .filter(member -> VISIBLE_STATUSES.contains(member.getStatus()))
+            .sorted(Comparator.comparing(FamilyMember::getBirthday, Comparator.nullsLast(Comparator.reverseOrder())))
+            .toList();
+
+        final Map<Long, FamilyMemberTag> tagMap = tagRepository.findAllByFamilyId(FAMILY_ID).stream()
+            .map(FamilyMemberTagJpaEntity::toFamilyMemberTag)
+            .collect(Collectors.toMap(FamilyMemberTag::getId, Function.identity()));
+
+        final Map<Long, List<FamilyMemberTagMapping>> mappingsByMemberId = mappingRepository
+            .findAllByMemberIds(filteredMembers.stream().map(FamilyMember::getId).toList()).stream()
+            .map(FamilyMemberTagMappingJpaEntity::toFamilyMemberTagMapping)
+            .collect(Collectors.groupingBy(FamilyMemberTagMapping::getMemberId));
+
+        return filteredMembers.stream()
+            .map(member -> FamilyMemberWithTags.of(member, mappingsByMemberId.getOrDefault(member.getId(), List.of())
+                .stream()
+                .map(mapping -> tagMap.get(mapping.getTagId()))
+                .filter(tag -> tag != null)
+                .toList()))
+            .toList();
+    }
+}
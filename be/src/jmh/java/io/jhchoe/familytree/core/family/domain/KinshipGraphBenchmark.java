@@ -0,0 +1,114 @@
+package io.jhchoe.familytree.core.family.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 합성 가계도로 KinshipGraph의 생성·탐색 비용을 측정합니다.
+ *
+ * <p>구성원 1번을 시조로, 각 구성원이 자녀 {@code branching}명을 두는 가계도를 ID 순서대로 만들고
+ * 2세대부터는 자녀의 배우자도 구성원으로 추가합니다.</p>
+ *
+ * <p>{@code fromMembers} 계열은 같은 수의 {@link FamilyMember}에 소유자 기준 관계 타입을 고르게 배정해
+ * 실제 저장 경로(FamilyMemberParentSynchronizer)와 같이 구성원 목록에서 그래프를 만드는 비용을 측정합니다.
+ * 관계 타입으로는 소유자의 위아래 2세대까지만 표현되므로 이 그래프는 넓고 얕습니다. 실행은 {@code ./gradlew jmh}입니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KinshipGraphBenchmark {
+
+    @Param({"10000"})
+    private int members;
+
+    @Param({"3"})
+    private int branching;
+
+    private long[] childParents;
+    private List<FamilyMember> familyMembers;
+    private KinshipGraph graph;
+    private long firstLeaf;
+    private long lastLeaf;
+
+    @Setup
+    public void setUp() {
+        // 혈족 i(2 이상)의 부모는 (i - 2) / branching + 1 이며, 배우자는 혈족 수만큼 뒤의 ID를 사용합니다.
+        final int bloodRelatives = members / 2;
+        childParents = new long[bloodRelatives + 1];
+        for (int child = 2; child <= bloodRelatives; child++) {
+            childParents[child] = (child - 2) / branching + 1;
+        }
+        graph = build();
+        lastLeaf = bloodRelatives;
+        firstLeaf = (bloodRelatives - 2) / branching + 2;
+        familyMembers = createFamilyMembers();
+    }
+
+    @Benchmark
+    public KinshipGraph build() {
+        final int bloodRelatives = childParents.length - 1;
+        final KinshipGraph.Builder builder = KinshipGraph.builder().addMember(1L);
+        for (int child = 2; child <= bloodRelatives; child++) {
+            builder.addParent(child, childParents[child]);
+            builder.addSpouse(child, child + bloodRelatives);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public KinshipGraph fromMembers() {
+        return KinshipGraph.fromMembers(familyMembers);
+    }
+
+    @Benchmark
+    public List<KinshipParentLink> fromMembersThenFindParentLinks() {
+        return KinshipGraph.fromMembers(familyMembers).findParentLinks();
+    }
+
+    @Benchmark
+    public List<KinshipRelative> findAncestorsOfLeaf() {
+        return graph.findAncestors(lastLeaf);
+    }
+
+    @Benchmark
+    public List<KinshipRelative> findDescendantsOfRoot() {
+        return graph.findDescendants(1L);
+    }
+
+    @Benchmark
+    public Optional<KinshipPath> findPathBetweenLeaves() {
+        return graph.findPath(firstLeaf, lastLeaf);
+    }
+
+    /**
+     * 1번을 소유자로 두고 나머지 구성원에게 CUSTOM을 제외한 관계 타입을 차례로 배정합니다.
+     */
+    private List<FamilyMember> createFamilyMembers() {
+        final FamilyMemberRelationshipType[] types = Arrays.stream(FamilyMemberRelationshipType.values())
+            .filter(type -> type != FamilyMemberRelationshipType.CUSTOM)
+            .toArray(FamilyMemberRelationshipType[]::new);
+        final List<FamilyMember> result = new ArrayList<>(members);
+        for (long id = 1; id <= members; id++) {
+            final boolean owner = id == 1;
+            result.add(FamilyMember.withId(
+                id, 1L, id, "구성원" + id,
+                owner ? null : types[(int) (id % types.length)], null,
+                null, null, null,
+                FamilyMemberStatus.ACTIVE, owner ? FamilyMemberRole.OWNER : FamilyMemberRole.MEMBER,
+                null, null, null, null
+            ));
+        }
+        return result;
+    }
+}
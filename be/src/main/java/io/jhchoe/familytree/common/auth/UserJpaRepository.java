@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.NativeQuery;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserJpaRepository extends JpaRepository<UserJpaEntity, Long> {
 
@@ -18,6 +21,91 @@ public interface UserJpaRepository extends JpaRepository<UserJpaEntity, Long> {
      */
     List<UserJpaEntity> findByNameContaining(String name, Pageable pageable);
 
+    /**
+     * 이름이 키워드와 완전히 일치하는 사용자를 ID 오름차순으로 키셋 페이징하여 조회합니다. (관련도 순위 0)
+     * <p>
+     * 네이티브 쿼리를 사용하는 이유:
+     * - idx_users_name_prefix(LOWER(name), id) 부분 인덱스의 식·조건과 같은 형태로 비교해야 인덱스 범위 조회가 됨
+     *
+     * @param keyword  정규화된 키워드
+     * @param cursorId 이 순위에서 마지막으로 조회한 사용자 ID (처음부터 조회하면 0)
+     * @param limit    조회할 최대 개수
+     * @return 조회된 사용자 목록
+     */
+    @NativeQuery("""
+        SELECT u.*
+        FROM users u
+        WHERE u.deleted = false
+          AND LOWER(u.name) = :keyword
+          AND u.id > :cursorId
+        ORDER BY u.id ASC
+        LIMIT :limit
+        """)
+    List<UserJpaEntity> searchByExactName(
+        @Param("keyword") String keyword,
+        @Param("cursorId") long cursorId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 이름이 키워드로 시작하지만 완전히 일치하지는 않는 사용자를 ID 오름차순으로 키셋 페이징하여 조회합니다. (관련도 순위 1)
+     * <p>
+     * 네이티브 쿼리를 사용하는 이유:
+     * - 패턴 값이 정해진 실행 계획에서 LIKE '키워드%'가 idx_users_name_prefix(text_pattern_ops) 범위 조회로 바뀌므로
+     *   트라이그램을 만들 수 없는 한두 글자 키워드도 인덱스로 찾음
+     *
+     * @param prefixPattern 앞부분 일치 LIKE 패턴 (소문자, ESCAPE '\')
+     * @param keyword       정규화된 키워드 (완전 일치 제외용)
+     * @param cursorId      이 순위에서 마지막으로 조회한 사용자 ID (처음부터 조회하면 0)
+     * @param limit         조회할 최대 개수
+     * @return 조회된 사용자 목록
+     */
+    @NativeQuery("""
+        SELECT u.*
+        FROM users u
+        WHERE u.deleted = false
+          AND LOWER(u.name) LIKE :prefixPattern ESCAPE '\\'
+          AND LOWER(u.name) <> :keyword
+          AND u.id > :cursorId
+        ORDER BY u.id ASC
+        LIMIT :limit
+        """)
+    List<UserJpaEntity> searchByNamePrefix(
+        @Param("prefixPattern") String prefixPattern,
+        @Param("keyword") String keyword,
+        @Param("cursorId") long cursorId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 이름 중간에 키워드가 포함된 사용자를 ID 오름차순으로 키셋 페이징하여 조회합니다. (관련도 순위 2)
+     * <p>
+     * 네이티브 쿼리를 사용하는 이유:
+     * - PostgreSQL에서는 LOWER(name) pg_trgm GIN 인덱스가 LIKE '%키워드%' 조건을 처리하고, 같은 SQL이 H2에서도 동작
+     *
+     * @param containsPattern 부분 일치 LIKE 패턴 (소문자, ESCAPE '\')
+     * @param prefixPattern   앞부분 일치 LIKE 패턴 (소문자, ESCAPE '\', 앞 순위 제외용)
+     * @param cursorId        이 순위에서 마지막으로 조회한 사용자 ID (처음부터 조회하면 0)
+     * @param limit           조회할 최대 개수
+     * @return 조회된 사용자 목록
+     */
+    @NativeQuery("""
+        SELECT u.*
+        FROM users u
+        WHERE u.deleted = false
+          AND LOWER(u.name) LIKE :containsPattern ESCAPE '\\'
+          AND LOWER(u.name) NOT LIKE :prefixPattern ESCAPE '\\'
+          AND u.id > :cursorId
+        ORDER BY u.id ASC
+        LIMIT :limit
+        """)
+    List<UserJpaEntity> searchByNameInfix(
+        @Param("containsPattern") String containsPattern,
+        @Param("prefixPattern") String prefixPattern,
+        @Param("cursorId") long cursorId,
+        @Param("limit") int limit
+    );
+
     /**
      * 카카오 ID로 사용자를 조회합니다.
      *
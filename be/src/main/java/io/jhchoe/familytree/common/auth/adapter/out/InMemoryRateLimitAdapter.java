@@ -2,7 +2,6 @@ package io.jhchoe.familytree.common.auth.adapter.out;
 
 import io.jhchoe.familytree.common.auth.application.port.out.RateLimitPort;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Component;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -10,11 +9,11 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * 메모리 기반 Rate Limit 구현체입니다.
- * 개발/테스트 환경에서 사용하며, 프로덕션에서는 Redis 기반 구현체로 교체해야 합니다.
+ * 메모리 기반 고정 윈도우 Rate Limit 구현체입니다.
+ * 윈도우 경계에서 제한의 두 배까지 허용되고 키가 제거되지 않아 빈으로는 {@link SlidingWindowRateLimitAdapter}를 등록합니다.
+ * 이 클래스는 슬라이딩 윈도우 구현의 비교 기준(단위 테스트, JMH 벤치마크)으로 사용합니다.
  */
 @Slf4j
-@Component
 public class InMemoryRateLimitAdapter implements RateLimitPort {
 
     private final Clock clock;
@@ -3,16 +3,19 @@ package io.jhchoe.familytree.common.auth.adapter.out;
 import io.jhchoe.familytree.common.auth.application.port.out.SaveSecurityEventPort;
 import io.jhchoe.familytree.common.auth.domain.SecurityEvent;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 메모리 기반 보안 이벤트 저장 구현체입니다.
- * 개발/테스트 환경에서 사용하며, 프로덕션에서는 데이터베이스 기반 구현체로 교체해야 합니다.
+ * 개발/테스트 환경에서 사용하며, 프로덕션에서는 {@code security-event.writer.enabled=true}로
+ * 비동기 배치 저장 구현체(BatchSecurityEventAdapter)를 사용해야 합니다.
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(prefix = "security-event.writer", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class InMemorySecurityEventAdapter implements SaveSecurityEventPort {
 
     private final AtomicLong idGenerator = new AtomicLong(1);
@@ -0,0 +1,258 @@
+package io.jhchoe.familytree.common.auth.adapter.out;
+
+import io.jhchoe.familytree.common.auth.application.port.out.RateLimitPort;
+import io.jhchoe.familytree.common.auth.adapter.out.persistence.DatabaseRateLimitAdapter;
+import io.jhchoe.familytree.common.auth.config.RateLimitProperties;
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 슬라이딩 윈도우 카운터 기반의 메모리 Rate Limit 구현체입니다.
+ *
+ * <p>키마다 현재 윈도우와 직전 윈도우의 요청 수를 하나의 long 값에 묶어 CAS로 갱신하므로 잠금이 없습니다.
+ * 허용 여부는 {@code 현재 카운트 + 직전 카운트 × (윈도우 중 남은 비율)}로 추정하여
+ * 고정 윈도우 경계에서 제한의 두 배까지 허용되던 버스트를 막습니다.</p>
+ *
+ * <p>두 윈도우 이상 요청이 없는 키는 백그라운드에서 제거합니다. 키 수가 상한에 도달하면 유휴 키를 먼저 정리하고,
+ * 그래도 공간이 없으면 가장 오래 사용되지 않은 키를 일부 제거한 뒤 새 키를 받습니다.
+ * 상한은 메모리 보호용이므로 새 키의 요청을 거부하지 않습니다(fail-open).</p>
+ */
+@Slf4j
+@Component
+@Profile("!" + DatabaseRateLimitAdapter.PROFILE)
+public class SlidingWindowRateLimitAdapter implements RateLimitPort {
+
+    // state 비트 구성: [윈도우 인덱스 하위 24비트][현재 윈도우 카운트 20비트][직전 윈도우 카운트 20비트]
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final int INDEX_SHIFT = COUNT_BITS * 2;
+    private static final long INDEX_MASK = (1L << (Long.SIZE - INDEX_SHIFT)) - 1;
+
+    // 상한 도달 시 한 번에 제거할 키 비율 (매 요청마다 전체를 훑지 않도록 여유 공간을 만든다)
+    private static final int CAPACITY_EVICTION_DIVISOR = 100;
+
+    private final Clock clock;
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, SlidingWindowCounter> counters;
+
+    @Autowired
+    public SlidingWindowRateLimitAdapter(final RateLimitProperties rateLimitProperties) {
+        this(Clock.systemUTC(), rateLimitProperties.getMaxKeys());
+    }
+
+    // 테스트용 생성자
+    public SlidingWindowRateLimitAdapter(final Clock clock, final int maxKeys) {
+        this.clock = clock;
+        this.maxKeys = maxKeys;
+        this.counters = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public boolean checkAndIncrement(final String key, final int limitCount, final long windowSizeInSeconds) {
+        if (key == null || key.trim().isEmpty()) {
+            log.warn("Rate limit key is null or empty");
+            return false;
+        }
+
+        final long nowMillis = clock.millis();
+        final SlidingWindowCounter counter = findOrCreateCounter(key, nowMillis);
+        final boolean allowed = counter.tryAcquire(
+            nowMillis,
+            windowSizeInSeconds * 1000L,
+            (int) Math.min(limitCount, COUNT_MASK)
+        );
+        if (!allowed) {
+            log.debug("Rate limit exceeded for key: {}, limit: {}", key, limitCount);
+        }
+        return allowed;
+    }
+
+    @Override
+    public int getCurrentCount(final String key) {
+        if (key == null || key.trim().isEmpty()) {
+            return 0;
+        }
+
+        final SlidingWindowCounter counter = counters.get(key);
+        if (counter == null) {
+            return 0;
+        }
+        return (int) counter.estimate(clock.millis());
+    }
+
+    @Override
+    public void reset(final String key) {
+        if (key == null || key.trim().isEmpty()) {
+            return;
+        }
+
+        counters.remove(key);
+        log.debug("Rate limit reset for key: {}", key);
+    }
+
+    /**
+     * 두 윈도우 이상 요청이 없어 더 이상 추정치에 기여하지 않는 키를 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleKeys() {
+        final long nowMillis = clock.millis();
+        final int before = counters.size();
+        counters.values().removeIf(counter -> counter.isIdle(nowMillis));
+        final int evicted = before - counters.size();
+        if (evicted > 0) {
+            log.debug("Evicted {} idle rate limit keys, remaining: {}", evicted, counters.size());
+        }
+    }
+
+    /**
+     * 현재 보관 중인 키 수를 반환합니다.
+     *
+     * @return 키 수
+     */
+    public int size() {
+        return counters.size();
+    }
+
+    /**
+     * 키에 해당하는 카운터를 조회하거나 생성합니다. 키 수가 상한이면 공간을 확보한 후 생성합니다.
+     *
+     * @param key Rate Limit 키
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @return 카운터
+     */
+    private SlidingWindowCounter findOrCreateCounter(final String key, final long nowMillis) {
+        final SlidingWindowCounter existing = counters.get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        if (counters.size() >= maxKeys) {
+            makeRoom(nowMillis);
+        }
+        return counters.computeIfAbsent(key, k -> new SlidingWindowCounter(nowMillis));
+    }
+
+    /**
+     * 유휴 키를 정리하고, 그래도 상한이면 가장 오래 사용되지 않은 키를 상한의 1%만큼 제거합니다.
+     * 동시에 여러 요청이 상한에 도달해도 한 스레드만 정리하도록 동기화합니다.
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     */
+    private synchronized void makeRoom(final long nowMillis) {
+        if (counters.size() < maxKeys) {
+            return;
+        }
+        counters.values().removeIf(counter -> counter.isIdle(nowMillis));
+        if (counters.size() < maxKeys) {
+            return;
+        }
+
+        final int evictCount = Math.max(1, maxKeys / CAPACITY_EVICTION_DIVISOR);
+        // 마지막 사용 시각이 가장 최근인 키가 머리에 오는 최대 힙으로 가장 오래된 evictCount개만 유지한다
+        final PriorityQueue<Map.Entry<String, SlidingWindowCounter>> oldest = new PriorityQueue<>(
+            evictCount + 1,
+            Comparator.comparingLong(
+                (Map.Entry<String, SlidingWindowCounter> entry) -> entry.getValue().lastAccessMillis
+            ).reversed()
+        );
+        for (Map.Entry<String, SlidingWindowCounter> entry : counters.entrySet()) {
+            oldest.offer(entry);
+            if (oldest.size() > evictCount) {
+                oldest.poll();
+            }
+        }
+        for (Map.Entry<String, SlidingWindowCounter> entry : oldest) {
+            counters.remove(entry.getKey(), entry.getValue());
+        }
+        log.warn("Rate limit key capacity reached ({}), evicted {} least recently used keys", maxKeys, oldest.size());
+    }
+
+    /**
+     * 키별 슬라이딩 윈도우 카운터입니다. 모든 상태는 원시 long 값으로 관리합니다.
+     */
+    private static final class SlidingWindowCounter {
+        private final AtomicLong state = new AtomicLong();
+        private volatile long lastAccessMillis;
+        private volatile long windowMillis;
+
+        SlidingWindowCounter(final long nowMillis) {
+            this.lastAccessMillis = nowMillis;
+        }
+
+        boolean tryAcquire(final long nowMillis, final long windowMillis, final int limit) {
+            this.lastAccessMillis = nowMillis;
+            this.windowMillis = windowMillis;
+
+            final long index = (nowMillis / windowMillis) & INDEX_MASK;
+            final long elapsed = nowMillis % windowMillis;
+            while (true) {
+                final long current = state.get();
+                final long rolled = roll(current, index);
+                final long currentCount = (rolled >>> COUNT_BITS) & COUNT_MASK;
+                final long previousCount = rolled & COUNT_MASK;
+
+                if (weighted(currentCount, previousCount, elapsed, windowMillis) >= limit) {
+                    // 윈도우만 넘어간 경우에도 다음 호출에서 다시 계산되므로 상태를 갱신하지 않는다
+                    return false;
+                }
+
+                final long next = (index << INDEX_SHIFT) | ((currentCount + 1) << COUNT_BITS) | previousCount;
+                if (state.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        long estimate(final long nowMillis) {
+            final long window = windowMillis;
+            if (window == 0) {
+                return 0;
+            }
+            final long rolled = roll(state.get(), (nowMillis / window) & INDEX_MASK);
+            return weighted(
+                (rolled >>> COUNT_BITS) & COUNT_MASK,
+                rolled & COUNT_MASK,
+                nowMillis % window,
+                window
+            );
+        }
+
+        boolean isIdle(final long nowMillis) {
+            return nowMillis - lastAccessMillis > windowMillis * 2;
+        }
+
+        /**
+         * 저장된 상태를 현재 윈도우 인덱스 기준으로 이동시킵니다.
+         * 바로 다음 윈도우면 현재 카운트를 직전 카운트로 옮기고, 그보다 오래되었으면 모두 0으로 만듭니다.
+         */
+        private static long roll(final long state, final long index) {
+            final long storedIndex = state >>> INDEX_SHIFT;
+            if (storedIndex == index) {
+                return state;
+            }
+            if (((storedIndex + 1) & INDEX_MASK) == index) {
+                final long currentCount = (state >>> COUNT_BITS) & COUNT_MASK;
+                return (index << INDEX_SHIFT) | currentCount;
+            }
+            return index << INDEX_SHIFT;
+        }
+
+        private static long weighted(
+            final long currentCount,
+            final long previousCount,
+            final long elapsedMillis,
+            final long windowMillis
+        ) {
+            return currentCount + previousCount * (windowMillis - elapsedMillis) / windowMillis;
+        }
+    }
+}
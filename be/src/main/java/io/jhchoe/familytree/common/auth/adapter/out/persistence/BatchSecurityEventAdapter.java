@@ -0,0 +1,159 @@
+package io.jhchoe.familytree.common.auth.adapter.out.persistence;
+
+import io.jhchoe.familytree.common.auth.application.port.out.SaveSecurityEventPort;
+import io.jhchoe.familytree.common.auth.config.SecurityEventWriterProperties;
+import io.jhchoe.familytree.common.auth.config.SecurityEventWriterProperties.DropPolicy;
+import io.jhchoe.familytree.common.auth.domain.SecurityEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보안 이벤트를 비동기로 모아 JDBC 배치 INSERT로 저장하는 구현체입니다.
+ * {@code security-event.writer.enabled=true}일 때 활성화됩니다.
+ *
+ * <p>요청 스레드는 크기가 제한된 버퍼에 이벤트를 넣기만 하고 즉시 반환하므로,
+ * 인증 처리 지연이 감사 로그 저장 지연에 영향을 받지 않습니다.
+ * 백그라운드 작업이 주기적으로 버퍼를 비우며 배치 단위로 저장합니다.</p>
+ *
+ * <p>버퍼가 가득 차면 설정된 {@link DropPolicy}에 따라 이벤트를 버리고 버린 수를 메트릭으로 기록합니다.
+ * 저장 시점에 ID가 정해지지 않으므로 {@link #save(SecurityEvent)}는 항상 null을 반환합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "security-event.writer", name = "enabled", havingValue = "true")
+public class BatchSecurityEventAdapter implements SaveSecurityEventPort {
+
+    private static final String METRIC_PREFIX = "security.event.writer";
+    private static final String INSERT_SQL = """
+        INSERT INTO security_event (event_type, user_id, ip_address, user_agent, description, occurred_at)
+        VALUES (?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SecurityEventWriterProperties properties;
+    private final ArrayBlockingQueue<SecurityEvent> buffer;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    public BatchSecurityEventAdapter(
+        final JdbcTemplate jdbcTemplate,
+        final SecurityEventWriterProperties properties,
+        final MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.buffer = new ArrayBlockingQueue<>(properties.getCapacity());
+        this.writtenCounter = Counter.builder(METRIC_PREFIX + ".written")
+            .description("저장 완료된 보안 이벤트 수")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder(METRIC_PREFIX + ".dropped")
+            .description("버퍼 초과로 버려진 보안 이벤트 수")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_PREFIX + ".failed")
+            .description("배치 저장 실패로 유실된 보안 이벤트 수")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pending", this, BatchSecurityEventAdapter::pendingCount)
+            .description("저장 대기 중인 보안 이벤트 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 보안 이벤트를 저장 대기 버퍼에 넣습니다. DB 저장은 백그라운드에서 수행됩니다.
+     *
+     * @param securityEvent 저장할 보안 이벤트
+     * @return 항상 null (ID는 배치 저장 시점에 생성됨)
+     */
+    @Override
+    public Long save(final SecurityEvent securityEvent) {
+        if (securityEvent == null) {
+            log.warn("Security event is null, skipping save");
+            return null;
+        }
+
+        if (!buffer.offer(securityEvent)) {
+            handleOverflow(securityEvent);
+        }
+        return null;
+    }
+
+    /**
+     * 호출 시점에 버퍼에 쌓여 있던 이벤트를 배치 크기 단위로 저장합니다.
+     * 저장하는 동안 새로 들어온 이벤트는 다음 주기에 저장하므로, 유입이 계속되어도 한 번의 호출이 끝없이 이어지지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${security-event.writer.flush-interval-ms:500}")
+    public void flush() {
+        final int batchSize = properties.getBatchSize();
+        final List<SecurityEvent> batch = new ArrayList<>(batchSize);
+        int remaining = buffer.size();
+        while (remaining > 0) {
+            final int drained = buffer.drainTo(batch, Math.min(batchSize, remaining));
+            if (drained == 0) {
+                break;
+            }
+            write(batch);
+            batch.clear();
+            remaining -= drained;
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 이벤트를 저장합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 저장 대기 중인 이벤트 수를 반환합니다.
+     *
+     * @return 대기 이벤트 수
+     */
+    public int pendingCount() {
+        return buffer.size();
+    }
+
+    private void handleOverflow(final SecurityEvent securityEvent) {
+        if (properties.getDropPolicy() == DropPolicy.DROP_OLDEST) {
+            // 가장 오래된 이벤트를 비운 뒤 다시 넣되, 그 사이 다른 스레드가 자리를 차지하면 새 이벤트를 버린다
+            if (buffer.poll() != null) {
+                droppedCounter.increment();
+            }
+            if (buffer.offer(securityEvent)) {
+                return;
+            }
+        }
+        droppedCounter.increment();
+        log.debug("Security event buffer full, dropped event: [Type: {}]", securityEvent.getEventType());
+    }
+
+    private void write(final List<SecurityEvent> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                ps.setString(1, event.getEventType().name());
+                ps.setString(2, event.getUserId());
+                ps.setString(3, event.getIpAddress());
+                ps.setString(4, event.getUserAgent());
+                ps.setString(5, event.getDescription());
+                ps.setTimestamp(6, Timestamp.valueOf(event.getOccurredAt()));
+            });
+            writtenCounter.increment(batch.size());
+        } catch (final DataAccessException e) {
+            failedCounter.increment(batch.size());
+            log.error("보안 이벤트 배치 저장 실패: [Count: {}] {}", batch.size(), e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package io.jhchoe.familytree.common.auth.adapter.out.persistence;
+
+import io.jhchoe.familytree.common.auth.application.port.out.RateLimitPort;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 여러 애플리케이션 노드가 한도를 공유하는 데이터베이스 기반 Rate Limit 구현체입니다.
+ * {@value #PROFILE} 프로필에서 활성화됩니다.
+ *
+ * <p>요청 경로에서는 DB에 접근하지 않습니다. 각 노드는 윈도우 버킷별 증가분을 로컬에 모아 두었다가
+ * 주기적으로 {@code rate_limit_bucket} 테이블에 원자적 upsert로 반영하고, 그때 다른 노드가 반영한 합계를 다시 읽어옵니다.
+ * upsert는 버킷 키 순으로 정렬한 하나의 JDBC 배치로 보내므로 여러 노드가 같은 버킷들을 동시에 반영해도
+ * 행 잠금 순서가 같아 교착 상태가 생기지 않으며, 합계 재조회는 IN 목록 크기를 {@value #FLUSH_CHUNK_SIZE}개로 나누어 실행합니다.
+ * 허용 여부는 {@code 마지막으로 읽은 전역 합계 + 로컬 미반영분}에 직전 윈도우 가중치를 더한 슬라이딩 윈도우 추정치로 판단합니다.</p>
+ *
+ * <p>전역 합계는 반영 주기만큼 늦게 보이므로, 한 주기 동안 노드별로 들어온 요청만큼 한도를 초과할 수 있습니다.</p>
+ */
+@Slf4j
+@Component
+@Profile(DatabaseRateLimitAdapter.PROFILE)
+public class DatabaseRateLimitAdapter implements RateLimitPort {
+
+    public static final String PROFILE = "distributed-rate-limit";
+
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    /**
+     * 여러 노드가 동시에 같은 버킷을 증가시켜도 유실이 없도록 PostgreSQL의 INSERT ... ON CONFLICT로 단일 문장에서 처리합니다.
+     */
+    private static final String UPSERT_SQL = """
+        INSERT INTO rate_limit_bucket (bucket_key, rate_key, request_count, expires_at)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (bucket_key)
+        DO UPDATE SET request_count = rate_limit_bucket.request_count + EXCLUDED.request_count
+        """;
+
+    private final RateLimitBucketJpaRepository rateLimitBucketJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, LocalBucket> buckets;
+    private final ConcurrentHashMap<String, Long> windowSizes;
+
+    @Autowired
+    public DatabaseRateLimitAdapter(
+        final RateLimitBucketJpaRepository rateLimitBucketJpaRepository,
+        final JdbcTemplate jdbcTemplate
+    ) {
+        this(rateLimitBucketJpaRepository, jdbcTemplate, Clock.systemUTC());
+    }
+
+    // 테스트용 생성자
+    public DatabaseRateLimitAdapter(
+        final RateLimitBucketJpaRepository rateLimitBucketJpaRepository,
+        final JdbcTemplate jdbcTemplate,
+        final Clock clock
+    ) {
+        this.rateLimitBucketJpaRepository = rateLimitBucketJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.buckets = new ConcurrentHashMap<>();
+        this.windowSizes = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public boolean checkAndIncrement(final String key, final int limitCount, final long windowSizeInSeconds) {
+        if (key == null || key.trim().isEmpty()) {
+            log.warn("Rate limit key is null or empty");
+            return false;
+        }
+
+        final long nowMillis = clock.millis();
+        final long windowMillis = windowSizeInSeconds * 1000L;
+        final long windowIndex = nowMillis / windowMillis;
+        windowSizes.put(key, windowMillis);
+
+        final LocalBucket current = buckets.computeIfAbsent(
+            bucketKey(key, windowIndex),
+            bucketKey -> new LocalBucket(key, windowIndex, windowMillis)
+        );
+        final long previousWeighted = previousWeighted(key, windowIndex, windowMillis, nowMillis);
+
+        // 먼저 증가시킨 뒤 초과 시 되돌려 동시 요청 간에도 로컬 한도를 정확히 지킨다
+        final int pending = current.pending.incrementAndGet();
+        if (current.flushedCount + pending + previousWeighted > limitCount) {
+            current.pending.decrementAndGet();
+            log.debug("Rate limit exceeded for key: {}, limit: {}", key, limitCount);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int getCurrentCount(final String key) {
+        if (key == null || key.trim().isEmpty()) {
+            return 0;
+        }
+
+        final Long windowMillis = windowSizes.get(key);
+        if (windowMillis == null) {
+            return 0;
+        }
+
+        final long nowMillis = clock.millis();
+        final long windowIndex = nowMillis / windowMillis;
+        final LocalBucket current = buckets.get(bucketKey(key, windowIndex));
+        final long currentCount = current == null ? 0 : current.total();
+        return (int) (currentCount + previousWeighted(key, windowIndex, windowMillis, nowMillis));
+    }
+
+    @Override
+    @Transactional
+    public void reset(final String key) {
+        if (key == null || key.trim().isEmpty()) {
+            return;
+        }
+
+        buckets.values().removeIf(bucket -> bucket.rateKey.equals(key));
+        windowSizes.remove(key);
+        rateLimitBucketJpaRepository.deleteAllByRateKey(key);
+        log.debug("Rate limit reset for key: {}", key);
+    }
+
+    /**
+     * 로컬에 모인 증가분을 버킷 키 순으로 한 번의 JDBC 배치로 반영하고, 모든 활성 버킷의 전역 합계를 나누어 다시 읽어옵니다.
+     * 더 이상 추정치에 쓰이지 않는 지난 윈도우의 로컬 버킷은 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.flush-interval-ms:200}")
+    @Transactional
+    public void flush() {
+        if (buckets.isEmpty()) {
+            return;
+        }
+
+        final long nowMillis = clock.millis();
+        final Map<LocalBucket, Integer> flushedDeltas = new HashMap<>();
+        for (LocalBucket bucket : buckets.values()) {
+            final int delta = bucket.pending.get();
+            if (delta > 0) {
+                flushedDeltas.put(bucket, delta);
+            }
+        }
+        upsertIncrements(flushedDeltas);
+
+        final List<String> bucketKeys = new ArrayList<>(buckets.keySet());
+        bucketKeys.sort(null);
+        for (int from = 0; from < bucketKeys.size(); from += FLUSH_CHUNK_SIZE) {
+            final List<String> chunk = bucketKeys.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, bucketKeys.size()));
+            for (RateLimitBucketCountRow row : rateLimitBucketJpaRepository.findCountsByBucketKeys(chunk)) {
+                final LocalBucket bucket = buckets.get(row.bucketKey());
+                if (bucket != null) {
+                    // 전역 합계를 먼저 반영한 뒤 미반영분을 차감해 중간 상태가 한도를 과소 계산하지 않도록 한다
+                    bucket.flushedCount = row.requestCount();
+                    bucket.pending.addAndGet(-flushedDeltas.getOrDefault(bucket, 0));
+                }
+            }
+        }
+
+        buckets.values().removeIf(bucket -> bucket.isStale(nowMillis) && bucket.pending.get() == 0);
+    }
+
+    /**
+     * 만료된 버킷 행을 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    @Transactional
+    public void deleteExpiredBuckets() {
+        final int deleted = rateLimitBucketJpaRepository.deleteExpiredBuckets(toLocalDateTime(clock.millis()));
+        if (deleted > 0) {
+            log.debug("Deleted {} expired rate limit buckets", deleted);
+        }
+    }
+
+    private void upsertIncrements(final Map<LocalBucket, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // 노드마다 같은 순서로 행을 잠그도록 버킷 키 순으로 보낸다
+        final List<Map.Entry<LocalBucket, Integer>> sorted = new ArrayList<>(deltas.entrySet());
+        sorted.sort(Comparator.comparing(entry -> entry.getKey().bucketKey()));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, sorted, FLUSH_CHUNK_SIZE, (ps, entry) -> {
+            final LocalBucket bucket = entry.getKey();
+            ps.setString(1, bucket.bucketKey());
+            ps.setString(2, bucket.rateKey);
+            ps.setInt(3, entry.getValue());
+            ps.setTimestamp(4, Timestamp.valueOf(toLocalDateTime(bucket.expiresAtMillis())));
+        });
+    }
+
+    private long previousWeighted(
+        final String key,
+        final long windowIndex,
+        final long windowMillis,
+        final long nowMillis
+    ) {
+        final LocalBucket previous = buckets.get(bucketKey(key, windowIndex - 1));
+        if (previous == null) {
+            return 0;
+        }
+        return previous.total() * (windowMillis - nowMillis % windowMillis) / windowMillis;
+    }
+
+    private LocalDateTime toLocalDateTime(final long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), clock.getZone());
+    }
+
+    private static String bucketKey(final String key, final long windowIndex) {
+        return key + ":" + windowIndex;
+    }
+
+    /**
+     * 노드 로컬의 윈도우 버킷 상태입니다.
+     */
+    private static final class LocalBucket {
+        private final String rateKey;
+        private final long windowIndex;
+        private final long windowMillis;
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile int flushedCount;
+
+        LocalBucket(final String rateKey, final long windowIndex, final long windowMillis) {
+            this.rateKey = rateKey;
+            this.windowIndex = windowIndex;
+            this.windowMillis = windowMillis;
+        }
+
+        String bucketKey() {
+            return DatabaseRateLimitAdapter.bucketKey(rateKey, windowIndex);
+        }
+
+        long total() {
+            return flushedCount + pending.get();
+        }
+
+        /**
+         * 직전 윈도우로도 쓰이지 않는 버킷인지 확인합니다.
+         */
+        boolean isStale(final long nowMillis) {
+            return nowMillis / windowMillis > windowIndex + 1;
+        }
+
+        /**
+         * 직전 윈도우 가중치 계산에 필요한 기간(다음 윈도우 끝)까지 DB 행을 유지합니다.
+         */
+        long expiresAtMillis() {
+            return (windowIndex + 2) * windowMillis;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.jhchoe.familytree.common.auth.adapter.out.persistence;
+
+/**
+ * Rate Limit 버킷의 전역 요청 수만 조회한 결과입니다.
+ * 엔티티로 읽으면 같은 영속성 컨텍스트에 남은 이전 값이 반환될 수 있으므로 값 객체로 조회합니다.
+ *
+ * @param bucketKey    버킷 키
+ * @param requestCount 모든 노드가 반영한 요청 수
+ */
+public record RateLimitBucketCountRow(String bucketKey, int requestCount) {
+}
@@ -0,0 +1,44 @@
+package io.jhchoe.familytree.common.auth.adapter.out.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 노드가 공유하는 Rate Limit 윈도우별 요청 수를 저장하는 JPA 엔티티입니다.
+ * 행은 원자적 upsert 네이티브 쿼리로만 생성·증가되므로 생성용 팩토리 메서드를 두지 않습니다.
+ */
+@Entity
+@Table(
+    name = "rate_limit_bucket",
+    indexes = {
+        @Index(name = "idx_rate_limit_bucket_rate_key", columnList = "rate_key"),
+        @Index(name = "idx_rate_limit_bucket_expires_at", columnList = "expires_at")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RateLimitBucketJpaEntity {
+
+    /**
+     * Rate Limit 키와 윈도우 인덱스를 조합한 버킷 키 ({rateKey}:{windowIndex})
+     */
+    @Id
+    @Column(name = "bucket_key", nullable = false, length = 300)
+    private String bucketKey;
+
+    @Column(name = "rate_key", nullable = false, length = 255)
+    private String rateKey;
+
+    @Column(name = "request_count", nullable = false)
+    private int requestCount;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
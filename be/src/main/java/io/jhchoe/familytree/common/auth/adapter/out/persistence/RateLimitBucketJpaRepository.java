@@ -0,0 +1,51 @@
+package io.jhchoe.familytree.common.auth.adapter.out.persistence;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Rate Limit 버킷 JPA 리포지토리입니다.
+ */
+public interface RateLimitBucketJpaRepository extends JpaRepository<RateLimitBucketJpaEntity, String> {
+
+    /**
+     * 여러 버킷의 요청 수를 한 번에 조회합니다. 호출하는 쪽에서 IN 목록 크기를 나누어 전달합니다.
+     *
+     * @param bucketKeys 버킷 키 목록
+     * @return 버킷 키별 요청 수 목록
+     */
+    @Query("""
+        SELECT new io.jhchoe.familytree.common.auth.adapter.out.persistence.RateLimitBucketCountRow(
+            b.bucketKey, b.requestCount
+        )
+        FROM RateLimitBucketJpaEntity b
+        WHERE b.bucketKey IN :bucketKeys
+        """)
+    List<RateLimitBucketCountRow> findCountsByBucketKeys(@Param("bucketKeys") List<String> bucketKeys);
+
+    /**
+     * 지정된 Rate Limit 키의 모든 버킷을 삭제합니다.
+     *
+     * @param rateKey Rate Limit 키
+     * @return 삭제된 버킷 수
+     */
+    @Modifying
+    @Query("DELETE FROM RateLimitBucketJpaEntity b WHERE b.rateKey = :rateKey")
+    int deleteAllByRateKey(@Param("rateKey") String rateKey);
+
+    /**
+     * 만료된 버킷을 삭제합니다.
+     * <p>
+     * JPQL 벌크 삭제를 사용하여 단일 DELETE 쿼리로 처리합니다.
+     *
+     * @param currentDateTime 현재 일시
+     * @return 삭제된 버킷 수
+     */
+    @Modifying
+    @Query("DELETE FROM RateLimitBucketJpaEntity b WHERE b.expiresAt < :currentDateTime")
+    int deleteExpiredBuckets(@Param("currentDateTime") LocalDateTime currentDateTime);
+}
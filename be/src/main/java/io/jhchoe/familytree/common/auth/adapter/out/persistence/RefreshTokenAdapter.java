@@ -72,4 +72,17 @@ public class RefreshTokenAdapter implements FindRefreshTokenPort, SaveRefreshTok
         
         refreshTokenJpaRepository.deleteByUserId(userId);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int deleteExpiredTokens(LocalDateTime currentDateTime, int limit) {
+        Objects.requireNonNull(currentDateTime, "currentDateTime must not be null");
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+
+        return refreshTokenJpaRepository.deleteExpiredTokensInChunk(currentDateTime, limit);
+    }
 }
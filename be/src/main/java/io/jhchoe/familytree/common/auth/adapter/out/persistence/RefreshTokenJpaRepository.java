@@ -4,6 +4,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -48,6 +49,35 @@ public interface RefreshTokenJpaRepository extends JpaRepository<RefreshTokenJpa
     @Query("DELETE FROM RefreshTokenJpaEntity rt WHERE rt.expiresAt < :currentDateTime")
     int deleteExpiredTokens(@Param("currentDateTime") LocalDateTime currentDateTime);
 
+    /**
+     * 만료된 RefreshToken을 최대 limit건까지 삭제합니다.
+     * <p>
+     * 네이티브 쿼리를 사용하는 이유:
+     * - PostgreSQL DELETE는 LIMIT을 지원하지 않으므로 대상 ID를 LIMIT 서브쿼리로 골라 한 문장에서 삭제
+     * - 만료 토큰이 많이 쌓여 있어도 한 트랜잭션이 잠그는 행 수를 제한
+     *
+     * @param currentDateTime 현재 시간
+     * @param limit           한 번에 삭제할 최대 행 수
+     * @return 삭제된 레코드 수
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+        DELETE FROM refresh_tokens
+        WHERE id IN (
+            SELECT id
+            FROM refresh_tokens
+            WHERE expires_at < :currentDateTime
+            ORDER BY expires_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        )
+        """, nativeQuery = true)
+    int deleteExpiredTokensInChunk(
+        @Param("currentDateTime") LocalDateTime currentDateTime,
+        @Param("limit") int limit
+    );
+
     /**
      * 사용자 ID가 존재하는지 확인합니다.
      *
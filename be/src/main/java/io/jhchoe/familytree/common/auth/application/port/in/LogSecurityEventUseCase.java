@@ -9,7 +9,7 @@ public interface LogSecurityEventUseCase {
      * 보안 이벤트를 로깅합니다.
      *
      * @param command 보안 이벤트 로깅에 필요한 입력 데이터를 포함하는 커맨드 객체
-     * @return 생성된 보안 이벤트의 ID
+     * @return 생성된 보안 이벤트의 ID, 비동기로 저장되는 경우 null
      */
     Long logEvent(LogSecurityEventCommand command);
 }
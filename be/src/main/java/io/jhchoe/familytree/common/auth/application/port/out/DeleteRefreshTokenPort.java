@@ -1,5 +1,7 @@
 package io.jhchoe.familytree.common.auth.application.port.out;
 
+import java.time.LocalDateTime;
+
 /**
  * Refresh Token 삭제를 위한 아웃바운드 포트 인터페이스입니다.
  */
@@ -11,4 +13,14 @@ public interface DeleteRefreshTokenPort {
      * @param userId 삭제할 토큰의 사용자 ID
      */
     void deleteByUserId(Long userId);
+
+    /**
+     * 만료된 Refresh Token을 최대 limit건까지 삭제합니다.
+     * 호출마다 별도 트랜잭션으로 처리되므로 반환값이 limit보다 작아질 때까지 반복 호출하여 나누어 처리합니다.
+     *
+     * @param currentDateTime 현재 시간 (이 시간보다 이전에 만료된 토큰을 삭제)
+     * @param limit           한 번에 삭제할 최대 토큰 수
+     * @return 삭제된 토큰 수
+     */
+    int deleteExpiredTokens(LocalDateTime currentDateTime, int limit);
 }
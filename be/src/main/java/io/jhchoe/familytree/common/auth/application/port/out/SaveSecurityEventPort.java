@@ -11,7 +11,7 @@ public interface SaveSecurityEventPort {
      * 보안 이벤트를 저장합니다.
      *
      * @param securityEvent 저장할 보안 이벤트
-     * @return 저장된 보안 이벤트의 ID
+     * @return 저장된 보안 이벤트의 ID, 비동기로 저장되는 경우 null
      */
     Long save(SecurityEvent securityEvent);
 }
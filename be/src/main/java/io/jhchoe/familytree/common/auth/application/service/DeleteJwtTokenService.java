@@ -3,6 +3,7 @@ package io.jhchoe.familytree.common.auth.application.service;
 import io.jhchoe.familytree.common.auth.application.port.in.DeleteJwtTokenUseCase;
 import io.jhchoe.familytree.common.auth.application.port.in.DeleteRefreshTokenCommand;
 import io.jhchoe.familytree.common.auth.application.port.out.DeleteRefreshTokenPort;
+import io.jhchoe.familytree.common.auth.util.JwtTokenCache;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteJwtTokenService implements DeleteJwtTokenUseCase {
 
     private final DeleteRefreshTokenPort deleteRefreshTokenPort;
+    private final JwtTokenCache jwtTokenCache;
 
     /**
      * {@inheritDoc}
@@ -27,5 +29,8 @@ public class DeleteJwtTokenService implements DeleteJwtTokenUseCase {
 
         // 해당 사용자의 모든 Refresh Token을 무효화
         deleteRefreshTokenPort.deleteByUserId(command.getUserId());
+
+        // 검증 완료 토큰 캐시에서 해당 사용자의 Access Token 제거
+        jwtTokenCache.deleteByUserId(command.getUserId());
     }
 }
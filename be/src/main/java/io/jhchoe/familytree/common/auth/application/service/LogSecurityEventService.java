@@ -7,12 +7,12 @@ import io.jhchoe.familytree.common.auth.domain.SecurityEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 
 /**
  * 보안 이벤트 로깅 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
+ * 요청 스레드가 DB 커넥션을 점유하지 않도록 트랜잭션 없이 저장 포트에 위임하며, 실제 저장은 구현체가 비동기로 처리할 수 있습니다.
  */
 @Slf4j
 @Service
@@ -25,7 +25,6 @@ public class LogSecurityEventService implements LogSecurityEventUseCase {
      * {@inheritDoc}
      */
     @Override
-    @Transactional
     public Long logEvent(final LogSecurityEventCommand command) {
         Objects.requireNonNull(command, "command must not be null");
 
@@ -41,13 +41,8 @@ public class ModifyJwtTokenService implements ModifyJwtTokenUseCase {
     public JwtTokenResponse modify(final ModifyJwtTokenCommand command) {
         Objects.requireNonNull(command, "command must not be null");
 
-        // 1. Refresh Token 검증 (JwtTokenUtil에서 FTException 발생)
-        jwtTokenUtil.validateToken(command.refreshToken());
-
-        // 2. 토큰에서 사용자 정보 추출
-        Long userId = jwtTokenUtil.extractUserId(command.refreshToken());
-        String email = jwtTokenUtil.extractEmail(command.refreshToken());
-        String name = jwtTokenUtil.extractName(command.refreshToken());
+        // 1~2. Refresh Token 검증 및 사용자 ID 추출 (JwtTokenUtil에서 FTException 발생)
+        Long userId = jwtTokenUtil.extractVerifiedClaims(command.refreshToken()).userId();
 
         // 3. 기존 Refresh Token 무효화 (토큰 재사용 방지)
         deleteJwtTokenUseCase.delete(new DeleteRefreshTokenCommand(userId));
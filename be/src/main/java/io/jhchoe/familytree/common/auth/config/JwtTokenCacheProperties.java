@@ -0,0 +1,51 @@
+package io.jhchoe.familytree.common.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증 완료된 JWT 토큰 캐시 설정 프로퍼티를 관리하는 클래스입니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "jwt.cache")
+public class JwtTokenCacheProperties {
+
+    private boolean enabled = false;
+    private int maxSize = 10_000;
+
+    /**
+     * 캐시 사용 여부를 반환합니다.
+     *
+     * @return 캐시 사용 여부 (기본값 false)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시 사용 여부를 설정합니다.
+     *
+     * @param enabled 캐시 사용 여부
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 캐시에 보관할 최대 토큰 수를 반환합니다.
+     *
+     * @return 최대 토큰 수 (기본값 10,000)
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 캐시에 보관할 최대 토큰 수를 설정합니다.
+     *
+     * @param maxSize 최대 토큰 수
+     */
+    public void setMaxSize(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+}
@@ -0,0 +1,156 @@
+package io.jhchoe.familytree.common.auth.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rate Limit 저장소와 경로별 제한 정책 설정 프로퍼티를 관리하는 클래스입니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private int maxKeys = 100_000;
+    private List<Policy> policies = defaultPolicies();
+
+    /**
+     * 메모리에 보관할 최대 Rate Limit 키 수를 반환합니다.
+     *
+     * @return 최대 키 수 (기본값 100,000)
+     */
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
+    /**
+     * 메모리에 보관할 최대 Rate Limit 키 수를 설정합니다.
+     *
+     * @param maxKeys 최대 키 수
+     */
+    public void setMaxKeys(final int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 경로별 Rate Limit 정책 목록을 반환합니다.
+     *
+     * @return 정책 목록 (기본값: 공개 가족 검색, 가족명 자동완성, 토큰 갱신)
+     */
+    public List<Policy> getPolicies() {
+        return policies;
+    }
+
+    /**
+     * 경로별 Rate Limit 정책 목록을 설정합니다.
+     *
+     * @param policies 정책 목록
+     */
+    public void setPolicies(final List<Policy> policies) {
+        this.policies = policies;
+    }
+
+    private static List<Policy> defaultPolicies() {
+        final List<Policy> defaults = new ArrayList<>();
+        defaults.add(new Policy("public_family_search", "GET", "/api/families/public", 60, 60L));
+        // 자동완성은 입력할 때마다 호출되므로 검색보다 넉넉하게 두되, 가족명 수집용 반복 호출은 막는다
+        defaults.add(new Policy("family_name_suggestion", "GET", "/api/families/name-suggestions", 120, 60L));
+        defaults.add(new Policy("token_refresh", "POST", "/api/auth/refresh", 20, 60L));
+        return defaults;
+    }
+
+    /**
+     * 하나의 경로 패턴에 적용되는 Rate Limit 정책입니다.
+     */
+    public static class Policy {
+
+        private String name;
+        private String method;
+        private String pathPattern;
+        private int limitCount;
+        private long windowSizeInSeconds;
+
+        public Policy() {
+        }
+
+        public Policy(
+            final String name,
+            final String method,
+            final String pathPattern,
+            final int limitCount,
+            final long windowSizeInSeconds
+        ) {
+            this.name = name;
+            this.method = method;
+            this.pathPattern = pathPattern;
+            this.limitCount = limitCount;
+            this.windowSizeInSeconds = windowSizeInSeconds;
+        }
+
+        /**
+         * 정책 이름을 반환합니다. Rate Limit 키의 접두사로 사용됩니다.
+         *
+         * @return 정책 이름
+         */
+        public String getName() {
+            return name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * 적용할 HTTP 메서드를 반환합니다.
+         *
+         * @return HTTP 메서드, 비어 있으면 모든 메서드에 적용
+         */
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(final String method) {
+            this.method = method;
+        }
+
+        /**
+         * 적용할 경로 패턴을 반환합니다. (예: /api/families/public)
+         *
+         * @return 경로 패턴
+         */
+        public String getPathPattern() {
+            return pathPattern;
+        }
+
+        public void setPathPattern(final String pathPattern) {
+            this.pathPattern = pathPattern;
+        }
+
+        /**
+         * 윈도우 내 허용 요청 수를 반환합니다.
+         *
+         * @return 허용 요청 수
+         */
+        public int getLimitCount() {
+            return limitCount;
+        }
+
+        public void setLimitCount(final int limitCount) {
+            this.limitCount = limitCount;
+        }
+
+        /**
+         * 시간 윈도우 크기(초)를 반환합니다.
+         *
+         * @return 윈도우 크기(초)
+         */
+        public long getWindowSizeInSeconds() {
+            return windowSizeInSeconds;
+        }
+
+        public void setWindowSizeInSeconds(final long windowSizeInSeconds) {
+            this.windowSizeInSeconds = windowSizeInSeconds;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.jhchoe.familytree.common.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보안 이벤트 비동기 배치 저장 설정 프로퍼티를 관리하는 클래스입니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "security-event.writer")
+public class SecurityEventWriterProperties {
+
+    private boolean enabled = false;
+    private int capacity = 10_000;
+    private int batchSize = 500;
+    private DropPolicy dropPolicy = DropPolicy.DROP_NEWEST;
+
+    /**
+     * 비동기 배치 저장 사용 여부를 반환합니다.
+     *
+     * @return 사용 여부 (기본값 false, 비활성화 시 메모리 구현체 사용)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 비동기 배치 저장 사용 여부를 설정합니다.
+     *
+     * @param enabled 사용 여부
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 저장 대기 버퍼의 최대 크기를 반환합니다.
+     *
+     * @return 버퍼 크기 (기본값 10,000)
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 저장 대기 버퍼의 최대 크기를 설정합니다.
+     *
+     * @param capacity 버퍼 크기
+     */
+    public void setCapacity(final int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * 한 번의 JDBC 배치로 저장할 최대 이벤트 수를 반환합니다.
+     *
+     * @return 배치 크기 (기본값 500)
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * 한 번의 JDBC 배치로 저장할 최대 이벤트 수를 설정합니다.
+     *
+     * @param batchSize 배치 크기
+     */
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 버퍼가 가득 찼을 때의 처리 정책을 반환합니다.
+     *
+     * @return 처리 정책 (기본값 DROP_NEWEST)
+     */
+    public DropPolicy getDropPolicy() {
+        return dropPolicy;
+    }
+
+    /**
+     * 버퍼가 가득 찼을 때의 처리 정책을 설정합니다.
+     *
+     * @param dropPolicy 처리 정책
+     */
+    public void setDropPolicy(final DropPolicy dropPolicy) {
+        this.dropPolicy = dropPolicy;
+    }
+
+    /**
+     * 버퍼가 가득 찼을 때 버릴 이벤트를 결정하는 정책입니다.
+     */
+    public enum DropPolicy {
+        /**
+         * 새로 들어온 이벤트를 버립니다.
+         */
+        DROP_NEWEST,
+
+        /**
+         * 가장 오래 대기한 이벤트를 버리고 새 이벤트를 넣습니다.
+         */
+        DROP_OLDEST
+    }
+}
@@ -0,0 +1,40 @@
+package io.jhchoe.familytree.common.auth.domain;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * 서명 검증이 완료된 JWT 토큰의 클레임을 담는 불변 객체입니다.
+ * 한 번의 서명 검증과 파싱 결과를 재사용하기 위해 사용합니다.
+ *
+ * @param userId    사용자 ID (subject)
+ * @param email     이메일 (Refresh Token에는 없음)
+ * @param name      사용자 이름 (Refresh Token에는 없음)
+ * @param role      역할 (Refresh Token에는 없음)
+ * @param expiresAt 토큰 만료 시각
+ */
+public record JwtClaims(
+    Long userId,
+    String email,
+    String name,
+    String role,
+    Instant expiresAt
+) {
+
+    public JwtClaims {
+        Objects.requireNonNull(userId, "userId must not be null");
+        Objects.requireNonNull(expiresAt, "expiresAt must not be null");
+    }
+
+    /**
+     * 클레임 정보로 JWT 인증용 FTUser 객체를 생성합니다.
+     *
+     * @return 생성된 FTUser 객체
+     */
+    public FTUser toFTUser() {
+        Objects.requireNonNull(email, "email must not be null");
+        Objects.requireNonNull(role, "role must not be null");
+
+        return FTUser.ofJwtUser(userId, name, email, role);
+    }
+}
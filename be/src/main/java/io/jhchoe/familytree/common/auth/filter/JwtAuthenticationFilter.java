@@ -1,7 +1,9 @@
 package io.jhchoe.familytree.common.auth.filter;
 
 import io.jhchoe.familytree.common.auth.domain.FTUser;
+import io.jhchoe.familytree.common.auth.domain.JwtClaims;
 import io.jhchoe.familytree.common.auth.exception.AuthExceptionCode;
+import io.jhchoe.familytree.common.auth.util.JwtTokenCache;
 import io.jhchoe.familytree.common.auth.util.JwtTokenUtil;
 import io.jhchoe.familytree.common.exception.FTException;
 import io.jhchoe.familytree.common.util.MaskingUtils;
@@ -11,7 +13,6 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -35,6 +36,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtTokenUtil jwtTokenUtil;
+    private final JwtTokenCache jwtTokenCache;
 
     /**
      * HTTP 요청에서 JWT 토큰을 추출하고 검증하여 인증 정보를 설정합니다.
@@ -118,62 +120,45 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     /**
      * JWT 토큰을 검증하고 인증 정보를 SecurityContext에 설정합니다.
+     * 캐시에 검증 완료된 토큰이 있으면 서명 검증을 생략하고, 없으면 한 번만 검증·파싱합니다.
      *
      * @param token JWT 토큰
      * @param request HTTP 요청
      */
     private void authenticateToken(final String token, final HttpServletRequest request) {
-        // 토큰 유효성 검증
-        if (jwtTokenUtil.validateToken(token)) {
-            // 토큰에서 사용자 정보 추출
-            final Long userId = jwtTokenUtil.extractUserId(token);
-            final String email = jwtTokenUtil.extractEmail(token);
-            final String name = jwtTokenUtil.extractName(token);
-            final String role = jwtTokenUtil.extractRole(token);
-
-            // FTUser 객체 생성 (JWT 인증용)
-            final FTUser ftUser = createJwtFTUser(userId, name, email, role);
-
-            // Spring Security 인증 토큰 생성
-            final UsernamePasswordAuthenticationToken authenticationToken = 
-                new UsernamePasswordAuthenticationToken(
-                    ftUser,
-                    null,
-                    ftUser.getAuthorities()
-                );
-
-            // 웹 인증 세부 정보 설정
-            authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-            // SecurityContext에 인증 정보 설정
-            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-
-            log.debug("JWT 인증 성공: [User ID: {}] [Masked Email: {}]", 
-                userId, MaskingUtils.maskEmail(email));
-        }
+        // 캐시 조회 후 미적중 시 토큰 검증 및 FTUser 생성 (검증 실패 시 FTException 발생)
+        final FTUser ftUser = jwtTokenCache.find(token)
+            .orElseGet(() -> verifyToken(token));
+
+        // Spring Security 인증 토큰 생성
+        final UsernamePasswordAuthenticationToken authenticationToken = 
+            new UsernamePasswordAuthenticationToken(
+                ftUser,
+                null,
+                ftUser.getAuthorities()
+            );
+
+        // 웹 인증 세부 정보 설정
+        authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+        // SecurityContext에 인증 정보 설정
+        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+
+        log.debug("JWT 인증 성공: [User ID: {}] [Masked Email: {}]", 
+            ftUser.getId(), MaskingUtils.maskEmail(ftUser.getEmail()));
     }
 
     /**
-     * JWT 토큰에서 추출한 정보로 FTUser 객체를 생성합니다.
+     * JWT 토큰을 검증하여 FTUser 객체를 생성하고 캐시에 저장합니다.
      *
-     * @param userId 사용자 ID
-     * @param name 사용자 이름
-     * @param email 이메일
-     * @param role 역할
+     * @param token JWT 토큰
      * @return 생성된 FTUser 객체
      */
-    private FTUser createJwtFTUser(
-        final Long userId,
-        final String name,
-        final String email,
-        final String role
-    ) {
-        Objects.requireNonNull(userId, "userId must not be null");
-        Objects.requireNonNull(email, "email must not be null");
-        Objects.requireNonNull(role, "role must not be null");
-
-        // JWT 전용 팩토리 메서드 사용
-        return FTUser.ofJwtUser(userId, name, email, role);
+    private FTUser verifyToken(final String token) {
+        final JwtClaims claims = jwtTokenUtil.extractVerifiedClaims(token);
+        final FTUser ftUser = claims.toFTUser();
+        jwtTokenCache.save(token, claims, ftUser);
+        return ftUser;
     }
 
     /**
@@ -0,0 +1,182 @@
+package io.jhchoe.familytree.common.auth.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jhchoe.familytree.common.auth.application.port.in.CheckRateLimitCommand;
+import io.jhchoe.familytree.common.auth.application.port.in.CheckRateLimitUseCase;
+import io.jhchoe.familytree.common.auth.config.RateLimitProperties;
+import io.jhchoe.familytree.common.auth.domain.FTUser;
+import io.jhchoe.familytree.common.auth.exception.AuthExceptionCode;
+import io.jhchoe.familytree.common.exception.ErrorResponse;
+import io.jhchoe.familytree.common.exception.FTException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 설정된 경로별 정책에 따라 요청 횟수를 제한하는 필터입니다.
+ * JWT 인증 필터 다음에 실행되어 인증된 요청은 사용자 ID로, 그 외 요청은 클라이언트 IP로 키를 구분합니다.
+ * 클라이언트 IP는 {@link HttpServletRequest#getRemoteAddr()}만 사용합니다. X-Forwarded-For 등은 클라이언트가 임의로
+ * 바꿀 수 있으므로 직접 읽지 않으며, 프록시 뒤에서는 {@code server.forward-headers-strategy=native}처럼
+ * 신뢰하는 프록시의 헤더만 반영하는 설정으로 원격 주소를 복원해야 합니다.
+ * 제한을 초과한 요청은 컨트롤러와 영속성 계층에 도달하기 전에 429 응답과 Retry-After 헤더로 거부합니다.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final CheckRateLimitUseCase checkRateLimitUseCase;
+    private final ObjectMapper objectMapper;
+    private final List<CompiledPolicy> policies;
+
+    public RateLimitFilter(
+        final CheckRateLimitUseCase checkRateLimitUseCase,
+        final RateLimitProperties rateLimitProperties,
+        final ObjectMapper objectMapper
+    ) {
+        this.checkRateLimitUseCase = checkRateLimitUseCase;
+        this.objectMapper = objectMapper;
+        this.policies = rateLimitProperties.getPolicies().stream()
+            .map(CompiledPolicy::from)
+            .toList();
+    }
+
+    /**
+     * 요청에 해당하는 정책이 있으면 Rate Limit을 확인하고, 초과 시 429 응답을 반환합니다.
+     *
+     * @param request HTTP 요청
+     * @param response HTTP 응답
+     * @param filterChain 필터 체인
+     * @throws ServletException 서블릿 예외
+     * @throws IOException 입출력 예외
+     */
+    @Override
+    protected void doFilterInternal(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final CompiledPolicy policy = findPolicy(request);
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final CheckRateLimitCommand command = createCommand(policy, request);
+        if (!checkRateLimitUseCase.checkRateLimit(command)) {
+            writeTooManyRequests(response, policy.windowSizeInSeconds());
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 요청 메서드와 경로에 처음으로 일치하는 정책을 찾습니다.
+     *
+     * @param request HTTP 요청
+     * @return 일치하는 정책, 없으면 null
+     */
+    private CompiledPolicy findPolicy(final HttpServletRequest request) {
+        if (policies.isEmpty()) {
+            return null;
+        }
+
+        final PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (CompiledPolicy policy : policies) {
+            if (policy.matches(request.getMethod(), path)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 인증된 사용자는 사용자 ID, 익명 요청은 클라이언트 IP를 식별자로 하는 Rate Limit 커맨드를 생성합니다.
+     *
+     * @param policy 적용할 정책
+     * @param request HTTP 요청
+     * @return Rate Limit 체크 커맨드
+     */
+    private CheckRateLimitCommand createCommand(final CompiledPolicy policy, final HttpServletRequest request) {
+        final Long userId = findAuthenticatedUserId();
+        if (userId != null) {
+            return new CheckRateLimitCommand(
+                policy.name() + ":user", String.valueOf(userId), policy.limitCount(), policy.windowSizeInSeconds()
+            );
+        }
+        return new CheckRateLimitCommand(
+            policy.name() + ":ip", request.getRemoteAddr(), policy.limitCount(), policy.windowSizeInSeconds()
+        );
+    }
+
+    private Long findAuthenticatedUserId() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof FTUser ftUser) {
+            return ftUser.getId();
+        }
+        return null;
+    }
+
+    /**
+     * 429 응답을 작성합니다. 정확한 재시도 시점은 알 수 없으므로 윈도우 크기를 Retry-After로 안내합니다.
+     *
+     * @param response HTTP 응답
+     * @param retryAfterSeconds 재시도까지 대기할 시간(초)
+     * @throws IOException 입출력 예외
+     */
+    private void writeTooManyRequests(
+        final HttpServletResponse response,
+        final long retryAfterSeconds
+    ) throws IOException {
+        final FTException exception = new FTException(AuthExceptionCode.RATE_LIMIT_EXCEEDED);
+        response.setStatus(exception.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        objectMapper.writeValue(response.getWriter(), ErrorResponse.commonException(exception));
+    }
+
+    /**
+     * 경로 패턴을 미리 파싱해 둔 정책입니다.
+     */
+    private record CompiledPolicy(
+        String name,
+        String method,
+        PathPattern pathPattern,
+        int limitCount,
+        long windowSizeInSeconds
+    ) {
+
+        static CompiledPolicy from(final RateLimitProperties.Policy policy) {
+            return new CompiledPolicy(
+                policy.getName(),
+                policy.getMethod(),
+                PathPatternParser.defaultInstance.parse(policy.getPathPattern()),
+                policy.getLimitCount(),
+                policy.getWindowSizeInSeconds()
+            );
+        }
+
+        boolean matches(final String requestMethod, final PathContainer path) {
+            if (StringUtils.hasText(method) && !method.equalsIgnoreCase(requestMethod)) {
+                return false;
+            }
+            return pathPattern.matches(path);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package io.jhchoe.familytree.common.auth.util;
+
+import io.jhchoe.familytree.common.auth.config.JwtTokenCacheProperties;
+import io.jhchoe.familytree.common.auth.domain.FTUser;
+import io.jhchoe.familytree.common.auth.domain.JwtClaims;
+import io.jhchoe.familytree.common.cache.BoundedLruCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증이 완료된 Access Token의 인증 주체(FTUser)를 보관하는 크기 제한 LRU 캐시입니다.
+ * 같은 토큰이 반복 요청될 때 HMAC 검증과 클레임 파싱을 생략하기 위해 사용합니다.
+ * 토큰마다 해시를 계산하지 않도록 서명 세그먼트(마지막 '.' 뒤)를 키로 사용합니다. HMAC 서명은 서명 대상(header.payload)마다
+ * 달라지므로 키로 충분하며, 서명만 같고 header·payload가 바뀐 토큰은 저장한 서명 대상의 해시가 달라 미적중으로 처리해 다시 검증합니다.
+ * 각 항목은 토큰의 만료 시각(exp)까지만 유효합니다.
+ *
+ * <p>로그아웃 시 전체 항목을 훑지 않도록 사용자 ID별 키 인덱스를 함께 유지합니다.
+ * 인덱스는 만료·크기 초과로 항목이 제거될 때도 같이 정리됩니다.</p>
+ */
+@Slf4j
+@Component
+public class JwtTokenCache {
+
+    private static final String METRIC_PREFIX = "jwt.token.cache";
+
+    private final JwtTokenCacheProperties properties;
+    private final Clock clock;
+    private final BoundedLruCache<String, CachedToken> store;
+    private final ConcurrentHashMap<Long, Set<String>> keysByUserId = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Autowired
+    public JwtTokenCache(final JwtTokenCacheProperties properties, final MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    // 테스트용 생성자
+    public JwtTokenCache(
+        final JwtTokenCacheProperties properties,
+        final MeterRegistry meterRegistry,
+        final Clock clock
+    ) {
+        this.properties = properties;
+        this.clock = clock;
+        this.store = new BoundedLruCache<>(properties.getMaxSize(), (key, evicted) -> unindex(evicted.userId(), key));
+        this.hitCounter = Counter.builder(METRIC_PREFIX + ".hits")
+            .description("검증 완료 토큰 캐시 적중 횟수")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_PREFIX + ".misses")
+            .description("검증 완료 토큰 캐시 미적중 횟수")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, JwtTokenCache::size)
+            .description("검증 완료 토큰 캐시 항목 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 토큰에 해당하는 인증 주체를 조회합니다.
+     * 만료된 항목은 조회 시점에 제거됩니다.
+     *
+     * @param token Access Token 원문
+     * @return 캐시된 인증 주체, 없거나 만료되었으면 빈 Optional
+     */
+    public Optional<FTUser> find(final String token) {
+        Objects.requireNonNull(token, "token must not be null");
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+
+        final String key = keyOf(token);
+        final Instant now = clock.instant();
+        final CachedToken cached = store.get(key);
+        if (cached != null && cached.isExpired(now) && store.remove(key, cached)) {
+            unindex(cached.userId(), key);
+        }
+
+        if (cached == null || cached.isExpired(now) || cached.signingInputHash() != signingInputHash(token)) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        return Optional.of(cached.principal());
+    }
+
+    /**
+     * 검증이 완료된 토큰의 인증 주체를 캐시에 저장합니다.
+     *
+     * @param token     Access Token 원문
+     * @param claims    서명 검증이 완료된 클레임
+     * @param principal 클레임으로 생성한 인증 주체
+     */
+    public void save(final String token, final JwtClaims claims, final FTUser principal) {
+        Objects.requireNonNull(token, "token must not be null");
+        Objects.requireNonNull(claims, "claims must not be null");
+        Objects.requireNonNull(principal, "principal must not be null");
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        final String key = keyOf(token);
+        final CachedToken cached = new CachedToken(claims.userId(), signingInputHash(token), principal, claims.expiresAt());
+        store.put(key, cached);
+        keysByUserId.computeIfAbsent(claims.userId(), userId -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    /**
+     * 지정된 사용자의 모든 캐시 항목을 제거합니다. 로그아웃 시 호출됩니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void deleteByUserId(final Long userId) {
+        Objects.requireNonNull(userId, "userId must not be null");
+
+        final Set<String> keys = keysByUserId.remove(userId);
+        if (keys != null) {
+            for (String key : keys) {
+                final CachedToken cached = store.get(key);
+                if (cached != null && cached.userId().equals(userId)) {
+                    store.remove(key, cached);
+                }
+            }
+        }
+        log.debug("JWT 토큰 캐시 제거: [User ID: {}]", userId);
+    }
+
+    /**
+     * 현재 캐시 항목 수를 반환합니다.
+     *
+     * @return 캐시 항목 수
+     */
+    public int size() {
+        return store.size();
+    }
+
+    /**
+     * 토큰의 서명 세그먼트를 캐시 키로 반환합니다. 구분자가 없는 토큰은 원문을 그대로 사용합니다.
+     *
+     * @param token 토큰 원문
+     * @return 캐시 키
+     */
+    private String keyOf(final String token) {
+        return token.substring(token.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * 서명 대상(header.payload)의 해시를 계산합니다. 같은 서명에 다른 header·payload를 붙인 토큰을 구분하는 데 사용합니다.
+     *
+     * @param token 토큰 원문
+     * @return 서명 대상의 해시
+     */
+    private int signingInputHash(final String token) {
+        final int end = Math.max(token.lastIndexOf('.'), 0);
+        int hash = 0;
+        for (int i = 0; i < end; i++) {
+            hash = 31 * hash + token.charAt(i);
+        }
+        return hash;
+    }
+
+    private void unindex(final Long userId, final String key) {
+        keysByUserId.computeIfPresent(userId, (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    /**
+     * 캐시 항목을 나타내는 내부 레코드입니다.
+     */
+    private record CachedToken(Long userId, int signingInputHash, FTUser principal, Instant expiresAt) {
+
+        boolean isExpired(final Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -2,10 +2,12 @@ package io.jhchoe.familytree.common.auth.util;
 
 import io.jhchoe.familytree.common.auth.config.JwtProperties;
 import io.jhchoe.familytree.common.auth.domain.FTUser;
+import io.jhchoe.familytree.common.auth.domain.JwtClaims;
 import io.jhchoe.familytree.common.auth.exception.AuthExceptionCode;
 import io.jhchoe.familytree.common.exception.FTException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -29,6 +31,10 @@ public class JwtTokenUtil {
 
     private final JwtProperties jwtProperties;
 
+    // 서명 키와 파서는 불변·스레드 안전하므로 최초 사용 시 한 번만 생성하여 재사용한다
+    private volatile SecretKey signingKey;
+    private volatile JwtParser jwtParser;
+
     /**
      * FTUser 정보를 기반으로 Access Token을 생성합니다.
      *
@@ -84,17 +90,28 @@ public class JwtTokenUtil {
     public boolean validateToken(final String token) {
         Objects.requireNonNull(token, "token must not be null");
 
-        try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token);
-            return true;
-        } catch (final ExpiredJwtException e) {
-            throw new FTException(AuthExceptionCode.EXPIRED_TOKEN);
-        } catch (final SignatureException | MalformedJwtException | UnsupportedJwtException | IllegalArgumentException e) {
-            throw new FTException(AuthExceptionCode.INVALID_TOKEN_FORMAT);
-        }
+        extractClaims(token);
+        return true;
+    }
+
+    /**
+     * JWT 토큰을 한 번만 검증·파싱하여 클레임 전체를 추출합니다.
+     * 여러 클레임이 필요한 경우 개별 extract 메서드를 반복 호출하는 대신 이 메서드를 사용합니다.
+     *
+     * @param token 검증할 JWT 토큰
+     * @return 서명 검증이 완료된 클레임
+     */
+    public JwtClaims extractVerifiedClaims(final String token) {
+        Objects.requireNonNull(token, "token must not be null");
+
+        final Claims claims = extractClaims(token);
+        return new JwtClaims(
+            parseUserId(claims),
+            claims.get("email", String.class),
+            claims.get("name", String.class),
+            claims.get("role", String.class),
+            claims.getExpiration().toInstant()
+        );
     }
 
     /**
@@ -106,14 +123,7 @@ public class JwtTokenUtil {
     public Long extractUserId(final String token) {
         Objects.requireNonNull(token, "token must not be null");
 
-        final Claims claims = extractClaims(token);
-        final String userIdStr = claims.getSubject();
-        
-        try {
-            return Long.parseLong(userIdStr);
-        } catch (final NumberFormatException e) {
-            throw new FTException(AuthExceptionCode.INVALID_TOKEN_FORMAT);
-        }
+        return parseUserId(extractClaims(token));
     }
 
     /**
@@ -193,9 +203,7 @@ public class JwtTokenUtil {
      */
     private Claims extractClaims(final String token) {
         try {
-            return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
+            return getJwtParser()
                 .parseClaimsJws(token)
                 .getBody();
         } catch (final ExpiredJwtException e) {
@@ -206,12 +214,47 @@ public class JwtTokenUtil {
     }
 
     /**
-     * JWT 서명에 사용할 SecretKey를 생성합니다.
+     * Claims의 subject에서 사용자 ID를 파싱합니다.
+     *
+     * @param claims 검증된 Claims
+     * @return 사용자 ID
+     */
+    private Long parseUserId(final Claims claims) {
+        try {
+            return Long.parseLong(claims.getSubject());
+        } catch (final NumberFormatException e) {
+            throw new FTException(AuthExceptionCode.INVALID_TOKEN_FORMAT);
+        }
+    }
+
+    /**
+     * 서명 검증용 JwtParser를 반환합니다. 최초 호출 시 생성하여 재사용합니다.
+     *
+     * @return JWT 파서
+     */
+    private JwtParser getJwtParser() {
+        JwtParser parser = jwtParser;
+        if (parser == null) {
+            parser = Jwts.parserBuilder()
+                .setSigningKey(getSigningKey())
+                .build();
+            jwtParser = parser;
+        }
+        return parser;
+    }
+
+    /**
+     * JWT 서명에 사용할 SecretKey를 반환합니다. 최초 호출 시 생성하여 재사용합니다.
      *
      * @return JWT 서명용 SecretKey
      */
     private SecretKey getSigningKey() {
-        final byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        SecretKey key = signingKey;
+        if (key == null) {
+            final byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
+            key = Keys.hmacShaKeyFor(keyBytes);
+            signingKey = key;
+        }
+        return key;
     }
 }
@@ -0,0 +1,233 @@
+package io.jhchoe.familytree.common.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * 항목 수를 제한하는 스레드 안전 LRU 캐시입니다. 요청 간 조회 결과를 재사용하는 캐시들이 저장소로 사용합니다.
+ *
+ * <p>키의 해시로 나눈 세그먼트마다 접근 순서 {@link LinkedHashMap}과 잠금을 두므로, 서로 다른 세그먼트의 조회·저장은
+ * 하나의 전역 잠금을 두고 경합하지 않습니다. 최대 크기는 세그먼트에 나누어 배정하며 세그먼트 안에서 가장 오래 사용되지 않은 항목을
+ * 제거합니다. 세그먼트는 {@value #MIN_ENTRIES_PER_SEGMENT}개 단위로만 늘리므로 작은 캐시는 하나의 세그먼트로 정확한 LRU를 유지합니다.</p>
+ *
+ * <p>만료 시각·버전 등 항목의 유효성 판단은 값에 담아 사용하는 쪽에서 처리합니다. null 키와 값은 허용하지 않습니다.
+ * 최대 크기 때문에 제거되는 항목은 생성 시 지정한 리스너로 알려 주므로, 사용하는 쪽의 보조 인덱스를 함께 정리할 수 있습니다.</p>
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public final class BoundedLruCache<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_ENTRIES_PER_SEGMENT = 64;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+
+    /**
+     * 최대 항목 수를 지정하여 캐시를 생성합니다.
+     *
+     * @param maxSize 최대 항목 수
+     * @throws IllegalArgumentException 최대 항목 수가 1보다 작은 경우
+     */
+    public BoundedLruCache(final int maxSize) {
+        this(maxSize, (key, value) -> {
+        });
+    }
+
+    /**
+     * 최대 항목 수와 크기 초과로 제거되는 항목을 받을 리스너를 지정하여 캐시를 생성합니다.
+     * 리스너는 세그먼트 잠금 안에서 호출되므로 짧게 유지해야 하며 이 캐시를 다시 호출해서는 안 됩니다.
+     *
+     * @param maxSize          최대 항목 수
+     * @param evictionListener 크기 초과로 제거된 키와 값을 받는 리스너
+     * @throws IllegalArgumentException 최대 항목 수가 1보다 작은 경우
+     */
+    @SuppressWarnings("unchecked")
+    public BoundedLruCache(final int maxSize, final BiConsumer<? super K, ? super V> evictionListener) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        Objects.requireNonNull(evictionListener, "evictionListener must not be null");
+
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && segmentCount * 2 * MIN_ENTRIES_PER_SEGMENT <= maxSize) {
+            segmentCount *= 2;
+        }
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0), evictionListener);
+        }
+        this.segmentMask = segmentCount - 1;
+    }
+
+    /**
+     * 키에 해당하는 값을 조회하고 최근 사용한 항목으로 표시합니다.
+     *
+     * @param key 키
+     * @return 저장된 값, 없으면 null
+     */
+    public V get(final K key) {
+        Objects.requireNonNull(key, "key must not be null");
+
+        final Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.get(key);
+        }
+    }
+
+    /**
+     * 값을 저장합니다. 세그먼트가 가득 차면 가장 오래 사용되지 않은 항목을 제거합니다.
+     *
+     * @param key   키
+     * @param value 값
+     */
+    public void put(final K key, final V value) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+
+        final Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, value);
+        }
+    }
+
+    /**
+     * 현재 값을 기준으로 새 값을 원자적으로 계산하여 저장합니다.
+     * 계산 함수는 세그먼트 잠금 안에서 실행되므로 짧게 유지해야 하며, null을 반환하면 항목을 제거합니다.
+     *
+     * @param key               키
+     * @param remappingFunction 키와 현재 값(없으면 null)으로 새 값을 계산하는 함수
+     * @return 저장된 새 값, 제거되었으면 null
+     */
+    public V compute(final K key, final BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(remappingFunction, "remappingFunction must not be null");
+
+        final Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.compute(key, remappingFunction);
+        }
+    }
+
+    /**
+     * 키에 해당하는 항목을 제거합니다.
+     *
+     * @param key 키
+     * @return 제거된 값, 없었으면 null
+     */
+    public V remove(final K key) {
+        Objects.requireNonNull(key, "key must not be null");
+
+        final Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.remove(key);
+        }
+    }
+
+    /**
+     * 키에 현재 저장된 값이 주어진 값과 같을 때만 항목을 제거합니다.
+     * 만료된 값을 읽은 뒤 그 사이 다른 요청이 저장한 새 값을 지우지 않도록 할 때 사용합니다.
+     *
+     * @param key   키
+     * @param value 제거할 값
+     * @return 제거되었으면 true
+     */
+    public boolean remove(final K key, final V value) {
+        Objects.requireNonNull(key, "key must not be null");
+
+        final Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.remove(key, value);
+        }
+    }
+
+    /**
+     * 조건을 만족하는 항목을 모두 제거합니다. 세그먼트를 하나씩 잠그며 전체 항목을 확인합니다.
+     *
+     * @param filter 제거할 항목의 조건
+     * @return 제거된 항목 수
+     */
+    public int removeIf(final BiPredicate<? super K, ? super V> filter) {
+        Objects.requireNonNull(filter, "filter must not be null");
+
+        int removed = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                final int before = segment.size();
+                segment.entrySet().removeIf(entry -> filter.test(entry.getKey(), entry.getValue()));
+                removed += before - segment.size();
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 모든 값에 함수를 적용한 결과의 합을 반환합니다. 메트릭 집계용입니다.
+     *
+     * @param mapper 값마다 더할 수를 계산하는 함수
+     * @return 합계
+     */
+    public long sum(final ToLongFunction<? super V> mapper) {
+        Objects.requireNonNull(mapper, "mapper must not be null");
+
+        long sum = 0L;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                for (V value : segment.values()) {
+                    sum += mapper.applyAsLong(value);
+                }
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 현재 항목 수를 반환합니다.
+     *
+     * @return 항목 수
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Segment<K, V> segmentFor(final Object key) {
+        final int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    /**
+     * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목을 제거하는 접근 순서 맵입니다. 잠금은 캐시가 담당합니다.
+     */
+    private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+
+        private final int capacity;
+        private final BiConsumer<? super K, ? super V> evictionListener;
+
+        Segment(final int capacity, final BiConsumer<? super K, ? super V> evictionListener) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictionListener = evictionListener;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+            if (size() <= capacity) {
+                return false;
+            }
+            evictionListener.accept(eldest.getKey(), eldest.getValue());
+            return true;
+        }
+    }
+}
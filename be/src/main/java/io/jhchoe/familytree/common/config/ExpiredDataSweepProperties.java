@@ -0,0 +1,93 @@
+package io.jhchoe.familytree.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 데이터 정리 작업 설정 프로퍼티를 관리하는 클래스입니다.
+ * 실행 주기는 {@code maintenance.sweep.cron}으로 설정합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "maintenance.sweep")
+public class ExpiredDataSweepProperties {
+
+    private boolean enabled = true;
+    private int chunkSize = 1_000;
+    private int maxChunks = 100;
+    private long lockLeaseSeconds = 600;
+
+    /**
+     * 정리 작업 사용 여부를 반환합니다.
+     *
+     * @return 사용 여부 (기본값 true)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 정리 작업 사용 여부를 설정합니다.
+     *
+     * @param enabled 사용 여부
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 한 번의 UPDATE/DELETE로 처리할 최대 행 수를 반환합니다.
+     * 묶음마다 별도 트랜잭션으로 처리하여 잠금 시간을 짧게 유지합니다.
+     *
+     * @return 묶음 크기 (기본값 1,000)
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * 한 번의 UPDATE/DELETE로 처리할 최대 행 수를 설정합니다.
+     *
+     * @param chunkSize 묶음 크기
+     */
+    public void setChunkSize(final int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 한 번 실행할 때 대상별로 처리할 최대 묶음 수를 반환합니다.
+     * 남은 행은 다음 실행에서 이어서 처리합니다.
+     *
+     * @return 최대 묶음 수 (기본값 100)
+     */
+    public int getMaxChunks() {
+        return maxChunks;
+    }
+
+    /**
+     * 한 번 실행할 때 대상별로 처리할 최대 묶음 수를 설정합니다.
+     *
+     * @param maxChunks 최대 묶음 수
+     */
+    public void setMaxChunks(final int maxChunks) {
+        this.maxChunks = maxChunks;
+    }
+
+    /**
+     * 작업 잠금의 임대 기간(초)을 반환합니다.
+     * 노드가 작업 도중 종료되면 이 시간이 지나야 다른 노드가 실행할 수 있습니다.
+     *
+     * @return 임대 기간 (기본값 600초)
+     */
+    public long getLockLeaseSeconds() {
+        return lockLeaseSeconds;
+    }
+
+    /**
+     * 작업 잠금의 임대 기간(초)을 설정합니다.
+     *
+     * @param lockLeaseSeconds 임대 기간
+     */
+    public void setLockLeaseSeconds(final long lockLeaseSeconds) {
+        this.lockLeaseSeconds = lockLeaseSeconds;
+    }
+}
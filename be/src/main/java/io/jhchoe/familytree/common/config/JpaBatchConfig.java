@@ -0,0 +1,30 @@
+package io.jhchoe.familytree.common.config;
+
+import java.util.Map;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 여러 행을 쓰는 작업이 JDBC 배치로 전송되도록 Hibernate를 설정합니다.
+ *
+ * <p>INSERT/UPDATE를 엔티티별로 정렬하여 같은 문장끼리 하나의 배치로 묶습니다.
+ * IDENTITY 전략 엔티티는 INSERT 시점에 ID를 받아야 하므로 배치에서 제외되며,
+ * 배치 INSERT가 필요한 엔티티는 pooled 시퀀스 전략을 사용합니다.
+ * 설정 파일에 같은 키가 있으면 그 값을 우선합니다.</p>
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jpaBatchPropertiesCustomizer(final JpaBatchProperties properties) {
+        return hibernateProperties -> applyDefaults(hibernateProperties, properties);
+    }
+
+    private static void applyDefaults(final Map<String, Object> hibernateProperties, final JpaBatchProperties properties) {
+        hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, properties.getSize());
+        hibernateProperties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+        hibernateProperties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+    }
+}
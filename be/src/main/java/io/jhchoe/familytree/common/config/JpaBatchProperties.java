@@ -0,0 +1,34 @@
+package io.jhchoe.familytree.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate JDBC 배치 설정 프로퍼티를 관리하는 클래스입니다.
+ * 프로필별 설정 파일에서 {@code jpa.batch.size}로 배치 크기를 조정합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "jpa.batch")
+public class JpaBatchProperties {
+
+    private int size = 50;
+
+    /**
+     * 한 번의 JDBC 배치로 묶어 보낼 최대 문장 수를 반환합니다.
+     * 시퀀스 기반 엔티티의 {@code allocationSize}와 같게 두면 한 번의 시퀀스 조회로 배치 하나를 채울 수 있습니다.
+     *
+     * @return 배치 크기 (기본값 50)
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * 한 번의 JDBC 배치로 묶어 보낼 최대 문장 수를 설정합니다.
+     *
+     * @param size 배치 크기
+     */
+    public void setSize(final int size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,42 @@
+package io.jhchoe.familytree.common.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * 백그라운드 정리 작업 등 @Scheduled 메서드를 활성화하는 설정입니다.
+ *
+ * <p>기본 스케줄러는 스레드가 하나뿐이라 한 작업이 길어지면 Rate Limit 반영·만료 데이터 정리·구성원 수 보정 등
+ * 다른 작업이 모두 밀립니다. {@code scheduling.pool-size}(기본 4)개 스레드의 전용 스케줄러를 사용합니다.
+ * 스케줄러를 빈으로 등록하지 않으므로 Spring Boot의 기본 TaskExecutor 구성에는 영향을 주지 않습니다.</p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer, DisposableBean {
+
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    public SchedulingConfig(@Value("${scheduling.pool-size:4}") final int poolSize) {
+        this.taskScheduler = new ThreadPoolTaskScheduler();
+        this.taskScheduler.setPoolSize(poolSize);
+        this.taskScheduler.setThreadNamePrefix("scheduling-");
+        this.taskScheduler.setWaitForTasksToCompleteOnShutdown(true);
+        this.taskScheduler.setAwaitTerminationSeconds(10);
+        this.taskScheduler.initialize();
+    }
+
+    @Override
+    public void configureTasks(final ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(taskScheduler);
+    }
+
+    @Override
+    public void destroy() {
+        taskScheduler.shutdown();
+    }
+}
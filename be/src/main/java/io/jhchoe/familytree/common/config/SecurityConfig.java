@@ -1,11 +1,13 @@
 package io.jhchoe.familytree.common.config;
 
 import io.jhchoe.familytree.common.auth.filter.JwtAuthenticationFilter;
+import io.jhchoe.familytree.common.auth.filter.RateLimitFilter;
 import io.jhchoe.familytree.common.auth.handler.DelegatingOAuth2SuccessHandler;
 import io.jhchoe.familytree.common.auth.handler.OAuth2JwtFailureHandler;
 import io.jhchoe.familytree.common.auth.repository.HttpCookieOAuth2AuthorizationRequestRepository;
 import io.jhchoe.familytree.common.auth.service.OAuth2UserServiceImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -28,6 +30,7 @@ public class SecurityConfig {
     private final FTSpringSecurityExceptionHandler ftSpringSecurityExceptionHandler;
     private final OAuth2UserServiceImpl oAuth2UserService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final DelegatingOAuth2SuccessHandler delegatingOAuth2SuccessHandler;
     private final OAuth2JwtFailureHandler oAuth2JwtFailureHandler;
     private final HttpCookieOAuth2AuthorizationRequestRepository cookieAuthorizationRequestRepository;
@@ -77,11 +80,24 @@ public class SecurityConfig {
                 )
             )
             // JWT 인증 필터를 UsernamePasswordAuthenticationFilter 이전에 추가
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // 인증 정보가 설정된 뒤 사용자/IP 단위로 요청 횟수를 제한
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
+    /**
+     * RateLimitFilter가 서블릿 필터로 자동 등록되면 인증 전에 실행되어 모든 요청이 IP로 구분되므로,
+     * Security 필터 체인에서만 실행되도록 자동 등록을 비활성화합니다.
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration() {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -0,0 +1,114 @@
+package io.jhchoe.familytree.common.scheduling;
+
+import io.jhchoe.familytree.common.auth.application.port.out.DeleteRefreshTokenPort;
+import io.jhchoe.familytree.common.config.ExpiredDataSweepProperties;
+import io.jhchoe.familytree.core.invite.application.port.out.ModifyFamilyInvitePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.IntUnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 초대를 EXPIRED로 변경하고 만료된 Refresh Token을 삭제하는 백그라운드 작업입니다.
+ *
+ * <p>초대는 만료 일시가 지나도 조회 시점에만 만료 여부를 판단하므로 ACTIVE 상태로 남고,
+ * Refresh Token은 재발급 시에만 교체되므로 로그인하지 않는 사용자의 토큰이 계속 쌓입니다.
+ * 이 작업은 대상별로 묶음 크기만큼 UPDATE/DELETE를 반복하며, 묶음마다 별도 트랜잭션으로 처리합니다.
+ * {@link SchedulerLock}으로 여러 노드 중 하나에서만 실행합니다.</p>
+ */
+@Slf4j
+@Component
+public class ExpiredDataSweeper {
+
+    static final String LOCK_NAME = "expired-data-sweep";
+
+    private final ModifyFamilyInvitePort modifyFamilyInvitePort;
+    private final DeleteRefreshTokenPort deleteRefreshTokenPort;
+    private final SchedulerLock schedulerLock;
+    private final ExpiredDataSweepProperties properties;
+    private final Counter expiredInviteCounter;
+    private final Counter deletedRefreshTokenCounter;
+    private final Counter skippedCounter;
+
+    public ExpiredDataSweeper(
+        final ModifyFamilyInvitePort modifyFamilyInvitePort,
+        final DeleteRefreshTokenPort deleteRefreshTokenPort,
+        final SchedulerLock schedulerLock,
+        final ExpiredDataSweepProperties properties,
+        final MeterRegistry meterRegistry
+    ) {
+        this.modifyFamilyInvitePort = modifyFamilyInvitePort;
+        this.deleteRefreshTokenPort = deleteRefreshTokenPort;
+        this.schedulerLock = schedulerLock;
+        this.properties = properties;
+        this.expiredInviteCounter = Counter.builder("maintenance.sweep.invites.expired")
+            .description("정리 작업으로 EXPIRED 처리된 초대 수")
+            .register(meterRegistry);
+        this.deletedRefreshTokenCounter = Counter.builder("maintenance.sweep.refresh.tokens.deleted")
+            .description("정리 작업으로 삭제된 만료 Refresh Token 수")
+            .register(meterRegistry);
+        this.skippedCounter = Counter.builder("maintenance.sweep.skipped")
+            .description("다른 노드가 실행 중이어서 건너뛴 정리 작업 횟수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 만료된 초대와 Refresh Token을 정리합니다.
+     * 다른 노드가 실행 중이면 아무것도 하지 않습니다.
+     *
+     * @return 정리 결과
+     */
+    @Scheduled(cron = "${maintenance.sweep.cron:0 */10 * * * *}")
+    public SweepResult sweep() {
+        if (!properties.isEnabled()) {
+            return SweepResult.EMPTY;
+        }
+        if (!schedulerLock.tryLock(LOCK_NAME, Duration.ofSeconds(properties.getLockLeaseSeconds()))) {
+            skippedCounter.increment();
+            return SweepResult.EMPTY;
+        }
+
+        try {
+            final LocalDateTime now = LocalDateTime.now();
+            final int expiredInvites = processInChunks(limit -> modifyFamilyInvitePort.expireAll(now, limit));
+            expiredInviteCounter.increment(expiredInvites);
+            final int deletedTokens = processInChunks(limit -> deleteRefreshTokenPort.deleteExpiredTokens(now, limit));
+            deletedRefreshTokenCounter.increment(deletedTokens);
+
+            if (expiredInvites > 0 || deletedTokens > 0) {
+                log.info("만료 데이터 정리: [만료된 초대: {}, 삭제된 Refresh Token: {}]", expiredInvites, deletedTokens);
+            }
+            return new SweepResult(expiredInvites, deletedTokens);
+        } finally {
+            schedulerLock.unlock(LOCK_NAME);
+        }
+    }
+
+    private int processInChunks(final IntUnaryOperator chunk) {
+        final int chunkSize = Math.max(properties.getChunkSize(), 1);
+        int processed = 0;
+        for (int i = 0; i < properties.getMaxChunks(); i++) {
+            final int affected = chunk.applyAsInt(chunkSize);
+            processed += affected;
+            if (affected < chunkSize) {
+                break;
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * 정리 작업 결과를 나타내는 레코드입니다.
+     *
+     * @param expiredInvites       EXPIRED 처리된 초대 수
+     * @param deletedRefreshTokens 삭제된 Refresh Token 수
+     */
+    public record SweepResult(int expiredInvites, int deletedRefreshTokens) {
+
+        static final SweepResult EMPTY = new SweepResult(0, 0);
+    }
+}
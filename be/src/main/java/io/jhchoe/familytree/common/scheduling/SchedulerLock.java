@@ -0,0 +1,60 @@
+package io.jhchoe.familytree.common.scheduling;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 애플리케이션 노드 중 하나만 같은 백그라운드 작업을 실행하도록 하는 DB 기반 잠금입니다.
+ *
+ * <p>잠금은 {@code scheduler_lock} 테이블의 작업별 행에 임대 만료 일시를 기록하는 방식이며,
+ * 작업이 끝나면 즉시 해제합니다. 노드가 작업 도중 종료되어 해제하지 못해도 임대 기간이 지나면 다른 노드가 획득할 수 있으므로,
+ * 임대 기간은 작업의 최대 실행 시간보다 길게 설정해야 합니다.</p>
+ */
+@Slf4j
+@Component
+public class SchedulerLock {
+
+    private final SchedulerLockJpaRepository schedulerLockJpaRepository;
+    private final String nodeId;
+
+    public SchedulerLock(final SchedulerLockJpaRepository schedulerLockJpaRepository) {
+        this.schedulerLockJpaRepository = schedulerLockJpaRepository;
+        this.nodeId = UUID.randomUUID().toString();
+    }
+
+    /**
+     * 잠금 획득을 시도합니다. 다른 노드가 임대 기간 내의 잠금을 보유하고 있으면 기다리지 않고 false를 반환합니다.
+     *
+     * @param name      작업 이름
+     * @param leaseTime 임대 기간
+     * @return 획득했으면 true
+     */
+    public boolean tryLock(final String name, final Duration leaseTime) {
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(leaseTime, "leaseTime must not be null");
+
+        final LocalDateTime now = LocalDateTime.now();
+        final boolean acquired = schedulerLockJpaRepository.tryAcquire(name, now, now.plus(leaseTime), nodeId) == 1;
+        if (!acquired) {
+            log.debug("작업 잠금 획득 실패 (다른 노드에서 실행 중): [Name: {}]", name);
+        }
+        return acquired;
+    }
+
+    /**
+     * 이 노드가 보유한 잠금을 해제합니다.
+     *
+     * @param name 작업 이름
+     */
+    public void unlock(final String name) {
+        Objects.requireNonNull(name, "name must not be null");
+
+        if (schedulerLockJpaRepository.release(name, nodeId, LocalDateTime.now()) == 0) {
+            log.warn("작업 잠금 해제 실패 (임대 기간이 지나 다른 노드가 획득했을 수 있음): [Name: {}]", name);
+        }
+    }
+}
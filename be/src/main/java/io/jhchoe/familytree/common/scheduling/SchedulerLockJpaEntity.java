@@ -0,0 +1,34 @@
+package io.jhchoe.familytree.common.scheduling;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 노드 중 하나만 백그라운드 작업을 실행하도록 작업별 잠금 임대 정보를 저장하는 JPA 엔티티입니다.
+ * 행은 원자적 upsert 네이티브 쿼리로만 생성·갱신되므로 생성용 팩토리 메서드를 두지 않습니다.
+ */
+@Entity
+@Table(name = "scheduler_lock")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLockJpaEntity {
+
+    @Id
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_by", nullable = false, length = 255)
+    private String lockedBy;
+}
@@ -0,0 +1,63 @@
+package io.jhchoe.familytree.common.scheduling;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 백그라운드 작업 잠금 JPA 리포지토리입니다.
+ */
+public interface SchedulerLockJpaRepository extends JpaRepository<SchedulerLockJpaEntity, String> {
+
+    /**
+     * 잠금이 없거나 임대 기간이 끝난 경우에만 잠금을 획득합니다.
+     * <p>
+     * 네이티브 쿼리를 사용하는 이유:
+     * - 여러 노드가 동시에 획득을 시도해도 하나만 성공하도록 PostgreSQL의 INSERT ... ON CONFLICT ... WHERE로 단일 문장에서 처리
+     * - JPQL은 upsert를 표현할 수 없음
+     *
+     * @param name        작업 이름
+     * @param lockedAt    획득 일시
+     * @param lockedUntil 임대 만료 일시
+     * @param lockedBy    잠금을 획득한 노드 식별자
+     * @return 획득했으면 1, 다른 노드가 잠금을 보유 중이면 0
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+        INSERT INTO scheduler_lock (name, locked_until, locked_at, locked_by)
+        VALUES (:name, :lockedUntil, :lockedAt, :lockedBy)
+        ON CONFLICT (name)
+        DO UPDATE SET locked_until = EXCLUDED.locked_until,
+                      locked_at = EXCLUDED.locked_at,
+                      locked_by = EXCLUDED.locked_by
+        WHERE scheduler_lock.locked_until <= EXCLUDED.locked_at
+        """, nativeQuery = true)
+    int tryAcquire(
+        @Param("name") String name,
+        @Param("lockedAt") LocalDateTime lockedAt,
+        @Param("lockedUntil") LocalDateTime lockedUntil,
+        @Param("lockedBy") String lockedBy
+    );
+
+    /**
+     * 자신이 보유한 잠금의 임대 기간을 즉시 종료합니다.
+     *
+     * @param name     작업 이름
+     * @param lockedBy 잠금을 획득한 노드 식별자
+     * @param now      현재 일시
+     * @return 해제된 잠금 수 (0 또는 1)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE SchedulerLockJpaEntity l
+        SET l.lockedUntil = :now
+        WHERE l.name = :name
+          AND l.lockedBy = :lockedBy
+        """)
+    int release(@Param("name") String name, @Param("lockedBy") String lockedBy, @Param("now") LocalDateTime now);
+}
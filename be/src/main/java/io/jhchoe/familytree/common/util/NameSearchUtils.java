@@ -0,0 +1,191 @@
+package io.jhchoe.familytree.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이름 부분 일치 검색의 키워드 정규화, LIKE 패턴 생성, 키셋 커서 변환을 담당하는 유틸리티 클래스입니다.
+ *
+ * <p>검색은 관련도 순위(완전 일치 → 앞부분 일치 → 부분 일치)별로 쿼리를 나누어 실행하고({@link #searchTiers}),
+ * 각 순위 안에서는 {@code id > :cursorId} 조건으로 키셋 페이징합니다. 완전 일치와 앞부분 일치는 {@code LOWER(name)} B-tree 인덱스로,
+ * 부분 일치는 pg_trgm GIN 인덱스로 처리하므로 트라이그램을 만들 수 없는 한두 글자 한글 키워드도 앞의 두 순위는 인덱스 범위 조회로 찾습니다.
+ * 같은 SQL이 H2에서도 동작하도록 확장 함수({@code similarity} 등)는 사용하지 않습니다.</p>
+ *
+ * <p>커서는 {@code "s1:순위:id"}를 Base64로 인코딩한 값입니다. 버전 접두사가 없는 커서(예: 목록 조회의 "memberCount:id" 커서)는
+ * 검색 커서로 해석하지 않고 첫 페이지부터 조회합니다.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NameSearchUtils {
+
+    /**
+     * 이름이 키워드와 완전히 일치하는 경우의 순위
+     */
+    public static final int EXACT_MATCH = 0;
+
+    /**
+     * 이름이 키워드로 시작하는 경우의 순위
+     */
+    public static final int PREFIX_MATCH = 1;
+
+    /**
+     * 이름 중간에 키워드가 포함된 경우의 순위
+     */
+    public static final int PARTIAL_MATCH = 2;
+
+    private static final char ESCAPE = '\\';
+    private static final String CURSOR_DELIMITER = ":";
+    private static final String CURSOR_VERSION = "s1";
+
+    /**
+     * 검색 키워드를 앞뒤 공백을 제거하고 소문자로 정규화합니다.
+     *
+     * @param keyword 검색 키워드
+     * @return 정규화된 키워드
+     * @throws IllegalArgumentException 키워드가 null이거나 공백인 경우
+     */
+    public static String normalize(final String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("keyword must not be null or blank");
+        }
+        return keyword.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 키워드를 포함하는 이름을 찾는 LIKE 패턴을 생성합니다. (ESCAPE '\')
+     *
+     * @param normalizedKeyword 정규화된 키워드
+     * @return 부분 일치 패턴
+     */
+    public static String containsPattern(final String normalizedKeyword) {
+        return "%" + escape(normalizedKeyword) + "%";
+    }
+
+    /**
+     * 키워드로 시작하는 이름을 찾는 LIKE 패턴을 생성합니다. (ESCAPE '\')
+     *
+     * @param normalizedKeyword 정규화된 키워드
+     * @return 앞부분 일치 패턴
+     */
+    public static String prefixPattern(final String normalizedKeyword) {
+        return escape(normalizedKeyword) + "%";
+    }
+
+    /**
+     * 관련도 순위별 쿼리를 순서대로 실행하여 커서 이후 항목을 최대 {@code limit}건 조회합니다.
+     * 커서의 순위에서는 커서 ID 이후부터, 그 다음 순위부터는 처음부터 조회하며 {@code limit}건이 채워지면 나머지 순위는 실행하지 않습니다.
+     *
+     * @param cursor 커서 위치
+     * @param limit  조회할 최대 개수
+     * @param query  한 순위 안에서 ID 오름차순으로 키셋 조회하는 쿼리
+     * @param <T>    조회 항목 타입
+     * @return 관련도 순위와 함께 조회된 항목 목록
+     */
+    public static <T> List<RankedItem<T>> searchTiers(final SearchCursor cursor, final int limit, final TierQuery<T> query) {
+        final List<RankedItem<T>> items = new ArrayList<>(limit);
+        for (int rank = Math.max(cursor.rank(), EXACT_MATCH); rank <= PARTIAL_MATCH && items.size() < limit; rank++) {
+            final long cursorId = rank == cursor.rank() ? cursor.id() : 0L;
+            for (T item : query.find(rank, cursorId, limit - items.size())) {
+                items.add(new RankedItem<>(item, rank));
+            }
+        }
+        return items;
+    }
+
+    /**
+     * 마지막으로 조회한 항목의 순위와 ID로 다음 페이지 커서를 생성합니다.
+     *
+     * @param rank 관련도 순위
+     * @param id   ID
+     * @return Base64로 인코딩된 커서 문자열
+     */
+    public static String encodeCursor(final int rank, final long id) {
+        final String cursorValue = CURSOR_VERSION + CURSOR_DELIMITER + rank + CURSOR_DELIMITER + id;
+        return Base64.getEncoder().encodeToString(cursorValue.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 디코딩합니다. 커서가 없거나 잘못되었거나 검색 커서가 아닌 경우 첫 페이지 위치를 반환합니다.
+     *
+     * @param cursor Base64로 인코딩된 커서 문자열
+     * @return 커서 위치
+     */
+    public static SearchCursor decodeCursor(final String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return SearchCursor.FIRST;
+        }
+        try {
+            final String decodedValue = new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final String[] parts = decodedValue.split(CURSOR_DELIMITER);
+            if (parts.length != 3 || !CURSOR_VERSION.equals(parts[0])) {
+                return SearchCursor.FIRST;
+            }
+            final int rank = Integer.parseInt(parts[1]);
+            final long id = Long.parseLong(parts[2]);
+            if (rank < EXACT_MATCH || rank > PARTIAL_MATCH || id < 0) {
+                return SearchCursor.FIRST;
+            }
+            return new SearchCursor(rank, id);
+        } catch (IllegalArgumentException e) {
+            return SearchCursor.FIRST;
+        }
+    }
+
+    private static String escape(final String keyword) {
+        final StringBuilder escaped = new StringBuilder(keyword.length());
+        for (char c : keyword.toCharArray()) {
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                escaped.append(ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * 키셋 페이징 위치를 나타내는 레코드입니다. (rank, id) 순서에서 이 위치 이후의 항목을 조회합니다.
+     *
+     * @param rank 마지막으로 조회한 항목의 관련도 순위
+     * @param id   마지막으로 조회한 항목의 ID
+     */
+    public record SearchCursor(int rank, long id) {
+
+        /**
+         * 첫 페이지 위치
+         */
+        public static final SearchCursor FIRST = new SearchCursor(-1, 0L);
+    }
+
+    /**
+     * 관련도 순위 하나에 해당하는 항목을 ID 오름차순으로 키셋 조회하는 쿼리입니다.
+     *
+     * @param <T> 조회 항목 타입
+     */
+    @FunctionalInterface
+    public interface TierQuery<T> {
+
+        /**
+         * 관련도 순위에 해당하는 항목 중 ID가 커서보다 큰 항목을 조회합니다.
+         *
+         * @param rank     관련도 순위
+         * @param cursorId 이 순위에서 마지막으로 조회한 ID (처음부터 조회하면 0)
+         * @param limit    조회할 최대 개수
+         * @return ID 오름차순으로 조회된 항목 목록
+         */
+        List<T> find(int rank, long cursorId, int limit);
+    }
+
+    /**
+     * 관련도 순위와 함께 조회된 항목입니다.
+     *
+     * @param item 조회된 항목
+     * @param rank 항목을 조회한 관련도 순위
+     * @param <T>  조회 항목 타입
+     */
+    public record RankedItem<T>(T item, int rank) {
+    }
+}
@@ -4,9 +4,11 @@ import io.jhchoe.familytree.common.auth.domain.AuthFTUser;
 import io.jhchoe.familytree.common.auth.domain.FTUser;
 import io.jhchoe.familytree.core.family.adapter.in.request.SaveAnnouncementRequest;
 import io.jhchoe.familytree.core.family.adapter.in.response.AnnouncementResponse;
+import io.jhchoe.familytree.core.family.adapter.in.response.CursorPageResponse;
 import io.jhchoe.familytree.core.family.adapter.in.response.SaveAnnouncementResponse;
 import io.jhchoe.familytree.core.family.application.port.in.*;
 import io.jhchoe.familytree.core.family.domain.Announcement;
+import io.jhchoe.familytree.core.family.domain.CursorPage;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -14,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 공지사항 관리 API 컨트롤러입니다.
@@ -26,14 +29,17 @@ public class AnnouncementController {
     private final SaveAnnouncementUseCase saveAnnouncementUseCase;
     private final FindAnnouncementUseCase findAnnouncementUseCase;
     private final DeleteAnnouncementUseCase deleteAnnouncementUseCase;
+    private final FindFamilyContentVersionUseCase findFamilyContentVersionUseCase;
     
     /**
      * 공지사항 목록을 조회합니다.
+     * If-None-Match의 ETag가 현재 내용 버전과 같으면 공지사항을 조회하지 않고 304를 응답합니다.
      *
-     * @param familyId 가족 ID
-     * @param page     페이지 번호 (0부터 시작)
-     * @param size     페이지 크기
-     * @param user     인증된 사용자 정보
+     * @param familyId   가족 ID
+     * @param page       페이지 번호 (0부터 시작)
+     * @param size       페이지 크기
+     * @param user       인증된 사용자 정보
+     * @param webRequest 조건부 요청 헤더 확인용 요청 정보
      * @return 공지사항 목록 응답
      */
     @GetMapping
@@ -41,9 +47,14 @@ public class AnnouncementController {
         @PathVariable Long familyId,
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size,
-        @AuthFTUser FTUser user
+        @AuthFTUser FTUser user,
+        WebRequest webRequest
     ) {
         Long userId = user.getId();
+        String eTag = findAnnouncementsETag(familyId, userId);
+        if (webRequest.checkNotModified(eTag)) {
+            return FamilyETags.notModified(eTag);
+        }
         
         List<Announcement> announcements = findAnnouncementUseCase.findAll(
             new FindAnnouncementQuery(familyId, userId, page, size)
@@ -53,7 +64,48 @@ public class AnnouncementController {
             .map(AnnouncementResponse::from)
             .collect(Collectors.toList());
         
-        return ResponseEntity.ok(responses);
+        return FamilyETags.ok(eTag, responses);
+    }
+    
+    /**
+     * 공지사항을 최신순으로 커서 기반 페이징하여 조회합니다.
+     * If-None-Match의 ETag가 현재 내용 버전과 같으면 공지사항을 조회하지 않고 304를 응답합니다.
+     *
+     * @param familyId   가족 ID
+     * @param cursor     무한 스크롤을 위한 커서 값 (선택적, null인 경우 첫 페이지)
+     * @param size       페이지 크기
+     * @param user       인증된 사용자 정보
+     * @param webRequest 조건부 요청 헤더 확인용 요청 정보
+     * @return 커서 기반 페이징된 공지사항 목록 응답
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPageResponse<AnnouncementResponse>> getAnnouncementFeed(
+        @PathVariable Long familyId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size,
+        @AuthFTUser FTUser user,
+        WebRequest webRequest
+    ) {
+        Long userId = user.getId();
+        String eTag = findAnnouncementsETag(familyId, userId);
+        if (webRequest.checkNotModified(eTag)) {
+            return FamilyETags.notModified(eTag);
+        }
+        
+        CursorPage<Announcement> announcementPage = findAnnouncementUseCase.findFeed(
+            new FindAnnouncementFeedQuery(familyId, userId, cursor, size)
+        );
+        
+        List<AnnouncementResponse> responses = announcementPage.getContent().stream()
+            .map(AnnouncementResponse::from)
+            .toList();
+        
+        return FamilyETags.ok(eTag, new CursorPageResponse<>(
+            responses,
+            announcementPage.getNextCursor(),
+            announcementPage.isHasNext(),
+            announcementPage.getSize()
+        ));
     }
     
     /**
@@ -131,4 +183,12 @@ public class AnnouncementController {
         
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 공지사항 목록의 ETag를 Family 내용 버전으로 생성합니다. 구성원이 아니면 예외가 발생합니다.
+     */
+    private String findAnnouncementsETag(Long familyId, Long userId) {
+        long version = findFamilyContentVersionUseCase.find(new FindFamilyContentVersionQuery(familyId, userId));
+        return FamilyETags.announcements(familyId, version);
+    }
 }
@@ -0,0 +1,35 @@
+package io.jhchoe.familytree.core.family.adapter.in;
+
+import java.util.List;
+
+/**
+ * 여러 멤버의 태그 할당 요청 DTO입니다.
+ *
+ * @param members 멤버별 태그 할당 목록
+ */
+public record BulkModifyFamilyMemberTagMappingRequest(
+    List<MemberTagsRequest> members
+) {
+    public BulkModifyFamilyMemberTagMappingRequest {
+        if (members == null) {
+            members = List.of();
+        }
+    }
+
+    /**
+     * 한 멤버의 태그 할당 요청 DTO입니다.
+     *
+     * @param memberId 멤버 ID
+     * @param tagIds   할당할 태그 ID 목록
+     */
+    public record MemberTagsRequest(
+        Long memberId,
+        List<Long> tagIds
+    ) {
+        public MemberTagsRequest {
+            if (tagIds == null) {
+                tagIds = List.of();
+            }
+        }
+    }
+}
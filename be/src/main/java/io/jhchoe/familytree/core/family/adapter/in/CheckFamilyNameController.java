@@ -1,8 +1,11 @@
 package io.jhchoe.familytree.core.family.adapter.in;
 
 import io.jhchoe.familytree.core.family.adapter.in.response.FamilyNameAvailabilityResponse;
+import io.jhchoe.familytree.core.family.adapter.in.response.FamilyNameSuggestionResponse;
 import io.jhchoe.familytree.core.family.application.port.in.CheckFamilyNameDuplicationUseCase;
 import io.jhchoe.familytree.core.family.application.port.in.FamilyNameAvailabilityResult;
+import io.jhchoe.familytree.core.family.application.port.in.SuggestFamilyNameUseCase;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -13,7 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 /**
  * 가족명 중복 확인 API 컨트롤러입니다.
- * 실시간으로 가족명 사용 가능 여부를 확인할 수 있는 API를 제공합니다.
+ * 실시간으로 가족명 사용 가능 여부를 확인하고 가족명 자동완성 후보를 조회할 수 있는 API를 제공합니다.
  * 
  * @author Claude AI
  * @since 1.0
@@ -25,6 +28,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class CheckFamilyNameController {
 
     private final CheckFamilyNameDuplicationUseCase checkFamilyNameDuplicationUseCase;
+    private final SuggestFamilyNameUseCase suggestFamilyNameUseCase;
 
     /**
      * 가족명 중복 여부를 확인합니다.
@@ -58,4 +62,20 @@ public class CheckFamilyNameController {
             return ResponseEntity.badRequest().body(errorResponse);
         }
     }
+
+    /**
+     * 입력 중인 가족명으로 시작하는 공개 Family의 가족명을 조회합니다.
+     * 요청 횟수는 {@code family_name_suggestion} Rate Limit 정책으로 제한됩니다.
+     *
+     * @param prefix 입력 중인 가족명
+     * @return 공개 Family의 가족명 목록
+     */
+    @GetMapping("/name-suggestions")
+    public ResponseEntity<FamilyNameSuggestionResponse> suggestFamilyNames(
+            @RequestParam("prefix") String prefix) {
+
+        List<String> names = suggestFamilyNameUseCase.suggestFamilyNames(prefix);
+
+        return ResponseEntity.ok(new FamilyNameSuggestionResponse(names));
+    }
 }
@@ -0,0 +1,121 @@
+package io.jhchoe.familytree.core.family.adapter.in;
+
+import io.jhchoe.familytree.core.family.domain.FamilyContentVersion;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Year;
+import java.util.HexFormat;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Family 조회 API의 ETag를 만들고 조건부 응답을 생성하는 유틸리티 클래스입니다.
+ *
+ * <p>ETag는 Family 내용 버전으로 만들며, 같은 버전이라도 응답이 달라지는 값(조회자, 나이 계산 기준 연도)을 함께 포함합니다.
+ * 응답은 조회자별로 다르므로 공유 캐시에는 저장하지 않고, 클라이언트는 매번 재검증하도록 {@code private, no-cache}를 지정합니다.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class FamilyETags {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    /**
+     * Family 홈 구성원 목록의 ETag를 생성합니다.
+     * 구성원 나이는 조회 시점의 연도로 계산하므로 연도를 포함합니다.
+     *
+     * @param familyId                Family ID
+     * @param version                 Family 내용 버전
+     * @param includesInactiveMembers 조회자에게 활성 상태가 아닌 구성원도 보이는지 여부 (역할에 따라 다름)
+     * @return ETag 값
+     */
+    static String homeMembers(Long familyId, long version, boolean includesInactiveMembers) {
+        return "home-members-" + familyId + "-" + version + "-" + (includesInactiveMembers ? "all" : "active")
+            + "-" + Year.now().getValue();
+    }
+
+    /**
+     * 공지사항 목록의 ETag를 생성합니다.
+     *
+     * @param familyId Family ID
+     * @param version  Family 내용 버전
+     * @return ETag 값
+     */
+    static String announcements(Long familyId, long version) {
+        return "announcements-" + familyId + "-" + version;
+    }
+
+    /**
+     * 내 소속 Family 목록의 ETag를 생성합니다.
+     * 소속 Family와 각 내용 버전을 순서대로 해시하므로, 가입·탈퇴나 어느 한 Family의 변경도 ETag를 바꿉니다.
+     *
+     * @param userId   사용자 ID
+     * @param versions 소속 Family별 내용 버전 (가입 순서)
+     * @return ETag 값
+     */
+    static String myFamilies(Long userId, List<FamilyContentVersion> versions) {
+        StringBuilder source = new StringBuilder().append(userId);
+        for (FamilyContentVersion version : versions) {
+            source.append(';').append(version.familyId()).append(':').append(version.version());
+        }
+        return "my-families-" + sha256(source.toString());
+    }
+
+    /**
+     * 304 Not Modified 응답을 생성합니다.
+     *
+     * @param eTag ETag 값
+     * @param <T>  응답 본문 타입
+     * @return 본문 없는 304 응답
+     */
+    static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+            .eTag(eTag)
+            .cacheControl(CACHE_CONTROL)
+            .build();
+    }
+
+    /**
+     * ETag를 포함한 200 OK 응답을 생성합니다.
+     *
+     * @param eTag ETag 값
+     * @param body 응답 본문
+     * @param <T>  응답 본문 타입
+     * @return 200 응답
+     */
+    static <T> ResponseEntity<T> ok(String eTag, T body) {
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CACHE_CONTROL)
+            .body(body);
+    }
+
+    /**
+     * ETag를 포함하여 직렬화된 JSON 본문을 그대로 쓰는 200 OK 응답을 생성합니다.
+     *
+     * @param eTag ETag 값
+     * @param json 응답 JSON
+     * @return 200 응답
+     */
+    static ResponseEntity<byte[]> okJson(String eTag, byte[] json) {
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CACHE_CONTROL)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(json);
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.jhchoe.familytree.core.family.adapter.in;
+
+import io.jhchoe.familytree.common.cache.BoundedLruCache;
+import io.jhchoe.familytree.core.family.config.FamilyHomeMemberSnapshotProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Year;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Family 홈 구성원 목록 응답을 직렬화된 JSON으로 보관하는 크기 제한 LRU 캐시입니다.
+ * Family와 조회 범위(전체·활성 구성원)마다 하나의 스냅샷을 보관합니다.
+ *
+ * <p>스냅샷은 만들 때의 Family 내용 버전과 연도로 식별합니다. 구성원·태그·태그 매핑이 변경되면 같은 트랜잭션에서
+ * 내용 버전이 증가하므로, 다음 조회에서 버전이 달라진 스냅샷을 새로 만들어 교체합니다.
+ * 버전은 데이터베이스에서 읽으므로 다른 노드에서 변경된 내용도 바로 반영되며, 별도의 제거 처리가 필요 없습니다.
+ * 구성원 나이는 조회 연도로 계산하므로 해가 바뀌어도 새로 만듭니다.</p>
+ */
+@Component
+public class FamilyHomeMemberSnapshotCache {
+
+    private static final String METRIC_PREFIX = "family.home.snapshot";
+
+    private final FamilyHomeMemberSnapshotProperties properties;
+    private final Clock clock;
+    private final BoundedLruCache<Key, Snapshot> store;
+    private final Counter hitCounter;
+    private final Counter rebuildCounter;
+
+    @Autowired
+    public FamilyHomeMemberSnapshotCache(
+        final FamilyHomeMemberSnapshotProperties properties,
+        final MeterRegistry meterRegistry
+    ) {
+        this(properties, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    // 테스트용 생성자
+    public FamilyHomeMemberSnapshotCache(
+        final FamilyHomeMemberSnapshotProperties properties,
+        final MeterRegistry meterRegistry,
+        final Clock clock
+    ) {
+        this.properties = properties;
+        this.clock = clock;
+        this.store = new BoundedLruCache<>(properties.getMaxSize());
+        this.hitCounter = Counter.builder(METRIC_PREFIX + ".hits")
+            .description("홈 구성원 스냅샷 적중 횟수")
+            .register(meterRegistry);
+        this.rebuildCounter = Counter.builder(METRIC_PREFIX + ".rebuilds")
+            .description("홈 구성원 스냅샷을 새로 만든 횟수")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, FamilyHomeMemberSnapshotCache::size)
+            .description("홈 구성원 스냅샷 수")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".bytes", this, FamilyHomeMemberSnapshotCache::totalBytes)
+            .description("홈 구성원 스냅샷이 차지하는 JSON 바이트 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 내용 버전과 연도가 같은 스냅샷을 반환하고, 없으면 loader로 만든 스냅샷을 저장합니다.
+     * 스냅샷이 비활성화되어 있으면 항상 loader를 호출합니다.
+     *
+     * <p>loader는 버전을 읽은 뒤에 구성원을 조회하므로 스냅샷 내용은 항상 해당 버전 이후의 상태입니다.
+     * 그 사이 변경이 있었다면 스냅샷은 이전 버전으로 저장되어 다음 조회에서 다시 만들어집니다.</p>
+     *
+     * @param familyId                Family ID
+     * @param version                 현재 Family 내용 버전
+     * @param includesInactiveMembers 활성 상태가 아닌 구성원을 포함하는 조회 범위인지 여부
+     * @param loader                  스냅샷이 없을 때 응답 JSON을 만드는 함수
+     * @return 응답 JSON
+     */
+    public byte[] find(
+        final Long familyId,
+        final long version,
+        final boolean includesInactiveMembers,
+        final Supplier<byte[]> loader
+    ) {
+        Objects.requireNonNull(familyId, "familyId must not be null");
+        Objects.requireNonNull(loader, "loader must not be null");
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+
+        final Key key = new Key(familyId, includesInactiveMembers);
+        final int year = Year.now(clock).getValue();
+        final Snapshot cached = store.get(key);
+        if (cached != null && cached.matches(version, year)) {
+            hitCounter.increment();
+            return cached.json();
+        }
+
+        rebuildCounter.increment();
+        final byte[] json = loader.get();
+        final Snapshot loaded = new Snapshot(version, year, json);
+        // 다른 요청이 더 최신 버전으로 먼저 교체했다면 덮어쓰지 않는다
+        store.compute(key, (k, current) -> current == null || current.version() <= version ? loaded : current);
+        return json;
+    }
+
+    /**
+     * 현재 스냅샷 수를 반환합니다.
+     *
+     * @return 스냅샷 수
+     */
+    public int size() {
+        return store.size();
+    }
+
+    private long totalBytes() {
+        return store.sum(snapshot -> snapshot.json().length);
+    }
+
+    /**
+     * 스냅샷 키를 나타내는 내부 레코드입니다.
+     */
+    private record Key(Long familyId, boolean includesInactiveMembers) {
+    }
+
+    /**
+     * 스냅샷을 나타내는 내부 레코드입니다. 보관한 JSON 배열은 수정하지 않습니다.
+     */
+    private record Snapshot(long version, int year, byte[] json) {
+
+        boolean matches(final long version, final int year) {
+            return this.version == version && this.year == year;
+        }
+    }
+}
@@ -4,14 +4,18 @@ import io.jhchoe.familytree.common.auth.domain.AuthFTUser;
 import io.jhchoe.familytree.common.auth.domain.FTUser;
 import io.jhchoe.familytree.core.family.adapter.in.response.CursorPageResponse;
 import io.jhchoe.familytree.core.family.adapter.in.response.FindFamilyResponse;
+import io.jhchoe.familytree.core.family.adapter.in.response.FindMyFamilyResponse;
 import io.jhchoe.familytree.core.family.adapter.in.response.PublicFamilyResponse;
 import io.jhchoe.familytree.core.family.application.port.in.FindFamilyByIdQuery;
 import io.jhchoe.familytree.core.family.application.port.in.FindFamilyByNameContainingQuery;
+import io.jhchoe.familytree.core.family.application.port.in.FindFamilyContentVersionUseCase;
 import io.jhchoe.familytree.core.family.application.port.in.FindFamilyUseCase;
 import io.jhchoe.familytree.core.family.application.port.in.FindMyFamiliesQuery;
 import io.jhchoe.familytree.core.family.application.port.in.FindPublicFamiliesQuery;
 import io.jhchoe.familytree.core.family.domain.CursorPage;
 import io.jhchoe.familytree.core.family.domain.Family;
+import io.jhchoe.familytree.core.family.domain.FamilyContentVersion;
+import io.jhchoe.familytree.core.family.domain.FamilySummary;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +24,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Family 조회 기능을 제공하는 REST Controller.
@@ -33,6 +38,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class FindFamilyController {
 
     private final FindFamilyUseCase findFamilyUseCase;
+    private final FindFamilyContentVersionUseCase findFamilyContentVersionUseCase;
 
     /**
      * Family ID로 단일 Family를 조회합니다.
@@ -75,21 +81,30 @@ public class FindFamilyController {
 
     /**
      * 현재 사용자가 소속된 Family 목록을 조회합니다.
+     * If-None-Match의 ETag가 소속 Family들의 현재 내용 버전과 같으면 목록을 조회하지 않고 304를 응답합니다.
      * 
      * @param ftUser 인증된 사용자 정보
+     * @param webRequest 조건부 요청 헤더 확인용 요청 정보
      * @return 조회된 내 소속 Family 목록
      */
     @GetMapping("/my")
-    public ResponseEntity<List<FindFamilyResponse>> findMyFamilies(
-        @AuthFTUser FTUser ftUser
+    public ResponseEntity<List<FindMyFamilyResponse>> findMyFamilies(
+        @AuthFTUser FTUser ftUser,
+        WebRequest webRequest
     ) {
         FindMyFamiliesQuery query = new FindMyFamiliesQuery(ftUser.getId());
-        List<Family> families = findFamilyUseCase.findAll(query);
-        List<FindFamilyResponse> results = families.stream()
-            .map(FindFamilyResponse::from)
+        List<FamilyContentVersion> versions = findFamilyContentVersionUseCase.findAll(query);
+        String eTag = FamilyETags.myFamilies(ftUser.getId(), versions);
+        if (webRequest.checkNotModified(eTag)) {
+            return FamilyETags.notModified(eTag);
+        }
+
+        List<FamilySummary> families = findFamilyUseCase.findAll(query);
+        List<FindMyFamilyResponse> results = families.stream()
+            .map(FindMyFamilyResponse::from)
             .toList();
 
-        return ResponseEntity.ok(results);
+        return FamilyETags.ok(eTag, results);
     }
 
     /**
@@ -109,11 +124,10 @@ public class FindFamilyController {
         @RequestParam(defaultValue = "20") int size
     ) {
         FindPublicFamiliesQuery query = new FindPublicFamiliesQuery(keyword, cursor, size, ftUser.getId());
-        CursorPage<Family> familyPage = findFamilyUseCase.findAll(query);
+        CursorPage<FamilySummary> familyPage = findFamilyUseCase.findAll(query);
 
-        // PublicFamilyResponse로 변환 (구성원 수는 임시로 0 설정, 추후 최적화 필요)
         List<PublicFamilyResponse> publicFamilies = familyPage.getContent().stream()
-            .map(family -> PublicFamilyResponse.from(family, 0)) // TODO: 실제 구성원 수 계산 로직 추가
+            .map(summary -> PublicFamilyResponse.from(summary.getFamily(), summary.getMemberCount()))
             .toList();
 
         CursorPageResponse<PublicFamilyResponse> response = new CursorPageResponse<>(
@@ -1,10 +1,15 @@
 package io.jhchoe.familytree.core.family.adapter.in;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jhchoe.familytree.common.auth.domain.AuthFTUser;
 import io.jhchoe.familytree.common.auth.domain.FTUser;
 import io.jhchoe.familytree.core.family.adapter.in.response.FamilyMemberWithRelationshipResponse;
 import io.jhchoe.familytree.core.family.adapter.in.response.FamilyMemberWithRelationshipResponse.TagInfo;
+import io.jhchoe.familytree.core.family.application.port.in.FamilyHomeMembersVersion;
 import io.jhchoe.familytree.core.family.application.port.in.FamilyMemberWithTagsInfo;
+import io.jhchoe.familytree.core.family.application.port.in.FindFamilyContentVersionQuery;
+import io.jhchoe.familytree.core.family.application.port.in.FindFamilyContentVersionUseCase;
 import io.jhchoe.familytree.core.family.application.port.in.FindFamilyMemberUseCase;
 import io.jhchoe.familytree.core.family.application.port.in.FindFamilyMembersWithTagsQuery;
 import java.util.List;
@@ -14,6 +19,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Family 홈 구성원 목록 조회를 위한 REST 컨트롤러입니다.
@@ -24,28 +30,56 @@ import org.springframework.web.bind.annotation.RestController;
 public class FindFamilyHomeMemberController {
 
     private final FindFamilyMemberUseCase findFamilyMemberUseCase;
+    private final FindFamilyContentVersionUseCase findFamilyContentVersionUseCase;
+    private final FamilyHomeMemberSnapshotCache familyHomeMemberSnapshotCache;
+    private final ObjectMapper objectMapper;
 
     /**
      * Family 홈용 구성원 목록을 조회합니다.
+     * If-None-Match의 ETag가 현재 내용 버전과 같으면 구성원을 조회하지 않고 304를 응답하고,
+     * 같은 버전의 스냅샷이 있으면 구성원을 조회하지 않고 저장된 JSON을 그대로 응답합니다.
      *
-     * @param familyId 조회할 Family ID
-     * @param ftUser   인증된 사용자 정보
-     * @return Family 홈 구성원 목록
+     * @param familyId   조회할 Family ID
+     * @param ftUser     인증된 사용자 정보
+     * @param webRequest 조건부 요청 헤더 확인용 요청 정보
+     * @return Family 홈 구성원 목록 ({@link FamilyMemberWithRelationshipResponse} 배열 JSON)
      */
     @GetMapping("/{familyId}/home/members")
-    public ResponseEntity<List<FamilyMemberWithRelationshipResponse>> findFamilyHomeMembers(
+    public ResponseEntity<byte[]> findFamilyHomeMembers(
         @PathVariable Long familyId,
-        @AuthFTUser FTUser ftUser
+        @AuthFTUser FTUser ftUser,
+        WebRequest webRequest
     ) {
+        // 0. 내용 버전으로 변경 여부 확인
+        FamilyHomeMembersVersion version = findFamilyContentVersionUseCase.findHomeMembers(
+            new FindFamilyContentVersionQuery(familyId, ftUser.getId())
+        );
+        String eTag = FamilyETags.homeMembers(familyId, version.version(), version.includesInactiveMembers());
+        if (webRequest.checkNotModified(eTag)) {
+            return FamilyETags.notModified(eTag);
+        }
+
+        // 1. 같은 버전의 스냅샷이 없을 때만 구성원을 조회하여 JSON 생성
+        byte[] json = familyHomeMemberSnapshotCache.find(
+            familyId,
+            version.version(),
+            version.includesInactiveMembers(),
+            () -> toJson(findResponses(familyId, ftUser.getId()))
+        );
+
+        return FamilyETags.okJson(eTag, json);
+    }
+
+    private List<FamilyMemberWithRelationshipResponse> findResponses(Long familyId, Long currentUserId) {
         // 1. Query 생성
         FindFamilyMembersWithTagsQuery query =
-            new FindFamilyMembersWithTagsQuery(familyId, ftUser.getId());
+            new FindFamilyMembersWithTagsQuery(familyId, currentUserId);
 
         // 2. UseCase 호출 (태그 포함 조회)
         List<FamilyMemberWithTagsInfo> membersWithTags = findFamilyMemberUseCase.findAll(query);
 
         // 3. Response DTO 변환
-        List<FamilyMemberWithRelationshipResponse> response = membersWithTags.stream()
+        return membersWithTags.stream()
             .map(info -> new FamilyMemberWithRelationshipResponse(
                 info.member(),
                 info.tags().stream()
@@ -53,7 +87,13 @@ public class FindFamilyHomeMemberController {
                     .toList()
             ))
             .toList();
+    }
 
-        return ResponseEntity.ok(response);
+    private byte[] toJson(List<FamilyMemberWithRelationshipResponse> responses) {
+        try {
+            return objectMapper.writeValueAsBytes(responses);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize family home members", e);
+        }
     }
 }
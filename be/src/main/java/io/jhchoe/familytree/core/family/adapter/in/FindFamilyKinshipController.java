@@ -0,0 +1,77 @@
+package io.jhchoe.familytree.core.family.adapter.in;
+
+import io.jhchoe.familytree.common.auth.domain.AuthFTUser;
+import io.jhchoe.familytree.common.auth.domain.FTUser;
+import io.jhchoe.familytree.core.family.adapter.in.response.FamilyKinshipResponse;
+import io.jhchoe.familytree.core.family.adapter.in.response.FamilyLineageResponse;
+import io.jhchoe.familytree.core.family.application.port.in.FamilyLineageInfo;
+import io.jhchoe.familytree.core.family.application.port.in.FindFamilyKinshipQuery;
+import io.jhchoe.familytree.core.family.application.port.in.FindFamilyKinshipUseCase;
+import io.jhchoe.familytree.core.family.application.port.in.FindFamilyLineageQuery;
+import io.jhchoe.familytree.core.family.domain.KinshipPath;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 구성원 사이의 친족 관계 조회를 위한 REST 컨트롤러입니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/families/{familyId}/members")
+public class FindFamilyKinshipController {
+
+    private final FindFamilyKinshipUseCase findFamilyKinshipUseCase;
+
+    /**
+     * 두 구성원 사이의 친족 관계 경로와 촌수를 조회합니다.
+     *
+     * @param familyId       가족 ID
+     * @param memberId       기준 구성원 ID
+     * @param targetMemberId 대상 구성원 ID
+     * @param ftUser         인증된 사용자 정보
+     * @return 친족 관계 경로와 촌수
+     */
+    @GetMapping("/{memberId}/kinship/{targetMemberId}")
+    public ResponseEntity<FamilyKinshipResponse> findKinship(
+        @PathVariable Long familyId,
+        @PathVariable Long memberId,
+        @PathVariable Long targetMemberId,
+        @AuthFTUser FTUser ftUser
+    ) {
+        Optional<KinshipPath> path = findFamilyKinshipUseCase.find(
+            new FindFamilyKinshipQuery(familyId, memberId, targetMemberId, ftUser.getId())
+        );
+
+        return ResponseEntity.ok(FamilyKinshipResponse.of(memberId, targetMemberId, path));
+    }
+
+    /**
+     * 구성원의 조상과 자손을 조회합니다.
+     *
+     * @param familyId 가족 ID
+     * @param memberId 기준 구성원 ID
+     * @param maxDepth 조회할 최대 세대 수 (생략하면 {@link FindFamilyLineageQuery#MAX_DEPTH})
+     * @param ftUser   인증된 사용자 정보
+     * @return 조상과 자손 목록
+     */
+    @GetMapping("/{memberId}/lineage")
+    public ResponseEntity<FamilyLineageResponse> findLineage(
+        @PathVariable Long familyId,
+        @PathVariable Long memberId,
+        @RequestParam(required = false) Integer maxDepth,
+        @AuthFTUser FTUser ftUser
+    ) {
+        int depth = maxDepth != null ? maxDepth : FindFamilyLineageQuery.MAX_DEPTH;
+        FamilyLineageInfo lineage = findFamilyKinshipUseCase.find(
+            new FindFamilyLineageQuery(familyId, memberId, ftUser.getId(), depth)
+        );
+
+        return ResponseEntity.ok(FamilyLineageResponse.from(lineage));
+    }
+}
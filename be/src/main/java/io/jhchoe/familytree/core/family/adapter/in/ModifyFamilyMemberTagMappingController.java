@@ -2,9 +2,12 @@ package io.jhchoe.familytree.core.family.adapter.in;
 
 import io.jhchoe.familytree.common.auth.domain.AuthFTUser;
 import io.jhchoe.familytree.common.auth.domain.FTUser;
+import io.jhchoe.familytree.core.family.application.port.in.BulkModifyFamilyMemberTagMappingCommand;
+import io.jhchoe.familytree.core.family.application.port.in.BulkModifyFamilyMemberTagMappingCommand.MemberTagAssignment;
 import io.jhchoe.familytree.core.family.application.port.in.FamilyMemberTagMappingInfo;
 import io.jhchoe.familytree.core.family.application.port.in.ModifyFamilyMemberTagMappingCommand;
 import io.jhchoe.familytree.core.family.application.port.in.ModifyFamilyMemberTagMappingUseCase;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import jakarta.validation.Valid;
@@ -51,4 +54,35 @@ public class ModifyFamilyMemberTagMappingController {
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 여러 멤버의 태그를 한 번에 할당합니다.
+     * 모든 멤버의 변경이 하나의 트랜잭션에서 처리되며, 하나라도 실패하면 전체가 취소됩니다.
+     *
+     * @param familyId Family ID
+     * @param request  멤버별 태그 할당 요청
+     * @param user     인증된 사용자 정보
+     * @return 요청 순서대로 정렬된 멤버별 태그 정보
+     */
+    @PutMapping("/{familyId}/members/tags")
+    public ResponseEntity<List<ModifyFamilyMemberTagMappingResponse>> modifyAll(
+        @PathVariable final Long familyId,
+        @RequestBody @Valid final BulkModifyFamilyMemberTagMappingRequest request,
+        @AuthFTUser final FTUser user
+    ) {
+        List<MemberTagAssignment> assignments = request.members().stream()
+            .map(member -> new MemberTagAssignment(member.memberId(), member.tagIds()))
+            .toList();
+        BulkModifyFamilyMemberTagMappingCommand command = new BulkModifyFamilyMemberTagMappingCommand(
+            familyId,
+            assignments
+        );
+
+        List<FamilyMemberTagMappingInfo> results = modifyFamilyMemberTagMappingUseCase.modifyAll(command, user.getId());
+        List<ModifyFamilyMemberTagMappingResponse> response = results.stream()
+            .map(ModifyFamilyMemberTagMappingResponse::from)
+            .toList();
+
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,50 @@
+package io.jhchoe.familytree.core.family.adapter.in.response;
+
+import io.jhchoe.familytree.core.family.domain.KinshipDirection;
+import io.jhchoe.familytree.core.family.domain.KinshipPath;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 두 구성원 사이의 친족 관계 응답 DTO입니다.
+ *
+ * @param memberId       기준 구성원 ID
+ * @param targetMemberId 대상 구성원 ID
+ * @param connected      관계로 이어져 있는지 여부
+ * @param degree         촌수 (이어져 있지 않으면 null)
+ * @param degreeName     촌수 호칭 (예: "무촌", "3촌", 이어져 있지 않으면 null)
+ * @param path           기준 구성원에서 대상 구성원까지의 이동 단계 (기준 구성원 제외)
+ */
+public record FamilyKinshipResponse(
+    Long memberId,
+    Long targetMemberId,
+    boolean connected,
+    Integer degree,
+    String degreeName,
+    List<Step> path
+) {
+
+    /**
+     * 친족 관계 경로의 한 단계입니다.
+     *
+     * @param memberId  이동한 구성원 ID (구성원으로 등록되지 않은 중간 친족이면 null)
+     * @param direction 이동 방향 (PARENT, CHILD, SPOUSE)
+     */
+    public record Step(Long memberId, KinshipDirection direction) {
+    }
+
+    public static FamilyKinshipResponse of(Long memberId, Long targetMemberId, Optional<KinshipPath> kinshipPath) {
+        return kinshipPath
+            .map(path -> new FamilyKinshipResponse(
+                memberId,
+                targetMemberId,
+                true,
+                path.degree(),
+                path.getDegreeName(),
+                path.steps().stream()
+                    .map(step -> new Step(step.memberId(), step.direction()))
+                    .toList()
+            ))
+            .orElseGet(() -> new FamilyKinshipResponse(memberId, targetMemberId, false, null, null, List.of()));
+    }
+}
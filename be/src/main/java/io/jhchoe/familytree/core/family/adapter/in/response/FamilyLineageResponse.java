@@ -0,0 +1,40 @@
+package io.jhchoe.familytree.core.family.adapter.in.response;
+
+import io.jhchoe.familytree.core.family.application.port.in.FamilyLineageInfo;
+import io.jhchoe.familytree.core.family.domain.KinshipRelative;
+import java.util.List;
+
+/**
+ * 구성원의 조상·자손 응답 DTO입니다.
+ *
+ * @param memberId    기준 구성원 ID
+ * @param ancestors   조상 목록 (세대가 가까운 순)
+ * @param descendants 자손 목록 (세대가 가까운 순)
+ */
+public record FamilyLineageResponse(
+    Long memberId,
+    List<Relative> ancestors,
+    List<Relative> descendants
+) {
+
+    /**
+     * 조상 또는 자손 구성원입니다.
+     *
+     * @param memberId   구성원 ID
+     * @param generation 기준 구성원과의 세대 차이
+     */
+    public record Relative(Long memberId, int generation) {
+
+        public static Relative from(KinshipRelative relative) {
+            return new Relative(relative.memberId(), relative.generation());
+        }
+    }
+
+    public static FamilyLineageResponse from(FamilyLineageInfo info) {
+        return new FamilyLineageResponse(
+            info.memberId(),
+            info.ancestors().stream().map(Relative::from).toList(),
+            info.descendants().stream().map(Relative::from).toList()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package io.jhchoe.familytree.core.family.adapter.in.response;
+
+import java.util.List;
+
+/**
+ * 가족명 자동완성 후보 응답 DTO입니다.
+ *
+ * @param names 입력 중인 가족명으로 시작하는 기존 가족명 목록 (사전순)
+ */
+public record FamilyNameSuggestionResponse(
+    List<String> names
+) {
+}
@@ -0,0 +1,39 @@
+package io.jhchoe.familytree.core.family.adapter.in.response;
+
+import io.jhchoe.familytree.core.family.domain.Family;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
+import io.jhchoe.familytree.core.family.domain.FamilySummary;
+import java.time.LocalDateTime;
+
+/**
+ * 내 소속 Family 응답 DTO
+ */
+public record FindMyFamilyResponse(
+   Long id,
+   String name,
+   String description,
+   String profileUrl,
+   Long createdBy,
+   LocalDateTime createdAt,
+   Long modifiedBy,
+   LocalDateTime modifiedAt,
+   FamilyMemberRole myRole,
+   int memberCount
+) {
+
+    public static FindMyFamilyResponse from(FamilySummary summary) {
+        Family family = summary.getFamily();
+        return new FindMyFamilyResponse(
+            family.getId(),
+            family.getName(),
+            family.getDescription(),
+            family.getProfileUrl(),
+            family.getCreatedBy(),
+            family.getCreatedAt(),
+            family.getModifiedBy(),
+            family.getModifiedAt(),
+            summary.getRole(),
+            summary.getMemberCount()
+        );
+    }
+}
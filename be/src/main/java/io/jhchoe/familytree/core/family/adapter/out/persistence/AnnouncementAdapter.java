@@ -3,6 +3,11 @@ package io.jhchoe.familytree.core.family.adapter.out.persistence;
 import io.jhchoe.familytree.core.family.application.port.out.FindAnnouncementPort;
 import io.jhchoe.familytree.core.family.application.port.out.SaveAnnouncementPort;
 import io.jhchoe.familytree.core.family.domain.Announcement;
+import io.jhchoe.familytree.core.family.domain.CursorPage;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -10,16 +15,21 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 /**
  * 공지사항 관련 포트를 구현하는 어댑터 클래스입니다.
+ * 공지사항을 저장·삭제하면 Family의 내용 버전을 같은 트랜잭션에서 증가시킵니다.
  */
 @Component
 @RequiredArgsConstructor
 public class AnnouncementAdapter implements SaveAnnouncementPort, FindAnnouncementPort {
 
+    private static final String CURSOR_DELIMITER = ",";
+
     private final AnnouncementJpaRepository announcementJpaRepository;
+    private final FamilyJpaRepository familyJpaRepository;
 
     /**
      * {@inheritDoc}
@@ -29,7 +39,9 @@ public class AnnouncementAdapter implements SaveAnnouncementPort, FindAnnounceme
         Objects.requireNonNull(announcement, "announcement must not be null");
         
         AnnouncementJpaEntity entity = AnnouncementJpaEntity.from(announcement);
-        return announcementJpaRepository.save(entity).getId();
+        Long savedId = announcementJpaRepository.save(entity).getId();
+        familyJpaRepository.bumpContentVersion(announcement.getFamilyId());
+        return savedId;
     }
 
     /**
@@ -39,6 +51,8 @@ public class AnnouncementAdapter implements SaveAnnouncementPort, FindAnnounceme
     public void deleteById(Long id) {
         Objects.requireNonNull(id, "id must not be null");
         
+        // 삭제 후에는 공지사항의 Family를 찾을 수 없으므로 먼저 버전을 증가
+        familyJpaRepository.bumpContentVersionByAnnouncementId(id);
         announcementJpaRepository.deleteById(id);
     }
 
@@ -80,4 +94,66 @@ public class AnnouncementAdapter implements SaveAnnouncementPort, FindAnnounceme
         return announcementJpaRepository.findById(id)
                 .map(AnnouncementJpaEntity::toDomainEntity);
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>커서는 마지막 공지사항의 "작성 일시,ID"를 Base64로 인코딩한 값입니다.</p>
+     */
+    @Override
+    public CursorPage<Announcement> findFeedByFamilyId(Long familyId, String cursor, int size) {
+        Objects.requireNonNull(familyId, "familyId must not be null");
+
+        Pageable pageable = PageRequest.ofSize(size);
+        FeedCursor feedCursor = decodeFeedCursor(cursor);
+        Slice<AnnouncementJpaEntity> slice = feedCursor == null
+            ? announcementJpaRepository.findByFamilyIdOrderByCreatedAtDescIdDesc(familyId, pageable)
+            : announcementJpaRepository.findFeedAfter(familyId, feedCursor.createdAt(), feedCursor.id(), pageable);
+
+        List<Announcement> announcements = slice.getContent().stream()
+            .map(AnnouncementJpaEntity::toDomainEntity)
+            .toList();
+
+        String nextCursor = null;
+        if (slice.hasNext() && !announcements.isEmpty()) {
+            Announcement last = announcements.get(announcements.size() - 1);
+            nextCursor = encodeFeedCursor(last.getCreatedAt(), last.getId());
+        }
+
+        return new CursorPage<>(announcements, nextCursor, slice.hasNext(), size);
+    }
+
+    private String encodeFeedCursor(LocalDateTime createdAt, Long id) {
+        String cursorValue = createdAt + CURSOR_DELIMITER + id;
+        return Base64.getEncoder().encodeToString(cursorValue.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 공지사항 피드 커서를 디코딩합니다.
+     * 커서가 없거나 잘못된 경우 첫 페이지부터 조회하도록 null을 반환합니다.
+     *
+     * @param cursor Base64로 인코딩된 커서 문자열
+     * @return 커서 위치, 첫 페이지인 경우 null
+     */
+    private FeedCursor decodeFeedCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decodedValue = new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decodedValue.split(CURSOR_DELIMITER);
+            if (parts.length != 2) {
+                return null;
+            }
+            return new FeedCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 공지사항 피드의 키셋 페이징 위치를 나타내는 내부 레코드입니다.
+     */
+    private record FeedCursor(LocalDateTime createdAt, Long id) {
+    }
 }
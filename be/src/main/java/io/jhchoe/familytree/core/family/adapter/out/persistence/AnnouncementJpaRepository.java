@@ -1,9 +1,12 @@
 package io.jhchoe.familytree.core.family.adapter.out.persistence;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * 공지사항에 대한 JPA 리포지토리 인터페이스입니다.
@@ -12,12 +15,13 @@ public interface AnnouncementJpaRepository extends JpaRepository<AnnouncementJpa
 
     /**
      * 특정 가족의 모든 공지사항을 조회합니다.
+     * 다음 페이지 존재 여부만 확인하는 Slice로 반환하므로 전체 개수(COUNT) 쿼리를 실행하지 않습니다.
      *
      * @param familyId 가족 ID
      * @param pageable 페이징 정보
      * @return 공지사항 목록 (페이징)
      */
-    Page<AnnouncementJpaEntity> findAllByFamilyIdOrderByCreatedAtDesc(Long familyId, Pageable pageable);
+    Slice<AnnouncementJpaEntity> findAllByFamilyIdOrderByCreatedAtDesc(Long familyId, Pageable pageable);
 
     /**
      * 특정 가족의 모든 공지사항을 조회합니다.
@@ -26,4 +30,39 @@ public interface AnnouncementJpaRepository extends JpaRepository<AnnouncementJpa
      * @return 공지사항 목록
      */
     List<AnnouncementJpaEntity> findAllByFamilyIdOrderByCreatedAtDesc(Long familyId);
+
+    /**
+     * 특정 가족의 최신 공지사항을 작성 일시, ID 내림차순으로 조회합니다. 공지사항 피드의 첫 페이지입니다.
+     *
+     * @param familyId 가족 ID
+     * @param pageable 조회할 개수 (첫 페이지만 사용)
+     * @return 공지사항 목록
+     */
+    Slice<AnnouncementJpaEntity> findByFamilyIdOrderByCreatedAtDescIdDesc(Long familyId, Pageable pageable);
+
+    /**
+     * 커서보다 이전에 작성된 특정 가족의 공지사항을 작성 일시, ID 내림차순으로 조회합니다.
+     * (family_id, created_at DESC, id DESC) 인덱스에서 커서 위치부터 읽으므로 페이지 위치와 무관하게 조회 비용이 일정합니다.
+     * {@code createdAt <= :cursorCreatedAt} 조건은 결과를 바꾸지 않지만, 인덱스 탐색 범위를 좁히기 위해 둡니다.
+     *
+     * @param familyId        가족 ID
+     * @param cursorCreatedAt 이전 페이지 마지막 공지사항의 작성 일시
+     * @param cursorId        이전 페이지 마지막 공지사항의 ID
+     * @param pageable        조회할 개수 (첫 페이지만 사용)
+     * @return 공지사항 목록
+     */
+    @Query("""
+        SELECT a
+        FROM family_announcement a
+        WHERE a.familyId = :familyId
+          AND a.createdAt <= :cursorCreatedAt
+          AND (a.createdAt < :cursorCreatedAt OR a.id < :cursorId)
+        ORDER BY a.createdAt DESC, a.id DESC
+        """)
+    Slice<AnnouncementJpaEntity> findFeedAfter(
+        @Param("familyId") Long familyId,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
 }
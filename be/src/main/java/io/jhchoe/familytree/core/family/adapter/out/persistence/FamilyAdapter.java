@@ -2,16 +2,22 @@ package io.jhchoe.familytree.core.family.adapter.out.persistence;
 
 import io.jhchoe.familytree.common.exception.CommonExceptionCode;
 import io.jhchoe.familytree.common.exception.FTException;
+import io.jhchoe.familytree.common.util.NameSearchUtils;
+import io.jhchoe.familytree.common.util.NameSearchUtils.RankedItem;
+import io.jhchoe.familytree.common.util.NameSearchUtils.SearchCursor;
 import io.jhchoe.familytree.core.family.application.port.out.SaveFamilyPort;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyPort;
 import io.jhchoe.familytree.core.family.application.port.out.ModifyFamilyPort;
 import io.jhchoe.familytree.core.family.domain.CursorPage;
 import io.jhchoe.familytree.core.family.domain.Family;
+import io.jhchoe.familytree.core.family.domain.FamilyContentVersion;
+import io.jhchoe.familytree.core.family.domain.FamilySummary;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
 
@@ -23,7 +29,7 @@ import org.springframework.stereotype.Component;
 public class FamilyAdapter implements SaveFamilyPort, ModifyFamilyPort, FindFamilyPort {
 
     private final FamilyJpaRepository familyJpaRepository;
-    private final FamilyMemberJpaRepository familyMemberJpaRepository;
+    private final FamilyNameIndex familyNameIndex;
 
     /**
      * Family 데이터를 저장하고, 저장된 Family의 ID를 반환합니다.
@@ -37,7 +43,9 @@ public class FamilyAdapter implements SaveFamilyPort, ModifyFamilyPort, FindFami
         Objects.requireNonNull(family, "family must not be null");
 
         FamilyJpaEntity familyJpaEntity = FamilyJpaEntity.from(family);
-        return familyJpaRepository.save(familyJpaEntity).getId();
+        FamilyJpaEntity savedEntity = familyJpaRepository.save(familyJpaEntity);
+        familyNameIndex.put(savedEntity.getId(), savedEntity.getName(), savedEntity.getIsPublic());
+        return savedEntity.getId();
     }
 
     @Override
@@ -79,6 +87,40 @@ public class FamilyAdapter implements SaveFamilyPort, ModifyFamilyPort, FindFami
             .map(FamilyJpaEntity::toFamily);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>가족명 색인이 적재되어 있으면 색인으로 응답하고, 그렇지 않으면 저장소를 조회합니다.</p>
+     */
+    @Override
+    public boolean existsByName(String name) {
+        Objects.requireNonNull(name, "name must not be null");
+
+        if (familyNameIndex.isReady()) {
+            return familyNameIndex.contains(name);
+        }
+        return familyJpaRepository.findByNameAndDeletedFalse(name).isPresent();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>가족명 색인이 적재되어 있으면 색인으로 응답하고, 그렇지 않으면 저장소를 조회합니다.</p>
+     */
+    @Override
+    public List<String> findPublicNamesByPrefix(String prefix, int limit) {
+        Objects.requireNonNull(prefix, "prefix must not be null");
+
+        if (familyNameIndex.isReady()) {
+            return familyNameIndex.findPublicByPrefix(prefix, limit);
+        }
+        return familyJpaRepository.findByNameStartingWithAndIsPublicTrueAndDeletedFalseOrderByNameAsc(prefix, Limit.of(limit))
+            .stream()
+            .map(FamilyJpaEntity::getName)
+            .distinct()
+            .toList();
+    }
+
     /**
      * Family 데이터를 수정하고 저장된 Family의 ID를 반환합니다.
      *
@@ -95,6 +137,8 @@ public class FamilyAdapter implements SaveFamilyPort, ModifyFamilyPort, FindFami
             .map(familyJpaEntity -> {
                 familyJpaEntity.update(family.getName(), family.getDescription(), family.getProfileUrl(), family.getIsPublic());
                 FamilyJpaEntity save = familyJpaRepository.save(familyJpaEntity);
+                familyJpaRepository.bumpContentVersion(save.getId());
+                familyNameIndex.put(save.getId(), save.getName(), save.getIsPublic());
                 return save.getId();
             })
             .orElseThrow(() -> new FTException(CommonExceptionCode.NOT_FOUND, "family"));
@@ -104,36 +148,40 @@ public class FamilyAdapter implements SaveFamilyPort, ModifyFamilyPort, FindFami
      * {@inheritDoc}
      */
     @Override
-    public CursorPage<Family> findPublicFamiliesByKeyword(String keyword, String cursor, int size) {
-        // 공개 Family 조회 (일단 간단한 구현, 추후 성능 최적화 필요)
-        List<FamilyJpaEntity> allPublicFamilies;
-
-        if (keyword == null || keyword.isBlank()) {
-            allPublicFamilies = familyJpaRepository.findByIsPublicTrueOrderByIdAsc();
-        } else {
-            allPublicFamilies = familyJpaRepository.findByIsPublicTrueAndNameContainingOrderByIdAsc(keyword);
-        }
+    public Optional<Long> findContentVersion(Long familyId) {
+        Objects.requireNonNull(familyId, "familyId must not be null");
+
+        return familyJpaRepository.findContentVersionById(familyId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<FamilyContentVersion> findContentVersionsByUserId(Long userId) {
+        Objects.requireNonNull(userId, "userId must not be null");
 
-        // 커서 기반 페이징 처리
-        List<FamilyJpaEntity> filteredFamilies = allPublicFamilies;
-
-        if (cursor != null) {
-            try {
-                CursorUtils.CursorInfo cursorInfo = CursorUtils.decodeCursor(cursor);
-                // ID 기준으로 커서 이후 데이터만 필터링
-                filteredFamilies = allPublicFamilies.stream()
-                    .filter(family -> family.getId() > cursorInfo.familyId())
-                    .toList();
-            } catch (Exception e) {
-                // 잘못된 커서인 경우 첫 페이지부터 시작
-                filteredFamilies = allPublicFamilies;
-            }
+        return familyJpaRepository.findContentVersionsByUserId(userId);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>커서 이후 데이터만 {@code size + 1}건 조회하는 키셋 페이징으로, 페이지 위치와 무관하게 조회 비용이 일정합니다.
+     * 커서 형식("memberCount:id")은 기존과 호환되며 페이징에는 ID만 사용합니다.
+     * 키워드가 있으면 관련도 순 검색({@link #searchPublicFamiliesByName})으로 처리합니다.</p>
+     */
+    @Override
+    public CursorPage<FamilySummary> findPublicFamiliesByKeyword(String keyword, String cursor, int size) {
+        if (keyword != null && !keyword.isBlank()) {
+            return searchPublicFamiliesByName(keyword, cursor, size);
         }
 
         // 요청된 size + 1만큼 가져오기 (다음 페이지 존재 여부 확인용)
-        List<FamilyJpaEntity> pageData = filteredFamilies.stream()
-            .limit(size + 1)
-            .toList();
+        long cursorId = resolveCursorId(cursor);
+        List<FamilyJpaEntity> pageData = familyJpaRepository.findByIsPublicTrueAndIdGreaterThanOrderByIdAsc(
+            cursorId, Limit.of(size + 1)
+        );
 
         // 다음 페이지 존재 여부 확인
         boolean hasNext = pageData.size() > size;
@@ -141,29 +189,79 @@ public class FamilyAdapter implements SaveFamilyPort, ModifyFamilyPort, FindFami
             pageData = pageData.subList(0, size);
         }
 
-        // Family 도메인 객체로 변환
-        List<Family> families = pageData.stream()
-            .map(FamilyJpaEntity::toFamily)
-            .toList();
+        // 저장된 활성 구성원 수와 함께 도메인 객체로 변환
+        List<FamilySummary> families = toSummaries(pageData);
 
         // 다음 커서 생성
         String nextCursor = null;
         if (hasNext && !families.isEmpty()) {
-            Family lastFamily = families.get(families.size() - 1);
-            int memberCount = calculateMemberCount(lastFamily.getId());
-            nextCursor = CursorUtils.encodeCursor(lastFamily.getId(), memberCount);
+            FamilySummary lastFamily = families.get(families.size() - 1);
+            nextCursor = CursorUtils.encodeCursor(lastFamily.getFamily().getId(), lastFamily.getMemberCount());
         }
 
         return new CursorPage<>(families, nextCursor, hasNext, size);
     }
 
     /**
-     * Family의 구성원 수를 계산합니다.
+     * {@inheritDoc}
      *
-     * @param familyId Family ID
-     * @return 구성원 수
+     * <p>관련도 순위별 쿼리를 차례로 실행하며 각 순위 안에서는 ID로 키셋 페이징합니다.
+     * 커서는 마지막 항목의 관련도 순위와 ID이며, 다음 페이지는 그 순위의 커서 ID 이후부터 이어서 조회합니다.</p>
      */
-    private int calculateMemberCount(Long familyId) {
-        return familyMemberJpaRepository.countByFamilyId(familyId);
+    @Override
+    public CursorPage<FamilySummary> searchPublicFamiliesByName(String keyword, String cursor, int size) {
+        String normalizedKeyword = NameSearchUtils.normalize(keyword);
+        String containsPattern = NameSearchUtils.containsPattern(normalizedKeyword);
+        String prefixPattern = NameSearchUtils.prefixPattern(normalizedKeyword);
+        SearchCursor searchCursor = NameSearchUtils.decodeCursor(cursor);
+
+        // 요청된 size + 1만큼 가져오기 (다음 페이지 존재 여부 확인용)
+        List<RankedItem<FamilyJpaEntity>> pageData = NameSearchUtils.searchTiers(searchCursor, size + 1,
+            (rank, cursorId, limit) -> switch (rank) {
+                case NameSearchUtils.EXACT_MATCH ->
+                    familyJpaRepository.searchPublicByExactName(normalizedKeyword, cursorId, limit);
+                case NameSearchUtils.PREFIX_MATCH ->
+                    familyJpaRepository.searchPublicByNamePrefix(prefixPattern, normalizedKeyword, cursorId, limit);
+                default -> familyJpaRepository.searchPublicByNameInfix(containsPattern, prefixPattern, cursorId, limit);
+            });
+
+        boolean hasNext = pageData.size() > size;
+        if (hasNext) {
+            pageData = pageData.subList(0, size);
+        }
+
+        List<FamilySummary> families = toSummaries(pageData.stream().map(RankedItem::item).toList());
+
+        String nextCursor = null;
+        if (hasNext && !pageData.isEmpty()) {
+            RankedItem<FamilyJpaEntity> lastRow = pageData.get(pageData.size() - 1);
+            nextCursor = NameSearchUtils.encodeCursor(lastRow.rank(), lastRow.item().getId());
+        }
+
+        return new CursorPage<>(families, nextCursor, hasNext, size);
+    }
+
+    private List<FamilySummary> toSummaries(List<FamilyJpaEntity> entities) {
+        return entities.stream()
+            .map(entity -> FamilySummary.of(entity.toFamily(), null, entity.getActiveMemberCount()))
+            .toList();
+    }
+
+    /**
+     * 커서에서 마지막으로 조회한 Family ID를 추출합니다.
+     * 커서가 없거나 잘못된 경우 첫 페이지부터 조회하도록 0을 반환합니다.
+     *
+     * @param cursor Base64로 인코딩된 커서 문자열
+     * @return 마지막으로 조회한 Family ID
+     */
+    private long resolveCursorId(String cursor) {
+        if (cursor == null) {
+            return 0L;
+        }
+        try {
+            return CursorUtils.decodeCursor(cursor).familyId();
+        } catch (IllegalArgumentException e) {
+            return 0L;
+        }
     }
 }
@@ -44,6 +44,17 @@ public class FamilyJpaEntity extends ModifierBaseEntity {
     @Column(name = "deleted")
     private boolean deleted;
 
+    // 구성원 수는 FamilyJpaRepository의 원자적 UPDATE로만 변경하며, 엔티티 저장 시에는 덮어쓰지 않는다
+    @Column(name = "member_count", nullable = false, updatable = false)
+    private int memberCount;
+
+    @Column(name = "active_member_count", nullable = false, updatable = false)
+    private int activeMemberCount;
+
+    // 내용 버전도 FamilyJpaRepository의 원자적 UPDATE로만 증가시킨다
+    @Column(name = "content_version", nullable = false, updatable = false)
+    private long contentVersion;
+
     private FamilyJpaEntity(
         final Long id,
         final String name,
@@ -92,6 +103,16 @@ public class FamilyJpaEntity extends ModifierBaseEntity {
         return Family.withId(id, name, description, profileUrl, isPublic, getCreatedBy(), getCreatedAt(), getModifiedBy(), getModifiedAt());
     }
 
+    /**
+     * 활성 구성원 수를 반환합니다.
+     * 동시 상태 변경으로 보정 작업 전까지 음수가 될 수 있으므로 0 미만은 0으로 반환합니다.
+     *
+     * @return 활성 구성원 수
+     */
+    public int getActiveMemberCount() {
+        return Math.max(activeMemberCount, 0);
+    }
+
     public void update(String name, String description, String profileUrl, Boolean isPublic) {
         this.name = name;
         this.description = description;
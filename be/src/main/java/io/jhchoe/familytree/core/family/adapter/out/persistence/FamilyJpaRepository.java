@@ -1,10 +1,16 @@
 package io.jhchoe.familytree.core.family.adapter.out.persistence;
 
+import io.jhchoe.familytree.core.family.domain.FamilyContentVersion;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.NativeQuery;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface FamilyJpaRepository extends JpaRepository<FamilyJpaEntity, Long> {
 
@@ -20,17 +26,347 @@ public interface FamilyJpaRepository extends JpaRepository<FamilyJpaEntity, Long
     Optional<FamilyJpaEntity> findByNameAndDeletedFalse(String name);
 
     /**
-     * 공개된 Family를 조회합니다.
-     * 
+     * 가족명이 접두어로 시작하는 공개 Family를 가족명 오름차순으로 조회합니다.
+     * 소프트 딜리트된 Family는 조회 결과에서 제외됩니다.
+     *
+     * @param prefix 접두어 (LIKE 와일드카드는 문자 그대로 비교)
+     * @param limit 조회할 최대 개수
+     * @return 조회된 Family 목록
+     */
+    List<FamilyJpaEntity> findByNameStartingWithAndIsPublicTrueAndDeletedFalseOrderByNameAsc(String prefix, Limit limit);
+
+    /**
+     * 커서 이후의 삭제되지 않은 Family ID, 가족명, 공개 여부를 ID 오름차순으로 조회합니다.
+     * 가족명 색인을 적재할 때 엔티티 전체를 읽지 않도록 세 컬럼만 조회합니다.
+     *
+     * @param cursorId 이전 조회의 마지막 Family ID (처음은 0)
+     * @param limit 조회할 최대 개수
+     * @return Family ID, 가족명, 공개 여부 목록
+     */
+    @Query("""
+        SELECT new io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyNameRow(f.id, f.name, f.isPublic)
+        FROM family f
+        WHERE f.deleted = false AND f.id > :cursorId
+        ORDER BY f.id ASC
+        """)
+    List<FamilyNameRow> findNamesAfter(@Param("cursorId") long cursorId, Limit limit);
+
+    /**
+     * 삭제되지 않은 Family의 ID를 ID 순으로 커서 다음부터 조회합니다.
+     *
+     * @param cursorId 이전 조회의 마지막 Family ID (처음은 0)
+     * @param limit 조회할 최대 개수
+     * @return Family ID 목록
+     */
+    @Query("""
+        SELECT f.id
+        FROM family f
+        WHERE f.deleted = false AND f.id > :cursorId
+        ORDER BY f.id ASC
+        """)
+    List<Long> findIdsAfter(@Param("cursorId") long cursorId, Limit limit);
+
+    /**
+     * 커서 이후의 공개 Family를 ID 오름차순으로 조회합니다.
+     *
+     * @param cursorId 이전 페이지의 마지막 Family ID (첫 페이지는 0)
+     * @param limit 조회할 최대 개수
      * @return 조회된 공개 Family 목록
      */
-    List<FamilyJpaEntity> findByIsPublicTrueOrderByIdAsc();
+    List<FamilyJpaEntity> findByIsPublicTrueAndIdGreaterThanOrderByIdAsc(Long cursorId, Limit limit);
 
     /**
-     * 공개된 Family를 키워드로 검색합니다.
-     * 
-     * @param keyword 검색할 키워드
+     * 이름이 키워드와 완전히 일치하는 공개 Family를 ID 오름차순으로 키셋 페이징하여 조회합니다. (관련도 순위 0)
+     * <p>
+     * 네이티브 쿼리를 사용하는 이유:
+     * - idx_family_public_name_prefix(LOWER(name), id) 부분 인덱스의 식·조건과 같은 형태로 비교해야 인덱스 범위 조회가 됨
+     *
+     * @param keyword  정규화된 키워드
+     * @param cursorId 이 순위에서 마지막으로 조회한 Family ID (처음부터 조회하면 0)
+     * @param limit    조회할 최대 개수
+     * @return 조회된 공개 Family 목록
+     */
+    @NativeQuery("""
+        SELECT f.*
+        FROM family f
+        WHERE f.deleted = false
+          AND f.is_public = true
+          AND LOWER(f.name) = :keyword
+          AND f.id > :cursorId
+        ORDER BY f.id ASC
+        LIMIT :limit
+        """)
+    List<FamilyJpaEntity> searchPublicByExactName(
+        @Param("keyword") String keyword,
+        @Param("cursorId") long cursorId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 이름이 키워드로 시작하지만 완전히 일치하지는 않는 공개 Family를 ID 오름차순으로 키셋 페이징하여 조회합니다. (관련도 순위 1)
+     * <p>
+     * 네이티브 쿼리를 사용하는 이유:
+     * - 패턴 값이 정해진 실행 계획에서 LIKE '키워드%'가 idx_family_public_name_prefix(text_pattern_ops) 범위 조회로 바뀌므로
+     *   트라이그램을 만들 수 없는 한두 글자 키워드도 인덱스로 찾음
+     *
+     * @param prefixPattern 앞부분 일치 LIKE 패턴 (소문자, ESCAPE '\')
+     * @param keyword       정규화된 키워드 (완전 일치 제외용)
+     * @param cursorId      이 순위에서 마지막으로 조회한 Family ID (처음부터 조회하면 0)
+     * @param limit         조회할 최대 개수
      * @return 조회된 공개 Family 목록
      */
-    List<FamilyJpaEntity> findByIsPublicTrueAndNameContainingOrderByIdAsc(String keyword);
+    @NativeQuery("""
+        SELECT f.*
+        FROM family f
+        WHERE f.deleted = false
+          AND f.is_public = true
+          AND LOWER(f.name) LIKE :prefixPattern ESCAPE '\\'
+          AND LOWER(f.name) <> :keyword
+          AND f.id > :cursorId
+        ORDER BY f.id ASC
+        LIMIT :limit
+        """)
+    List<FamilyJpaEntity> searchPublicByNamePrefix(
+        @Param("prefixPattern") String prefixPattern,
+        @Param("keyword") String keyword,
+        @Param("cursorId") long cursorId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 이름 중간에 키워드가 포함된 공개 Family를 ID 오름차순으로 키셋 페이징하여 조회합니다. (관련도 순위 2)
+     * <p>
+     * 네이티브 쿼리를 사용하는 이유:
+     * - PostgreSQL에서는 LOWER(name) pg_trgm GIN 인덱스가 LIKE '%키워드%' 조건을 처리하고, 같은 SQL이 H2에서도 동작
+     *
+     * @param containsPattern 부분 일치 LIKE 패턴 (소문자, ESCAPE '\')
+     * @param prefixPattern   앞부분 일치 LIKE 패턴 (소문자, ESCAPE '\', 앞 순위 제외용)
+     * @param cursorId        이 순위에서 마지막으로 조회한 Family ID (처음부터 조회하면 0)
+     * @param limit           조회할 최대 개수
+     * @return 조회된 공개 Family 목록
+     */
+    @NativeQuery("""
+        SELECT f.*
+        FROM family f
+        WHERE f.deleted = false
+          AND f.is_public = true
+          AND LOWER(f.name) LIKE :containsPattern ESCAPE '\\'
+          AND LOWER(f.name) NOT LIKE :prefixPattern ESCAPE '\\'
+          AND f.id > :cursorId
+        ORDER BY f.id ASC
+        LIMIT :limit
+        """)
+    List<FamilyJpaEntity> searchPublicByNameInfix(
+        @Param("containsPattern") String containsPattern,
+        @Param("prefixPattern") String prefixPattern,
+        @Param("cursorId") long cursorId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Family의 전체·활성 구성원 수를 원자적으로 증감합니다.
+     * 다른 트랜잭션과 동시에 실행되어도 증감분이 유실되지 않도록 현재 값에 더하는 단일 UPDATE로 처리합니다.
+     * 구성원이 바뀐 것이므로 내용 버전도 함께 증가시킵니다.
+     *
+     * @param familyId Family ID
+     * @param memberDelta 전체 구성원 수 증감분
+     * @param activeMemberDelta 활성 구성원 수 증감분
+     * @return 수정된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE family
+        SET member_count = member_count + :memberDelta,
+            active_member_count = active_member_count + :activeMemberDelta,
+            content_version = content_version + 1
+        WHERE id = :familyId
+        """, nativeQuery = true)
+    int adjustMemberCounts(
+        @Param("familyId") Long familyId,
+        @Param("memberDelta") int memberDelta,
+        @Param("activeMemberDelta") int activeMemberDelta
+    );
+
+    /**
+     * ID 범위 안의 Family 중 구성원 수가 실제 구성원 행과 다른 Family에 쓰기 잠금을 걸고 ID를 조회합니다.
+     * 잠금은 트랜잭션이 끝날 때 풀리며, 잠금을 기다리는 동안 바뀐 값은 이후 {@link #reconcileMemberCounts}가 다시 확인합니다.
+     *
+     * @param fromId 범위 시작 ID (제외)
+     * @param toId 범위 끝 ID (포함)
+     * @return 잠근 Family ID 목록 (ID 오름차순)
+     */
+    @Query(value = """
+        SELECT f.id FROM family f
+        WHERE f.id > :fromId AND f.id <= :toId
+          AND (
+            f.member_count <> (
+                SELECT COUNT(*) FROM family_member m WHERE m.family_id = f.id
+            )
+            OR f.active_member_count <> (
+                SELECT COUNT(*) FROM family_member m WHERE m.family_id = f.id AND m.status = 'ACTIVE'
+            )
+          )
+        ORDER BY f.id ASC
+        FOR UPDATE
+        """, nativeQuery = true)
+    List<Long> lockDriftedMemberCountIds(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * 잠근 Family 중 구성원 수가 실제 구성원 행과 여전히 다른 Family를 실제 값으로 보정합니다.
+     * 삭제된 Family도 함께 보정하며, 보정된 Family는 내용 버전도 증가시킵니다.
+     *
+     * <p>READ COMMITTED에서 UPDATE 문은 잠금을 기다린 뒤 행만 최신 버전으로 다시 읽고 서브쿼리는 문장 시작 시점의
+     * 스냅샷으로 집계하므로, 잠금 없이 실행하면 그 사이 커밋된 증감분을 덮어쓸 수 있습니다.
+     * 반드시 같은 트랜잭션에서 {@link #lockDriftedMemberCountIds}로 행을 먼저 잠근 뒤 호출해야 합니다.</p>
+     *
+     * @param familyIds 잠근 Family ID 목록
+     * @return 보정된 Family 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE family f
+        SET member_count = (
+                SELECT COUNT(*) FROM family_member m WHERE m.family_id = f.id
+            ),
+            active_member_count = (
+                SELECT COUNT(*) FROM family_member m WHERE m.family_id = f.id AND m.status = 'ACTIVE'
+            ),
+            content_version = f.content_version + 1
+        WHERE f.id IN :familyIds
+          AND (
+            f.member_count <> (
+                SELECT COUNT(*) FROM family_member m WHERE m.family_id = f.id
+            )
+            OR f.active_member_count <> (
+                SELECT COUNT(*) FROM family_member m WHERE m.family_id = f.id AND m.status = 'ACTIVE'
+            )
+          )
+        """, nativeQuery = true)
+    int reconcileMemberCounts(@Param("familyIds") Collection<Long> familyIds);
+
+    /**
+     * Family의 내용 버전을 1 증가시킵니다.
+     * 조회 API는 이 값을 ETag로 사용하므로 Family 화면에 보이는 데이터를 변경할 때마다 같은 트랜잭션에서 호출합니다.
+     *
+     * @param familyId Family ID
+     * @return 수정된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE family SET content_version = content_version + 1 WHERE id = :familyId", nativeQuery = true)
+    int bumpContentVersion(@Param("familyId") Long familyId);
+
+    /**
+     * 구성원들이 속한 Family의 내용 버전을 1 증가시킵니다.
+     * 구성원 ID만 알고 있는 태그 매핑 변경에서 사용합니다.
+     *
+     * @param memberIds 구성원 ID 목록
+     * @return 수정된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE family
+        SET content_version = content_version + 1
+        WHERE id IN (SELECT m.family_id FROM family_member m WHERE m.id IN :memberIds)
+        """, nativeQuery = true)
+    int bumpContentVersionByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+
+    /**
+     * 태그 매핑이 속한 Family의 내용 버전을 1 증가시킵니다.
+     * 매핑을 삭제하기 전에 호출해야 합니다.
+     *
+     * @param mappingIds 태그 매핑 ID 목록
+     * @return 수정된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE family
+        SET content_version = content_version + 1
+        WHERE id IN (
+            SELECT m.family_id
+            FROM family_member_tag_mapping tm
+            JOIN family_member m ON m.id = tm.member_id
+            WHERE tm.id IN :mappingIds
+        )
+        """, nativeQuery = true)
+    int bumpContentVersionByTagMappingIds(@Param("mappingIds") Collection<Long> mappingIds);
+
+    /**
+     * 태그가 속한 Family의 내용 버전을 1 증가시킵니다.
+     * 태그를 삭제하기 전에 호출해야 합니다.
+     *
+     * @param tagId 태그 ID
+     * @return 수정된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE family
+        SET content_version = content_version + 1
+        WHERE id = (SELECT t.family_id FROM family_member_tag t WHERE t.id = :tagId)
+        """, nativeQuery = true)
+    int bumpContentVersionByTagId(@Param("tagId") Long tagId);
+
+    /**
+     * 공지사항이 속한 Family의 내용 버전을 1 증가시킵니다.
+     * 공지사항을 삭제하기 전에 호출해야 합니다.
+     *
+     * @param announcementId 공지사항 ID
+     * @return 수정된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE family
+        SET content_version = content_version + 1
+        WHERE id = (SELECT a.family_id FROM family_announcement a WHERE a.id = :announcementId)
+        """, nativeQuery = true)
+    int bumpContentVersionByAnnouncementId(@Param("announcementId") Long announcementId);
+
+    /**
+     * 삭제되지 않은 Family의 내용 버전을 조회합니다.
+     *
+     * @param familyId Family ID
+     * @return 내용 버전, Family가 없거나 삭제된 경우 빈 Optional
+     */
+    @Query("SELECT f.contentVersion FROM family f WHERE f.id = :familyId")
+    Optional<Long> findContentVersionById(@Param("familyId") Long familyId);
+
+    /**
+     * 사용자가 소속된 Family의 ID와 내용 버전을 가입 순서(구성원 ID 순)로 조회합니다.
+     * 내 소속 Family 목록 조회와 같은 조건(삭제된 Family 제외)을 사용합니다.
+     *
+     * @param userId 사용자 ID
+     * @return Family ID와 내용 버전 목록
+     */
+    @Query("""
+        SELECT new io.jhchoe.familytree.core.family.domain.FamilyContentVersion(f.id, f.contentVersion)
+        FROM family_member m
+        JOIN family f ON f.id = m.familyId
+        WHERE m.userId = :userId
+        ORDER BY m.id ASC
+        """)
+    List<FamilyContentVersion> findContentVersionsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Family 행에 쓰기 잠금을 걸고 ID를 조회합니다.
+     * 같은 Family의 구성원 관계를 갱신하는 트랜잭션을 직렬화할 때 사용하며, 잠금은 트랜잭션이 끝날 때 풀립니다.
+     *
+     * @param familyId Family ID
+     * @return 잠근 Family ID, Family가 없으면 빈 Optional
+     */
+    @Query(value = "SELECT id FROM family WHERE id = :familyId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("familyId") Long familyId);
+
+    /**
+     * 삭제된 Family를 포함한 가장 큰 Family ID를 조회합니다.
+     *
+     * @return 가장 큰 Family ID, Family가 없으면 0
+     */
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM family", nativeQuery = true)
+    long findMaxId();
 }
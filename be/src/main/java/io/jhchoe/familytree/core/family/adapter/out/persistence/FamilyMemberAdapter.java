@@ -1,26 +1,112 @@
 package io.jhchoe.familytree.core.family.adapter.out.persistence;
 
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
+import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberWithTagsPort;
 import io.jhchoe.familytree.core.family.application.port.out.ModifyFamilyMemberPort;
 import io.jhchoe.familytree.core.family.application.port.out.SaveFamilyMemberPort;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberLineageNode;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberTag;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberWithTags;
+import io.jhchoe.familytree.core.family.domain.FamilyMembership;
+import io.jhchoe.familytree.core.family.domain.FamilySummary;
+import io.jhchoe.familytree.core.family.domain.KinshipDirection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 /**
  * Family 멤버 관련 아웃바운드 포트를 구현하는 어댑터 클래스입니다.
+ *
+ * <p>구성원 저장·상태 변경 시 Family에 저장된 전체·활성 구성원 수를 원자적 UPDATE로 함께 증감합니다.
+ * 어긋난 값은 {@link FamilyMemberCountReconciler}가 주기적으로 보정합니다.</p>
+ *
+ * <p>조상·자손 조회는 family_member_parent를 WITH RECURSIVE로 탐색하는 SQL 한 번으로 처리합니다.
+ * PostgreSQL 전용 문법(배열, CYCLE 절 등)을 쓰지 않으므로 H2(로컬)에서도 같은 SQL로 동작하며,
+ * WITH RECURSIVE를 지원하지 않는 DB에서는 Family의 관계를 한 번에 읽어 메모리에서 같은 결과를 계산합니다.
+ * 관계 행은 구성원 저장·수정과 같은 트랜잭션에서 {@link FamilyMemberParentSynchronizer}가 갱신합니다.</p>
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
-public class FamilyMemberAdapter implements FindFamilyMemberPort, ModifyFamilyMemberPort, SaveFamilyMemberPort {
+public class FamilyMemberAdapter implements FindFamilyMemberPort, ModifyFamilyMemberPort, SaveFamilyMemberPort,
+    FindFamilyMemberWithTagsPort {
+
+    /**
+     * 시작 구성원에서 자녀 → 부모 방향으로 관계를 따라가며 조상을 찾습니다.
+     * 세대 수는 관계의 generations(미등록 중간 친족을 건너뛴 관계는 2 이상)를 더한 값이며, 최대 세대 수를 넘는 관계는 따라가지 않습니다.
+     * 경로는 쉼표로 구분한 구성원 ID 문자열이며, 경로에 이미 있는 구성원으로는 다시 들어가지 않습니다.
+     * 파라미터: 시작 구성원 ID, Family ID, Family ID, 최대 세대 수
+     */
+    static final String FIND_ANCESTORS_SQL = """
+        WITH RECURSIVE lineage (member_id, depth, path) AS (
+            SELECT m.id, 0, CAST(m.id AS VARCHAR(4000))
+            FROM family_member m
+            WHERE m.id = ? AND m.family_id = ?
+            UNION ALL
+            SELECT e.parent_member_id, l.depth + e.generations,
+                   CAST(l.path || ',' || CAST(e.parent_member_id AS VARCHAR(20)) AS VARCHAR(4000))
+            FROM lineage l
+            JOIN family_member_parent e ON e.family_id = ? AND e.child_member_id = l.member_id
+            WHERE l.depth + e.generations <= ?
+              AND POSITION(',' || CAST(e.parent_member_id AS VARCHAR(20)) || ',' IN ',' || l.path || ',') = 0
+        )
+        SELECT member_id, depth, path
+        FROM lineage
+        WHERE depth > 0
+        ORDER BY depth, member_id
+        """;
+
+    /**
+     * 시작 구성원에서 부모 → 자녀 방향으로 관계를 따라가며 자손을 찾습니다.
+     * 파라미터는 {@link #FIND_ANCESTORS_SQL}과 같습니다.
+     */
+    static final String FIND_DESCENDANTS_SQL = """
+        WITH RECURSIVE lineage (member_id, depth, path) AS (
+            SELECT m.id, 0, CAST(m.id AS VARCHAR(4000))
+            FROM family_member m
+            WHERE m.id = ? AND m.family_id = ?
+            UNION ALL
+            SELECT e.child_member_id, l.depth + e.generations,
+                   CAST(l.path || ',' || CAST(e.child_member_id AS VARCHAR(20)) AS VARCHAR(4000))
+            FROM lineage l
+            JOIN family_member_parent e ON e.family_id = ? AND e.parent_member_id = l.member_id
+            WHERE l.depth + e.generations <= ?
+              AND POSITION(',' || CAST(e.child_member_id AS VARCHAR(20)) || ',' IN ',' || l.path || ',') = 0
+        )
+        SELECT member_id, depth, path
+        FROM lineage
+        WHERE depth > 0
+        ORDER BY depth, member_id
+        """;
 
     private final FamilyMemberJpaRepository familyMemberJpaRepository;
+    private final FamilyJpaRepository familyJpaRepository;
+    private final FamilyMemberCache familyMemberCache;
+    private final FamilyMemberParentSynchronizer familyMemberParentSynchronizer;
+    private final FamilyMemberParentJpaRepository familyMemberParentJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * DB가 WITH RECURSIVE를 지원하지 않는 것이 확인되면 false로 바뀌며, 이후 조회는 관계 목록 탐색을 사용합니다.
+     */
+    private volatile boolean recursiveQuerySupported = true;
 
     /**
      * {@inheritDoc}
@@ -53,6 +139,22 @@ public class FamilyMemberAdapter implements FindFamilyMemberPort, ModifyFamilyMe
         return familyMemberJpaRepository.findById(id)
                 .map(this::mapToDomainEntity);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<FamilyMember> findAllByIds(List<Long> ids) {
+        Objects.requireNonNull(ids, "ids must not be null");
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return familyMemberJpaRepository.findAllById(ids).stream()
+                .map(this::mapToDomainEntity)
+                .toList();
+    }
     
     /**
      * {@inheritDoc}
@@ -62,8 +164,25 @@ public class FamilyMemberAdapter implements FindFamilyMemberPort, ModifyFamilyMe
         Objects.requireNonNull(familyId, "familyId must not be null");
         Objects.requireNonNull(userId, "userId must not be null");
         
-        return familyMemberJpaRepository.findByFamilyIdAndUserId(familyId, userId)
-                .map(this::mapToDomainEntity);
+        return familyMemberCache.find(familyId, userId, () ->
+            familyMemberJpaRepository.findByFamilyIdAndUserId(familyId, userId)
+                .map(this::mapToDomainEntity)
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<FamilyMembership> findMembership(Long familyId, Long userId) {
+        Objects.requireNonNull(familyId, "familyId must not be null");
+        Objects.requireNonNull(userId, "userId must not be null");
+
+        return familyMemberJpaRepository.findMembership(familyId, userId)
+                .map(row -> FamilyMembership.of(
+                    row.family().toFamily(),
+                    row.member() == null ? null : mapToDomainEntity(row.member())
+                ));
     }
     
     /**
@@ -79,6 +198,37 @@ public class FamilyMemberAdapter implements FindFamilyMemberPort, ModifyFamilyMe
                 .collect(Collectors.toList());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<FamilyMemberWithTags> findAllByFamilyIdAndStatusIn(Long familyId, Set<FamilyMemberStatus> statuses) {
+        Objects.requireNonNull(familyId, "familyId must not be null");
+        Objects.requireNonNull(statuses, "statuses must not be null");
+        if (statuses.isEmpty()) {
+            return List.of();
+        }
+
+        // 조인 결과는 구성원 정렬 순서대로 태그 수만큼 반복되므로 순서를 유지하며 묶는다
+        Map<Long, FamilyMember> members = new LinkedHashMap<>();
+        Map<Long, List<FamilyMemberTag>> tagsByMemberId = new LinkedHashMap<>();
+        for (FamilyMemberWithTagRow row : familyMemberJpaRepository.findAllWithTagsByFamilyIdAndStatusIn(familyId, statuses)) {
+            Long memberId = row.member().getId();
+            members.computeIfAbsent(memberId, id -> mapToDomainEntity(row.member()));
+            List<FamilyMemberTag> tags = tagsByMemberId.computeIfAbsent(memberId, id -> new ArrayList<>());
+
+            if (row.tag() != null) {
+                tags.add(row.tag().toFamilyMemberTag());
+            } else if (row.mappedTagId() != null) {
+                log.warn("Orphan tag mapping detected: memberId={}, tagId={}", memberId, row.mappedTagId());
+            }
+        }
+
+        return members.values().stream()
+                .map(member -> FamilyMemberWithTags.of(member, tagsByMemberId.get(member.getId())))
+                .toList();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -91,6 +241,19 @@ public class FamilyMemberAdapter implements FindFamilyMemberPort, ModifyFamilyMe
                 .map(this::mapToDomainEntity)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<FamilySummary> findAllSummariesByUserId(Long userId) {
+        Objects.requireNonNull(userId, "userId must not be null");
+
+        return familyMemberJpaRepository.findAllSummariesByUserId(userId)
+                .stream()
+                .map(row -> FamilySummary.of(row.family().toFamily(), row.role(), row.family().getActiveMemberCount()))
+                .toList();
+    }
     
     /**
      * {@inheritDoc}
@@ -100,15 +263,31 @@ public class FamilyMemberAdapter implements FindFamilyMemberPort, ModifyFamilyMe
         Objects.requireNonNull(familyMember, "familyMember must not be null");
         Objects.requireNonNull(familyMember.getId(), "familyMember.id must not be null");
 
-        // 존재 여부 확인
-        if (!familyMemberJpaRepository.existsById(familyMember.getId())) {
-            throw new IllegalArgumentException("Member not found: " + familyMember.getId());
-        }
+        // 존재 여부 확인 및 구성원 수·부모·자녀 관계 보정을 위한 변경 전 상태 조회
+        FamilyMemberStateRow previous = familyMemberJpaRepository.findStateById(familyMember.getId())
+            .orElseThrow(() -> new IllegalArgumentException("Member not found: " + familyMember.getId()));
 
         // 도메인 객체를 JPA 엔티티로 변환하여 저장
         FamilyMemberJpaEntity entity = FamilyMemberJpaEntity.from(familyMember);
+        Long modifiedId = familyMemberJpaRepository.save(entity).getId();
+
+        // 활성 상태로 바뀌거나 활성 상태에서 벗어난 경우 활성 구성원 수 반영
+        // (구성원 수 증감 시 내용 버전도 함께 증가하므로, 그 외에는 내용 버전만 증가)
+        int activeMemberDelta = activeCount(familyMember.getStatus()) - activeCount(previous.status());
+        if (activeMemberDelta != 0) {
+            familyJpaRepository.adjustMemberCounts(familyMember.getFamilyId(), 0, activeMemberDelta);
+        } else {
+            familyJpaRepository.bumpContentVersion(familyMember.getFamilyId());
+        }
 
-        return familyMemberJpaRepository.save(entity).getId();
+        // 소유자 또는 관계 타입이 바뀌면 친족 그래프가 달라지므로 부모·자녀 관계를 같은 트랜잭션에서 갱신
+        if (previous.role() != familyMember.getRole() || previous.relationshipType() != familyMember.getRelationshipType()) {
+            familyMemberParentSynchronizer.sync(familyMember.getFamilyId());
+        }
+
+        // 역할·상태 등이 바뀌었으므로 캐시된 구성원 정보를 제거
+        evictCache(familyMember);
+        return modifiedId;
     }
 
     /**
@@ -121,8 +300,60 @@ public class FamilyMemberAdapter implements FindFamilyMemberPort, ModifyFamilyMe
         // 도메인 객체를 JPA 엔티티로 변환
         FamilyMemberJpaEntity entity = FamilyMemberJpaEntity.from(familyMember);
         
-        // 저장 및 ID 반환
-        return familyMemberJpaRepository.save(entity).getId();
+        // 저장 후 새 구성원이면 Family 구성원 수를 증가
+        Long savedId = familyMemberJpaRepository.save(entity).getId();
+        if (familyMember.getId() == null) {
+            familyJpaRepository.adjustMemberCounts(familyMember.getFamilyId(), 1, activeCount(familyMember.getStatus()));
+        } else {
+            familyJpaRepository.bumpContentVersion(familyMember.getFamilyId());
+        }
+
+        // 관계 타입이 있거나 소유자인 구성원은 친족 그래프를 바꾸므로 부모·자녀 관계를 같은 트랜잭션에서 갱신
+        if (changesKinship(familyMember)) {
+            familyMemberParentSynchronizer.sync(familyMember.getFamilyId());
+        }
+
+        // "구성원 아님"으로 캐시된 결과를 제거하고 ID 반환
+        evictCache(familyMember);
+        return savedId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Long> saveAll(List<FamilyMember> familyMembers) {
+        Objects.requireNonNull(familyMembers, "familyMembers must not be null");
+
+        if (familyMembers.isEmpty()) {
+            return List.of();
+        }
+
+        // pooled 시퀀스로 ID를 미리 할당받으므로 INSERT는 flush 시점에 배치로 전송됨
+        List<Long> savedIds = familyMemberJpaRepository.saveAll(
+                familyMembers.stream().map(FamilyMemberJpaEntity::from).toList()
+            ).stream()
+            .map(FamilyMemberJpaEntity::getId)
+            .toList();
+
+        // 구성원 수 증감과 부모·자녀 관계 갱신은 Family마다 한 번씩만 실행
+        Map<Long, List<FamilyMember>> membersByFamilyId = familyMembers.stream()
+            .collect(Collectors.groupingBy(FamilyMember::getFamilyId, LinkedHashMap::new, Collectors.toList()));
+        membersByFamilyId.forEach((familyId, members) -> {
+            List<FamilyMember> newMembers = members.stream().filter(member -> member.getId() == null).toList();
+            if (newMembers.isEmpty()) {
+                familyJpaRepository.bumpContentVersion(familyId);
+            } else {
+                int activeMembers = newMembers.stream().mapToInt(member -> activeCount(member.getStatus())).sum();
+                familyJpaRepository.adjustMemberCounts(familyId, newMembers.size(), activeMembers);
+            }
+            if (members.stream().anyMatch(this::changesKinship)) {
+                familyMemberParentSynchronizer.sync(familyId);
+            }
+        });
+
+        familyMembers.forEach(this::evictCache);
+        return savedIds;
     }
     
     /**
@@ -153,6 +384,157 @@ public class FamilyMemberAdapter implements FindFamilyMemberPort, ModifyFamilyMe
                 .map(this::mapToDomainEntity);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<FamilyMemberLineageNode> findLineage(
+        Long familyId,
+        Long memberId,
+        KinshipDirection direction,
+        int maxDepth
+    ) {
+        Objects.requireNonNull(familyId, "familyId must not be null");
+        Objects.requireNonNull(memberId, "memberId must not be null");
+        Objects.requireNonNull(direction, "direction must not be null");
+        if (direction == KinshipDirection.SPOUSE) {
+            throw new IllegalArgumentException("direction must be PARENT or CHILD");
+        }
+        if (maxDepth < 1 || maxDepth > MAX_LINEAGE_DEPTH) {
+            throw new IllegalArgumentException("maxDepth must be between 1 and " + MAX_LINEAGE_DEPTH);
+        }
+
+        if (!recursiveQuerySupported) {
+            return findLineageInMemory(familyId, memberId, direction, maxDepth);
+        }
+
+        String sql = direction == KinshipDirection.PARENT ? FIND_ANCESTORS_SQL : FIND_DESCENDANTS_SQL;
+        List<FamilyMemberLineageNode> rows;
+        try {
+            rows = jdbcTemplate.query(sql, (rs, rowNum) -> new FamilyMemberLineageNode(
+                rs.getLong("member_id"),
+                rs.getInt("depth"),
+                Arrays.stream(rs.getString("path").split(",")).map(Long::valueOf).toList()
+            ), memberId, familyId, familyId, maxDepth);
+        } catch (BadSqlGrammarException e) {
+            log.warn("WITH RECURSIVE를 지원하지 않는 DB이므로 조상·자손 조회를 관계 목록 탐색으로 전환합니다: {}", e.getMessage());
+            recursiveQuerySupported = false;
+            return findLineageInMemory(familyId, memberId, direction, maxDepth);
+        }
+
+        // 세대 순으로 정렬되어 있으므로 처음 도달한 경로가 가장 가까운 경로입니다.
+        Map<Long, FamilyMemberLineageNode> nearest = new LinkedHashMap<>();
+        for (FamilyMemberLineageNode row : rows) {
+            nearest.putIfAbsent(row.memberId(), row);
+        }
+        return List.copyOf(nearest.values());
+    }
+
+    /**
+     * WITH RECURSIVE를 쓸 수 없을 때 Family의 관계를 한 번에 읽어 같은 결과를 계산합니다.
+     * 세대 수가 작은 구성원부터 확정하므로 구성원마다 가장 가까운 경로 하나만 남습니다.
+     *
+     * @param familyId  Family ID
+     * @param memberId  시작 구성원 ID
+     * @param direction 탐색 방향
+     * @param maxDepth  최대 세대 수
+     * @return {@link #findLineage}와 같은 순서의 목록
+     */
+    private List<FamilyMemberLineageNode> findLineageInMemory(
+        Long familyId,
+        Long memberId,
+        KinshipDirection direction,
+        int maxDepth
+    ) {
+        boolean exists = familyMemberJpaRepository.findById(memberId)
+            .filter(member -> familyId.equals(member.getFamilyId()))
+            .isPresent();
+        if (!exists) {
+            return List.of();
+        }
+
+        Map<Long, List<FamilyMemberParentJpaEntity>> edgesByStart = familyMemberParentJpaRepository.findAllByFamilyId(familyId)
+            .stream()
+            .collect(Collectors.groupingBy(edge -> direction == KinshipDirection.PARENT
+                ? edge.getChildMemberId()
+                : edge.getParentMemberId()));
+
+        PriorityQueue<FamilyMemberLineageNode> queue = new PriorityQueue<>(
+            Comparator.comparingInt(FamilyMemberLineageNode::depth).thenComparing(FamilyMemberLineageNode::memberId)
+        );
+        Set<Long> settled = new HashSet<>();
+        settled.add(memberId);
+        enqueueNext(queue, settled, edgesByStart, direction, memberId, 0, List.of(memberId), maxDepth);
+
+        Map<Long, FamilyMemberLineageNode> nearest = new LinkedHashMap<>();
+        while (!queue.isEmpty()) {
+            FamilyMemberLineageNode current = queue.poll();
+            if (!settled.add(current.memberId())) {
+                continue;
+            }
+            nearest.put(current.memberId(), current);
+            enqueueNext(queue, settled, edgesByStart, direction,
+                current.memberId(), current.depth(), current.path(), maxDepth);
+        }
+        return List.copyOf(nearest.values());
+    }
+
+    private void enqueueNext(
+        PriorityQueue<FamilyMemberLineageNode> queue,
+        Set<Long> settled,
+        Map<Long, List<FamilyMemberParentJpaEntity>> edgesByStart,
+        KinshipDirection direction,
+        Long from,
+        int depth,
+        List<Long> path,
+        int maxDepth
+    ) {
+        for (FamilyMemberParentJpaEntity edge : edgesByStart.getOrDefault(from, List.of())) {
+            Long next = direction == KinshipDirection.PARENT ? edge.getParentMemberId() : edge.getChildMemberId();
+            int nextDepth = depth + edge.getGenerations();
+            if (nextDepth > maxDepth || settled.contains(next)) {
+                continue;
+            }
+            List<Long> nextPath = new ArrayList<>(path);
+            nextPath.add(next);
+            queue.add(new FamilyMemberLineageNode(next, nextDepth, nextPath));
+        }
+    }
+
+    /**
+     * 저장할 구성원이 친족 그래프를 바꿀 수 있는지 확인합니다.
+     * 기존 구성원을 덮어쓰는 경우 변경 전 값을 알 수 없으므로 항상 true입니다.
+     *
+     * @param familyMember 저장할 구성원
+     * @return 부모·자녀 관계를 갱신해야 하면 true
+     */
+    private boolean changesKinship(FamilyMember familyMember) {
+        return familyMember.getId() != null
+            || familyMember.getRelationshipType() != null
+            || familyMember.getRole() == FamilyMemberRole.OWNER;
+    }
+
+    /**
+     * 활성 구성원 수 증감 계산을 위해 상태가 ACTIVE이면 1, 아니면 0을 반환합니다.
+     *
+     * @param status 구성원 상태
+     * @return 활성 구성원 수 기여분
+     */
+    private int activeCount(FamilyMemberStatus status) {
+        return status == FamilyMemberStatus.ACTIVE ? 1 : 0;
+    }
+
+    /**
+     * 사용자 계정과 연결된 구성원이면 캐시 항목을 제거합니다.
+     *
+     * @param familyMember 변경된 구성원
+     */
+    private void evictCache(FamilyMember familyMember) {
+        if (familyMember.getUserId() != null) {
+            familyMemberCache.evict(familyMember.getFamilyId(), familyMember.getUserId());
+        }
+    }
+
     /**
      * JPA 엔티티를 도메인 엔티티로 변환합니다.
      *
@@ -0,0 +1,170 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+import io.jhchoe.familytree.common.cache.BoundedLruCache;
+import io.jhchoe.familytree.core.family.config.FamilyMemberCacheProperties;
+import io.jhchoe.familytree.core.family.domain.FamilyMember;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * (familyId, userId) 단위 구성원 조회 결과를 요청 간에 재사용하는 크기 제한 LRU 캐시입니다.
+ * 구성원이 아닌 경우(빈 결과)도 함께 보관합니다.
+ *
+ * <p>구성원 정보는 역할·상태 변경, 가입 승인, 초대 수락 시에만 바뀌며 모두 {@link FamilyMemberAdapter}의
+ * 저장·수정 메서드를 거치므로 그 시점에 항목을 제거합니다. 트랜잭션 안에서 제거된 경우 트랜잭션이 끝난 직후 한 번 더
+ * 제거하여, 커밋 전에 다른 요청이 이전 값을 다시 적재하거나 롤백된 값이 캐시에 남는 경우를 막습니다.
+ * 다른 노드에서 변경된 값은 TTL이 지나야 반영됩니다.</p>
+ */
+@Slf4j
+@Component
+public class FamilyMemberCache {
+
+    private static final String METRIC_PREFIX = "family.member.cache";
+
+    private final FamilyMemberCacheProperties properties;
+    private final Clock clock;
+    private final BoundedLruCache<Key, CachedMember> store;
+    private final AtomicLong evictionSequence;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    @Autowired
+    public FamilyMemberCache(final FamilyMemberCacheProperties properties, final MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    // 테스트용 생성자
+    public FamilyMemberCache(
+        final FamilyMemberCacheProperties properties,
+        final MeterRegistry meterRegistry,
+        final Clock clock
+    ) {
+        this.properties = properties;
+        this.clock = clock;
+        this.store = new BoundedLruCache<>(properties.getMaxSize());
+        this.evictionSequence = new AtomicLong();
+        this.hitCounter = Counter.builder(METRIC_PREFIX + ".hits")
+            .description("구성원 조회 캐시 적중 횟수")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_PREFIX + ".misses")
+            .description("구성원 조회 캐시 미적중 횟수")
+            .register(meterRegistry);
+        this.evictionCounter = Counter.builder(METRIC_PREFIX + ".evictions")
+            .description("구성원 변경으로 제거된 캐시 항목 수")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, FamilyMemberCache::size)
+            .description("구성원 조회 캐시 항목 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 구성원을 조회하고, 없으면 loader로 조회한 결과를 캐시에 저장합니다.
+     * 캐시가 비활성화되어 있으면 항상 loader를 호출합니다.
+     *
+     * @param familyId Family ID
+     * @param userId   사용자 ID
+     * @param loader   캐시 미적중 시 구성원을 조회하는 함수
+     * @return 구성원 정보, 구성원이 아니면 빈 Optional
+     */
+    public Optional<FamilyMember> find(
+        final Long familyId,
+        final Long userId,
+        final Supplier<Optional<FamilyMember>> loader
+    ) {
+        Objects.requireNonNull(familyId, "familyId must not be null");
+        Objects.requireNonNull(userId, "userId must not be null");
+        Objects.requireNonNull(loader, "loader must not be null");
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+
+        final Key key = new Key(familyId, userId);
+        final Instant now = clock.instant();
+        final CachedMember cached = store.get(key);
+        if (cached != null && cached.isExpired(now)) {
+            store.remove(key, cached);
+        }
+        if (cached != null && !cached.isExpired(now)) {
+            hitCounter.increment();
+            return cached.member();
+        }
+
+        missCounter.increment();
+        // 조회 도중 제거 요청이 있었다면 이전 값일 수 있으므로 저장하지 않는다
+        final long sequence = evictionSequence.get();
+        final Optional<FamilyMember> loaded = loader.get();
+        final CachedMember loadedMember = new CachedMember(loaded, now.plusSeconds(properties.getTtlSeconds()));
+        store.compute(key, (k, current) -> evictionSequence.get() == sequence ? loadedMember : current);
+        return loaded;
+    }
+
+    /**
+     * 구성원 정보가 변경되었을 때 캐시 항목을 제거합니다.
+     * 트랜잭션이 진행 중이면 커밋·롤백과 관계없이 트랜잭션이 끝난 후에도 다시 제거합니다.
+     *
+     * @param familyId Family ID
+     * @param userId   사용자 ID
+     */
+    public void evict(final Long familyId, final Long userId) {
+        Objects.requireNonNull(familyId, "familyId must not be null");
+        Objects.requireNonNull(userId, "userId must not be null");
+
+        final Key key = new Key(familyId, userId);
+        remove(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    // 롤백 시에도 같은 트랜잭션에서 적재한 미커밋 값이 남지 않도록 제거한다
+                    remove(key);
+                }
+            });
+        }
+        evictionCounter.increment();
+        log.debug("구성원 캐시 제거: [Family ID: {}, User ID: {}]", familyId, userId);
+    }
+
+    /**
+     * 현재 캐시 항목 수를 반환합니다.
+     *
+     * @return 캐시 항목 수
+     */
+    public int size() {
+        return store.size();
+    }
+
+    private void remove(final Key key) {
+        // 순번을 먼저 올려 진행 중인 조회가 제거 이후 이전 값을 저장하지 않도록 한다
+        evictionSequence.incrementAndGet();
+        store.remove(key);
+    }
+
+    /**
+     * 캐시 키를 나타내는 내부 레코드입니다.
+     */
+    private record Key(Long familyId, Long userId) {
+    }
+
+    /**
+     * 캐시 항목을 나타내는 내부 레코드입니다.
+     */
+    private record CachedMember(Optional<FamilyMember> member, Instant expiresAt) {
+
+        boolean isExpired(final Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
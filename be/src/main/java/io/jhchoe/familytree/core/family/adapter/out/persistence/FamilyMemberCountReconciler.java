@@ -0,0 +1,65 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+import io.jhchoe.familytree.core.family.config.FamilyMemberCountProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Family에 저장된 구성원 수를 실제 구성원 행과 비교하여 보정하는 백그라운드 작업입니다.
+ *
+ * <p>구성원 수는 {@link FamilyMemberAdapter}가 저장·상태 변경 시 원자적 UPDATE로 증감하지만,
+ * 같은 구성원의 상태를 동시에 변경하거나 구성원 행을 직접 수정한 경우 실제 값과 어긋날 수 있습니다.
+ * 이 작업은 Family ID 범위 단위로 {@link FamilyMemberCountSynchronizer}를 호출하여 어긋난 Family만 잠그고 수정합니다.
+ * 보정은 Family 행을 잠그고 실행되며 멱등하므로 여러 노드에서 동시에 실행되어도 결과가 같습니다.</p>
+ */
+@Slf4j
+@Component
+public class FamilyMemberCountReconciler {
+
+    private final FamilyJpaRepository familyJpaRepository;
+    private final FamilyMemberCountSynchronizer familyMemberCountSynchronizer;
+    private final FamilyMemberCountProperties properties;
+    private final Counter reconciledCounter;
+
+    public FamilyMemberCountReconciler(
+        final FamilyJpaRepository familyJpaRepository,
+        final FamilyMemberCountSynchronizer familyMemberCountSynchronizer,
+        final FamilyMemberCountProperties properties,
+        final MeterRegistry meterRegistry
+    ) {
+        this.familyJpaRepository = familyJpaRepository;
+        this.familyMemberCountSynchronizer = familyMemberCountSynchronizer;
+        this.properties = properties;
+        this.reconciledCounter = Counter.builder("family.member.count.reconciled")
+            .description("구성원 수 보정 작업으로 수정된 Family 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 모든 Family의 구성원 수를 ID 범위 단위로 보정합니다.
+     *
+     * @return 보정된 Family 수
+     */
+    @Scheduled(cron = "${family-member.count.reconcile-cron:0 30 4 * * *}")
+    public int reconcile() {
+        if (!properties.isReconcileEnabled()) {
+            return 0;
+        }
+
+        final long maxId = familyJpaRepository.findMaxId();
+        final int chunkSize = Math.max(properties.getReconcileChunkSize(), 1);
+        int reconciled = 0;
+        for (long fromId = 0; fromId < maxId; fromId += chunkSize) {
+            reconciled += familyMemberCountSynchronizer.sync(fromId, Math.min(fromId + chunkSize, maxId));
+        }
+
+        if (reconciled > 0) {
+            reconciledCounter.increment(reconciled);
+            log.warn("Family 구성원 수 보정: [보정된 Family 수: {}]", reconciled);
+        }
+        return reconciled;
+    }
+}
@@ -0,0 +1,37 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Family ID 범위 안의 구성원 수를 실제 구성원 행과 같게 맞추는 컴포넌트입니다.
+ *
+ * <p>어긋난 Family 행을 먼저 잠근 뒤 별도 문장으로 다시 집계하여 보정합니다.
+ * 구성원 수 증감({@link FamilyJpaRepository#adjustMemberCounts})도 같은 행을 잠그므로,
+ * 잠금을 얻은 뒤의 집계에는 이미 커밋된 증감분이 모두 반영되고 진행 중인 증감은 보정이 끝날 때까지 기다립니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class FamilyMemberCountSynchronizer {
+
+    private final FamilyJpaRepository familyJpaRepository;
+
+    /**
+     * ID 범위 안의 Family 중 구성원 수가 어긋난 Family를 보정합니다.
+     * 호출한 트랜잭션이 있으면 그 트랜잭션 안에서 실행됩니다.
+     *
+     * @param fromId 범위 시작 ID (제외)
+     * @param toId 범위 끝 ID (포함)
+     * @return 보정된 Family 수
+     */
+    @Transactional
+    public int sync(final long fromId, final long toId) {
+        final List<Long> lockedIds = familyJpaRepository.lockDriftedMemberCountIds(fromId, toId);
+        if (lockedIds.isEmpty()) {
+            return 0;
+        }
+        return familyJpaRepository.reconcileMemberCounts(lockedIds);
+    }
+}
@@ -19,6 +19,8 @@ import org.hibernate.annotations.SQLRestriction;
  * <p>
  * name, profileUrl, birthday는 Family별로 독립적으로 관리됩니다.
  * 초대 수락 시 User 정보를 복사하며, 이후 Family 주인이 수정할 수 있습니다.
+ * <p>
+ * 여러 구성원을 한 번에 저장할 수 있도록 pooled 시퀀스로 ID를 미리 할당받아 JDBC 배치 INSERT로 저장합니다.
  */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -26,7 +28,12 @@ import org.hibernate.annotations.SQLRestriction;
 public class FamilyMemberJpaEntity extends ModifierBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "family_member_id_gen")
+    @SequenceGenerator(
+        name = "family_member_id_gen",
+        sequenceName = "family_member_id_seq",
+        allocationSize = 50
+    )
     private Long id;
 
     @Column(name = "family_id", nullable = false)
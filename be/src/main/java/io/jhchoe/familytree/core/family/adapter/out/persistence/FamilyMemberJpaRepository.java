@@ -2,6 +2,7 @@ package io.jhchoe.familytree.core.family.adapter.out.persistence;
 
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -36,6 +37,22 @@ public interface FamilyMemberJpaRepository extends JpaRepository<FamilyMemberJpa
      * @return 조회된 FamilyMember 엔티티
      */
     Optional<FamilyMemberJpaEntity> findByFamilyIdAndUserId(Long familyId, Long userId);
+
+    /**
+     * Family와 특정 사용자의 구성원 정보를 하나의 쿼리로 조회합니다.
+     * Family가 존재하지 않거나 삭제되었으면 결과가 없고, 구성원이 아니면 member가 null입니다.
+     *
+     * @param familyId Family ID
+     * @param userId 사용자 ID
+     * @return Family와 구성원 엔티티
+     */
+    @Query("""
+        SELECT new io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyMembershipRow(f, m)
+        FROM family f
+        LEFT JOIN family_member m ON m.familyId = f.id AND m.userId = :userId
+        WHERE f.id = :familyId
+        """)
+    Optional<FamilyMembershipRow> findMembership(@Param("familyId") Long familyId, @Param("userId") Long userId);
     
     /**
      * 특정 Family의 모든 구성원을 조회합니다.
@@ -45,6 +62,28 @@ public interface FamilyMemberJpaRepository extends JpaRepository<FamilyMemberJpa
      */
     List<FamilyMemberJpaEntity> findAllByFamilyId(Long familyId);
 
+    /**
+     * 특정 Family에서 지정된 상태의 구성원과 태그 매핑을 하나의 쿼리로 조회합니다.
+     * 구성원은 나이순(생일이 늦은 순, 생일이 없으면 맨 뒤)으로, 한 구성원의 태그는 매핑된 순서로 정렬됩니다.
+     *
+     * @param familyId Family ID
+     * @param statuses 조회할 구성원 상태 목록
+     * @return 구성원-태그 조인 결과 (태그 수만큼 구성원이 반복됨)
+     */
+    @Query("""
+        SELECT new io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyMemberWithTagRow(m, tm.tagId, t)
+        FROM family_member m
+        LEFT JOIN FamilyMemberTagMappingJpaEntity tm ON tm.memberId = m.id
+        LEFT JOIN family_member_tag t ON t.id = tm.tagId AND t.familyId = m.familyId
+        WHERE m.familyId = :familyId
+          AND m.status IN :statuses
+        ORDER BY m.birthday DESC NULLS LAST, m.id ASC, tm.id ASC
+        """)
+    List<FamilyMemberWithTagRow> findAllWithTagsByFamilyIdAndStatusIn(
+        @Param("familyId") Long familyId,
+        @Param("statuses") Collection<FamilyMemberStatus> statuses
+    );
+
     /**
      * 특정 사용자가 소속된 모든 Family의 구성원 정보를 조회합니다.
      *
@@ -53,6 +92,38 @@ public interface FamilyMemberJpaRepository extends JpaRepository<FamilyMemberJpa
      */
     List<FamilyMemberJpaEntity> findAllByUserId(Long userId);
 
+    /**
+     * 특정 사용자가 소속된 Family와 그 사용자의 역할을 하나의 쿼리로 조회합니다.
+     * 구성원 수는 Family에 저장된 값을 사용하므로 별도 집계하지 않습니다.
+     * 삭제된 Family는 제외되며, 가입 순서(구성원 ID 순)로 정렬됩니다.
+     *
+     * @param userId 사용자 ID
+     * @return Family와 역할 조회 결과
+     */
+    @Query("""
+        SELECT new io.jhchoe.familytree.core.family.adapter.out.persistence.FamilySummaryRow(f, m.role)
+        FROM family_member m
+        JOIN family f ON f.id = m.familyId
+        WHERE m.userId = :userId
+        ORDER BY m.id ASC
+        """)
+    List<FamilySummaryRow> findAllSummariesByUserId(@Param("userId") Long userId);
+
+    /**
+     * 구성원의 현재 상태·역할·관계 타입을 조회합니다.
+     *
+     * @param id 구성원 ID
+     * @return 구성원 상태·역할·관계 타입, 구성원이 존재하지 않으면 빈 Optional
+     */
+    @Query("""
+        SELECT new io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyMemberStateRow(
+            m.status, m.role, m.relationshipType
+        )
+        FROM family_member m
+        WHERE m.id = :id
+        """)
+    Optional<FamilyMemberStateRow> findStateById(@Param("id") Long id);
+
     /**
      * 특정 Family의 구성원 수를 계산합니다.
      *
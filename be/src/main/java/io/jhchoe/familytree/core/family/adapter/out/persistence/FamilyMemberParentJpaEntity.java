@@ -0,0 +1,102 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 구성원 간 부모·자녀 관계 JPA 엔티티입니다.
+ * 자녀 구성원과 부모 구성원을 한 행으로 저장하며, 조상·자손 조회는 {@link FamilyMemberAdapter#findLineage}가 담당합니다.
+ * 행은 {@link FamilyMemberParentSynchronizer}가 구성원 관계 타입에서 만든 친족 그래프와 같게 유지합니다.
+ * Family 단위로 여러 행을 함께 추가하므로 pooled 시퀀스로 ID를 미리 할당받아 JDBC 배치 INSERT로 저장합니다.
+ */
+@Entity
+@Table(
+    name = "family_member_parent",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_member_parent",
+        columnNames = {"family_id", "child_member_id", "parent_member_id"}
+    ),
+    indexes = @Index(name = "idx_member_parent_parent", columnList = "family_id, parent_member_id, child_member_id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FamilyMemberParentJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "family_member_parent_id_gen")
+    @SequenceGenerator(
+        name = "family_member_parent_id_gen",
+        sequenceName = "family_member_parent_id_seq",
+        allocationSize = 50
+    )
+    private Long id;
+
+    @Column(name = "family_id", nullable = false)
+    private Long familyId;
+
+    @Column(name = "child_member_id", nullable = false)
+    private Long childMemberId;
+
+    @Column(name = "parent_member_id", nullable = false)
+    private Long parentMemberId;
+
+    @Column(name = "generations", nullable = false)
+    private int generations;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    private FamilyMemberParentJpaEntity(
+        final Long familyId,
+        final Long childMemberId,
+        final Long parentMemberId,
+        final int generations,
+        final LocalDateTime createdAt
+    ) {
+        this.familyId = familyId;
+        this.childMemberId = childMemberId;
+        this.parentMemberId = parentMemberId;
+        this.generations = generations;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 새 부모·자녀 관계 엔티티를 생성합니다.
+     *
+     * @param familyId       Family ID
+     * @param childMemberId  자녀 구성원 ID
+     * @param parentMemberId 부모 구성원 ID
+     * @param generations    두 구성원 사이의 세대 수 (직접 부모·자녀는 1)
+     * @return 생성된 엔티티
+     */
+    public static FamilyMemberParentJpaEntity of(
+        final Long familyId,
+        final Long childMemberId,
+        final Long parentMemberId,
+        final int generations
+    ) {
+        Objects.requireNonNull(familyId, "familyId must not be null");
+        Objects.requireNonNull(childMemberId, "childMemberId must not be null");
+        Objects.requireNonNull(parentMemberId, "parentMemberId must not be null");
+        if (childMemberId.equals(parentMemberId)) {
+            throw new IllegalArgumentException("구성원은 자기 자신의 부모가 될 수 없습니다.");
+        }
+        if (generations < 1) {
+            throw new IllegalArgumentException("generations must be positive");
+        }
+
+        return new FamilyMemberParentJpaEntity(familyId, childMemberId, parentMemberId, generations, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,29 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+/**
+ * 구성원 부모·자녀 관계 JPA 리포지토리입니다.
+ * 조상·자손 재귀 조회는 {@link FamilyMemberAdapter}가 JdbcTemplate으로 수행합니다.
+ */
+public interface FamilyMemberParentJpaRepository extends JpaRepository<FamilyMemberParentJpaEntity, Long> {
+
+    /**
+     * Family의 모든 부모·자녀 관계를 조회합니다.
+     *
+     * @param familyId Family ID
+     * @return 부모·자녀 관계 목록
+     */
+    List<FamilyMemberParentJpaEntity> findAllByFamilyId(Long familyId);
+
+    /**
+     * 저장된 부모·자녀 관계가 하나라도 있는지 확인합니다.
+     * 전체 행 수를 세지 않도록 첫 행만 확인합니다.
+     *
+     * @return 관계가 있으면 true
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM family_member_parent)", nativeQuery = true)
+    boolean existsAny();
+}
@@ -0,0 +1,89 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+import io.jhchoe.familytree.core.family.config.FamilyMemberParentProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구성원 부모·자녀 관계 테이블을 구성원 관계 타입과 비교하여 보정하는 백그라운드 작업입니다.
+ *
+ * <p>관계는 {@link FamilyMemberAdapter}가 구성원 저장·수정 시 {@link FamilyMemberParentSynchronizer}로 갱신하지만,
+ * 테이블 추가 이전의 데이터나 구성원 행을 직접 수정한 경우에는 채워지지 않습니다.
+ * 관계 테이블이 비어 있으면 기동 직후 한 번 채우고, 이후에는 주기적으로 어긋난 Family만 수정합니다.
+ * 보정은 Family 행을 잠그고 실행되며 멱등하므로 여러 노드에서 동시에 실행되어도 결과가 같습니다.</p>
+ */
+@Slf4j
+@Component
+public class FamilyMemberParentReconciler {
+
+    private final FamilyJpaRepository familyJpaRepository;
+    private final FamilyMemberParentJpaRepository familyMemberParentJpaRepository;
+    private final FamilyMemberParentSynchronizer familyMemberParentSynchronizer;
+    private final FamilyMemberParentProperties properties;
+    private final Counter reconciledCounter;
+
+    public FamilyMemberParentReconciler(
+        final FamilyJpaRepository familyJpaRepository,
+        final FamilyMemberParentJpaRepository familyMemberParentJpaRepository,
+        final FamilyMemberParentSynchronizer familyMemberParentSynchronizer,
+        final FamilyMemberParentProperties properties,
+        final MeterRegistry meterRegistry
+    ) {
+        this.familyJpaRepository = familyJpaRepository;
+        this.familyMemberParentJpaRepository = familyMemberParentJpaRepository;
+        this.familyMemberParentSynchronizer = familyMemberParentSynchronizer;
+        this.properties = properties;
+        this.reconciledCounter = Counter.builder("family.member.parent.reconciled")
+            .description("부모·자녀 관계 보정 작업으로 추가·수정·삭제된 관계 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 관계 테이블이 비어 있으면 기동 직후 기존 구성원의 관계를 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!familyMemberParentJpaRepository.existsAny()) {
+            reconcile();
+        }
+    }
+
+    /**
+     * 삭제되지 않은 모든 Family의 부모·자녀 관계를 보정합니다.
+     *
+     * @return 추가·수정·삭제된 관계 수
+     */
+    @Scheduled(cron = "${family-member.parent.reconcile-cron:0 0 5 * * *}")
+    public int reconcile() {
+        if (!properties.isReconcileEnabled()) {
+            return 0;
+        }
+
+        final int chunkSize = Math.max(properties.getReconcileChunkSize(), 1);
+        int reconciled = 0;
+        long cursorId = 0L;
+        List<Long> familyIds;
+        do {
+            familyIds = familyJpaRepository.findIdsAfter(cursorId, Limit.of(chunkSize));
+            for (Long familyId : familyIds) {
+                reconciled += familyMemberParentSynchronizer.sync(familyId);
+            }
+            if (!familyIds.isEmpty()) {
+                cursorId = familyIds.get(familyIds.size() - 1);
+            }
+        } while (familyIds.size() == chunkSize);
+
+        if (reconciled > 0) {
+            reconciledCounter.increment(reconciled);
+            log.warn("부모·자녀 관계 보정: [변경된 관계 수: {}]", reconciled);
+        }
+        return reconciled;
+    }
+}
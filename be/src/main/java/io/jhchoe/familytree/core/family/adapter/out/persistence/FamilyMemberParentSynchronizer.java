@@ -0,0 +1,90 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+import io.jhchoe.familytree.core.family.domain.KinshipGraph;
+import io.jhchoe.familytree.core.family.domain.KinshipParentLink;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Family의 부모·자녀 관계 테이블을 구성원 관계 타입과 같게 맞추는 컴포넌트입니다.
+ *
+ * <p>구성원 목록으로 {@link KinshipGraph#fromMembers}와 같은 친족 그래프를 만들고,
+ * {@link KinshipGraph#findParentLinks()}의 관계와 저장된 행을 비교하여 달라진 행만 추가·수정·삭제합니다.
+ * 같은 Family를 동시에 갱신하지 않도록 Family 행을 잠근 뒤 구성원을 읽습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FamilyMemberParentSynchronizer {
+
+    private final FamilyJpaRepository familyJpaRepository;
+    private final FamilyMemberJpaRepository familyMemberJpaRepository;
+    private final FamilyMemberParentJpaRepository familyMemberParentJpaRepository;
+
+    /**
+     * Family의 부모·자녀 관계를 현재 구성원 관계 타입에 맞게 갱신합니다.
+     * 호출한 트랜잭션이 있으면 그 트랜잭션 안에서 실행됩니다.
+     *
+     * @param familyId Family ID
+     * @return 추가·수정·삭제된 관계 수
+     */
+    @Transactional
+    public int sync(final Long familyId) {
+        Objects.requireNonNull(familyId, "familyId must not be null");
+
+        if (familyJpaRepository.lockById(familyId).isEmpty()) {
+            return 0;
+        }
+
+        final List<KinshipParentLink> links = KinshipGraph.fromMembers(
+            familyMemberJpaRepository.findAllByFamilyId(familyId).stream()
+                .map(FamilyMemberJpaEntity::toFamilyMember)
+                .toList()
+        ).findParentLinks();
+
+        final Map<EdgeKey, FamilyMemberParentJpaEntity> stored = new HashMap<>();
+        for (FamilyMemberParentJpaEntity edge : familyMemberParentJpaRepository.findAllByFamilyId(familyId)) {
+            stored.put(new EdgeKey(edge.getChildMemberId(), edge.getParentMemberId()), edge);
+        }
+
+        final List<FamilyMemberParentJpaEntity> removed = new ArrayList<>();
+        final List<FamilyMemberParentJpaEntity> added = new ArrayList<>();
+        for (KinshipParentLink link : links) {
+            final FamilyMemberParentJpaEntity edge = stored.remove(new EdgeKey(link.childMemberId(), link.parentMemberId()));
+            if (edge != null && edge.getGenerations() == link.generations()) {
+                continue;
+            }
+            if (edge != null) {
+                removed.add(edge);
+            }
+            added.add(FamilyMemberParentJpaEntity.of(
+                familyId, link.childMemberId(), link.parentMemberId(), link.generations()
+            ));
+        }
+        removed.addAll(stored.values());
+
+        // 세대 수가 바뀐 관계는 삭제 후 다시 추가하므로 유니크 제약과 부딪히지 않도록 삭제를 먼저 반영한다
+        if (!removed.isEmpty()) {
+            familyMemberParentJpaRepository.deleteAllInBatch(removed);
+        }
+        if (!added.isEmpty()) {
+            familyMemberParentJpaRepository.saveAll(added);
+        }
+
+        final int changed = removed.size() + added.size();
+        if (changed > 0) {
+            log.debug("부모·자녀 관계 갱신: [Family ID: {}] [삭제: {}] [추가: {}]", familyId, removed.size(), added.size());
+        }
+        return changed;
+    }
+
+    private record EdgeKey(long childMemberId, long parentMemberId) {
+    }
+}
@@ -0,0 +1,20 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+import io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
+
+/**
+ * 구성원 수정 전에 확인하는 구성원의 상태·역할·관계 타입입니다.
+ * 구성원 수 증감과 부모·자녀 관계 갱신이 필요한지 판단하는 데 사용합니다.
+ *
+ * @param status 구성원 상태
+ * @param role 구성원 역할
+ * @param relationshipType 소유자 기준 관계 타입 (없으면 null)
+ */
+public record FamilyMemberStateRow(
+    FamilyMemberStatus status,
+    FamilyMemberRole role,
+    FamilyMemberRelationshipType relationshipType
+) {
+}
@@ -29,6 +29,25 @@ public class FamilyMemberStatusHistoryAdapter implements SaveFamilyMemberStatusH
         return familyMemberStatusHistoryJpaRepository.save(entity).getId();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Long> saveAll(List<FamilyMemberStatusHistory> histories) {
+        Objects.requireNonNull(histories, "histories must not be null");
+
+        if (histories.isEmpty()) {
+            return List.of();
+        }
+
+        List<FamilyMemberStatusHistoryJpaEntity> entities = histories.stream()
+                .map(FamilyMemberStatusHistoryJpaEntity::from)
+                .toList();
+        return familyMemberStatusHistoryJpaRepository.saveAll(entities).stream()
+                .map(FamilyMemberStatusHistoryJpaEntity::getId)
+                .toList();
+    }
+
     /**
      * {@inheritDoc}
      */
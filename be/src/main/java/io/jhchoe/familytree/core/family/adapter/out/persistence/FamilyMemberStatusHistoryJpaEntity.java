@@ -12,6 +12,8 @@ import lombok.NoArgsConstructor;
 
 /**
  * FamilyMemberStatusHistoryJpaEntity 클래스는 구성원 상태 변경 이력을 DB에 저장하기 위한 엔티티입니다.
+ * <p>
+ * 추가만 되는 이력 테이블이므로 pooled 시퀀스로 ID를 미리 할당받아 여러 건을 JDBC 배치 INSERT로 저장합니다.
  */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -19,7 +21,12 @@ import lombok.NoArgsConstructor;
 public class FamilyMemberStatusHistoryJpaEntity extends CreatorBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "family_member_status_history_id_gen")
+    @SequenceGenerator(
+        name = "family_member_status_history_id_gen",
+        sequenceName = "family_member_status_history_id_seq",
+        allocationSize = 50
+    )
     private Long id;
 
     @Column(name = "family_id", nullable = false)
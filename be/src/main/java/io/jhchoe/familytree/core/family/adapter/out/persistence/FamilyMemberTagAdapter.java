@@ -13,12 +13,14 @@ import org.springframework.stereotype.Component;
 /**
  * FamilyMemberTag 아웃바운드 어댑터 클래스입니다.
  * 태그 관련 모든 outbound port를 구현합니다.
+ * 태그를 저장·삭제하면 태그가 속한 Family의 내용 버전을 같은 트랜잭션에서 증가시킵니다.
  */
 @Component
 @RequiredArgsConstructor
 public class FamilyMemberTagAdapter implements SaveFamilyMemberTagPort, FindFamilyMemberTagPort, DeleteFamilyMemberTagPort {
 
     private final FamilyMemberTagJpaRepository familyMemberTagJpaRepository;
+    private final FamilyJpaRepository familyJpaRepository;
 
     /**
      * {@inheritDoc}
@@ -29,6 +31,7 @@ public class FamilyMemberTagAdapter implements SaveFamilyMemberTagPort, FindFami
 
         FamilyMemberTagJpaEntity entity = FamilyMemberTagJpaEntity.from(tag);
         FamilyMemberTagJpaEntity savedEntity = familyMemberTagJpaRepository.save(entity);
+        familyJpaRepository.bumpContentVersion(tag.getFamilyId());
         return savedEntity.getId();
     }
 
@@ -84,6 +87,8 @@ public class FamilyMemberTagAdapter implements SaveFamilyMemberTagPort, FindFami
     public void deleteById(Long id) {
         Objects.requireNonNull(id, "id must not be null");
 
+        // 삭제 후에는 태그의 Family를 찾을 수 없으므로 먼저 버전을 증가
+        familyJpaRepository.bumpContentVersionByTagId(id);
         familyMemberTagJpaRepository.deleteById(id);
     }
 
@@ -12,6 +12,10 @@ import org.springframework.stereotype.Component;
 /**
  * FamilyMemberTagMapping 아웃바운드 어댑터 클래스입니다.
  * 태그 매핑 관련 outbound port를 구현합니다.
+ *
+ * <p>매핑 엔티티는 pooled 시퀀스로 ID를 미리 할당받으므로, 여러 매핑을 저장하면 Hibernate가
+ * flush 시점에 INSERT를 JDBC 배치로 묶어 전송합니다.
+ * 매핑을 저장·삭제하면 구성원이 속한 Family의 내용 버전을 같은 트랜잭션에서 증가시킵니다.</p>
  */
 @Component
 @RequiredArgsConstructor
@@ -21,6 +25,7 @@ public class FamilyMemberTagMappingAdapter implements
     FindFamilyMemberTagMappingPort {
 
     private final FamilyMemberTagMappingJpaRepository familyMemberTagMappingJpaRepository;
+    private final FamilyJpaRepository familyJpaRepository;
 
     /**
      * {@inheritDoc}
@@ -33,11 +38,12 @@ public class FamilyMemberTagMappingAdapter implements
             return;
         }
 
-        List<FamilyMemberTagMappingJpaEntity> entities = mappings.stream()
-            .map(FamilyMemberTagMappingJpaEntity::from)
-            .toList();
-
-        familyMemberTagMappingJpaRepository.saveAll(entities);
+        familyMemberTagMappingJpaRepository.saveAll(
+            mappings.stream().map(FamilyMemberTagMappingJpaEntity::from).toList()
+        );
+        familyJpaRepository.bumpContentVersionByMemberIds(
+            mappings.stream().map(FamilyMemberTagMapping::getMemberId).distinct().toList()
+        );
     }
 
     /**
@@ -47,9 +53,26 @@ public class FamilyMemberTagMappingAdapter implements
     public void deleteAllByMemberId(final Long memberId) {
         Objects.requireNonNull(memberId, "memberId must not be null");
 
+        familyJpaRepository.bumpContentVersionByMemberIds(List.of(memberId));
         familyMemberTagMappingJpaRepository.deleteAllByMemberId(memberId);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteAllByIds(final List<Long> mappingIds) {
+        Objects.requireNonNull(mappingIds, "mappingIds must not be null");
+
+        if (mappingIds.isEmpty()) {
+            return;
+        }
+
+        // 삭제 후에는 매핑의 Family를 찾을 수 없으므로 먼저 버전을 증가
+        familyJpaRepository.bumpContentVersionByTagMappingIds(mappingIds);
+        familyMemberTagMappingJpaRepository.deleteAllByIdIn(mappingIds);
+    }
+
     /**
      * {@inheritDoc}
      */
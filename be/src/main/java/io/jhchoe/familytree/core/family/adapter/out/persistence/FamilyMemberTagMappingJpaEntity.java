@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -16,6 +17,7 @@ import lombok.NoArgsConstructor;
 /**
  * FamilyMemberTagMapping JPA 엔티티입니다.
  * 멤버와 태그 간의 다대다 매핑을 저장합니다.
+ * 여러 멤버의 매핑을 한 번에 추가하므로 pooled 시퀀스로 ID를 미리 할당받아 JDBC 배치 INSERT로 저장합니다.
  */
 @Entity
 @Table(name = "family_member_tag_mapping")
@@ -24,7 +26,12 @@ import lombok.NoArgsConstructor;
 public class FamilyMemberTagMappingJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "family_member_tag_mapping_id_gen")
+    @SequenceGenerator(
+        name = "family_member_tag_mapping_id_gen",
+        sequenceName = "family_member_tag_mapping_id_seq",
+        allocationSize = 50
+    )
     private Long id;
 
     @Column(name = "tag_id", nullable = false)
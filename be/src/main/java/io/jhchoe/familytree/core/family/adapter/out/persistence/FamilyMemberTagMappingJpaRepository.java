@@ -24,6 +24,15 @@ public interface FamilyMemberTagMappingJpaRepository extends JpaRepository<Famil
     @Query("DELETE FROM FamilyMemberTagMappingJpaEntity m WHERE m.memberId = :memberId")
     void deleteAllByMemberId(@Param("memberId") Long memberId);
 
+    /**
+     * 지정된 ID의 태그 매핑을 단일 DELETE 쿼리로 삭제합니다.
+     *
+     * @param ids 매핑 ID 목록
+     */
+    @Modifying
+    @Query("DELETE FROM FamilyMemberTagMappingJpaEntity m WHERE m.id IN :ids")
+    void deleteAllByIdIn(@Param("ids") List<Long> ids);
+
     /**
      * 여러 멤버의 모든 태그 매핑을 조회합니다.
      * <p>
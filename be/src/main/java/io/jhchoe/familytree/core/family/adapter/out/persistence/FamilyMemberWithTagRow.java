@@ -0,0 +1,16 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+/**
+ * 구성원과 태그 매핑을 LEFT JOIN으로 조회한 한 행을 담는 프로젝션입니다.
+ * 태그가 없는 구성원은 mappedTagId와 tag가 null이고, 삭제된 태그를 가리키는 매핑은 tag만 null입니다.
+ *
+ * @param member      구성원 엔티티
+ * @param mappedTagId 매핑된 태그 ID
+ * @param tag         태그 엔티티
+ */
+public record FamilyMemberWithTagRow(
+    FamilyMemberJpaEntity member,
+    Long mappedTagId,
+    FamilyMemberTagJpaEntity tag
+) {
+}
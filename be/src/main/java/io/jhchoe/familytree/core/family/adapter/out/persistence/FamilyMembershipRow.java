@@ -0,0 +1,10 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+/**
+ * Family와 사용자의 구성원 엔티티를 한 번에 조회한 결과입니다.
+ *
+ * @param family Family 엔티티
+ * @param member 구성원 엔티티 (구성원이 아니면 null)
+ */
+public record FamilyMembershipRow(FamilyJpaEntity family, FamilyMemberJpaEntity member) {
+}
@@ -0,0 +1,211 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+import io.jhchoe.familytree.core.family.config.FamilyNameIndexProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 삭제되지 않은 Family의 가족명을 메모리에 정렬해 두는 색인입니다.
+ * 가족명 중복 확인과 앞부분 일치 자동완성을 저장소 조회 없이 처리합니다.
+ * 중복 확인은 모든 Family의 가족명을, 자동완성은 공개 Family의 가족명만 사용하므로 두 정렬 맵을 따로 유지합니다.
+ *
+ * <p>가족명은 {@link FamilyAdapter}의 저장·수정 메서드를 거쳐서만 바뀌므로 그 시점에 색인을 갱신합니다.
+ * 트랜잭션 안에서 변경된 경우 커밋된 후에만 반영하여, 롤백된 가족명이 색인에 남지 않게 합니다.
+ * 다른 노드에서 변경된 가족명은 {@link FamilyNameIndexLoader}가 색인을 다시 적재해야 반영됩니다.
+ * 적재가 끝나기 전에는 {@link #isReady()}가 false이며, 호출자는 저장소를 직접 조회해야 합니다.</p>
+ */
+@Slf4j
+@Component
+public class FamilyNameIndex {
+
+    private static final String METRIC_PREFIX = "family.name.index";
+
+    private final FamilyNameIndexProperties properties;
+    // 가족명 → 같은 이름을 가진 Family 수 (가족명에는 유일 제약이 없어 중복이 있을 수 있다)
+    private final NavigableMap<String, Integer> nameCounts;
+    // 가족명 → 같은 이름을 가진 공개 Family 수
+    private final NavigableMap<String, Integer> publicNameCounts;
+    private final Map<Long, FamilyNameRow> rowsById;
+    private final Counter reloadCounter;
+    private volatile boolean ready;
+    // 적재 도중 커밋된 변경은 적재 결과에 없을 수 있으므로 모아 두었다가 적재 결과에 다시 반영한다
+    private List<FamilyNameRow> pendingChanges;
+
+    public FamilyNameIndex(final FamilyNameIndexProperties properties, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.nameCounts = new TreeMap<>();
+        this.publicNameCounts = new TreeMap<>();
+        this.rowsById = new HashMap<>();
+        this.reloadCounter = Counter.builder(METRIC_PREFIX + ".reloads")
+            .description("가족명 색인 전체 적재 횟수")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, FamilyNameIndex::size)
+            .description("가족명 색인에 보관된 Family 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 색인이 적재되어 조회에 사용할 수 있는지 반환합니다.
+     *
+     * @return 색인 사용 가능 여부
+     */
+    public boolean isReady() {
+        return properties.isEnabled() && ready;
+    }
+
+    /**
+     * 가족명과 정확히 일치하는 Family가 있는지 확인합니다.
+     *
+     * @param name 가족명
+     * @return 존재 여부
+     */
+    public boolean contains(final String name) {
+        Objects.requireNonNull(name, "name must not be null");
+
+        synchronized (nameCounts) {
+            return nameCounts.containsKey(name);
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 공개 Family의 가족명을 사전순으로 조회합니다. 같은 가족명은 한 번만 반환합니다.
+     *
+     * @param prefix 접두어
+     * @param limit  조회할 최대 개수
+     * @return 공개 Family의 가족명 목록
+     */
+    public List<String> findPublicByPrefix(final String prefix, final int limit) {
+        Objects.requireNonNull(prefix, "prefix must not be null");
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+
+        final List<String> names = new ArrayList<>(limit);
+        synchronized (nameCounts) {
+            for (String name : publicNameCounts.tailMap(prefix, true).keySet()) {
+                if (!name.startsWith(prefix) || names.size() == limit) {
+                    break;
+                }
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 저장되거나 이름·공개 여부가 변경된 Family를 색인에 반영합니다.
+     * 트랜잭션이 진행 중이면 커밋된 후에 반영합니다.
+     *
+     * @param familyId Family ID
+     * @param name     현재 가족명
+     * @param isPublic 현재 공개 여부
+     */
+    public void put(final Long familyId, final String name, final Boolean isPublic) {
+        Objects.requireNonNull(familyId, "familyId must not be null");
+        Objects.requireNonNull(name, "name must not be null");
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        final FamilyNameRow change = new FamilyNameRow(familyId, name, isPublic);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    /**
+     * 저장소에서 조회한 가족명으로 색인 전체를 교체합니다.
+     * 적재를 시작한 뒤 반영된 변경은 적재 결과보다 최신일 수 있으므로 적재 결과 위에 다시 반영합니다.
+     *
+     * @param loader 삭제되지 않은 모든 Family의 ID, 가족명, 공개 여부를 조회하는 함수
+     */
+    public void reload(final Supplier<List<FamilyNameRow>> loader) {
+        Objects.requireNonNull(loader, "loader must not be null");
+
+        synchronized (nameCounts) {
+            pendingChanges = new ArrayList<>();
+        }
+        final List<FamilyNameRow> rows;
+        try {
+            rows = loader.get();
+        } catch (RuntimeException e) {
+            synchronized (nameCounts) {
+                pendingChanges = null;
+            }
+            throw e;
+        }
+
+        synchronized (nameCounts) {
+            nameCounts.clear();
+            publicNameCounts.clear();
+            rowsById.clear();
+            rows.forEach(this::applyLocked);
+            pendingChanges.forEach(this::applyLocked);
+            pendingChanges = null;
+            ready = true;
+        }
+        reloadCounter.increment();
+        log.info("가족명 색인 적재 완료: [Family 수: {}]", rows.size());
+    }
+
+    /**
+     * 색인에 보관된 Family 수를 반환합니다.
+     *
+     * @return Family 수
+     */
+    public int size() {
+        synchronized (nameCounts) {
+            return rowsById.size();
+        }
+    }
+
+    private void apply(final FamilyNameRow change) {
+        synchronized (nameCounts) {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            applyLocked(change);
+        }
+    }
+
+    private void applyLocked(final FamilyNameRow row) {
+        final FamilyNameRow previous = rowsById.put(row.id(), row);
+        if (row.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            decrement(nameCounts, previous.name());
+            if (Boolean.TRUE.equals(previous.isPublic())) {
+                decrement(publicNameCounts, previous.name());
+            }
+        }
+        nameCounts.merge(row.name(), 1, Integer::sum);
+        if (Boolean.TRUE.equals(row.isPublic())) {
+            publicNameCounts.merge(row.name(), 1, Integer::sum);
+        }
+    }
+
+    private static void decrement(final NavigableMap<String, Integer> counts, final String name) {
+        counts.computeIfPresent(name, (key, count) -> count == 1 ? null : count - 1);
+    }
+}
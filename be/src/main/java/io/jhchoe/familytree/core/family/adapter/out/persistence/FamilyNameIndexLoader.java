@@ -0,0 +1,64 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+import io.jhchoe.familytree.core.family.config.FamilyNameIndexProperties;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link FamilyNameIndex}를 애플리케이션 기동 시 적재하고, 주기적으로 다시 적재하는 백그라운드 작업입니다.
+ *
+ * <p>이 노드를 거친 변경은 색인에 즉시 반영되므로, 주기적 적재는 다른 노드에서 저장·수정된 가족명과
+ * 저장소를 직접 수정한 경우를 반영하기 위한 것입니다. ID 범위 단위로 ID와 가족명만 조회합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FamilyNameIndexLoader {
+
+    private final FamilyJpaRepository familyJpaRepository;
+    private final FamilyNameIndex familyNameIndex;
+    private final FamilyNameIndexProperties properties;
+
+    /**
+     * 애플리케이션 기동이 끝나면 색인을 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        load();
+    }
+
+    /**
+     * 삭제되지 않은 모든 Family의 가족명으로 색인을 다시 적재합니다.
+     *
+     * @return 적재된 Family 수, 색인이 비활성화되어 있으면 0
+     */
+    @Scheduled(cron = "${family-name.index.reload-cron:0 */5 * * * *}")
+    public int load() {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+
+        final int chunkSize = Math.max(properties.getLoadChunkSize(), 1);
+        final List<FamilyNameRow> loaded = new ArrayList<>();
+        familyNameIndex.reload(() -> {
+            long cursorId = 0L;
+            List<FamilyNameRow> chunk;
+            do {
+                chunk = familyJpaRepository.findNamesAfter(cursorId, Limit.of(chunkSize));
+                loaded.addAll(chunk);
+                if (!chunk.isEmpty()) {
+                    cursorId = chunk.get(chunk.size() - 1).id();
+                }
+            } while (chunk.size() == chunkSize);
+            return loaded;
+        });
+        return loaded.size();
+    }
+}
@@ -0,0 +1,11 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+/**
+ * 가족명 색인 적재용으로 Family ID, 이름, 공개 여부만 조회한 결과입니다.
+ *
+ * @param id Family ID
+ * @param name 가족명
+ * @param isPublic 공개 여부 (자동완성 후보는 공개 Family만 사용)
+ */
+public record FamilyNameRow(Long id, String name, Boolean isPublic) {
+}
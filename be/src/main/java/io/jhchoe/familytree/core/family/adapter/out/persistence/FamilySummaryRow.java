@@ -0,0 +1,12 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
+
+/**
+ * 사용자가 소속된 Family와 그 사용자의 역할을 한 번에 조회한 결과입니다.
+ *
+ * @param family Family 엔티티 (구성원 수 포함)
+ * @param role 사용자의 역할
+ */
+public record FamilySummaryRow(FamilyJpaEntity family, FamilyMemberRole role) {
+}
@@ -0,0 +1,88 @@
+package io.jhchoe.familytree.core.family.application.port.in;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 여러 멤버의 태그를 한 번에 할당하는 명령 객체입니다.
+ * <p>
+ * 멤버별로 전체 교체 방식으로 동작합니다: 빈 tagIds 전달 시 해당 멤버의 모든 태그가 해제됩니다.
+ *
+ * @param familyId    가족 ID (필수)
+ * @param assignments 멤버별 태그 할당 목록 (1개 이상, 최대 100개, 멤버 중복 불가)
+ */
+public record BulkModifyFamilyMemberTagMappingCommand(Long familyId, List<MemberTagAssignment> assignments) {
+
+    private static final int MAX_MEMBER_COUNT = 100;
+    private static final int MAX_TAG_COUNT = 10;
+
+    /**
+     * 여러 멤버의 태그 할당 명령 객체를 생성합니다.
+     *
+     * @param familyId    가족 ID
+     * @param assignments 멤버별 태그 할당 목록
+     * @throws IllegalArgumentException 유효성 검증 실패 시
+     */
+    public BulkModifyFamilyMemberTagMappingCommand {
+        validateFamilyId(familyId);
+        validateAssignments(assignments);
+        assignments = List.copyOf(assignments);
+    }
+
+    /**
+     * 한 멤버에 할당할 태그 목록입니다.
+     *
+     * @param memberId 멤버 ID (필수)
+     * @param tagIds   할당할 태그 ID 목록 (빈 목록이면 모든 태그 해제, 최대 10개)
+     */
+    public record MemberTagAssignment(Long memberId, List<Long> tagIds) {
+
+        /**
+         * 멤버 태그 할당 정보를 생성합니다.
+         *
+         * @param memberId 멤버 ID
+         * @param tagIds   할당할 태그 ID 목록
+         * @throws IllegalArgumentException 유효성 검증 실패 시
+         */
+        public MemberTagAssignment {
+            if (memberId == null) {
+                throw new IllegalArgumentException("멤버 ID는 필수입니다.");
+            }
+            if (memberId <= 0) {
+                throw new IllegalArgumentException("유효하지 않은 멤버 ID입니다.");
+            }
+            tagIds = tagIds == null ? List.of() : List.copyOf(tagIds);
+            if (tagIds.size() > MAX_TAG_COUNT) {
+                throw new IllegalArgumentException("한 멤버에 최대 10개의 태그만 할당할 수 있습니다.");
+            }
+        }
+    }
+
+    private static void validateFamilyId(final Long familyId) {
+        if (familyId == null) {
+            throw new IllegalArgumentException("가족 ID는 필수입니다.");
+        }
+        if (familyId <= 0) {
+            throw new IllegalArgumentException("유효하지 않은 가족 ID입니다.");
+        }
+    }
+
+    private static void validateAssignments(final List<MemberTagAssignment> assignments) {
+        if (assignments == null || assignments.isEmpty()) {
+            throw new IllegalArgumentException("태그를 할당할 멤버는 1명 이상이어야 합니다.");
+        }
+        if (assignments.size() > MAX_MEMBER_COUNT) {
+            throw new IllegalArgumentException("한 번에 최대 100명의 멤버 태그만 변경할 수 있습니다.");
+        }
+        Set<Long> memberIds = new HashSet<>();
+        for (MemberTagAssignment assignment : assignments) {
+            if (assignment == null) {
+                throw new IllegalArgumentException("멤버 태그 할당 정보는 null일 수 없습니다.");
+            }
+            if (!memberIds.add(assignment.memberId())) {
+                throw new IllegalArgumentException("같은 멤버가 중복되었습니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.jhchoe.familytree.core.family.application.port.in;
+
+/**
+ * Family 홈 구성원 목록의 내용 버전과 조회자에게 보이는 범위를 담는 객체입니다.
+ * 같은 버전과 범위라면 조회자가 달라도 구성원 목록이 같습니다.
+ *
+ * @param version                 Family 내용 버전
+ * @param includesInactiveMembers 활성 상태가 아닌 구성원도 보이는지 여부 (ADMIN 이상)
+ */
+public record FamilyHomeMembersVersion(
+    long version,
+    boolean includesInactiveMembers
+) {
+}
@@ -0,0 +1,25 @@
+package io.jhchoe.familytree.core.family.application.port.in;
+
+import io.jhchoe.familytree.core.family.domain.KinshipRelative;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 구성원의 조상과 자손 목록을 함께 담는 DTO입니다.
+ *
+ * @param memberId    기준 구성원 ID
+ * @param ancestors   조상 목록 (세대가 가까운 순)
+ * @param descendants 자손 목록 (세대가 가까운 순)
+ */
+public record FamilyLineageInfo(
+    Long memberId,
+    List<KinshipRelative> ancestors,
+    List<KinshipRelative> descendants
+) {
+
+    public FamilyLineageInfo {
+        Objects.requireNonNull(memberId, "memberId must not be null");
+        ancestors = ancestors != null ? ancestors : List.of();
+        descendants = descendants != null ? descendants : List.of();
+    }
+}
@@ -0,0 +1,57 @@
+package io.jhchoe.familytree.core.family.application.port.in;
+
+import lombok.Getter;
+
+/**
+ * 공지사항 피드를 커서 기반으로 조회하기 위한 쿼리 객체입니다.
+ */
+@Getter
+public class FindAnnouncementFeedQuery {
+
+    private final Long familyId;
+    private final Long currentUserId;
+    private final String cursor;
+    private final int size;
+
+    /**
+     * 공지사항 피드 조회 쿼리 객체를 생성합니다.
+     *
+     * @param familyId      Family ID
+     * @param currentUserId 현재 로그인한 사용자 ID
+     * @param cursor        페이징을 위한 커서 값 (null인 경우 첫 페이지)
+     * @param size          페이지 크기
+     */
+    public FindAnnouncementFeedQuery(
+        Long familyId,
+        Long currentUserId,
+        String cursor,
+        int size
+    ) {
+        validateFamilyId(familyId);
+        validateCurrentUserId(currentUserId);
+        validateSize(size);
+
+        this.familyId = familyId;
+        this.currentUserId = currentUserId;
+        this.cursor = cursor;
+        this.size = size;
+    }
+
+    private void validateFamilyId(Long familyId) {
+        if (familyId == null || familyId <= 0) {
+            throw new IllegalArgumentException("유효한 Family ID가 필요합니다.");
+        }
+    }
+
+    private void validateCurrentUserId(Long currentUserId) {
+        if (currentUserId == null || currentUserId <= 0) {
+            throw new IllegalArgumentException("유효한 현재 사용자 ID가 필요합니다.");
+        }
+    }
+
+    private void validateSize(int size) {
+        if (size <= 0 || size > 100) {
+            throw new IllegalArgumentException("페이지 크기는 1에서 100 사이여야 합니다.");
+        }
+    }
+}
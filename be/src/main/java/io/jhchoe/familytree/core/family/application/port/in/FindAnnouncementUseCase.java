@@ -1,6 +1,7 @@
 package io.jhchoe.familytree.core.family.application.port.in;
 
 import io.jhchoe.familytree.core.family.domain.Announcement;
+import io.jhchoe.familytree.core.family.domain.CursorPage;
 import java.util.List;
 
 /**
@@ -16,6 +17,14 @@ public interface FindAnnouncementUseCase {
      */
     List<Announcement> findAll(FindAnnouncementQuery query);
 
+    /**
+     * 특정 가족의 공지사항을 최신순으로 커서 기반 페이징하여 조회합니다.
+     *
+     * @param query 조회에 필요한 입력 데이터를 포함하는 쿼리 객체
+     * @return 커서 기반 페이징된 공지사항 목록
+     */
+    CursorPage<Announcement> findFeed(FindAnnouncementFeedQuery query);
+
     /**
      * 특정 ID의 공지사항을 조회합니다.
      *
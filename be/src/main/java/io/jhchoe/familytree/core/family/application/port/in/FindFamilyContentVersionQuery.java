@@ -0,0 +1,25 @@
+package io.jhchoe.familytree.core.family.application.port.in;
+
+import java.util.Objects;
+
+/**
+ * Family 내용 버전 조회 쿼리 객체입니다.
+ *
+ * @param familyId      조회할 Family ID
+ * @param currentUserId 현재 사용자 ID
+ */
+public record FindFamilyContentVersionQuery(
+    Long familyId,
+    Long currentUserId
+) {
+    public FindFamilyContentVersionQuery {
+        Objects.requireNonNull(familyId, "familyId must not be null");
+        Objects.requireNonNull(currentUserId, "currentUserId must not be null");
+        if (familyId <= 0) {
+            throw new IllegalArgumentException("familyId must be positive");
+        }
+        if (currentUserId <= 0) {
+            throw new IllegalArgumentException("currentUserId must be positive");
+        }
+    }
+}
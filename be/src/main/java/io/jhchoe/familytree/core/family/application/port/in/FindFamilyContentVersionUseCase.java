@@ -0,0 +1,37 @@
+package io.jhchoe.familytree.core.family.application.port.in;
+
+import io.jhchoe.familytree.core.family.domain.FamilyContentVersion;
+import java.util.List;
+
+/**
+ * Family 조회 결과가 바뀌었는지 판단하기 위한 내용 버전 조회 UseCase 인터페이스입니다.
+ * 구성원·태그·공지사항을 읽지 않고 버전만 조회하므로, 조건부 요청(If-None-Match)에 응답하는 데 사용합니다.
+ */
+public interface FindFamilyContentVersionUseCase {
+
+    /**
+     * Family의 내용 버전을 조회합니다.
+     *
+     * @param query 조회할 Family와 현재 사용자 정보
+     * @return 내용 버전
+     * @throws io.jhchoe.familytree.common.exception.FTException 현재 사용자가 구성원이 아니거나 Family가 없는 경우
+     */
+    long find(FindFamilyContentVersionQuery query);
+
+    /**
+     * Family 홈 구성원 목록의 내용 버전과 현재 사용자에게 보이는 구성원 범위를 조회합니다.
+     *
+     * @param query 조회할 Family와 현재 사용자 정보
+     * @return 내용 버전과 보이는 구성원 범위
+     * @throws io.jhchoe.familytree.common.exception.FTException 현재 사용자가 구성원이 아니거나 Family가 없는 경우
+     */
+    FamilyHomeMembersVersion findHomeMembers(FindFamilyContentVersionQuery query);
+
+    /**
+     * 현재 사용자가 소속된 Family들의 내용 버전을 가입 순서로 조회합니다.
+     *
+     * @param query 내 소속 Family 목록 조회 쿼리
+     * @return Family별 내용 버전 목록
+     */
+    List<FamilyContentVersion> findAll(FindMyFamiliesQuery query);
+}
@@ -0,0 +1,37 @@
+package io.jhchoe.familytree.core.family.application.port.in;
+
+import java.util.Objects;
+
+/**
+ * 두 구성원 사이의 친족 관계 조회 쿼리 객체입니다.
+ *
+ * @param familyId       조회할 Family ID
+ * @param memberId       기준 구성원 ID
+ * @param targetMemberId 대상 구성원 ID
+ * @param currentUserId  현재 사용자 ID
+ */
+public record FindFamilyKinshipQuery(
+    Long familyId,
+    Long memberId,
+    Long targetMemberId,
+    Long currentUserId
+) {
+    public FindFamilyKinshipQuery {
+        Objects.requireNonNull(familyId, "familyId must not be null");
+        Objects.requireNonNull(memberId, "memberId must not be null");
+        Objects.requireNonNull(targetMemberId, "targetMemberId must not be null");
+        Objects.requireNonNull(currentUserId, "currentUserId must not be null");
+        if (familyId <= 0) {
+            throw new IllegalArgumentException("familyId must be positive");
+        }
+        if (memberId <= 0) {
+            throw new IllegalArgumentException("memberId must be positive");
+        }
+        if (targetMemberId <= 0) {
+            throw new IllegalArgumentException("targetMemberId must be positive");
+        }
+        if (currentUserId <= 0) {
+            throw new IllegalArgumentException("currentUserId must be positive");
+        }
+    }
+}
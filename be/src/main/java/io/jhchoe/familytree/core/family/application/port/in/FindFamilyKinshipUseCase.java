@@ -0,0 +1,28 @@
+package io.jhchoe.familytree.core.family.application.port.in;
+
+import io.jhchoe.familytree.core.family.domain.KinshipPath;
+import java.util.Optional;
+
+/**
+ * 구성원 사이의 친족 관계(경로·촌수)와 조상·자손을 조회하는 UseCase 인터페이스입니다.
+ */
+public interface FindFamilyKinshipUseCase {
+
+    /**
+     * 두 구성원 사이에서 촌수가 가장 작은 친족 관계 경로를 조회합니다.
+     *
+     * @param query 친족 관계 조회 쿼리
+     * @return 친족 관계 경로, 관계로 이어져 있지 않으면 빈 Optional
+     * @throws io.jhchoe.familytree.common.exception.FTException 현재 사용자가 구성원이 아니거나, Family 또는 구성원이 없는 경우
+     */
+    Optional<KinshipPath> find(FindFamilyKinshipQuery query);
+
+    /**
+     * 구성원의 조상과 자손을 조회합니다.
+     *
+     * @param query 조상·자손 조회 쿼리
+     * @return 조상과 자손 목록
+     * @throws io.jhchoe.familytree.common.exception.FTException 현재 사용자가 구성원이 아니거나, Family 또는 구성원이 없는 경우
+     */
+    FamilyLineageInfo find(FindFamilyLineageQuery query);
+}
@@ -0,0 +1,43 @@
+package io.jhchoe.familytree.core.family.application.port.in;
+
+import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
+import java.util.Objects;
+
+/**
+ * 구성원의 조상·자손 조회 쿼리 객체입니다.
+ *
+ * @param familyId      조회할 Family ID
+ * @param memberId      기준 구성원 ID
+ * @param currentUserId 현재 사용자 ID
+ * @param maxDepth      조회할 최대 세대 수 (1 이상 {@link #MAX_DEPTH} 이하)
+ */
+public record FindFamilyLineageQuery(
+    Long familyId,
+    Long memberId,
+    Long currentUserId,
+    int maxDepth
+) {
+
+    /**
+     * 조회할 수 있는 최대 세대 수
+     */
+    public static final int MAX_DEPTH = FindFamilyMemberPort.MAX_LINEAGE_DEPTH;
+
+    public FindFamilyLineageQuery {
+        Objects.requireNonNull(familyId, "familyId must not be null");
+        Objects.requireNonNull(memberId, "memberId must not be null");
+        Objects.requireNonNull(currentUserId, "currentUserId must not be null");
+        if (familyId <= 0) {
+            throw new IllegalArgumentException("familyId must be positive");
+        }
+        if (memberId <= 0) {
+            throw new IllegalArgumentException("memberId must be positive");
+        }
+        if (currentUserId <= 0) {
+            throw new IllegalArgumentException("currentUserId must be positive");
+        }
+        if (maxDepth < 1 || maxDepth > MAX_DEPTH) {
+            throw new IllegalArgumentException("maxDepth must be between 1 and " + MAX_DEPTH);
+        }
+    }
+}
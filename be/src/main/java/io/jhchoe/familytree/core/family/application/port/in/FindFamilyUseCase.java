@@ -2,6 +2,7 @@ package io.jhchoe.familytree.core.family.application.port.in;
 
 import io.jhchoe.familytree.core.family.domain.CursorPage;
 import io.jhchoe.familytree.core.family.domain.Family;
+import io.jhchoe.familytree.core.family.domain.FamilySummary;
 import java.util.List;
 
 /**
@@ -30,18 +31,19 @@ public interface FindFamilyUseCase {
     List<Family> findAll(FindFamilyByNameContainingQuery query);
 
     /**
-     * 사용자가 소속된 Family 목록을 조회합니다.
+     * 사용자가 소속된 Family 목록을 사용자의 역할, 활성 구성원 수와 함께 조회합니다.
      *
      * @param query 사용자 정보를 포함하는 쿼리 객체
-     * @return 조회된 Family 목록, 소속된 Family가 없을 경우 빈 목록을 반환
+     * @return 조회된 FamilySummary 목록, 소속된 Family가 없을 경우 빈 목록을 반환
      */
-    List<Family> findAll(FindMyFamiliesQuery query);
+    List<FamilySummary> findAll(FindMyFamiliesQuery query);
 
     /**
      * 공개된 Family를 키워드로 검색하여 커서 기반 페이징으로 조회합니다.
+     * 각 Family의 활성 구성원 수를 함께 반환합니다.
      *
      * @param query 공개 Family 검색에 필요한 입력 데이터를 포함하는 쿼리 객체
-     * @return 커서 기반 페이징된 공개 Family 목록
+     * @return 커서 기반 페이징된 공개 FamilySummary 목록
      */
-    CursorPage<Family> findAll(FindPublicFamiliesQuery query);
+    CursorPage<FamilySummary> findAll(FindPublicFamiliesQuery query);
 }
@@ -1,6 +1,7 @@
 package io.jhchoe.familytree.core.family.application.port.in;
 
 import io.jhchoe.familytree.common.exception.FTException;
+import java.util.List;
 
 /**
  * 멤버에 태그를 할당/해제하기 위한 유스케이스 인터페이스입니다.
@@ -18,4 +19,16 @@ public interface ModifyFamilyMemberTagMappingUseCase {
      * @throws FTException 권한이 없거나, 멤버/태그가 존재하지 않는 경우
      */
     FamilyMemberTagMappingInfo modify(final ModifyFamilyMemberTagMappingCommand command, final Long currentUserId);
+
+    /**
+     * 여러 멤버의 태그를 하나의 트랜잭션에서 할당합니다.
+     * <p>
+     * 멤버별로 전체 교체 방식으로 동작하며, 한 멤버라도 검증에 실패하면 아무 것도 변경되지 않습니다.
+     *
+     * @param command       멤버별 태그 할당 정보를 담은 커맨드 객체
+     * @param currentUserId 현재 사용자 ID
+     * @return 요청 순서대로 정렬된 멤버별 태그 정보
+     * @throws FTException 권한이 없거나, 멤버/태그가 존재하지 않는 경우
+     */
+    List<FamilyMemberTagMappingInfo> modifyAll(final BulkModifyFamilyMemberTagMappingCommand command, final Long currentUserId);
 }
@@ -0,0 +1,18 @@
+package io.jhchoe.familytree.core.family.application.port.in;
+
+import java.util.List;
+
+/**
+ * 가족 생성 화면의 가족명 자동완성 후보를 조회하는 UseCase 인터페이스입니다.
+ */
+public interface SuggestFamilyNameUseCase {
+
+    /**
+     * 입력 중인 가족명으로 시작하는 공개 Family의 가족명을 사전순으로 조회합니다.
+     *
+     * @param prefix 입력 중인 가족명 (null 또는 빈 문자열 불가)
+     * @return 기존 가족명 목록
+     * @throws IllegalArgumentException 입력값이 null이거나 빈 문자열이거나 20자를 초과하는 경우
+     */
+    List<String> suggestFamilyNames(String prefix);
+}
@@ -1,5 +1,7 @@
 package io.jhchoe.familytree.core.family.application.port.out;
 
+import java.util.List;
+
 /**
  * 태그 매핑 삭제를 위한 아웃바운드 포트입니다.
  */
@@ -11,4 +13,11 @@ public interface DeleteFamilyMemberTagMappingPort {
      * @param memberId 멤버 ID
      */
     void deleteAllByMemberId(final Long memberId);
+
+    /**
+     * 지정된 ID의 태그 매핑을 한 번에 삭제합니다.
+     *
+     * @param mappingIds 삭제할 매핑 ID 목록
+     */
+    void deleteAllByIds(final List<Long> mappingIds);
 }
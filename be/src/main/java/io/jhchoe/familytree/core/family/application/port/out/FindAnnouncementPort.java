@@ -1,6 +1,7 @@
 package io.jhchoe.familytree.core.family.application.port.out;
 
 import io.jhchoe.familytree.core.family.domain.Announcement;
+import io.jhchoe.familytree.core.family.domain.CursorPage;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +28,19 @@ public interface FindAnnouncementPort {
      */
     List<Announcement> findAllByFamilyId(Long familyId);
 
+    /**
+     * 특정 가족의 공지사항을 최신순으로 커서 기반 페이징하여 조회합니다.
+     *
+     * <p>(작성 일시, ID) 키셋 페이징이므로 공지사항이 많아져도 페이지 위치와 무관하게 조회 비용이 일정하며,
+     * 전체 개수를 세지 않고 다음 페이지 존재 여부만 반환합니다.</p>
+     *
+     * @param familyId 가족 ID
+     * @param cursor   페이징을 위한 커서 값 (null이거나 잘못된 경우 첫 페이지)
+     * @param size     페이지 크기
+     * @return 커서 기반 페이징된 공지사항 목록
+     */
+    CursorPage<Announcement> findFeedByFamilyId(Long familyId, String cursor, int size);
+
     /**
      * 특정 ID의 공지사항을 조회합니다.
      *
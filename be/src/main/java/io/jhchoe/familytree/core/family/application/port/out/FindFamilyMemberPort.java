@@ -1,7 +1,11 @@
 package io.jhchoe.familytree.core.family.application.port.out;
 
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberLineageNode;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
+import io.jhchoe.familytree.core.family.domain.FamilyMembership;
+import io.jhchoe.familytree.core.family.domain.FamilySummary;
+import io.jhchoe.familytree.core.family.domain.KinshipDirection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,6 +14,11 @@ import java.util.Optional;
  */
 public interface FindFamilyMemberPort {
 
+    /**
+     * {@link #findLineage}로 조회할 수 있는 최대 세대 수
+     */
+    int MAX_LINEAGE_DEPTH = 100;
+
     /**
      * 특정 Family와 사용자 ID로 구성원 존재 여부를 확인합니다.
      *
@@ -34,6 +43,15 @@ public interface FindFamilyMemberPort {
      * @return 조회된 FamilyMember 객체를 포함하는 Optional, 존재하지 않는 경우 빈 Optional 반환
      */
     Optional<FamilyMember> findById(Long id);
+
+    /**
+     * 지정된 ID 목록에 해당하는 Family 구성원을 한 번에 조회합니다.
+     * 존재하지 않는 ID는 결과에서 제외됩니다.
+     *
+     * @param ids 조회할 FamilyMember ID 목록
+     * @return 조회된 FamilyMember 객체 목록
+     */
+    List<FamilyMember> findAllByIds(List<Long> ids);
     
     /**
      * 특정 Family의 모든 구성원을 조회합니다.
@@ -52,6 +70,15 @@ public interface FindFamilyMemberPort {
      */
     Optional<FamilyMember> findByFamilyIdAndUserId(Long familyId, Long userId);
 
+    /**
+     * Family 존재 여부와 사용자의 구성원 정보를 한 번에 조회합니다.
+     *
+     * @param familyId Family ID
+     * @param userId 사용자 ID
+     * @return Family와 구성원 정보를 포함하는 Optional, Family가 존재하지 않으면 빈 Optional 반환
+     */
+    Optional<FamilyMembership> findMembership(Long familyId, Long userId);
+
     /**
      * 특정 사용자가 소속된 모든 Family의 구성원 정보를 조회합니다.
      *
@@ -60,6 +87,15 @@ public interface FindFamilyMemberPort {
      */
     List<FamilyMember> findAllByUserId(Long userId);
 
+    /**
+     * 특정 사용자가 소속된 Family 목록을 사용자의 역할, 활성 구성원 수와 함께 한 번에 조회합니다.
+     * 삭제된 Family는 제외됩니다.
+     *
+     * @param userId 사용자 ID
+     * @return 가입 순서로 정렬된 FamilySummary 목록, 소속된 Family가 없으면 빈 목록
+     */
+    List<FamilySummary> findAllSummariesByUserId(Long userId);
+
     /**
      * 특정 사용자가 소속된 모든 Family의 구성원 정보를 조회합니다.
      *
@@ -84,4 +120,18 @@ public interface FindFamilyMemberPort {
      * @return 조회된 FamilyMember 객체를 포함하는 Optional, 존재하지 않는 경우 빈 Optional 반환
      */
     Optional<FamilyMember> findByUserIdAndRole(Long userId, FamilyMemberRole role);
+
+    /**
+     * 부모·자녀 관계를 따라 구성원의 조상 또는 자손을 지정한 세대 수까지 한 번의 쿼리로 조회합니다.
+     * 여러 경로로 도달하는 구성원은 가장 가까운 세대의 경로 하나만 반환합니다.
+     * 부모·자녀 관계는 소유자 기준 관계 타입으로 만들어지므로({@code KinshipGraph.fromMembers}) 실제 결과는
+     * 소유자의 조부모 ~ 손자녀 범위를 넘지 않으며, 2 ~ 4세대를 넘는 maxDepth는 결과를 늘리지 않습니다.
+     *
+     * @param familyId Family ID
+     * @param memberId 시작 구성원 ID
+     * @param direction PARENT이면 조상, CHILD이면 자손 방향 (SPOUSE 불가)
+     * @param maxDepth 조회할 최대 세대 수 (1 이상 {@link #MAX_LINEAGE_DEPTH} 이하)
+     * @return 세대, 구성원 ID 순으로 정렬된 목록 (시작 구성원 제외), 시작 구성원이 Family에 없으면 빈 목록
+     */
+    List<FamilyMemberLineageNode> findLineage(Long familyId, Long memberId, KinshipDirection direction, int maxDepth);
 }
@@ -0,0 +1,22 @@
+package io.jhchoe.familytree.core.family.application.port.out;
+
+import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberWithTags;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Family 구성원과 태그를 함께 조회하기 위한 포트입니다.
+ */
+public interface FindFamilyMemberWithTagsPort {
+
+    /**
+     * 특정 Family에서 지정된 상태의 구성원과 각 구성원의 태그를 한 번에 조회합니다.
+     * 결과는 나이순(생일이 늦은 순, 생일이 없으면 맨 뒤)으로 정렬됩니다.
+     *
+     * @param familyId Family ID
+     * @param statuses 조회할 구성원 상태 목록
+     * @return 태그를 포함한 구성원 목록
+     */
+    List<FamilyMemberWithTags> findAllByFamilyIdAndStatusIn(Long familyId, Set<FamilyMemberStatus> statuses);
+}
@@ -2,6 +2,8 @@ package io.jhchoe.familytree.core.family.application.port.out;
 
 import io.jhchoe.familytree.core.family.domain.CursorPage;
 import io.jhchoe.familytree.core.family.domain.Family;
+import io.jhchoe.familytree.core.family.domain.FamilyContentVersion;
+import io.jhchoe.familytree.core.family.domain.FamilySummary;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,16 +39,68 @@ public interface FindFamilyPort {
      */
     Optional<Family> findByName(String name);
 
+    /**
+     * 가족명과 정확히 일치하는 삭제되지 않은 Family가 있는지 확인합니다.
+     * 구현체는 메모리 색인으로 응답할 수 있으므로, 다른 노드에서 방금 저장·수정된 가족명은 늦게 반영될 수 있습니다.
+     *
+     * @param name 가족명 (정확히 일치하는 이름)
+     * @return 존재 여부
+     */
+    boolean existsByName(String name);
+
+    /**
+     * 접두어로 시작하는 삭제되지 않은 공개 Family의 가족명을 사전순으로 조회합니다. 같은 가족명은 한 번만 반환합니다.
+     * 비공개 Family의 이름은 자동완성으로 드러나지 않도록 제외합니다.
+     * 구현체는 메모리 색인으로 응답할 수 있으므로, 다른 노드에서 방금 저장·수정된 가족명은 늦게 반영될 수 있습니다.
+     *
+     * @param prefix 접두어
+     * @param limit 조회할 최대 개수
+     * @return 공개 Family의 가족명 목록
+     */
+    List<String> findPublicNamesByPrefix(String prefix, int limit);
+
+    /**
+     * 삭제되지 않은 Family의 내용 버전을 조회합니다.
+     * 내용 버전은 Family·구성원·태그·태그 매핑·공지사항이 변경될 때마다 증가하므로 조회 결과의 ETag로 사용할 수 있습니다.
+     *
+     * @param familyId Family ID
+     * @return 내용 버전, Family가 없거나 삭제된 경우 빈 Optional
+     */
+    Optional<Long> findContentVersion(Long familyId);
+
+    /**
+     * 사용자가 소속된 삭제되지 않은 Family의 내용 버전을 가입 순서로 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return Family별 내용 버전 목록
+     */
+    List<FamilyContentVersion> findContentVersionsByUserId(Long userId);
+
     /**
      * 공개된 Family를 키워드로 검색하여 커서 기반 페이징으로 조회합니다.
      * 
-     * <p>isPublic=true인 Family만 조회하며, 키워드가 있으면 가족명에 포함된 Family를 검색합니다.
-     * 커서 기반 페이징으로 안정적인 무한 스크롤을 지원합니다.</p>
+     * <p>isPublic=true인 Family만 조회하며, 키워드가 있으면 {@link #searchPublicFamiliesByName}과 같이 관련도 순으로 검색합니다.
+     * 커서 기반 페이징으로 안정적인 무한 스크롤을 지원합니다.
+     * 각 Family의 활성 구성원 수를 함께 반환합니다.</p>
      *
      * @param keyword 검색할 키워드 (null인 경우 키워드 필터링 없이 공개 Family 모두 조회)
      * @param cursor 페이징을 위한 커서 값 (null인 경우 첫 페이지)
      * @param size 조회할 Family 개수
-     * @return 커서 기반 페이징된 공개 Family 목록
+     * @return 커서 기반 페이징된 공개 FamilySummary 목록
+     */
+    CursorPage<FamilySummary> findPublicFamiliesByKeyword(String keyword, String cursor, int size);
+
+    /**
+     * 가족명에 키워드가 포함된 공개 Family를 관련도 순으로 검색합니다.
+     *
+     * <p>완전 일치, 앞부분 일치, 부분 일치 순으로 정렬하며 같은 순위는 ID 순입니다.
+     * 대소문자를 구분하지 않으며 한글은 한 글자부터 부분 일치로 검색됩니다.
+     * (관련도 순위, ID) 키셋 페이징이므로 페이지 위치와 무관하게 조회 비용이 일정합니다.</p>
+     *
+     * @param keyword 검색할 키워드 (공백 불가)
+     * @param cursor 페이징을 위한 커서 값 (null이거나 잘못된 경우 첫 페이지)
+     * @param size 조회할 Family 개수
+     * @return 커서 기반 페이징된 공개 FamilySummary 목록
      */
-    CursorPage<Family> findPublicFamiliesByKeyword(String keyword, String cursor, int size);
+    CursorPage<FamilySummary> searchPublicFamiliesByName(String keyword, String cursor, int size);
 }
@@ -1,6 +1,7 @@
 package io.jhchoe.familytree.core.family.application.port.out;
 
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
+import java.util.List;
 
 /**
  * Family 구성원 저장을 위한 아웃바운드 포트 인터페이스입니다.
@@ -14,4 +15,13 @@ public interface SaveFamilyMemberPort {
      * @return 저장된 구성원의 ID
      */
     Long save(FamilyMember familyMember);
+
+    /**
+     * 여러 Family 구성원을 한 번의 배치로 저장합니다.
+     * 구성원 수 증감과 부모·자녀 관계 갱신은 Family마다 한 번씩 실행합니다.
+     *
+     * @param familyMembers 저장할 구성원 목록
+     * @return 저장된 구성원의 ID 목록 (입력 순서 유지)
+     */
+    List<Long> saveAll(List<FamilyMember> familyMembers);
 }
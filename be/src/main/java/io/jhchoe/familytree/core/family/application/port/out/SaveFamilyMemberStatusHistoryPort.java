@@ -1,6 +1,7 @@
 package io.jhchoe.familytree.core.family.application.port.out;
 
 import io.jhchoe.familytree.core.family.domain.FamilyMemberStatusHistory;
+import java.util.List;
 
 /**
  * 구성원 상태 변경 이력 저장을 위한 포트입니다.
@@ -14,4 +15,12 @@ public interface SaveFamilyMemberStatusHistoryPort {
      * @return 저장된 이력의 ID
      */
     Long save(FamilyMemberStatusHistory history);
+
+    /**
+     * 여러 구성원 상태 변경 이력을 한 번의 배치로 저장합니다.
+     *
+     * @param histories 저장할 상태 변경 이력 목록
+     * @return 저장된 이력의 ID 목록 (입력 순서 유지)
+     */
+    List<Long> saveAll(List<FamilyMemberStatusHistory> histories);
 }
@@ -10,6 +10,7 @@ public interface SaveFamilyMemberTagMappingPort {
 
     /**
      * 태그 매핑 목록을 저장합니다.
+     * 여러 건을 한 번의 배치로 저장하며, 저장된 매핑의 ID는 반환하지 않습니다.
      *
      * @param mappings 저장할 매핑 목록
      */
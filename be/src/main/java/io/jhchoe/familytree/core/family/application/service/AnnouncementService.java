@@ -3,9 +3,10 @@ package io.jhchoe.familytree.core.family.application.service;
 import io.jhchoe.familytree.common.exception.FTException;
 import io.jhchoe.familytree.core.family.application.port.in.*;
 import io.jhchoe.familytree.core.family.application.port.out.FindAnnouncementPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
 import io.jhchoe.familytree.core.family.application.port.out.SaveAnnouncementPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
 import io.jhchoe.familytree.core.family.domain.Announcement;
+import io.jhchoe.familytree.core.family.domain.CursorPage;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.exception.FamilyExceptionCode;
@@ -22,7 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AnnouncementService implements SaveAnnouncementUseCase, FindAnnouncementUseCase, DeleteAnnouncementUseCase {
 
-    private final FindFamilyMemberPort findFamilyMemberPort;
+    private final FamilyMembershipResolver familyMembershipResolver;
     private final SaveAnnouncementPort saveAnnouncementPort;
     private final FindAnnouncementPort findAnnouncementPort;
     
@@ -35,7 +36,7 @@ public class AnnouncementService implements SaveAnnouncementUseCase, FindAnnounc
         Objects.requireNonNull(command, "command must not be null");
         
         // 1. 현재 사용자가 해당 Family의 구성원인지 확인하고 역할 검증
-        FamilyMember currentMember = findFamilyMemberPort.findByFamilyIdAndUserId(
+        FamilyMember currentMember = familyMembershipResolver.findMember(
                 command.getFamilyId(), command.getCurrentUserId())
             .orElseThrow(() -> new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
         
@@ -64,7 +65,7 @@ public class AnnouncementService implements SaveAnnouncementUseCase, FindAnnounc
         Objects.requireNonNull(query, "query must not be null");
         
         // 1. 현재 사용자가 해당 Family의 구성원인지 확인
-        findFamilyMemberPort.findByFamilyIdAndUserId(
+        familyMembershipResolver.findMember(
                 query.getFamilyId(), query.getCurrentUserId())
             .orElseThrow(() -> new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
         
@@ -76,6 +77,27 @@ public class AnnouncementService implements SaveAnnouncementUseCase, FindAnnounc
         );
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Announcement> findFeed(FindAnnouncementFeedQuery query) {
+        Objects.requireNonNull(query, "query must not be null");
+        
+        // 1. 현재 사용자가 해당 Family의 구성원인지 확인
+        familyMembershipResolver.findMember(
+                query.getFamilyId(), query.getCurrentUserId())
+            .orElseThrow(() -> new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
+        
+        // 2. 커서 이후 공지사항 조회
+        return findAnnouncementPort.findFeedByFamilyId(
+            query.getFamilyId(),
+            query.getCursor(),
+            query.getSize()
+        );
+    }
+    
     /**
      * {@inheritDoc}
      */
@@ -85,7 +107,7 @@ public class AnnouncementService implements SaveAnnouncementUseCase, FindAnnounc
         Objects.requireNonNull(query, "query must not be null");
         
         // 1. 현재 사용자가 해당 Family의 구성원인지 확인
-        findFamilyMemberPort.findByFamilyIdAndUserId(
+        familyMembershipResolver.findMember(
                 query.getFamilyId(), query.getCurrentUserId())
             .orElseThrow(() -> new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
         
@@ -110,7 +132,7 @@ public class AnnouncementService implements SaveAnnouncementUseCase, FindAnnounc
         Objects.requireNonNull(command, "command must not be null");
         
         // 1. 현재 사용자가 해당 Family의 구성원인지 확인하고 역할 검증
-        FamilyMember currentMember = findFamilyMemberPort.findByFamilyIdAndUserId(
+        FamilyMember currentMember = familyMembershipResolver.findMember(
                 command.getFamilyId(), command.getCurrentUserId())
             .orElseThrow(() -> new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
         
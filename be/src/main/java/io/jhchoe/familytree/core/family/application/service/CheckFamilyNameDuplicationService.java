@@ -2,7 +2,9 @@ package io.jhchoe.familytree.core.family.application.service;
 
 import io.jhchoe.familytree.core.family.application.port.in.CheckFamilyNameDuplicationUseCase;
 import io.jhchoe.familytree.core.family.application.port.in.FamilyNameAvailabilityResult;
+import io.jhchoe.familytree.core.family.application.port.in.SuggestFamilyNameUseCase;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyPort;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -11,7 +13,8 @@ import org.springframework.util.StringUtils;
 
 /**
  * 가족명 중복 확인 서비스입니다.
- * FindFamilyPort를 활용하여 기존 가족명과의 중복 여부를 확인합니다.
+ * FindFamilyPort를 활용하여 기존 가족명과의 중복 여부를 확인하고, 자동완성 후보를 조회합니다.
+ * 중복 확인은 비공개 Family를 포함한 모든 가족명을 대상으로 하고, 자동완성 후보는 공개 Family의 가족명만 반환합니다.
  * 
  * @author Claude AI
  * @since 1.0
@@ -20,7 +23,9 @@ import org.springframework.util.StringUtils;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class CheckFamilyNameDuplicationService implements CheckFamilyNameDuplicationUseCase {
+public class CheckFamilyNameDuplicationService implements CheckFamilyNameDuplicationUseCase, SuggestFamilyNameUseCase {
+
+    private static final int SUGGESTION_LIMIT = 10;
 
     private final FindFamilyPort findFamilyPort;
 
@@ -35,7 +40,7 @@ public class CheckFamilyNameDuplicationService implements CheckFamilyNameDuplica
         validateFamilyName(familyName);
         
         // 정확히 일치하는 가족명 존재 여부 확인
-        boolean isDuplicate = findFamilyPort.findByName(familyName).isPresent();
+        boolean isDuplicate = findFamilyPort.existsByName(familyName);
         
         if (isDuplicate) {
             log.debug("가족명 중복 확인 결과: 중복됨 - {}", familyName);
@@ -46,6 +51,16 @@ public class CheckFamilyNameDuplicationService implements CheckFamilyNameDuplica
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> suggestFamilyNames(String prefix) {
+        validateFamilyName(prefix);
+
+        return findFamilyPort.findPublicNamesByPrefix(prefix, SUGGESTION_LIMIT);
+    }
+
     /**
      * 가족명 유효성을 검증합니다.
      * 
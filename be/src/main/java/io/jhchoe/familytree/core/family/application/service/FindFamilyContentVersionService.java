@@ -0,0 +1,82 @@
+package io.jhchoe.familytree.core.family.application.service;
+
+import io.jhchoe.familytree.common.exception.FTException;
+import io.jhchoe.familytree.core.family.application.port.in.FamilyHomeMembersVersion;
+import io.jhchoe.familytree.core.family.application.port.in.FindFamilyContentVersionQuery;
+import io.jhchoe.familytree.core.family.application.port.in.FindFamilyContentVersionUseCase;
+import io.jhchoe.familytree.core.family.application.port.in.FindMyFamiliesQuery;
+import io.jhchoe.familytree.core.family.application.port.out.FindFamilyPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
+import io.jhchoe.familytree.core.family.domain.FamilyContentVersion;
+import io.jhchoe.familytree.core.family.domain.FamilyMember;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
+import io.jhchoe.familytree.core.family.exception.FamilyExceptionCode;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Family 내용 버전 조회 서비스입니다.
+ * 구성원 확인은 캐시된 구성원 조회를 사용하고, 버전은 Family 기본 키로 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FindFamilyContentVersionService implements FindFamilyContentVersionUseCase {
+
+    private final FamilyMembershipResolver familyMembershipResolver;
+    private final FindFamilyPort findFamilyPort;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long find(FindFamilyContentVersionQuery query) {
+        Objects.requireNonNull(query, "query must not be null");
+
+        // 1. 현재 사용자가 해당 Family의 구성원인지 확인
+        findCurrentMember(query);
+
+        // 2. 내용 버전 조회
+        return findVersion(query.familyId());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FamilyHomeMembersVersion findHomeMembers(FindFamilyContentVersionQuery query) {
+        Objects.requireNonNull(query, "query must not be null");
+
+        // 1. 현재 사용자가 해당 Family의 구성원인지 확인
+        FamilyMember currentMember = findCurrentMember(query);
+
+        // 2. 내용 버전과 보이는 범위 조회 (ADMIN 이상은 SUSPENDED 등 모든 상태의 구성원을 봄)
+        return new FamilyHomeMembersVersion(
+            findVersion(query.familyId()),
+            currentMember.getRole().isAtLeast(FamilyMemberRole.ADMIN)
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<FamilyContentVersion> findAll(FindMyFamiliesQuery query) {
+        Objects.requireNonNull(query, "query must not be null");
+
+        return findFamilyPort.findContentVersionsByUserId(query.getUserId());
+    }
+
+    private FamilyMember findCurrentMember(FindFamilyContentVersionQuery query) {
+        return familyMembershipResolver.findMember(query.familyId(), query.currentUserId())
+            .orElseThrow(() -> new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
+    }
+
+    private long findVersion(Long familyId) {
+        return findFamilyPort.findContentVersion(familyId)
+            .orElseThrow(() -> new FTException(FamilyExceptionCode.FAMILY_NOT_FOUND));
+    }
+}
@@ -0,0 +1,107 @@
+package io.jhchoe.familytree.core.family.application.service;
+
+import io.jhchoe.familytree.common.exception.FTException;
+import io.jhchoe.familytree.core.family.application.port.in.FamilyLineageInfo;
+import io.jhchoe.familytree.core.family.application.port.in.FindFamilyKinshipQuery;
+import io.jhchoe.familytree.core.family.application.port.in.FindFamilyKinshipUseCase;
+import io.jhchoe.familytree.core.family.application.port.in.FindFamilyLineageQuery;
+import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
+import io.jhchoe.familytree.core.family.application.port.out.FindFamilyPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
+import io.jhchoe.familytree.core.family.domain.KinshipDirection;
+import io.jhchoe.familytree.core.family.domain.KinshipGraph;
+import io.jhchoe.familytree.core.family.domain.KinshipPath;
+import io.jhchoe.familytree.core.family.domain.KinshipRelative;
+import io.jhchoe.familytree.core.family.exception.FamilyExceptionCode;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 구성원 사이의 친족 관계 조회 서비스입니다.
+ * Family 내용 버전이 같으면 캐시된 친족 그래프를 사용하므로 구성원 목록을 다시 조회하지 않습니다.
+ * 조상·자손 조회는 그래프 대신 부모·자녀 관계 테이블을 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FindFamilyKinshipService implements FindFamilyKinshipUseCase {
+
+    private final FamilyMembershipResolver familyMembershipResolver;
+    private final FindFamilyPort findFamilyPort;
+    private final FindFamilyMemberPort findFamilyMemberPort;
+    private final KinshipGraphCache kinshipGraphCache;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<KinshipPath> find(FindFamilyKinshipQuery query) {
+        Objects.requireNonNull(query, "query must not be null");
+
+        // 1. 권한 확인 후 친족 그래프 조회
+        KinshipGraph graph = findGraph(query.familyId(), query.currentUserId());
+
+        // 2. 두 구성원이 모두 Family에 속하는지 확인
+        validateMember(graph, query.memberId());
+        validateMember(graph, query.targetMemberId());
+
+        // 3. 경로 탐색
+        return graph.findPath(query.memberId(), query.targetMemberId());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>친족 그래프를 만들지 않고 부모·자녀 관계 테이블을 최대 세대 수까지만 탐색합니다.</p>
+     */
+    @Override
+    public FamilyLineageInfo find(FindFamilyLineageQuery query) {
+        Objects.requireNonNull(query, "query must not be null");
+
+        // 1. 권한 확인
+        familyMembershipResolver.findMember(query.familyId(), query.currentUserId())
+            .orElseThrow(() -> new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
+
+        // 2. 구성원이 Family에 속하는지 확인
+        findFamilyMemberPort.findById(query.memberId())
+            .filter(member -> query.familyId().equals(member.getFamilyId()))
+            .orElseThrow(() -> new FTException(FamilyExceptionCode.MEMBER_NOT_FOUND));
+
+        // 3. 조상·자손 탐색
+        return new FamilyLineageInfo(
+            query.memberId(),
+            findRelatives(query, KinshipDirection.PARENT),
+            findRelatives(query, KinshipDirection.CHILD)
+        );
+    }
+
+    private List<KinshipRelative> findRelatives(FindFamilyLineageQuery query, KinshipDirection direction) {
+        return findFamilyMemberPort.findLineage(query.familyId(), query.memberId(), direction, query.maxDepth())
+            .stream()
+            .map(node -> new KinshipRelative(node.memberId(), node.depth()))
+            .toList();
+    }
+
+    private KinshipGraph findGraph(Long familyId, Long currentUserId) {
+        familyMembershipResolver.findMember(familyId, currentUserId)
+            .orElseThrow(() -> new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
+        long version = findFamilyPort.findContentVersion(familyId)
+            .orElseThrow(() -> new FTException(FamilyExceptionCode.FAMILY_NOT_FOUND));
+
+        return kinshipGraphCache.find(
+            familyId,
+            version,
+            () -> KinshipGraph.fromMembers(findFamilyMemberPort.findAllByFamilyId(familyId))
+        );
+    }
+
+    private void validateMember(KinshipGraph graph, Long memberId) {
+        if (!graph.contains(memberId)) {
+            throw new FTException(FamilyExceptionCode.MEMBER_NOT_FOUND);
+        }
+    }
+}
@@ -8,22 +8,18 @@ import io.jhchoe.familytree.core.family.application.port.in.FindFamilyMemberUseC
 import io.jhchoe.familytree.core.family.application.port.in.FindFamilyMembersWithTagsQuery;
 import io.jhchoe.familytree.core.family.application.port.in.FamilyMemberTagMappingInfo.TagSimpleInfo;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberTagMappingPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberTagPort;
+import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberWithTagsPort;
 import io.jhchoe.familytree.core.family.application.validation.FamilyValidationService;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
-import io.jhchoe.familytree.core.family.domain.FamilyMemberTag;
-import io.jhchoe.familytree.core.family.domain.FamilyMemberTagMapping;
 import io.jhchoe.familytree.core.family.exception.FamilyExceptionCode;
 import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -40,27 +36,23 @@ public class FindFamilyMemberService implements FindFamilyMemberUseCase {
 
     private final FindFamilyMemberPort findFamilyMemberPort;
     private final FamilyValidationService familyValidationService;
-    private final FindFamilyMemberTagPort findFamilyMemberTagPort;
-    private final FindFamilyMemberTagMappingPort findFamilyMemberTagMappingPort;
+    private final FindFamilyMemberWithTagsPort findFamilyMemberWithTagsPort;
 
     /**
      * FindFamilyMemberService 생성자입니다.
      *
      * @param findFamilyMemberPort           Family 구성원 조회 포트
      * @param familyValidationService        Family 검증 서비스
-     * @param findFamilyMemberTagPort        태그 조회 포트
-     * @param findFamilyMemberTagMappingPort 태그 매핑 조회 포트
+     * @param findFamilyMemberWithTagsPort   태그 포함 구성원 조회 포트
      */
     public FindFamilyMemberService(
         FindFamilyMemberPort findFamilyMemberPort,
         FamilyValidationService familyValidationService,
-        FindFamilyMemberTagPort findFamilyMemberTagPort,
-        FindFamilyMemberTagMappingPort findFamilyMemberTagMappingPort
+        FindFamilyMemberWithTagsPort findFamilyMemberWithTagsPort
     ) {
         this.findFamilyMemberPort = findFamilyMemberPort;
         this.familyValidationService = familyValidationService;
-        this.findFamilyMemberTagPort = findFamilyMemberTagPort;
-        this.findFamilyMemberTagMappingPort = findFamilyMemberTagMappingPort;
+        this.findFamilyMemberWithTagsPort = findFamilyMemberWithTagsPort;
     }
 
     /**
@@ -208,49 +200,19 @@ public class FindFamilyMemberService implements FindFamilyMemberUseCase {
             .findByFamilyIdAndUserId(query.familyId(), query.currentUserId())
             .orElseThrow(() -> new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
 
-        // 3. 전체 구성원 조회 및 필터링/정렬
-        List<FamilyMember> allMembers = findFamilyMemberPort.findAllByFamilyId(query.familyId());
-        List<FamilyMember> filteredMembers = filterAndSortMembers(allMembers, currentMember);
+        // 3. 권한에 따라 조회할 상태를 정하고, 구성원과 태그를 한 번에 정렬된 상태로 조회
+        Set<FamilyMemberStatus> visibleStatuses = isAdminOrAbove(currentMember.getRole())
+            ? EnumSet.allOf(FamilyMemberStatus.class)
+            : EnumSet.of(FamilyMemberStatus.ACTIVE);
 
-        // 4. Family의 모든 태그 조회
-        List<FamilyMemberTag> allTags = findFamilyMemberTagPort.findAllByFamilyId(query.familyId());
-        Map<Long, FamilyMemberTag> tagMap = allTags.stream()
-            .collect(Collectors.toMap(FamilyMemberTag::getId, Function.identity()));
-
-        // 5. 배치 조회로 N+1 문제 해결
-        List<Long> memberIds = filteredMembers.stream()
-            .map(FamilyMember::getId)
-            .toList();
-
-        List<FamilyMemberTagMapping> allMappings = findFamilyMemberTagMappingPort.findAllByMemberIds(memberIds);
-
-        // 매핑을 memberId별로 그룹화
-        Map<Long, List<FamilyMemberTagMapping>> mappingsByMemberId = allMappings.stream()
-            .collect(Collectors.groupingBy(FamilyMemberTagMapping::getMemberId));
-
-        // orphan 태그 확인 및 로깅
-        Set<Long> existingTagIds = tagMap.keySet();
-        allMappings.stream()
-            .filter(mapping -> !existingTagIds.contains(mapping.getTagId()))
-            .forEach(mapping -> log.warn(
-                "Orphan tag mapping detected: memberId={}, tagId={}",
-                mapping.getMemberId(), mapping.getTagId()
-            ));
-
-        // 6. 각 멤버에 태그 정보 매핑
-        return filteredMembers.stream()
-            .map(member -> {
-                List<FamilyMemberTagMapping> memberMappings =
-                    mappingsByMemberId.getOrDefault(member.getId(), List.of());
-
-                List<TagSimpleInfo> tags = memberMappings.stream()
-                    .map(mapping -> tagMap.get(mapping.getTagId()))
-                    .filter(tag -> tag != null)
+        return findFamilyMemberWithTagsPort.findAllByFamilyIdAndStatusIn(query.familyId(), visibleStatuses)
+            .stream()
+            .map(memberWithTags -> new FamilyMemberWithTagsInfo(
+                memberWithTags.getMember(),
+                memberWithTags.getTags().stream()
                     .map(tag -> new TagSimpleInfo(tag.getId(), tag.getName(), tag.getColor()))
-                    .toList();
-
-                return new FamilyMemberWithTagsInfo(member, tags);
-            })
+                    .toList()
+            ))
             .toList();
     }
 }
@@ -1,14 +1,11 @@
 package io.jhchoe.familytree.core.family.application.service;
 
-import io.jhchoe.familytree.common.exception.FTException;
 import io.jhchoe.familytree.core.family.application.port.in.FamilyMemberTagInfo;
 import io.jhchoe.familytree.core.family.application.port.in.FindFamilyMemberTagsQuery;
 import io.jhchoe.familytree.core.family.application.port.in.FindFamilyMemberTagUseCase;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberTagPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberTag;
-import io.jhchoe.familytree.core.family.exception.FamilyExceptionCode;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -24,8 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class FindFamilyMemberTagService implements FindFamilyMemberTagUseCase {
 
     private final FindFamilyMemberTagPort findFamilyMemberTagPort;
-    private final FindFamilyPort findFamilyPort;
-    private final FindFamilyMemberPort findFamilyMemberPort;
+    private final FamilyMembershipResolver familyMembershipResolver;
 
     /**
      * {@inheritDoc}
@@ -38,30 +34,16 @@ public class FindFamilyMemberTagService implements FindFamilyMemberTagUseCase {
 
         Long familyId = query.familyId();
 
-        // 1. Family 존재 여부 확인
-        validateFamilyExists(familyId);
+        // 1. Family 존재 여부와 구성원 여부를 한 번에 확인
+        familyMembershipResolver.resolveMember(familyId, currentUserId);
 
-        // 2. 현재 사용자가 Family 구성원인지 확인
-        validateFamilyMember(familyId, currentUserId);
-
-        // 3. 태그 목록 조회
+        // 2. 태그 목록 조회
         List<FamilyMemberTag> tags = findFamilyMemberTagPort.findAllByFamilyId(familyId);
 
-        // 4. 가나다순 정렬하여 반환 (memberCount는 Sprint 2-BE에서 Mapping 구현 후 추가)
+        // 3. 가나다순 정렬하여 반환 (memberCount는 Sprint 2-BE에서 Mapping 구현 후 추가)
         return tags.stream()
             .map(tag -> FamilyMemberTagInfo.fromDomain(tag, 0))
             .sorted(Comparator.comparing(FamilyMemberTagInfo::name))
             .toList();
     }
-
-    private void validateFamilyExists(final Long familyId) {
-        if (!findFamilyPort.existsById(familyId)) {
-            throw new FTException(FamilyExceptionCode.FAMILY_NOT_FOUND);
-        }
-    }
-
-    private void validateFamilyMember(final Long familyId, final Long userId) {
-        findFamilyMemberPort.findByFamilyIdAndUserId(familyId, userId)
-            .orElseThrow(() -> new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
-    }
 }
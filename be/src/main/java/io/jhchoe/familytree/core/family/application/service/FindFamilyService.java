@@ -12,6 +12,7 @@ import io.jhchoe.familytree.core.family.application.validation.FamilyMemberAutho
 import io.jhchoe.familytree.core.family.domain.CursorPage;
 import io.jhchoe.familytree.core.family.domain.Family;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
+import io.jhchoe.familytree.core.family.domain.FamilySummary;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -66,25 +67,18 @@ public class FindFamilyService implements FindFamilyUseCase {
      * {@inheritDoc}
      */
     @Override
-    public List<Family> findAll(FindMyFamiliesQuery query) {
+    public List<FamilySummary> findAll(FindMyFamiliesQuery query) {
         Objects.requireNonNull(query, "query must not be null");
 
-        // 1. 사용자가 소속된 FamilyMember 목록 조회
-        List<FamilyMember> familyMembers = findFamilyMemberPort.findAllByUserId(query.getUserId());
-
-        // 2. FamilyMember에서 Family ID 추출하여 Family 정보 조회
-        return familyMembers.stream()
-            .map(FamilyMember::getFamilyId)
-            .map(familyId -> findFamilyPort.findById(familyId)
-                .orElseThrow(() -> FTException.NOT_FOUND))
-            .toList();
+        // 소속 Family, 역할, 구성원 수를 하나의 쿼리로 조회
+        return findFamilyMemberPort.findAllSummariesByUserId(query.getUserId());
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public CursorPage<Family> findAll(FindPublicFamiliesQuery query) {
+    public CursorPage<FamilySummary> findAll(FindPublicFamiliesQuery query) {
         Objects.requireNonNull(query, "query must not be null");
 
         // 공개 Family 검색 수행 (인프라 계층에서 isPublic=true 필터링 + 키워드 검색 + 커서 페이징 처리)
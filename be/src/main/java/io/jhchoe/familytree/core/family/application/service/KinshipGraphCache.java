@@ -0,0 +1,122 @@
+package io.jhchoe.familytree.core.family.application.service;
+
+import io.jhchoe.familytree.common.cache.BoundedLruCache;
+import io.jhchoe.familytree.core.family.config.KinshipGraphCacheProperties;
+import io.jhchoe.familytree.core.family.domain.KinshipGraph;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Objects;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Family 단위 친족 그래프를 요청 간에 재사용하는 크기 제한 LRU 캐시입니다.
+ *
+ * <p>그래프는 만들 때의 Family 내용 버전과 함께 보관합니다. 구성원 가입·탈퇴와 다른 노드의 변경은 내용 버전이 달라지는 것으로
+ * 감지하여 다시 만들고, 관계가 변경되면 {@link ModifyFamilyMemberRelationshipService}가 항목을 바로 제거합니다.
+ * 트랜잭션 안에서 제거된 경우 커밋 직후 한 번 더 제거합니다.</p>
+ */
+@Slf4j
+@Component
+public class KinshipGraphCache {
+
+    private static final String METRIC_PREFIX = "family.kinship.graph.cache";
+
+    private final KinshipGraphCacheProperties properties;
+    private final BoundedLruCache<Long, CachedGraph> store;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public KinshipGraphCache(final KinshipGraphCacheProperties properties, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.store = new BoundedLruCache<>(properties.getMaxSize());
+        this.hitCounter = Counter.builder(METRIC_PREFIX + ".hits")
+            .description("친족 그래프 캐시 적중 횟수")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_PREFIX + ".misses")
+            .description("친족 그래프 캐시 미적중 횟수")
+            .register(meterRegistry);
+        this.evictionCounter = Counter.builder(METRIC_PREFIX + ".evictions")
+            .description("관계 변경으로 제거된 친족 그래프 수")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, KinshipGraphCache::size)
+            .description("친족 그래프 캐시 항목 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 내용 버전이 같은 친족 그래프를 반환하고, 없으면 loader로 만든 그래프를 저장합니다.
+     * 캐시가 비활성화되어 있으면 항상 loader를 호출합니다.
+     *
+     * @param familyId Family ID
+     * @param version  현재 Family 내용 버전
+     * @param loader   캐시 미적중 시 그래프를 만드는 함수
+     * @return 친족 그래프
+     */
+    public KinshipGraph find(final Long familyId, final long version, final Supplier<KinshipGraph> loader) {
+        Objects.requireNonNull(familyId, "familyId must not be null");
+        Objects.requireNonNull(loader, "loader must not be null");
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+
+        final CachedGraph cached = store.get(familyId);
+        if (cached != null && cached.version() == version) {
+            hitCounter.increment();
+            return cached.graph();
+        }
+
+        missCounter.increment();
+        final KinshipGraph loaded = loader.get();
+        final CachedGraph loadedGraph = new CachedGraph(version, loaded);
+        // 다른 요청이 더 최신 버전으로 먼저 교체했다면 덮어쓰지 않는다
+        store.compute(familyId, (key, current) -> current == null || current.version() <= version ? loadedGraph : current);
+        return loaded;
+    }
+
+    /**
+     * 구성원 관계가 변경되었을 때 Family의 친족 그래프를 제거합니다.
+     * 트랜잭션이 진행 중이면 커밋 후에도 다시 제거합니다.
+     *
+     * @param familyId Family ID
+     */
+    public void evict(final Long familyId) {
+        Objects.requireNonNull(familyId, "familyId must not be null");
+
+        remove(familyId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(familyId);
+                }
+            });
+        }
+        evictionCounter.increment();
+        log.debug("친족 그래프 캐시 제거: [Family ID: {}]", familyId);
+    }
+
+    /**
+     * 현재 캐시 항목 수를 반환합니다.
+     *
+     * @return 캐시 항목 수
+     */
+    public int size() {
+        return store.size();
+    }
+
+    private void remove(final Long familyId) {
+        store.remove(familyId);
+    }
+
+    /**
+     * 캐시 항목을 나타내는 내부 레코드입니다.
+     */
+    private record CachedGraph(long version, KinshipGraph graph) {
+    }
+}
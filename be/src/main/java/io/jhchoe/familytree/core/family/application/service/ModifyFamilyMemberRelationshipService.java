@@ -21,6 +21,7 @@ public class ModifyFamilyMemberRelationshipService implements ModifyFamilyMember
 
     private final FindFamilyMemberPort findFamilyMemberPort;
     private final ModifyFamilyMemberPort modifyFamilyMemberPort;
+    private final KinshipGraphCache kinshipGraphCache;
 
     /**
      * {@inheritDoc}
@@ -50,6 +51,11 @@ public class ModifyFamilyMemberRelationshipService implements ModifyFamilyMember
         );
 
         // 5. 저장
-        return modifyFamilyMemberPort.modify(updatedMember);
+        Long modifiedMemberId = modifyFamilyMemberPort.modify(updatedMember);
+
+        // 6. 이전 관계로 만든 친족 그래프 제거
+        kinshipGraphCache.evict(command.familyId());
+
+        return modifiedMemberId;
     }
 }
@@ -6,6 +6,7 @@ import io.jhchoe.familytree.core.family.application.port.in.ModifyFamilyMemberSt
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
 import io.jhchoe.familytree.core.family.application.port.out.ModifyFamilyMemberPort;
 import io.jhchoe.familytree.core.family.application.port.out.SaveFamilyMemberStatusHistoryPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberStatusHistory;
@@ -23,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ModifyFamilyMemberStatusService implements ModifyFamilyMemberStatusUseCase {
 
     private final FindFamilyMemberPort findFamilyMemberPort;
+    private final FamilyMembershipResolver familyMembershipResolver;
     private final ModifyFamilyMemberPort modifyFamilyMemberPort;
     private final SaveFamilyMemberStatusHistoryPort saveFamilyMemberStatusHistoryPort;
     
@@ -35,7 +37,7 @@ public class ModifyFamilyMemberStatusService implements ModifyFamilyMemberStatus
         Objects.requireNonNull(command, "command must not be null");
         
         // 1. 현재 사용자가 해당 Family의 구성원인지 확인하고 역할 검증
-        FamilyMember currentMember = findFamilyMemberPort.findByFamilyIdAndUserId(
+        FamilyMember currentMember = familyMembershipResolver.findMember(
                 command.getFamilyId(), command.getCurrentUserId())
             .orElseThrow(() -> new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
         
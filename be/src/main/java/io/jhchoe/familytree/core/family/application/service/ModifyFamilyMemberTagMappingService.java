@@ -1,36 +1,48 @@
 package io.jhchoe.familytree.core.family.application.service;
 
 import io.jhchoe.familytree.common.exception.FTException;
+import io.jhchoe.familytree.core.family.application.port.in.BulkModifyFamilyMemberTagMappingCommand;
+import io.jhchoe.familytree.core.family.application.port.in.BulkModifyFamilyMemberTagMappingCommand.MemberTagAssignment;
 import io.jhchoe.familytree.core.family.application.port.in.FamilyMemberTagMappingInfo;
 import io.jhchoe.familytree.core.family.application.port.in.FamilyMemberTagMappingInfo.TagSimpleInfo;
 import io.jhchoe.familytree.core.family.application.port.in.ModifyFamilyMemberTagMappingCommand;
 import io.jhchoe.familytree.core.family.application.port.in.ModifyFamilyMemberTagMappingUseCase;
 import io.jhchoe.familytree.core.family.application.port.out.DeleteFamilyMemberTagMappingPort;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
+import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberTagMappingPort;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberTagPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyPort;
 import io.jhchoe.familytree.core.family.application.port.out.SaveFamilyMemberTagMappingPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberTag;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberTagMapping;
 import io.jhchoe.familytree.core.family.exception.FamilyExceptionCode;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 멤버에 태그를 할당/해제하는 서비스입니다.
+ * <p>
+ * 기존 매핑과 요청된 태그를 비교하여 달라진 매핑만 삭제·추가합니다.
+ * 변경되지 않은 매핑은 그대로 유지되므로 태그 하나만 바뀌어도 전체 행을 다시 쓰지 않습니다.
  */
 @Service
 @RequiredArgsConstructor
 public class ModifyFamilyMemberTagMappingService implements ModifyFamilyMemberTagMappingUseCase {
 
-    private final FindFamilyPort findFamilyPort;
     private final FindFamilyMemberPort findFamilyMemberPort;
+    private final FamilyMembershipResolver familyMembershipResolver;
     private final FindFamilyMemberTagPort findFamilyMemberTagPort;
+    private final FindFamilyMemberTagMappingPort findFamilyMemberTagMappingPort;
     private final SaveFamilyMemberTagMappingPort saveFamilyMemberTagMappingPort;
     private final DeleteFamilyMemberTagMappingPort deleteFamilyMemberTagMappingPort;
 
@@ -47,58 +59,181 @@ public class ModifyFamilyMemberTagMappingService implements ModifyFamilyMemberTa
         Long memberId = command.memberId();
         List<Long> tagIds = command.tagIds();
 
-        // 1. Family 존재 여부 확인
-        validateFamilyExists(familyId);
-
-        // 2. 현재 사용자가 Family 구성원이면서 OWNER인지 확인
-        FamilyMember currentMember = findFamilyMemberPort
-            .findByFamilyIdAndUserId(familyId, currentUserId)
-            .orElseThrow(() -> new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
+        // 1. Family 존재 여부와 구성원 여부를 한 번에 확인 및 OWNER 권한 검증
+        FamilyMember currentMember = familyMembershipResolver.resolveMember(familyId, currentUserId);
 
         validateOwnerRole(currentMember);
 
-        // 3. 대상 멤버 조회 및 검증
+        // 2. 대상 멤버 조회 및 검증
         FamilyMember targetMember = findFamilyMemberPort.findById(memberId)
             .orElseThrow(() -> new FTException(FamilyExceptionCode.MEMBER_NOT_FOUND));
 
-        // 4. 대상 멤버가 해당 Family 소속인지 확인
+        // 3. 대상 멤버가 해당 Family 소속인지 확인
         if (!targetMember.getFamilyId().equals(familyId)) {
             throw new FTException(FamilyExceptionCode.MEMBER_NOT_IN_FAMILY);
         }
 
-        // 5. 태그 검증 및 매핑 생성
+        // 4. 태그 검증 및 매핑 생성
         List<FamilyMemberTag> tags = validateAndGetTags(tagIds, familyId);
 
-        // 6. 기존 매핑 삭제 후 새 매핑 저장 (전체 교체 방식)
-        deleteFamilyMemberTagMappingPort.deleteAllByMemberId(memberId);
+        // 5. 기존 매핑과 비교하여 달라진 매핑만 반영
+        List<Long> deletingMappingIds = new ArrayList<>();
+        List<FamilyMemberTagMapping> addingMappings = new ArrayList<>();
+        collectChanges(
+            memberId,
+            tags,
+            findFamilyMemberTagMappingPort.findAllByMemberId(memberId),
+            deletingMappingIds,
+            addingMappings
+        );
+        applyChanges(deletingMappingIds, addingMappings);
 
-        if (!tags.isEmpty()) {
-            List<FamilyMemberTagMapping> mappings = tags.stream()
-                .map(tag -> FamilyMemberTagMapping.newMapping(tag.getId(), memberId))
-                .toList();
-            saveFamilyMemberTagMappingPort.saveAll(mappings);
+        // 6. 결과 반환
+        return toInfo(targetMember, tags);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public List<FamilyMemberTagMappingInfo> modifyAll(
+        final BulkModifyFamilyMemberTagMappingCommand command,
+        final Long currentUserId
+    ) {
+        Objects.requireNonNull(command, "command는 null일 수 없습니다");
+        Objects.requireNonNull(currentUserId, "currentUserId는 null일 수 없습니다");
+
+        Long familyId = command.familyId();
+        List<MemberTagAssignment> assignments = command.assignments();
+        List<Long> memberIds = assignments.stream()
+            .map(MemberTagAssignment::memberId)
+            .toList();
+
+        // 1. Family 존재 여부와 구성원 여부를 한 번에 확인 및 OWNER 권한 검증
+        FamilyMember currentMember = familyMembershipResolver.resolveMember(familyId, currentUserId);
+
+        validateOwnerRole(currentMember);
+
+        // 2. 대상 멤버 일괄 조회 및 검증
+        Map<Long, FamilyMember> membersById = findFamilyMemberPort.findAllByIds(memberIds).stream()
+            .collect(Collectors.toMap(FamilyMember::getId, Function.identity()));
+
+        for (Long memberId : memberIds) {
+            FamilyMember member = membersById.get(memberId);
+            if (member == null) {
+                throw new FTException(FamilyExceptionCode.MEMBER_NOT_FOUND);
+            }
+            if (!member.getFamilyId().equals(familyId)) {
+                throw new FTException(FamilyExceptionCode.MEMBER_NOT_IN_FAMILY);
+            }
         }
 
-        // 7. 결과 반환
-        List<TagSimpleInfo> tagInfos = tags.stream()
-            .map(tag -> new TagSimpleInfo(tag.getId(), tag.getName(), tag.getColor()))
+        // 3. 요청된 모든 태그를 한 번에 검증
+        List<Long> allTagIds = assignments.stream()
+            .flatMap(assignment -> assignment.tagIds().stream())
+            .distinct()
             .toList();
+        Map<Long, FamilyMemberTag> tagsById = validateAndGetTags(allTagIds, familyId).stream()
+            .collect(Collectors.toMap(FamilyMemberTag::getId, Function.identity()));
+
+        // 4. 기존 매핑을 한 번에 조회하여 멤버별로 비교
+        Map<Long, List<FamilyMemberTagMapping>> currentMappingsByMemberId =
+            findFamilyMemberTagMappingPort.findAllByMemberIds(memberIds).stream()
+                .collect(Collectors.groupingBy(FamilyMemberTagMapping::getMemberId));
 
-        return new FamilyMemberTagMappingInfo(memberId, targetMember.getName(), tagInfos);
+        List<Long> deletingMappingIds = new ArrayList<>();
+        List<FamilyMemberTagMapping> addingMappings = new ArrayList<>();
+        List<FamilyMemberTagMappingInfo> results = new ArrayList<>(assignments.size());
+
+        for (MemberTagAssignment assignment : assignments) {
+            List<FamilyMemberTag> tags = assignment.tagIds().stream()
+                .distinct()
+                .map(tagsById::get)
+                .toList();
+            collectChanges(
+                assignment.memberId(),
+                tags,
+                currentMappingsByMemberId.getOrDefault(assignment.memberId(), List.of()),
+                deletingMappingIds,
+                addingMappings
+            );
+            results.add(toInfo(membersById.get(assignment.memberId()), tags));
+        }
+
+        // 5. 모든 멤버의 변경분을 한 번에 반영
+        applyChanges(deletingMappingIds, addingMappings);
+
+        return results;
+    }
+
+    /**
+     * 현재 매핑과 요청된 태그를 비교하여 삭제할 매핑 ID와 추가할 매핑을 수집합니다.
+     *
+     * @param memberId           멤버 ID
+     * @param tags               할당할 태그 목록
+     * @param currentMappings    멤버의 현재 매핑 목록
+     * @param deletingMappingIds 삭제할 매핑 ID를 담을 목록
+     * @param addingMappings     추가할 매핑을 담을 목록
+     */
+    private void collectChanges(
+        final Long memberId,
+        final List<FamilyMemberTag> tags,
+        final List<FamilyMemberTagMapping> currentMappings,
+        final List<Long> deletingMappingIds,
+        final List<FamilyMemberTagMapping> addingMappings
+    ) {
+        Set<Long> desiredTagIds = tags.stream()
+            .map(FamilyMemberTag::getId)
+            .collect(Collectors.toSet());
+        Set<Long> currentTagIds = currentMappings.stream()
+            .map(FamilyMemberTagMapping::getTagId)
+            .collect(Collectors.toSet());
+
+        currentMappings.stream()
+            .filter(mapping -> !desiredTagIds.contains(mapping.getTagId()))
+            .map(FamilyMemberTagMapping::getId)
+            .forEach(deletingMappingIds::add);
+
+        tags.stream()
+            .filter(tag -> !currentTagIds.contains(tag.getId()))
+            .map(tag -> FamilyMemberTagMapping.newMapping(tag.getId(), memberId))
+            .forEach(addingMappings::add);
     }
 
     /**
-     * Family가 존재하는지 검증합니다.
+     * 수집된 변경분을 삭제 후 추가 순서로 반영합니다. 변경분이 없으면 쿼리를 실행하지 않습니다.
      *
-     * @param familyId 검증할 Family ID
-     * @throws FTException Family가 존재하지 않는 경우
+     * @param deletingMappingIds 삭제할 매핑 ID 목록
+     * @param addingMappings     추가할 매핑 목록
      */
-    private void validateFamilyExists(final Long familyId) {
-        if (!findFamilyPort.existsById(familyId)) {
-            throw new FTException(FamilyExceptionCode.FAMILY_NOT_FOUND);
+    private void applyChanges(
+        final List<Long> deletingMappingIds,
+        final List<FamilyMemberTagMapping> addingMappings
+    ) {
+        if (!deletingMappingIds.isEmpty()) {
+            deleteFamilyMemberTagMappingPort.deleteAllByIds(deletingMappingIds);
+        }
+        if (!addingMappings.isEmpty()) {
+            saveFamilyMemberTagMappingPort.saveAll(addingMappings);
         }
     }
 
+    /**
+     * 멤버와 할당된 태그로 결과 객체를 생성합니다.
+     *
+     * @param member 멤버
+     * @param tags   할당된 태그 목록
+     * @return 멤버 태그 정보
+     */
+    private FamilyMemberTagMappingInfo toInfo(final FamilyMember member, final List<FamilyMemberTag> tags) {
+        List<TagSimpleInfo> tagInfos = tags.stream()
+            .map(tag -> new TagSimpleInfo(tag.getId(), tag.getName(), tag.getColor()))
+            .toList();
+
+        return new FamilyMemberTagMappingInfo(member.getId(), member.getName(), tagInfos);
+    }
+
     /**
      * 멤버가 OWNER 권한을 가지고 있는지 검증합니다.
      *
@@ -4,10 +4,9 @@ import io.jhchoe.familytree.common.exception.FTException;
 import io.jhchoe.familytree.core.family.application.port.in.FamilyMemberTagInfo;
 import io.jhchoe.familytree.core.family.application.port.in.ModifyFamilyMemberTagCommand;
 import io.jhchoe.familytree.core.family.application.port.in.ModifyFamilyMemberTagUseCase;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberTagPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyPort;
 import io.jhchoe.familytree.core.family.application.port.out.SaveFamilyMemberTagPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberTag;
@@ -26,8 +25,7 @@ public class ModifyFamilyMemberTagService implements ModifyFamilyMemberTagUseCas
 
     private final SaveFamilyMemberTagPort saveFamilyMemberTagPort;
     private final FindFamilyMemberTagPort findFamilyMemberTagPort;
-    private final FindFamilyPort findFamilyPort;
-    private final FindFamilyMemberPort findFamilyMemberPort;
+    private final FamilyMembershipResolver familyMembershipResolver;
 
     /**
      * {@inheritDoc}
@@ -41,26 +39,21 @@ public class ModifyFamilyMemberTagService implements ModifyFamilyMemberTagUseCas
         Long familyId = command.familyId();
         Long tagId = command.tagId();
 
-        // 1. Family 존재 여부 확인
-        validateFamilyExists(familyId);
-
-        // 2. OWNER 권한 검증
-        FamilyMember currentMember = findFamilyMemberPort
-            .findByFamilyIdAndUserId(familyId, currentUserId)
-            .orElseThrow(() -> new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
+        // 1. Family 존재 여부와 구성원 여부를 한 번에 확인 및 OWNER 권한 검증
+        FamilyMember currentMember = familyMembershipResolver.resolveMember(familyId, currentUserId);
 
         validateOwnerRole(currentMember);
 
-        // 3. 태그 존재 여부 확인
+        // 2. 태그 존재 여부 확인
         FamilyMemberTag tag = findFamilyMemberTagPort.findById(tagId)
             .orElseThrow(() -> new FTException(FamilyExceptionCode.TAG_NOT_FOUND));
 
-        // 4. 태그가 해당 Family의 것인지 확인
+        // 3. 태그가 해당 Family의 것인지 확인
         if (!tag.getFamilyId().equals(familyId)) {
             throw new FTException(FamilyExceptionCode.TAG_NOT_IN_FAMILY);
         }
 
-        // 5. 이름 변경 시 중복 검증 (본인 제외)
+        // 4. 이름 변경 시 중복 검증 (본인 제외)
         String newName = command.name();
         if (newName != null) {
             findFamilyMemberTagPort.findByFamilyIdAndName(familyId, newName)
@@ -70,7 +63,7 @@ public class ModifyFamilyMemberTagService implements ModifyFamilyMemberTagUseCas
                 });
         }
 
-        // 6. 태그 수정
+        // 5. 태그 수정
         FamilyMemberTag modifiedTag = tag;
         if (newName != null) {
             modifiedTag = modifiedTag.rename(newName, currentUserId);
@@ -87,12 +80,6 @@ public class ModifyFamilyMemberTagService implements ModifyFamilyMemberTagUseCas
         return FamilyMemberTagInfo.fromDomain(modifiedTag, 0);
     }
 
-    private void validateFamilyExists(final Long familyId) {
-        if (!findFamilyPort.existsById(familyId)) {
-            throw new FTException(FamilyExceptionCode.FAMILY_NOT_FOUND);
-        }
-    }
-
     private void validateOwnerRole(final FamilyMember member) {
         if (!member.hasRoleAtLeast(FamilyMemberRole.OWNER)) {
             throw new FTException(FamilyExceptionCode.NOT_AUTHORIZED);
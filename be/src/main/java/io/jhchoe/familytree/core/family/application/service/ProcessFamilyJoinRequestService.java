@@ -4,10 +4,10 @@ import io.jhchoe.familytree.common.exception.FTException;
 import io.jhchoe.familytree.core.family.application.port.in.ProcessFamilyJoinRequestCommand;
 import io.jhchoe.familytree.core.family.application.port.in.ProcessFamilyJoinRequestUseCase;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyJoinRequestPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
 import io.jhchoe.familytree.core.family.application.port.out.ModifyFamilyJoinRequestPort;
 import io.jhchoe.familytree.core.family.application.port.out.SaveFamilyMemberPort;
 import io.jhchoe.familytree.core.family.application.validation.FamilyMemberAuthorizationValidator;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
 import io.jhchoe.familytree.core.family.domain.FamilyJoinRequest;
 import io.jhchoe.familytree.core.family.domain.FamilyJoinRequestStatus;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
@@ -27,7 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ProcessFamilyJoinRequestService implements ProcessFamilyJoinRequestUseCase {
 
-    private final FindFamilyMemberPort findFamilyMemberPort;
+    private final FamilyMembershipResolver familyMembershipResolver;
     private final FindFamilyJoinRequestPort findFamilyJoinRequestPort;
     private final ModifyFamilyJoinRequestPort modifyFamilyJoinRequestPort;
     private final SaveFamilyMemberPort saveFamilyMemberPort;
@@ -42,7 +42,7 @@ public class ProcessFamilyJoinRequestService implements ProcessFamilyJoinRequest
         Objects.requireNonNull(command, "command must not be null");
 
         // 1. 현재 사용자가 해당 Family의 구성원인지 확인하고 권한 검증
-        FamilyMember currentMember = findFamilyMemberPort.findByFamilyIdAndUserId(
+        FamilyMember currentMember = familyMembershipResolver.findMember(
                 command.getFamilyId(), command.getCurrentUserId())
             .orElseThrow(() -> new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
 
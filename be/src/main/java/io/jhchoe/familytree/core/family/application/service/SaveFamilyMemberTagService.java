@@ -3,10 +3,9 @@ package io.jhchoe.familytree.core.family.application.service;
 import io.jhchoe.familytree.common.exception.FTException;
 import io.jhchoe.familytree.core.family.application.port.in.SaveFamilyMemberTagCommand;
 import io.jhchoe.familytree.core.family.application.port.in.SaveFamilyMemberTagUseCase;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberTagPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyPort;
 import io.jhchoe.familytree.core.family.application.port.out.SaveFamilyMemberTagPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberTag;
@@ -27,8 +26,7 @@ public class SaveFamilyMemberTagService implements SaveFamilyMemberTagUseCase {
 
     private final SaveFamilyMemberTagPort saveFamilyMemberTagPort;
     private final FindFamilyMemberTagPort findFamilyMemberTagPort;
-    private final FindFamilyPort findFamilyPort;
-    private final FindFamilyMemberPort findFamilyMemberPort;
+    private final FamilyMembershipResolver familyMembershipResolver;
 
     /**
      * {@inheritDoc}
@@ -41,39 +39,28 @@ public class SaveFamilyMemberTagService implements SaveFamilyMemberTagUseCase {
 
         Long familyId = command.familyId();
 
-        // 1. Family 존재 여부 확인
-        validateFamilyExists(familyId);
-
-        // 2. 현재 사용자가 Family 구성원인지 확인 및 OWNER 권한 검증
-        FamilyMember currentMember = findFamilyMemberPort
-            .findByFamilyIdAndUserId(familyId, currentUserId)
-            .orElseThrow(() -> new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
+        // 1. Family 존재 여부와 구성원 여부를 한 번에 확인 및 OWNER 권한 검증
+        FamilyMember currentMember = familyMembershipResolver.resolveMember(familyId, currentUserId);
 
         validateOwnerRole(currentMember);
 
-        // 3. 태그 수 제한 검증 (최대 10개)
+        // 2. 태그 수 제한 검증 (최대 10개)
         int tagCount = findFamilyMemberTagPort.countByFamilyId(familyId);
         if (tagCount >= MAX_TAGS_PER_FAMILY) {
             throw new FTException(FamilyExceptionCode.TAG_LIMIT_EXCEEDED);
         }
 
-        // 4. 이름 중복 검증
+        // 3. 이름 중복 검증
         findFamilyMemberTagPort.findByFamilyIdAndName(familyId, command.name())
             .ifPresent(existing -> {
                 throw new FTException(FamilyExceptionCode.TAG_NAME_DUPLICATED);
             });
 
-        // 5. 태그 생성 및 저장
+        // 4. 태그 생성 및 저장
         FamilyMemberTag tag = FamilyMemberTag.newTag(familyId, command.name(), currentUserId);
         return saveFamilyMemberTagPort.save(tag);
     }
 
-    private void validateFamilyExists(final Long familyId) {
-        if (!findFamilyPort.existsById(familyId)) {
-            throw new FTException(FamilyExceptionCode.FAMILY_NOT_FOUND);
-        }
-    }
-
     private void validateOwnerRole(final FamilyMember member) {
         if (!member.hasRoleAtLeast(FamilyMemberRole.OWNER)) {
             throw new FTException(FamilyExceptionCode.NOT_AUTHORIZED);
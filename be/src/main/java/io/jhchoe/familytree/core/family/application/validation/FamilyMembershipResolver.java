@@ -0,0 +1,113 @@
+package io.jhchoe.familytree.core.family.application.validation;
+
+import io.jhchoe.familytree.common.exception.FTException;
+import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
+import io.jhchoe.familytree.core.family.domain.FamilyMember;
+import io.jhchoe.familytree.core.family.domain.FamilyMembership;
+import io.jhchoe.familytree.core.family.exception.FamilyExceptionCode;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 현재 사용자의 Family 구성원 정보를 조회하고, 같은 HTTP 요청 안에서는 결과를 재사용하는 컴포넌트입니다.
+ *
+ * <p>Family 존재 확인과 구성원 조회를 하나의 쿼리로 처리하며, 조회 결과는 요청 속성에 보관되어
+ * 한 요청에서 여러 유스케이스가 같은 구성원 정보를 필요로 해도 다시 조회하지 않습니다.
+ * HTTP 요청 밖(스케줄러, 단위 테스트 등)에서는 매번 조회합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class FamilyMembershipResolver {
+
+    private static final String MEMBERSHIP_ATTRIBUTE_PREFIX = FamilyMembershipResolver.class.getName() + ".membership:";
+    private static final String MEMBER_ATTRIBUTE_PREFIX = FamilyMembershipResolver.class.getName() + ".member:";
+
+    private final FindFamilyMemberPort findFamilyMemberPort;
+
+    /**
+     * Family 존재 여부와 현재 사용자의 구성원 여부를 확인하고 구성원 정보를 반환합니다.
+     *
+     * @param familyId Family ID
+     * @param userId 현재 사용자 ID
+     * @return 현재 사용자의 구성원 정보
+     * @throws FTException Family가 존재하지 않거나(FAMILY_NOT_FOUND) 구성원이 아닌 경우(NOT_FAMILY_MEMBER)
+     */
+    public FamilyMember resolveMember(final Long familyId, final Long userId) {
+        return findMembership(familyId, userId)
+            .orElseThrow(() -> new FTException(FamilyExceptionCode.FAMILY_NOT_FOUND))
+            .findMember()
+            .orElseThrow(() -> new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
+    }
+
+    /**
+     * Family와 현재 사용자의 구성원 정보를 한 번에 조회합니다.
+     *
+     * @param familyId Family ID
+     * @param userId 현재 사용자 ID
+     * @return Family와 구성원 정보, Family가 존재하지 않으면 빈 Optional
+     */
+    public Optional<FamilyMembership> findMembership(final Long familyId, final Long userId) {
+        Objects.requireNonNull(familyId, "familyId must not be null");
+        Objects.requireNonNull(userId, "userId must not be null");
+
+        return memoize(
+            MEMBERSHIP_ATTRIBUTE_PREFIX + familyId + ":" + userId,
+            () -> findFamilyMemberPort.findMembership(familyId, userId)
+        );
+    }
+
+    /**
+     * Family 존재 확인 없이 현재 사용자의 구성원 정보만 조회합니다.
+     * 같은 요청에서 이미 {@link #findMembership(Long, Long)}로 조회했다면 그 결과를 재사용합니다.
+     *
+     * @param familyId Family ID
+     * @param userId 현재 사용자 ID
+     * @return 구성원 정보, 구성원이 아니면 빈 Optional
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<FamilyMember> findMember(final Long familyId, final Long userId) {
+        Objects.requireNonNull(familyId, "familyId must not be null");
+        Objects.requireNonNull(userId, "userId must not be null");
+
+        final Object resolvedMembership = getRequestAttribute(MEMBERSHIP_ATTRIBUTE_PREFIX + familyId + ":" + userId);
+        if (resolvedMembership != null) {
+            return ((Optional<FamilyMembership>) resolvedMembership).flatMap(FamilyMembership::findMember);
+        }
+        return memoize(
+            MEMBER_ATTRIBUTE_PREFIX + familyId + ":" + userId,
+            () -> findFamilyMemberPort.findByFamilyIdAndUserId(familyId, userId)
+        );
+    }
+
+    /**
+     * 요청 속성에 조회 결과가 있으면 재사용하고, 없으면 조회 후 보관합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Optional<T> memoize(final String attributeName, final Supplier<Optional<T>> loader) {
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return loader.get();
+        }
+
+        final Object cached = requestAttributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+        if (cached != null) {
+            return (Optional<T>) cached;
+        }
+        final Optional<T> loaded = loader.get();
+        requestAttributes.setAttribute(attributeName, loaded, RequestAttributes.SCOPE_REQUEST);
+        return loaded;
+    }
+
+    private Object getRequestAttribute(final String attributeName) {
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+        return requestAttributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+    }
+}
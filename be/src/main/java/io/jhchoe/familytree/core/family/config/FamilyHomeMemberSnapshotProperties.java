@@ -0,0 +1,53 @@
+package io.jhchoe.familytree.core.family.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Family 홈 구성원 목록 스냅샷 설정 프로퍼티를 관리하는 클래스입니다.
+ * 프로필별 설정 파일에서 {@code family-home.snapshot.enabled}로 스냅샷 사용 여부를 전환합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "family-home.snapshot")
+public class FamilyHomeMemberSnapshotProperties {
+
+    private boolean enabled = false;
+    private int maxSize = 2_000;
+
+    /**
+     * 스냅샷 사용 여부를 반환합니다.
+     *
+     * @return 스냅샷 사용 여부 (기본값 false)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 스냅샷 사용 여부를 설정합니다.
+     *
+     * @param enabled 스냅샷 사용 여부
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 보관할 최대 스냅샷 수를 반환합니다.
+     * Family마다 조회 범위(전체·활성 구성원)별로 최대 두 개의 스냅샷을 보관합니다.
+     *
+     * @return 최대 스냅샷 수 (기본값 2,000)
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 보관할 최대 스냅샷 수를 설정합니다.
+     *
+     * @param maxSize 최대 스냅샷 수
+     */
+    public void setMaxSize(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+}
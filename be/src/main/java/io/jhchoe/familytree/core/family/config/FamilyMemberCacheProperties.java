@@ -0,0 +1,72 @@
+package io.jhchoe.familytree.core.family.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Family 구성원 조회 캐시 설정 프로퍼티를 관리하는 클래스입니다.
+ * 프로필별 설정 파일에서 {@code family-member.cache.enabled}로 캐시 사용 여부를 전환합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "family-member.cache")
+public class FamilyMemberCacheProperties {
+
+    private boolean enabled = false;
+    private int maxSize = 10_000;
+    private long ttlSeconds = 300;
+
+    /**
+     * 캐시 사용 여부를 반환합니다.
+     *
+     * @return 캐시 사용 여부 (기본값 false)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시 사용 여부를 설정합니다.
+     *
+     * @param enabled 캐시 사용 여부
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 캐시에 보관할 최대 항목 수를 반환합니다.
+     *
+     * @return 최대 항목 수 (기본값 10,000)
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 캐시에 보관할 최대 항목 수를 설정합니다.
+     *
+     * @param maxSize 최대 항목 수
+     */
+    public void setMaxSize(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 캐시 항목의 최대 보관 시간(초)을 반환합니다.
+     * 다른 노드에서 변경된 구성원 정보는 이 시간이 지나야 반영됩니다.
+     *
+     * @return 최대 보관 시간 (기본값 300초)
+     */
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    /**
+     * 캐시 항목의 최대 보관 시간(초)을 설정합니다.
+     *
+     * @param ttlSeconds 최대 보관 시간
+     */
+    public void setTtlSeconds(final long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+    }
+}
@@ -0,0 +1,53 @@
+package io.jhchoe.familytree.core.family.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Family 구성원 수 보정 작업 설정 프로퍼티를 관리하는 클래스입니다.
+ * 보정 주기는 {@code family-member.count.reconcile-cron}으로 설정합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "family-member.count")
+public class FamilyMemberCountProperties {
+
+    private boolean reconcileEnabled = true;
+    private int reconcileChunkSize = 1_000;
+
+    /**
+     * 구성원 수 보정 작업 사용 여부를 반환합니다.
+     *
+     * @return 사용 여부 (기본값 true)
+     */
+    public boolean isReconcileEnabled() {
+        return reconcileEnabled;
+    }
+
+    /**
+     * 구성원 수 보정 작업 사용 여부를 설정합니다.
+     *
+     * @param reconcileEnabled 사용 여부
+     */
+    public void setReconcileEnabled(final boolean reconcileEnabled) {
+        this.reconcileEnabled = reconcileEnabled;
+    }
+
+    /**
+     * 한 번의 UPDATE로 보정할 Family ID 범위 크기를 반환합니다.
+     * 범위마다 별도 트랜잭션으로 처리하여 잠금 시간을 짧게 유지합니다.
+     *
+     * @return ID 범위 크기 (기본값 1,000)
+     */
+    public int getReconcileChunkSize() {
+        return reconcileChunkSize;
+    }
+
+    /**
+     * 한 번의 UPDATE로 보정할 Family ID 범위 크기를 설정합니다.
+     *
+     * @param reconcileChunkSize ID 범위 크기
+     */
+    public void setReconcileChunkSize(final int reconcileChunkSize) {
+        this.reconcileChunkSize = reconcileChunkSize;
+    }
+}
@@ -0,0 +1,53 @@
+package io.jhchoe.familytree.core.family.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구성원 부모·자녀 관계 보정 작업 설정 프로퍼티를 관리하는 클래스입니다.
+ * 보정 주기는 {@code family-member.parent.reconcile-cron}으로 설정합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "family-member.parent")
+public class FamilyMemberParentProperties {
+
+    private boolean reconcileEnabled = true;
+    private int reconcileChunkSize = 500;
+
+    /**
+     * 부모·자녀 관계 보정 작업 사용 여부를 반환합니다.
+     *
+     * @return 사용 여부 (기본값 true)
+     */
+    public boolean isReconcileEnabled() {
+        return reconcileEnabled;
+    }
+
+    /**
+     * 부모·자녀 관계 보정 작업 사용 여부를 설정합니다.
+     *
+     * @param reconcileEnabled 사용 여부
+     */
+    public void setReconcileEnabled(final boolean reconcileEnabled) {
+        this.reconcileEnabled = reconcileEnabled;
+    }
+
+    /**
+     * 한 번에 조회할 Family ID 수를 반환합니다.
+     * 관계 갱신은 Family마다 별도 트랜잭션으로 처리합니다.
+     *
+     * @return Family ID 조회 크기 (기본값 500)
+     */
+    public int getReconcileChunkSize() {
+        return reconcileChunkSize;
+    }
+
+    /**
+     * 한 번에 조회할 Family ID 수를 설정합니다.
+     *
+     * @param reconcileChunkSize Family ID 조회 크기
+     */
+    public void setReconcileChunkSize(final int reconcileChunkSize) {
+        this.reconcileChunkSize = reconcileChunkSize;
+    }
+}
@@ -0,0 +1,52 @@
+package io.jhchoe.familytree.core.family.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가족명 메모리 색인 설정 프로퍼티를 관리하는 클래스입니다.
+ * 프로필별 설정 파일에서 {@code family-name.index.enabled}로 색인 사용 여부를 전환합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "family-name.index")
+public class FamilyNameIndexProperties {
+
+    private boolean enabled = false;
+    private int loadChunkSize = 5_000;
+
+    /**
+     * 색인 사용 여부를 반환합니다.
+     *
+     * @return 색인 사용 여부 (기본값 false)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 색인 사용 여부를 설정합니다.
+     *
+     * @param enabled 색인 사용 여부
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 색인을 적재할 때 한 번에 조회할 Family 수를 반환합니다.
+     *
+     * @return 한 번에 조회할 Family 수 (기본값 5,000)
+     */
+    public int getLoadChunkSize() {
+        return loadChunkSize;
+    }
+
+    /**
+     * 색인을 적재할 때 한 번에 조회할 Family 수를 설정합니다.
+     *
+     * @param loadChunkSize 한 번에 조회할 Family 수
+     */
+    public void setLoadChunkSize(final int loadChunkSize) {
+        this.loadChunkSize = loadChunkSize;
+    }
+}
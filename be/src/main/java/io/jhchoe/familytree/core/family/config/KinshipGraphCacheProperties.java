@@ -0,0 +1,52 @@
+package io.jhchoe.familytree.core.family.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Family 친족 그래프 캐시 설정 프로퍼티를 관리하는 클래스입니다.
+ * 프로필별 설정 파일에서 {@code family-kinship.cache.enabled}로 캐시 사용 여부를 전환합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "family-kinship.cache")
+public class KinshipGraphCacheProperties {
+
+    private boolean enabled = false;
+    private int maxSize = 1_000;
+
+    /**
+     * 캐시 사용 여부를 반환합니다.
+     *
+     * @return 캐시 사용 여부 (기본값 false)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시 사용 여부를 설정합니다.
+     *
+     * @param enabled 캐시 사용 여부
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 캐시에 보관할 최대 Family 수를 반환합니다.
+     *
+     * @return 최대 Family 수 (기본값 1,000)
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 캐시에 보관할 최대 Family 수를 설정합니다.
+     *
+     * @param maxSize 최대 Family 수
+     */
+    public void setMaxSize(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+}
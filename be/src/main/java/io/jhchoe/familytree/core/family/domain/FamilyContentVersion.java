@@ -0,0 +1,11 @@
+package io.jhchoe.familytree.core.family.domain;
+
+/**
+ * Family 화면 내용의 버전을 나타내는 값 객체입니다.
+ * Family·구성원·태그·태그 매핑·공지사항이 변경될 때마다 증가하므로, 버전이 같으면 조회 결과도 같습니다.
+ *
+ * @param familyId Family ID
+ * @param version  내용 버전
+ */
+public record FamilyContentVersion(Long familyId, long version) {
+}
@@ -0,0 +1,23 @@
+package io.jhchoe.familytree.core.family.domain;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 구성원에서 부모·자녀 관계를 따라 도달한 조상 또는 자손입니다.
+ *
+ * @param memberId 도달한 구성원 ID
+ * @param depth    시작 구성원으로부터의 세대 수 (1부터 시작)
+ * @param path     시작 구성원부터 도달한 구성원까지 거친 구성원 ID 목록 (양 끝 포함)
+ */
+public record FamilyMemberLineageNode(Long memberId, int depth, List<Long> path) {
+
+    public FamilyMemberLineageNode {
+        Objects.requireNonNull(memberId, "memberId must not be null");
+        Objects.requireNonNull(path, "path must not be null");
+        if (depth < 1) {
+            throw new IllegalArgumentException("depth must be positive");
+        }
+        path = List.copyOf(path);
+    }
+}
@@ -0,0 +1,36 @@
+package io.jhchoe.familytree.core.family.domain;
+
+import java.util.List;
+import java.util.Objects;
+import lombok.Getter;
+
+/**
+ * FamilyMemberWithTags 클래스는 Family 구성원과 그 구성원에게 할당된 태그 목록을 함께 표현하는 조회 모델입니다.
+ * <p>
+ * 홈 화면 구성원 목록처럼 구성원과 태그를 한 번에 보여주는 화면에서 사용합니다.
+ */
+@Getter
+public final class FamilyMemberWithTags {
+
+    private final FamilyMember member;
+    private final List<FamilyMemberTag> tags;
+
+    private FamilyMemberWithTags(final FamilyMember member, final List<FamilyMemberTag> tags) {
+        this.member = member;
+        this.tags = tags;
+    }
+
+    /**
+     * 구성원과 태그 목록으로 FamilyMemberWithTags를 생성합니다.
+     *
+     * @param member 구성원
+     * @param tags   할당된 태그 목록 (null이면 빈 목록)
+     * @return FamilyMemberWithTags 인스턴스
+     * @throws NullPointerException member가 null인 경우
+     */
+    public static FamilyMemberWithTags of(final FamilyMember member, final List<FamilyMemberTag> tags) {
+        Objects.requireNonNull(member, "member는 null일 수 없습니다");
+
+        return new FamilyMemberWithTags(member, tags == null ? List.of() : List.copyOf(tags));
+    }
+}
@@ -0,0 +1,46 @@
+package io.jhchoe.familytree.core.family.domain;
+
+import java.util.Objects;
+import java.util.Optional;
+import lombok.Getter;
+
+/**
+ * FamilyMembership 클래스는 특정 사용자 관점에서 본 Family와 그 사용자의 구성원 정보를 함께 표현합니다.
+ * <p>
+ * Family 존재 여부와 구성원 여부를 한 번의 조회로 확인하기 위해 사용합니다.
+ * 사용자가 구성원이 아니면 member는 null입니다.
+ */
+@Getter
+public final class FamilyMembership {
+
+    private final Family family;
+    private final FamilyMember member;
+
+    private FamilyMembership(final Family family, final FamilyMember member) {
+        this.family = family;
+        this.member = member;
+    }
+
+    /**
+     * Family와 구성원 정보로 FamilyMembership을 생성합니다.
+     *
+     * @param family Family
+     * @param member 사용자의 구성원 정보 (구성원이 아니면 null)
+     * @return FamilyMembership 인스턴스
+     * @throws NullPointerException family가 null인 경우
+     */
+    public static FamilyMembership of(final Family family, final FamilyMember member) {
+        Objects.requireNonNull(family, "family는 null일 수 없습니다");
+
+        return new FamilyMembership(family, member);
+    }
+
+    /**
+     * 사용자의 구성원 정보를 반환합니다.
+     *
+     * @return 구성원 정보, 구성원이 아니면 빈 Optional
+     */
+    public Optional<FamilyMember> findMember() {
+        return Optional.ofNullable(member);
+    }
+}
@@ -0,0 +1,43 @@
+package io.jhchoe.familytree.core.family.domain;
+
+import java.util.Objects;
+import lombok.Getter;
+
+/**
+ * FamilySummary 클래스는 Family 목록 화면에 필요한 Family 정보와 활성 구성원 수를 함께 표현합니다.
+ * <p>
+ * 사용자가 소속된 Family 목록에서는 해당 사용자의 역할(role)을 함께 담고,
+ * 공개 Family 검색처럼 사용자 관점이 없는 경우 role은 null입니다.
+ */
+@Getter
+public final class FamilySummary {
+
+    private final Family family;
+    private final FamilyMemberRole role;
+    private final int memberCount;
+
+    private FamilySummary(final Family family, final FamilyMemberRole role, final int memberCount) {
+        this.family = family;
+        this.role = role;
+        this.memberCount = memberCount;
+    }
+
+    /**
+     * Family, 사용자의 역할, 활성 구성원 수로 FamilySummary를 생성합니다.
+     *
+     * @param family Family
+     * @param role 사용자의 역할 (사용자 관점이 없으면 null)
+     * @param memberCount 활성 구성원 수
+     * @return FamilySummary 인스턴스
+     * @throws NullPointerException family가 null인 경우
+     * @throws IllegalArgumentException memberCount가 음수인 경우
+     */
+    public static FamilySummary of(final Family family, final FamilyMemberRole role, final int memberCount) {
+        Objects.requireNonNull(family, "family는 null일 수 없습니다");
+        if (memberCount < 0) {
+            throw new IllegalArgumentException("memberCount는 음수일 수 없습니다");
+        }
+
+        return new FamilySummary(family, role, memberCount);
+    }
+}
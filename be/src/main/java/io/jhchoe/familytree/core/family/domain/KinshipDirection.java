@@ -0,0 +1,30 @@
+package io.jhchoe.familytree.core.family.domain;
+
+/**
+ * 친족 관계 경로에서 한 단계 이동하는 방향을 나타내는 열거형입니다.
+ */
+public enum KinshipDirection {
+    /**
+     * 부모로 이동 (1촌)
+     */
+    PARENT,
+
+    /**
+     * 자녀로 이동 (1촌)
+     */
+    CHILD,
+
+    /**
+     * 배우자로 이동 (무촌)
+     */
+    SPOUSE;
+
+    /**
+     * 이 방향으로 이동할 때 늘어나는 촌수를 반환합니다.
+     *
+     * @return 부모·자녀는 1, 배우자는 0
+     */
+    public int degree() {
+        return this == SPOUSE ? 0 : 1;
+    }
+}
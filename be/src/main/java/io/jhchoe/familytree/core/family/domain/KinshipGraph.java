@@ -0,0 +1,684 @@
+package io.jhchoe.familytree.core.family.domain;
+
+import static io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType.AUNT;
+import static io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType.COUSIN;
+import static io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType.DAUGHTER;
+import static io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType.ELDER_BROTHER;
+import static io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType.ELDER_SISTER;
+import static io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType.FATHER;
+import static io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType.GRANDDAUGHTER;
+import static io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType.GRANDFATHER;
+import static io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType.GRANDMOTHER;
+import static io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType.GRANDSON;
+import static io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType.HUSBAND;
+import static io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType.MOTHER;
+import static io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType.NEPHEW;
+import static io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType.NIECE;
+import static io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType.SON;
+import static io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType.UNCLE;
+import static io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType.WIFE;
+import static io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType.YOUNGER_BROTHER;
+import static io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType.YOUNGER_SISTER;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 한 Family 구성원 사이의 부모·자녀·배우자 관계를 나타내는 불변 친족 그래프입니다.
+ *
+ * <p>노드는 구성원 ID를 정렬한 배열의 위치로 식별하고, 부모·자녀·배우자 인접 목록은 CSR(offset + 값) 형식의
+ * int 배열로 보관하므로 만 명 규모에서도 객체 할당 없이 탐색합니다. 관계를 잇기 위해 가정한 미등록 친족(예: 기록되지 않은 부모)은
+ * 음수 ID의 노드로 표현하며, 경로에는 포함되지만 조상·자손 목록에는 포함되지 않습니다.</p>
+ *
+ * <p>촌수는 경로의 부모·자녀 단계 수이며 배우자 단계는 더하지 않습니다(무촌). 경로 탐색은 배우자 간선의 가중치가 0인
+ * 0-1 BFS로 촌수가 가장 작은 경로를 찾습니다.</p>
+ */
+public final class KinshipGraph {
+
+    private static final int NONE = -1;
+    private static final KinshipDirection[] DIRECTIONS = KinshipDirection.values();
+
+    private final long[] nodeIds;
+    private final int[] parentOffsets;
+    private final int[] parents;
+    private final int[] childOffsets;
+    private final int[] children;
+    private final int[] spouseOffsets;
+    private final int[] spouses;
+
+    private KinshipGraph(
+        final long[] nodeIds,
+        final int[] parentOffsets,
+        final int[] parents,
+        final int[] childOffsets,
+        final int[] children,
+        final int[] spouseOffsets,
+        final int[] spouses
+    ) {
+        this.nodeIds = nodeIds;
+        this.parentOffsets = parentOffsets;
+        this.parents = parents;
+        this.childOffsets = childOffsets;
+        this.children = children;
+        this.spouseOffsets = spouseOffsets;
+        this.spouses = spouses;
+    }
+
+    /**
+     * 친족 그래프 빌더를 생성합니다.
+     *
+     * @return 빈 빌더
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 구성원의 관계 타입으로 친족 그래프를 생성합니다.
+     *
+     * <p>관계 타입은 Family 소유자(OWNER)를 기준으로 한 관계로 해석합니다. 예를 들어 FATHER는 소유자의 부모,
+     * NEPHEW는 소유자 형제자매의 자녀입니다. 중간 친족이 구성원으로 등록되어 있지 않으면 미등록 친족 노드로 잇고,
+     * 같은 관계의 구성원이 여럿이면 ID가 가장 작은 구성원을 중간 친족으로 사용합니다.
+     * 조부모·삼촌·사촌은 친가와 외가를 구분할 수 없으므로 아버지 쪽(없으면 어머니 쪽)으로 잇습니다.
+     * 소유자가 없거나, 관계가 없거나 CUSTOM인 구성원은 다른 구성원과 이어지지 않습니다.</p>
+     *
+     * <p>관계 타입이 소유자 기준 조부모부터 손자녀까지만 있으므로, 이렇게 만든 그래프는 소유자의 위아래 2세대
+     * (조부모 ~ 손자녀, 최대 5세대)를 넘지 않습니다. 증조부모나 증손자녀, 사촌의 자녀처럼 더 먼 친족은 관계 타입으로
+     * 표현할 수 없어 이어지지 않으므로, 조상·자손 조회와 부모·자녀 관계 테이블도 이 범위 안에서만 결과를 냅니다.
+     * 더 깊은 가계도는 {@link #builder()}로 구성원 간 부모·자녀 관계를 직접 지정해야 합니다.</p>
+     *
+     * @param members 같은 Family의 구성원 목록
+     * @return 친족 그래프
+     */
+    public static KinshipGraph fromMembers(final List<FamilyMember> members) {
+        Objects.requireNonNull(members, "members must not be null");
+
+        final List<FamilyMember> sortedMembers = members.stream()
+            .filter(member -> member.getId() != null)
+            .sorted(Comparator.comparing(FamilyMember::getId))
+            .toList();
+        final Builder builder = builder();
+        sortedMembers.forEach(member -> builder.addMember(member.getId()));
+
+        sortedMembers.stream()
+            .filter(member -> member.getRole() == FamilyMemberRole.OWNER)
+            .findFirst()
+            .ifPresent(owner -> new OwnerRelativeLayout(builder, owner.getId(), sortedMembers).apply());
+        return builder.build();
+    }
+
+    /**
+     * 그래프에 포함된 구성원인지 확인합니다.
+     *
+     * @param memberId 구성원 ID
+     * @return 포함 여부
+     */
+    public boolean contains(final long memberId) {
+        return memberId > 0 && indexOf(memberId) != NONE;
+    }
+
+    /**
+     * 미등록 친족 노드를 포함한 노드 수를 반환합니다.
+     *
+     * @return 노드 수
+     */
+    public int size() {
+        return nodeIds.length;
+    }
+
+    /**
+     * 구성원의 조상을 세대가 가까운 순서로 조회합니다. 같은 세대는 구성원 ID 순입니다.
+     * 미등록 친족은 결과에 포함하지 않지만 세대 계산에는 포함합니다.
+     *
+     * @param memberId 기준 구성원 ID
+     * @return 조상 목록, 그래프에 없는 구성원이면 빈 목록
+     */
+    public List<KinshipRelative> findAncestors(final long memberId) {
+        return traverse(memberId, parentOffsets, parents);
+    }
+
+    /**
+     * 구성원의 자손을 세대가 가까운 순서로 조회합니다. 같은 세대는 구성원 ID 순입니다.
+     * 미등록 친족은 결과에 포함하지 않지만 세대 계산에는 포함합니다.
+     *
+     * @param memberId 기준 구성원 ID
+     * @return 자손 목록, 그래프에 없는 구성원이면 빈 목록
+     */
+    public List<KinshipRelative> findDescendants(final long memberId) {
+        return traverse(memberId, childOffsets, children);
+    }
+
+    /**
+     * 두 구성원 사이에서 촌수가 가장 작은 친족 관계 경로를 찾습니다.
+     *
+     * @param fromMemberId 기준 구성원 ID
+     * @param toMemberId   대상 구성원 ID
+     * @return 친족 관계 경로, 어느 한쪽이 그래프에 없거나 이어져 있지 않으면 빈 Optional
+     */
+    public Optional<KinshipPath> findPath(final long fromMemberId, final long toMemberId) {
+        if (!contains(fromMemberId) || !contains(toMemberId)) {
+            return Optional.empty();
+        }
+        final int from = indexOf(fromMemberId);
+        final int to = indexOf(toMemberId);
+
+        final int nodeCount = nodeIds.length;
+        final int[] distance = new int[nodeCount];
+        final int[] previous = new int[nodeCount];
+        final byte[] previousDirection = new byte[nodeCount];
+        final boolean[] settled = new boolean[nodeCount];
+        Arrays.fill(distance, Integer.MAX_VALUE);
+        Arrays.fill(previous, NONE);
+
+        // 완화(relaxation) 한 번에 최대 한 번 넣으므로 전체 인접 항목 수 + 1이면 넘치지 않는다
+        final IntDeque deque = new IntDeque(parents.length + children.length + spouses.length + 1);
+        distance[from] = 0;
+        deque.addFirst(from);
+        while (!deque.isEmpty()) {
+            final int node = deque.pollFirst();
+            if (settled[node]) {
+                continue;
+            }
+            settled[node] = true;
+            if (node == to) {
+                break;
+            }
+            relax(node, parentOffsets, parents, KinshipDirection.PARENT, distance, previous, previousDirection, deque);
+            relax(node, childOffsets, children, KinshipDirection.CHILD, distance, previous, previousDirection, deque);
+            relax(node, spouseOffsets, spouses, KinshipDirection.SPOUSE, distance, previous, previousDirection, deque);
+        }
+        if (distance[to] == Integer.MAX_VALUE) {
+            return Optional.empty();
+        }
+
+        final List<KinshipStep> steps = new ArrayList<>();
+        for (int node = to; node != from; node = previous[node]) {
+            final long nodeId = nodeIds[node];
+            steps.add(new KinshipStep(nodeId > 0 ? nodeId : null, DIRECTIONS[previousDirection[node]]));
+        }
+        return Optional.of(new KinshipPath(fromMemberId, toMemberId, distance[to], steps.reversed()));
+    }
+
+    /**
+     * 등록된 구성원 사이의 부모·자녀 관계를 조회합니다.
+     *
+     * <p>미등록 친족 노드는 건너뛰고 그 위의 가장 가까운 등록 구성원과 세대 수를 합쳐 잇습니다.
+     * 예를 들어 형제자매가 등록되지 않은 조카는 소유자의 부모와 2세대 관계가 됩니다.
+     * 이 관계만으로 조상·자손을 탐색해도 {@link #findAncestors}, {@link #findDescendants}와 같은 세대 수를 얻습니다.</p>
+     *
+     * @return 자녀 구성원 ID, 부모 구성원 ID 순으로 정렬된 관계 목록
+     */
+    public List<KinshipParentLink> findParentLinks() {
+        final List<KinshipParentLink> links = new ArrayList<>();
+        final int[] generation = new int[nodeIds.length];
+        final int[] visited = new int[nodeIds.length];
+        final int[] queue = new int[nodeIds.length];
+        Arrays.fill(generation, NONE);
+        for (int child = 0; child < nodeIds.length; child++) {
+            if (nodeIds[child] <= 0) {
+                continue;
+            }
+            int visitedCount = 0;
+            int head = 0;
+            int tail = 0;
+            generation[child] = 0;
+            visited[visitedCount++] = child;
+            queue[tail++] = child;
+            while (head < tail) {
+                final int node = queue[head++];
+                for (int i = parentOffsets[node]; i < parentOffsets[node + 1]; i++) {
+                    final int parent = parents[i];
+                    if (generation[parent] != NONE) {
+                        continue;
+                    }
+                    generation[parent] = generation[node] + 1;
+                    visited[visitedCount++] = parent;
+                    if (nodeIds[parent] > 0) {
+                        links.add(new KinshipParentLink(nodeIds[child], nodeIds[parent], generation[parent]));
+                    } else {
+                        // 미등록 친족 노드를 통과할 때만 위로 더 올라간다
+                        queue[tail++] = parent;
+                    }
+                }
+            }
+            for (int i = 0; i < visitedCount; i++) {
+                generation[visited[i]] = NONE;
+            }
+        }
+        links.sort(Comparator.comparingLong(KinshipParentLink::childMemberId)
+            .thenComparingLong(KinshipParentLink::parentMemberId));
+        return links;
+    }
+
+    private void relax(
+        final int node,
+        final int[] offsets,
+        final int[] neighbors,
+        final KinshipDirection direction,
+        final int[] distance,
+        final int[] previous,
+        final byte[] previousDirection,
+        final IntDeque deque
+    ) {
+        final int weight = direction.degree();
+        for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+            final int neighbor = neighbors[i];
+            final int candidate = distance[node] + weight;
+            if (candidate < distance[neighbor]) {
+                distance[neighbor] = candidate;
+                previous[neighbor] = node;
+                previousDirection[neighbor] = (byte) direction.ordinal();
+                if (weight == 0) {
+                    deque.addFirst(neighbor);
+                } else {
+                    deque.addLast(neighbor);
+                }
+            }
+        }
+    }
+
+    private List<KinshipRelative> traverse(final long memberId, final int[] offsets, final int[] neighbors) {
+        if (!contains(memberId)) {
+            return List.of();
+        }
+        final int start = indexOf(memberId);
+        final int[] generation = new int[nodeIds.length];
+        Arrays.fill(generation, NONE);
+        final int[] queue = new int[nodeIds.length];
+        int head = 0;
+        int tail = 0;
+        generation[start] = 0;
+        queue[tail++] = start;
+
+        final List<KinshipRelative> relatives = new ArrayList<>();
+        while (head < tail) {
+            final int node = queue[head++];
+            for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+                final int neighbor = neighbors[i];
+                if (generation[neighbor] != NONE) {
+                    continue;
+                }
+                generation[neighbor] = generation[node] + 1;
+                queue[tail++] = neighbor;
+                if (nodeIds[neighbor] > 0) {
+                    relatives.add(new KinshipRelative(nodeIds[neighbor], generation[neighbor]));
+                }
+            }
+        }
+        relatives.sort(Comparator.comparingInt(KinshipRelative::generation).thenComparingLong(KinshipRelative::memberId));
+        return relatives;
+    }
+
+    private int indexOf(final long nodeId) {
+        final int index = Arrays.binarySearch(nodeIds, nodeId);
+        return index >= 0 ? index : NONE;
+    }
+
+    /**
+     * 친족 그래프를 생성하는 빌더입니다. 간선에 처음 등장하는 ID는 노드로 자동 추가됩니다.
+     */
+    public static final class Builder {
+
+        private final Set<Long> nodeIds = new HashSet<>();
+        private final LongPairs parentEdges = new LongPairs();
+        private final LongPairs spouseEdges = new LongPairs();
+        private long nextVirtualId = -1;
+
+        private Builder() {
+        }
+
+        /**
+         * 구성원 노드를 추가합니다.
+         *
+         * @param memberId 구성원 ID (양수)
+         * @return 이 빌더
+         */
+        public Builder addMember(final long memberId) {
+            if (memberId <= 0) {
+                throw new IllegalArgumentException("memberId must be positive");
+            }
+            nodeIds.add(memberId);
+            return this;
+        }
+
+        /**
+         * 관계를 잇기 위한 미등록 친족 노드를 추가하고 그 ID(음수)를 반환합니다.
+         *
+         * @return 미등록 친족 노드 ID
+         */
+        public long addVirtualNode() {
+            final long virtualId = nextVirtualId--;
+            nodeIds.add(virtualId);
+            return virtualId;
+        }
+
+        /**
+         * 부모·자녀 관계를 추가합니다.
+         *
+         * @param childId  자녀 노드 ID
+         * @param parentId 부모 노드 ID
+         * @return 이 빌더
+         */
+        public Builder addParent(final long childId, final long parentId) {
+            if (childId == parentId) {
+                throw new IllegalArgumentException("childId and parentId must be different");
+            }
+            registerNode(childId);
+            registerNode(parentId);
+            parentEdges.add(childId, parentId);
+            return this;
+        }
+
+        /**
+         * 배우자 관계를 추가합니다.
+         *
+         * @param memberId 노드 ID
+         * @param spouseId 배우자 노드 ID
+         * @return 이 빌더
+         */
+        public Builder addSpouse(final long memberId, final long spouseId) {
+            if (memberId == spouseId) {
+                throw new IllegalArgumentException("memberId and spouseId must be different");
+            }
+            registerNode(memberId);
+            registerNode(spouseId);
+            spouseEdges.add(memberId, spouseId);
+            return this;
+        }
+
+        /**
+         * 친족 그래프를 생성합니다.
+         *
+         * @return 친족 그래프
+         */
+        public KinshipGraph build() {
+            final long[] ids = nodeIds.stream().mapToLong(Long::longValue).sorted().toArray();
+            final int nodeCount = ids.length;
+
+            final int[] childIndexes = parentEdges.indexesOfFirst(ids);
+            final int[] parentIndexes = parentEdges.indexesOfSecond(ids);
+            final int[] parentOffsets = offsets(childIndexes, nodeCount);
+            final int[] parents = fill(parentOffsets, childIndexes, parentIndexes);
+            final int[] childOffsets = offsets(parentIndexes, nodeCount);
+            final int[] children = fill(childOffsets, parentIndexes, childIndexes);
+
+            // 배우자 관계는 양방향으로 저장한다
+            final int[] memberIndexes = spouseEdges.indexesOfFirst(ids);
+            final int[] spouseIndexes = spouseEdges.indexesOfSecond(ids);
+            final int[] spouseSources = concat(memberIndexes, spouseIndexes);
+            final int[] spouseTargets = concat(spouseIndexes, memberIndexes);
+            final int[] spouseOffsets = offsets(spouseSources, nodeCount);
+            final int[] spouses = fill(spouseOffsets, spouseSources, spouseTargets);
+
+            return new KinshipGraph(ids, parentOffsets, parents, childOffsets, children, spouseOffsets, spouses);
+        }
+
+        private void registerNode(final long nodeId) {
+            if (nodeId == 0) {
+                throw new IllegalArgumentException("nodeId must not be zero");
+            }
+            nodeIds.add(nodeId);
+        }
+
+        private static int[] offsets(final int[] sources, final int nodeCount) {
+            final int[] offsets = new int[nodeCount + 1];
+            for (int source : sources) {
+                offsets[source + 1]++;
+            }
+            for (int i = 0; i < nodeCount; i++) {
+                offsets[i + 1] += offsets[i];
+            }
+            return offsets;
+        }
+
+        private static int[] fill(final int[] offsets, final int[] sources, final int[] targets) {
+            final int[] values = new int[sources.length];
+            final int[] cursor = Arrays.copyOf(offsets, offsets.length - 1);
+            for (int i = 0; i < sources.length; i++) {
+                values[cursor[sources[i]]++] = targets[i];
+            }
+            return values;
+        }
+
+        private static int[] concat(final int[] first, final int[] second) {
+            final int[] result = Arrays.copyOf(first, first.length + second.length);
+            System.arraycopy(second, 0, result, first.length, second.length);
+            return result;
+        }
+    }
+
+    /**
+     * 구성원 관계 타입을 소유자 기준 부모·자녀·배우자 관계로 배치합니다.
+     * 중간 친족 노드는 처음 필요할 때 한 번만 만듭니다.
+     */
+    private static final class OwnerRelativeLayout {
+
+        private final Builder builder;
+        private final long ownerId;
+        private final Map<FamilyMemberRelationshipType, List<Long>> memberIdsByType;
+        private List<Long> parentNodes;
+        private List<Long> grandparentNodes;
+        private Long childNode;
+        private Long siblingNode;
+        private Long uncleNode;
+        private Long spouseId;
+
+        private OwnerRelativeLayout(final Builder builder, final long ownerId, final List<FamilyMember> sortedMembers) {
+            this.builder = builder;
+            this.ownerId = ownerId;
+            this.memberIdsByType = new EnumMap<>(FamilyMemberRelationshipType.class);
+            for (FamilyMember member : sortedMembers) {
+                if (member.getRelationshipType() != null && member.getId() != ownerId) {
+                    memberIdsByType.computeIfAbsent(member.getRelationshipType(), type -> new ArrayList<>())
+                        .add(member.getId());
+                }
+            }
+        }
+
+        private void apply() {
+            // 배우자
+            for (long spouse : ids(HUSBAND, WIFE)) {
+                builder.addSpouse(ownerId, spouse);
+                if (spouseId == null) {
+                    spouseId = spouse;
+                }
+            }
+
+            // 부모와 조부모
+            if (!ids(FATHER, MOTHER).isEmpty()) {
+                parentNodes();
+                linkCouple(FATHER, MOTHER);
+            }
+            if (!ids(GRANDFATHER, GRANDMOTHER).isEmpty()) {
+                grandparentNodes();
+                linkCouple(GRANDFATHER, GRANDMOTHER);
+            }
+
+            // 형제자매, 자녀, 삼촌·고모·이모
+            for (long sibling : ids(ELDER_BROTHER, ELDER_SISTER, YOUNGER_BROTHER, YOUNGER_SISTER)) {
+                addParents(sibling, parentNodes());
+            }
+            for (long child : ids(SON, DAUGHTER)) {
+                addOwnerAsParent(child);
+            }
+            for (long uncle : ids(UNCLE, AUNT)) {
+                addParents(uncle, grandparentNodes());
+            }
+
+            // 손자녀, 조카, 사촌
+            for (long grandchild : ids(GRANDSON, GRANDDAUGHTER)) {
+                builder.addParent(grandchild, childNode());
+            }
+            for (long nephew : ids(NEPHEW, NIECE)) {
+                builder.addParent(nephew, siblingNode());
+            }
+            for (long cousin : ids(COUSIN)) {
+                builder.addParent(cousin, uncleNode());
+            }
+        }
+
+        private List<Long> parentNodes() {
+            if (parentNodes == null) {
+                final List<Long> fathersAndMothers = ids(FATHER, MOTHER);
+                parentNodes = fathersAndMothers.isEmpty() ? List.of(builder.addVirtualNode()) : fathersAndMothers;
+                addParents(ownerId, parentNodes);
+            }
+            return parentNodes;
+        }
+
+        private List<Long> grandparentNodes() {
+            if (grandparentNodes == null) {
+                final List<Long> grandparents = ids(GRANDFATHER, GRANDMOTHER);
+                grandparentNodes = grandparents.isEmpty() ? List.of(builder.addVirtualNode()) : grandparents;
+                addParents(parentNodes().get(0), grandparentNodes);
+            }
+            return grandparentNodes;
+        }
+
+        private long childNode() {
+            if (childNode == null) {
+                final List<Long> children = ids(SON, DAUGHTER);
+                if (children.isEmpty()) {
+                    childNode = builder.addVirtualNode();
+                    addOwnerAsParent(childNode);
+                } else {
+                    childNode = children.get(0);
+                }
+            }
+            return childNode;
+        }
+
+        private long siblingNode() {
+            if (siblingNode == null) {
+                final List<Long> siblings = ids(ELDER_BROTHER, ELDER_SISTER, YOUNGER_BROTHER, YOUNGER_SISTER);
+                if (siblings.isEmpty()) {
+                    siblingNode = builder.addVirtualNode();
+                    addParents(siblingNode, parentNodes());
+                } else {
+                    siblingNode = siblings.get(0);
+                }
+            }
+            return siblingNode;
+        }
+
+        private long uncleNode() {
+            if (uncleNode == null) {
+                final List<Long> uncles = ids(UNCLE, AUNT);
+                if (uncles.isEmpty()) {
+                    uncleNode = builder.addVirtualNode();
+                    addParents(uncleNode, grandparentNodes());
+                } else {
+                    uncleNode = uncles.get(0);
+                }
+            }
+            return uncleNode;
+        }
+
+        private void addOwnerAsParent(final long child) {
+            builder.addParent(child, ownerId);
+            if (spouseId != null) {
+                builder.addParent(child, spouseId);
+            }
+        }
+
+        private void addParents(final long child, final List<Long> parents) {
+            parents.forEach(parent -> builder.addParent(child, parent));
+        }
+
+        private void linkCouple(final FamilyMemberRelationshipType husbandType, final FamilyMemberRelationshipType wifeType) {
+            final List<Long> husbands = ids(husbandType);
+            final List<Long> wives = ids(wifeType);
+            if (!husbands.isEmpty() && !wives.isEmpty()) {
+                builder.addSpouse(husbands.get(0), wives.get(0));
+            }
+        }
+
+        private List<Long> ids(final FamilyMemberRelationshipType... types) {
+            final List<Long> ids = new ArrayList<>();
+            for (FamilyMemberRelationshipType type : types) {
+                ids.addAll(memberIdsByType.getOrDefault(type, List.of()));
+            }
+            return ids;
+        }
+    }
+
+    /**
+     * 노드 ID 쌍을 박싱 없이 보관하는 가변 배열입니다.
+     */
+    private static final class LongPairs {
+
+        private long[] firsts = new long[16];
+        private long[] seconds = new long[16];
+        private int size;
+
+        private void add(final long first, final long second) {
+            if (size == firsts.length) {
+                firsts = Arrays.copyOf(firsts, size * 2);
+                seconds = Arrays.copyOf(seconds, size * 2);
+            }
+            firsts[size] = first;
+            seconds[size] = second;
+            size++;
+        }
+
+        private int[] indexesOfFirst(final long[] sortedIds) {
+            return indexes(firsts, sortedIds);
+        }
+
+        private int[] indexesOfSecond(final long[] sortedIds) {
+            return indexes(seconds, sortedIds);
+        }
+
+        private int[] indexes(final long[] values, final long[] sortedIds) {
+            final int[] indexes = new int[size];
+            for (int i = 0; i < size; i++) {
+                indexes[i] = Arrays.binarySearch(sortedIds, values[i]);
+            }
+            return indexes;
+        }
+    }
+
+    /**
+     * 0-1 BFS용 고정 크기 원형 int 덱입니다.
+     */
+    private static final class IntDeque {
+
+        private final int[] values;
+        private int head;
+        private int size;
+
+        private IntDeque(final int capacity) {
+            this.values = new int[capacity];
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private void addFirst(final int value) {
+            head = (head - 1 + values.length) % values.length;
+            values[head] = value;
+            size++;
+        }
+
+        private void addLast(final int value) {
+            values[(head + size) % values.length] = value;
+            size++;
+        }
+
+        private int pollFirst() {
+            final int value = values[head];
+            head = (head + 1) % values.length;
+            size--;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.jhchoe.familytree.core.family.domain;
+
+/**
+ * 등록된 두 구성원 사이의 부모·자녀 관계를 나타내는 값 객체입니다.
+ * 사이에 미등록 친족이 있으면 그 세대를 건너뛴 관계로 표현합니다.
+ *
+ * @param childMemberId  자녀 쪽 구성원 ID
+ * @param parentMemberId 부모 쪽 구성원 ID
+ * @param generations    두 구성원 사이의 세대 수 (직접 부모·자녀는 1)
+ */
+public record KinshipParentLink(long childMemberId, long parentMemberId, int generations) {
+
+    public KinshipParentLink {
+        if (childMemberId <= 0 || parentMemberId <= 0) {
+            throw new IllegalArgumentException("member ids must be positive");
+        }
+        if (childMemberId == parentMemberId) {
+            throw new IllegalArgumentException("childMemberId and parentMemberId must be different");
+        }
+        if (generations < 1) {
+            throw new IllegalArgumentException("generations must be positive");
+        }
+    }
+}
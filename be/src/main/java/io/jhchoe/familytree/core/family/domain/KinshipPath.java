@@ -0,0 +1,43 @@
+package io.jhchoe.familytree.core.family.domain;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 두 구성원 사이의 친족 관계 경로와 촌수를 나타내는 값 객체입니다.
+ *
+ * <p>촌수는 경로에 포함된 부모·자녀 단계의 수이며, 배우자 단계는 촌수에 더하지 않습니다(무촌).
+ * 따라서 배우자의 혈족과 혈족의 배우자는 해당 혈족의 촌수를 따릅니다.</p>
+ *
+ * @param fromMemberId 기준 구성원 ID
+ * @param toMemberId   대상 구성원 ID
+ * @param degree       촌수
+ * @param steps        기준 구성원에서 대상 구성원까지의 이동 단계 (기준 구성원 제외)
+ */
+public record KinshipPath(
+    long fromMemberId,
+    long toMemberId,
+    int degree,
+    List<KinshipStep> steps
+) {
+
+    public KinshipPath {
+        Objects.requireNonNull(steps, "steps must not be null");
+        if (degree < 0) {
+            throw new IllegalArgumentException("degree must not be negative");
+        }
+        steps = List.copyOf(steps);
+    }
+
+    /**
+     * 촌수를 한국어 호칭으로 반환합니다.
+     *
+     * @return 본인이면 "본인", 촌수가 0이면 "무촌", 그 외에는 "N촌"
+     */
+    public String getDegreeName() {
+        if (steps.isEmpty()) {
+            return "본인";
+        }
+        return degree == 0 ? "무촌" : degree + "촌";
+    }
+}
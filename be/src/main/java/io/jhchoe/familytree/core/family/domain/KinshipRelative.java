@@ -0,0 +1,10 @@
+package io.jhchoe.familytree.core.family.domain;
+
+/**
+ * 조상 또는 자손 구성원과 세대 차이를 나타내는 값 객체입니다.
+ *
+ * @param memberId   구성원 ID
+ * @param generation 기준 구성원과의 세대 차이 (부모·자녀는 1, 조부모·손자녀는 2)
+ */
+public record KinshipRelative(long memberId, int generation) {
+}
@@ -0,0 +1,16 @@
+package io.jhchoe.familytree.core.family.domain;
+
+import java.util.Objects;
+
+/**
+ * 친족 관계 경로의 한 단계를 나타내는 값 객체입니다.
+ *
+ * @param memberId  이동한 구성원 ID, 관계를 잇기 위해 가정한 미등록 친족이면 null
+ * @param direction 이전 구성원에서 이동한 방향
+ */
+public record KinshipStep(Long memberId, KinshipDirection direction) {
+
+    public KinshipStep {
+        Objects.requireNonNull(direction, "direction must not be null");
+    }
+}
@@ -7,6 +7,7 @@ import io.jhchoe.familytree.core.invite.domain.FamilyInvite;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -20,6 +21,7 @@ import java.util.stream.Collectors;
 public class FamilyInviteAdapter implements SaveFamilyInvitePort, FindFamilyInvitePort, ModifyFamilyInvitePort {
 
     private final FamilyInviteJpaRepository familyInviteJpaRepository;
+    private final FamilyInviteCache familyInviteCache;
 
     /**
      * {@inheritDoc}
@@ -30,6 +32,8 @@ public class FamilyInviteAdapter implements SaveFamilyInvitePort, FindFamilyInvi
 
         final FamilyInviteJpaEntity jpaEntity = FamilyInviteJpaEntity.from(familyInvite);
         final FamilyInviteJpaEntity savedEntity = familyInviteJpaRepository.save(jpaEntity);
+        // 존재하지 않는 코드로 캐시된 결과를 지운다
+        familyInviteCache.evict(savedEntity.getInviteCode());
         
         return savedEntity.toFamilyInvite();
     }
@@ -52,8 +56,11 @@ public class FamilyInviteAdapter implements SaveFamilyInvitePort, FindFamilyInvi
     public Optional<FamilyInvite> findByInviteCode(final String inviteCode) {
         Objects.requireNonNull(inviteCode, "inviteCode must not be null");
 
-        return familyInviteJpaRepository.findByInviteCode(inviteCode)
-            .map(FamilyInviteJpaEntity::toFamilyInvite);
+        return familyInviteCache.find(
+            inviteCode,
+            () -> familyInviteJpaRepository.findByInviteCode(inviteCode).map(FamilyInviteJpaEntity::toFamilyInvite),
+            familyInviteJpaRepository::findStateById
+        );
     }
 
     /**
@@ -90,7 +97,33 @@ public class FamilyInviteAdapter implements SaveFamilyInvitePort, FindFamilyInvi
 
         final FamilyInviteJpaEntity jpaEntity = FamilyInviteJpaEntity.from(familyInvite);
         final FamilyInviteJpaEntity savedEntity = familyInviteJpaRepository.save(jpaEntity);
+        familyInviteCache.evict(savedEntity.getInviteCode());
         
         return savedEntity.toFamilyInvite();
     }
-}
\ No newline at end of file
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean incrementUsedCount(final String inviteCode, final Long acceptedBy) {
+        Objects.requireNonNull(inviteCode, "inviteCode must not be null");
+        Objects.requireNonNull(acceptedBy, "acceptedBy must not be null");
+
+        // 캐시는 상태·사용 횟수를 보관하지 않으므로 제거하지 않는다
+        return familyInviteJpaRepository.incrementUsedCount(inviteCode, acceptedBy, LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int expireAll(final LocalDateTime currentDateTime, final int limit) {
+        Objects.requireNonNull(currentDateTime, "currentDateTime must not be null");
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+
+        return familyInviteJpaRepository.expireAllBefore(currentDateTime, limit);
+    }
+}
@@ -0,0 +1,243 @@
+package io.jhchoe.familytree.core.invite.adapter.out.persistence;
+
+import io.jhchoe.familytree.common.cache.BoundedLruCache;
+import io.jhchoe.familytree.core.invite.config.FamilyInviteCacheProperties;
+import io.jhchoe.familytree.core.invite.domain.FamilyInvite;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 초대 코드 단위 조회 결과를 요청 간에 재사용하는 크기 제한 LRU 캐시입니다.
+ * 초대 링크는 단체 채팅방에 공유된 직후 같은 코드로 조회가 몰리므로 초대 랜딩 페이지 조회에 사용합니다.
+ *
+ * <p>초대 코드로 찾은 초대의 변하지 않는 값(ID, Family, 요청자, 만료 일시, 최대 사용 횟수)만 보관합니다.
+ * 수락·만료 처리로 바뀌는 상태와 사용 횟수는 적중할 때마다 초대 ID로 다시 읽어 합치므로,
+ * 다른 노드에서 수락·만료된 초대도 TTL을 기다리지 않고 바로 반영됩니다.</p>
+ *
+ * <p>존재하지 않는 코드도 짧게 보관하여 코드 대입 시도가 매번 DB를 조회하지 않도록 합니다.
+ * 이 항목은 존재하는 초대와 별도의 작은 LRU에 보관하므로 대입 시도가 몰려도 자주 조회되는 초대는 밀려나지 않습니다.
+ * 초대가 저장·수정되면 항목을 제거하며, 트랜잭션 안에서 제거된 경우 트랜잭션이 끝난 직후(커밋·롤백 모두) 한 번 더 제거합니다.
+ * 다른 노드에서 새로 만든 초대 코드는 존재하지 않는 코드 항목의 TTL이 지나야 조회됩니다.</p>
+ */
+@Slf4j
+@Component
+public class FamilyInviteCache {
+
+    private static final String METRIC_PREFIX = "family.invite.cache";
+
+    private final FamilyInviteCacheProperties properties;
+    private final Clock clock;
+    private final BoundedLruCache<String, CachedInvite> store;
+    private final BoundedLruCache<String, Instant> negativeStore;
+    private final AtomicLong evictionSequence;
+    private final Counter hitCounter;
+    private final Counter negativeHitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    @Autowired
+    public FamilyInviteCache(final FamilyInviteCacheProperties properties, final MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    // 테스트용 생성자
+    public FamilyInviteCache(
+        final FamilyInviteCacheProperties properties,
+        final MeterRegistry meterRegistry,
+        final Clock clock
+    ) {
+        this.properties = properties;
+        this.clock = clock;
+        this.store = new BoundedLruCache<>(properties.getMaxSize());
+        this.negativeStore = new BoundedLruCache<>(properties.getNegativeMaxSize());
+        this.evictionSequence = new AtomicLong();
+        this.hitCounter = Counter.builder(METRIC_PREFIX + ".hits")
+            .description("초대 코드 조회 캐시 적중 횟수")
+            .register(meterRegistry);
+        this.negativeHitCounter = Counter.builder(METRIC_PREFIX + ".negative.hits")
+            .description("존재하지 않는 초대 코드 캐시 적중 횟수")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_PREFIX + ".misses")
+            .description("초대 코드 조회 캐시 미적중 횟수")
+            .register(meterRegistry);
+        this.evictionCounter = Counter.builder(METRIC_PREFIX + ".evictions")
+            .description("초대 변경으로 제거된 캐시 항목 수")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, FamilyInviteCache::size)
+            .description("초대 코드 조회 캐시 항목 수")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".negative.size", this, FamilyInviteCache::negativeSize)
+            .description("존재하지 않는 초대 코드 캐시 항목 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 초대를 조회하고, 없으면 loader로 조회한 결과를 캐시에 저장합니다.
+     * 적중하면 stateLoader로 최신 상태와 사용 횟수를 읽어 캐시된 값과 합칩니다.
+     * 캐시가 비활성화되어 있으면 항상 loader를 호출합니다.
+     *
+     * @param inviteCode  초대 코드
+     * @param loader      캐시 미적중 시 초대를 조회하는 함수
+     * @param stateLoader 초대 ID로 최신 상태와 사용 횟수를 조회하는 함수
+     * @return 초대 정보, 존재하지 않으면 빈 Optional
+     */
+    public Optional<FamilyInvite> find(
+        final String inviteCode,
+        final Supplier<Optional<FamilyInvite>> loader,
+        final Function<Long, Optional<FamilyInviteStateRow>> stateLoader
+    ) {
+        Objects.requireNonNull(inviteCode, "inviteCode must not be null");
+        Objects.requireNonNull(loader, "loader must not be null");
+        Objects.requireNonNull(stateLoader, "stateLoader must not be null");
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+
+        final Instant now = clock.instant();
+        final CachedInvite cached = store.get(inviteCode);
+        if (cached != null && cached.isExpired(now)) {
+            store.remove(inviteCode, cached);
+        }
+        final Instant negativeExpiresAt = negativeStore.get(inviteCode);
+        if (negativeExpiresAt != null && !now.isBefore(negativeExpiresAt)) {
+            negativeStore.remove(inviteCode, negativeExpiresAt);
+        }
+        if (cached != null && !cached.isExpired(now)) {
+            final Optional<FamilyInviteStateRow> state = stateLoader.apply(cached.id());
+            if (state.isPresent()) {
+                hitCounter.increment();
+                return Optional.of(cached.toFamilyInvite(state.get()));
+            }
+            // 초대가 삭제되었으면 항목을 지우고 다시 조회한다
+            store.remove(inviteCode, cached);
+        }
+        if (negativeExpiresAt != null && now.isBefore(negativeExpiresAt)) {
+            negativeHitCounter.increment();
+            return Optional.empty();
+        }
+
+        missCounter.increment();
+        // 조회 도중 제거 요청이 있었다면 이전 값일 수 있으므로 저장하지 않는다
+        final long sequence = evictionSequence.get();
+        final Optional<FamilyInvite> loaded = loader.get();
+        if (loaded.isPresent()) {
+            final CachedInvite loadedInvite = CachedInvite.of(loaded.get(), now.plusSeconds(properties.getTtlSeconds()));
+            store.compute(inviteCode, (code, current) -> evictionSequence.get() == sequence ? loadedInvite : current);
+        } else {
+            final Instant expiresAt = now.plusSeconds(properties.getNegativeTtlSeconds());
+            negativeStore.compute(inviteCode, (code, current) -> evictionSequence.get() == sequence ? expiresAt : current);
+        }
+        return loaded;
+    }
+
+    /**
+     * 초대가 생성되거나 변경되었을 때 캐시 항목을 제거합니다.
+     * 트랜잭션이 진행 중이면 커밋·롤백과 관계없이 트랜잭션이 끝난 후에도 다시 제거합니다.
+     *
+     * @param inviteCode 초대 코드
+     */
+    public void evict(final String inviteCode) {
+        Objects.requireNonNull(inviteCode, "inviteCode must not be null");
+
+        remove(inviteCode);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    // 롤백 시에도 같은 트랜잭션에서 적재한 미커밋 값이 남지 않도록 제거한다
+                    remove(inviteCode);
+                }
+            });
+        }
+        evictionCounter.increment();
+        log.debug("초대 코드 캐시 제거: [Invite Code: {}]", inviteCode);
+    }
+
+    /**
+     * 현재 캐시 항목 수를 반환합니다. 존재하지 않는 코드 항목도 포함합니다.
+     *
+     * @return 캐시 항목 수
+     */
+    public int size() {
+        return store.size() + negativeStore.size();
+    }
+
+    /**
+     * 존재하지 않는 초대 코드 항목 수를 반환합니다.
+     *
+     * @return 존재하지 않는 코드 항목 수
+     */
+    public int negativeSize() {
+        return negativeStore.size();
+    }
+
+    private void remove(final String inviteCode) {
+        // 순번을 먼저 올려 진행 중인 조회가 제거 이후 이전 값을 저장하지 않도록 한다
+        evictionSequence.incrementAndGet();
+        store.remove(inviteCode);
+        negativeStore.remove(inviteCode);
+    }
+
+    /**
+     * 초대의 변하지 않는 값만 담은 캐시 항목입니다.
+     */
+    private record CachedInvite(
+        Long id,
+        Long familyId,
+        Long requesterId,
+        String inviteCode,
+        LocalDateTime inviteExpiresAt,
+        Integer maxUses,
+        LocalDateTime createdAt,
+        Instant expiresAt
+    ) {
+
+        static CachedInvite of(final FamilyInvite invite, final Instant expiresAt) {
+            Objects.requireNonNull(invite.getId(), "invite.id must not be null");
+
+            return new CachedInvite(
+                invite.getId(),
+                invite.getFamilyId(),
+                invite.getRequesterId(),
+                invite.getInviteCode(),
+                invite.getExpiresAt(),
+                invite.getMaxUses(),
+                invite.getCreatedAt(),
+                expiresAt
+            );
+        }
+
+        FamilyInvite toFamilyInvite(final FamilyInviteStateRow state) {
+            return FamilyInvite.withId(
+                id,
+                familyId,
+                requesterId,
+                inviteCode,
+                inviteExpiresAt,
+                maxUses,
+                state.usedCount(),
+                state.status(),
+                createdAt,
+                state.modifiedAt()
+            );
+        }
+
+        boolean isExpired(final Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
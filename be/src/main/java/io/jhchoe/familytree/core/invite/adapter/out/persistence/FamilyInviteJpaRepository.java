@@ -1,7 +1,12 @@
 package io.jhchoe.familytree.core.invite.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +30,83 @@ public interface FamilyInviteJpaRepository extends JpaRepository<FamilyInviteJpa
      * @return 조회된 초대 엔티티 목록
      */
     List<FamilyInviteJpaEntity> findByRequesterId(Long requesterId);
-}
\ No newline at end of file
+
+    /**
+     * 초대 ID로 수락·만료 처리로 바뀌는 상태, 사용 횟수, 수정 일시만 조회합니다.
+     * 캐시된 초대에 최신 상태를 합칠 때 사용합니다.
+     *
+     * @param id 초대 ID
+     * @return 조회된 상태 옵셔널
+     */
+    @Query("""
+        SELECT new io.jhchoe.familytree.core.invite.adapter.out.persistence.FamilyInviteStateRow(
+            i.status, i.usedCount, i.modifiedAt
+        )
+        FROM FamilyInviteJpaEntity i
+        WHERE i.id = :id
+        """)
+    Optional<FamilyInviteStateRow> findStateById(@Param("id") Long id);
+
+    /**
+     * 사용 가능한 초대의 사용 횟수를 1 증가시키고, 최대 사용 횟수에 도달하면 COMPLETED로 변경합니다.
+     * <p>
+     * 조회 후 엔티티를 저장하면 동시에 수락한 요청끼리 사용 횟수를 덮어써 최대 사용 횟수를 넘길 수 있으므로
+     * 조건 검사와 증가를 하나의 UPDATE 문장에서 처리합니다.
+     * SET 절의 used_count는 변경 전 값을 참조합니다.
+     *
+     * @param inviteCode 초대 코드
+     * @param modifiedBy 수정자 ID
+     * @param now        현재 일시 (만료 판단 및 수정 일시)
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+        UPDATE family_invite
+        SET used_count = used_count + 1,
+            status = CASE
+                WHEN max_uses IS NOT NULL AND used_count + 1 >= max_uses THEN 'COMPLETED'
+                ELSE status
+            END,
+            modified_by = :modifiedBy,
+            modified_at = :now
+        WHERE invite_code = :inviteCode
+          AND status = 'ACTIVE'
+          AND expires_at > :now
+          AND (max_uses IS NULL OR used_count < max_uses)
+        """, nativeQuery = true)
+    int incrementUsedCount(
+        @Param("inviteCode") String inviteCode,
+        @Param("modifiedBy") Long modifiedBy,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 만료 일시가 지난 ACTIVE 초대를 최대 limit건까지 EXPIRED로 변경합니다.
+     * <p>
+     * 네이티브 쿼리를 사용하는 이유:
+     * - PostgreSQL UPDATE는 LIMIT을 지원하지 않으므로 대상 ID를 LIMIT 서브쿼리로 골라 한 문장에서 변경
+     * - 수락 중인 초대는 FOR UPDATE SKIP LOCKED로 건너뛰어 요청 경로를 기다리게 하지 않음
+     *
+     * @param now   현재 일시 (만료 판단 및 수정 일시)
+     * @param limit 한 번에 변경할 최대 행 수
+     * @return 변경된 행 수
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+        UPDATE family_invite
+        SET status = 'EXPIRED',
+            modified_at = :now
+        WHERE id IN (
+            SELECT id
+            FROM family_invite
+            WHERE status = 'ACTIVE'
+              AND expires_at < :now
+            ORDER BY expires_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        )
+        """, nativeQuery = true)
+    int expireAllBefore(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
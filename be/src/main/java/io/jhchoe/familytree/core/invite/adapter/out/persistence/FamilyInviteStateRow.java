@@ -0,0 +1,15 @@
+package io.jhchoe.familytree.core.invite.adapter.out.persistence;
+
+import io.jhchoe.familytree.core.invite.domain.FamilyInviteStatus;
+import java.time.LocalDateTime;
+
+/**
+ * 초대에서 수락·만료 처리로 바뀌는 컬럼만 조회한 결과입니다.
+ * {@link FamilyInviteCache}가 캐시한 변하지 않는 값과 합쳐 최신 초대를 만들 때 사용합니다.
+ *
+ * @param status     초대 상태
+ * @param usedCount  사용된 횟수
+ * @param modifiedAt 수정 일시
+ */
+public record FamilyInviteStateRow(FamilyInviteStatus status, Integer usedCount, LocalDateTime modifiedAt) {
+}
@@ -19,6 +19,7 @@ public interface FindFamilyInvitePort {
     
     /**
      * 초대 코드로 가족 초대를 조회합니다.
+     * 초대 랜딩 페이지 조회용으로, 구현체는 결과를 잠시 캐시할 수 있으므로 사용 횟수·상태가 최신이 아닐 수 있습니다.
      *
      * @param inviteCode 조회할 초대 코드
      * @return 조회된 가족 초대 옵셔널 객체
@@ -26,7 +27,8 @@ public interface FindFamilyInvitePort {
     Optional<FamilyInvite> findByInviteCode(String inviteCode);
     
     /**
-     * 초대 코드로 가족 초대를 조회합니다.
+     * 초대 코드로 가족 초대를 저장소에서 직접 조회합니다.
+     * 초대 수락처럼 최신 상태가 필요한 경우에 사용합니다.
      *
      * @param code 조회할 초대 코드
      * @return 조회된 가족 초대 옵셔널 객체
@@ -1,6 +1,7 @@
 package io.jhchoe.familytree.core.invite.application.port.out;
 
 import io.jhchoe.familytree.core.invite.domain.FamilyInvite;
+import java.time.LocalDateTime;
 
 /**
  * FamilyInvite 수정 포트입니다.
@@ -14,4 +15,25 @@ public interface ModifyFamilyInvitePort {
      * @return 수정된 FamilyInvite
      */
     FamilyInvite modify(FamilyInvite familyInvite);
-}
\ No newline at end of file
+
+    /**
+     * 초대 링크 사용 횟수를 원자적으로 1 증가시키고, 최대 사용 횟수에 도달하면 상태를 COMPLETED로 변경합니다.
+     * 활성 상태이고 만료되지 않았으며 사용 가능 횟수가 남아 있을 때만 증가하므로
+     * 여러 사용자가 동시에 수락해도 최대 사용 횟수를 넘지 않습니다.
+     *
+     * @param inviteCode 초대 코드
+     * @param acceptedBy 초대를 수락한 사용자 ID
+     * @return 사용 횟수를 증가시켰으면 true, 조건을 만족하지 않아 증가시키지 못했으면 false
+     */
+    boolean incrementUsedCount(String inviteCode, Long acceptedBy);
+
+    /**
+     * 만료 일시가 지났지만 아직 ACTIVE 상태인 초대를 최대 limit건까지 EXPIRED로 변경합니다.
+     * 호출마다 별도 트랜잭션으로 처리되므로 반환값이 limit보다 작아질 때까지 반복 호출하여 나누어 처리합니다.
+     *
+     * @param currentDateTime 현재 일시 (이 시간보다 이전에 만료된 초대를 변경)
+     * @param limit           한 번에 변경할 최대 초대 수
+     * @return 변경된 초대 수
+     */
+    int expireAll(LocalDateTime currentDateTime, int limit);
+}
@@ -98,22 +98,30 @@ public class SaveInviteResponseWithKakaoService implements SaveInviteResponseWit
         // 10. FamilyMember 저장
         Long savedMemberId = saveFamilyMemberPort.save(newMember);
 
-        // 11. 초대 링크 사용 횟수 증가 및 완료 처리
-        FamilyInvite updatedInvite = invite.incrementUsedCount();
-
-        // 최대 사용 횟수 도달 시 상태를 COMPLETED로 변경
-        if (updatedInvite.getMaxUses() != null &&
-            updatedInvite.getUsedCount() >= updatedInvite.getMaxUses()) {
-            updatedInvite = updatedInvite.complete();
-            log.info("초대 링크 최대 사용 횟수 도달. 상태 COMPLETED로 변경: inviteCode={}",
-                invite.getInviteCode());
+        // 11. 초대 링크 사용 횟수를 원자적으로 증가 (최대 사용 횟수 도달 시 COMPLETED 처리 포함)
+        // 동시 수락으로 남은 횟수를 모두 소진했다면 예외로 트랜잭션을 롤백하여 저장한 구성원도 취소
+        if (!modifyFamilyInvitePort.incrementUsedCount(invite.getInviteCode(), userId)) {
+            log.info("동시 수락으로 초대 링크를 사용할 수 없음: inviteCode={}", invite.getInviteCode());
+            throw new FTException(resolveUnavailableReason(invite.getInviteCode()));
         }
 
-        modifyFamilyInvitePort.modify(updatedInvite);
-
         log.info("카카오 OAuth를 통한 초대 수락 완료: familyId={}, userId={}, memberName={}, memberId={}",
             familyId, userId, user.getName(), savedMemberId);
 
         return savedMemberId;
     }
+
+    /**
+     * 사용 횟수 증가에 실패한 초대의 현재 상태를 다시 조회하여 실패 사유를 결정합니다.
+     *
+     * @param inviteCode 초대 코드
+     * @return 실패 사유에 해당하는 예외 코드
+     */
+    private InviteExceptionCode resolveUnavailableReason(final String inviteCode) {
+        return findFamilyInvitePort.findByCode(inviteCode)
+            .map(invite -> invite.isExpired()
+                ? InviteExceptionCode.INVITE_EXPIRED
+                : InviteExceptionCode.INVITE_MAX_USES_EXCEEDED)
+            .orElse(InviteExceptionCode.INVITE_NOT_FOUND);
+    }
 }
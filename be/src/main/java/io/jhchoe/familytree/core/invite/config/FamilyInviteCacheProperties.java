@@ -0,0 +1,112 @@
+package io.jhchoe.familytree.core.invite.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 초대 코드 조회 캐시 설정 프로퍼티를 관리하는 클래스입니다.
+ * 프로필별 설정 파일에서 {@code family-invite.cache.enabled}로 캐시 사용 여부를 전환합니다.
+ * 적중해도 상태 조회가 한 번 남으므로 기본값은 꺼 두고, 초대 조회가 몰리는 환경에서만 켭니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "family-invite.cache")
+public class FamilyInviteCacheProperties {
+
+    private boolean enabled = false;
+    private int maxSize = 10_000;
+    private long ttlSeconds = 60;
+    private long negativeTtlSeconds = 10;
+    private int negativeMaxSize = 1_000;
+
+    /**
+     * 캐시 사용 여부를 반환합니다.
+     *
+     * @return 캐시 사용 여부 (기본값 false)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시 사용 여부를 설정합니다.
+     *
+     * @param enabled 캐시 사용 여부
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 캐시에 보관할 최대 항목 수를 반환합니다.
+     *
+     * @return 최대 항목 수 (기본값 10,000)
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 캐시에 보관할 최대 항목 수를 설정합니다.
+     *
+     * @param maxSize 최대 항목 수
+     */
+    public void setMaxSize(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 존재하는 초대 항목의 최대 보관 시간(초)을 반환합니다.
+     *
+     * @return 최대 보관 시간 (기본값 60초)
+     */
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    /**
+     * 존재하는 초대 항목의 최대 보관 시간(초)을 설정합니다.
+     *
+     * @param ttlSeconds 최대 보관 시간
+     */
+    public void setTtlSeconds(final long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 존재하지 않는 초대 코드 조회 결과의 최대 보관 시간(초)을 반환합니다.
+     * 코드 대입 시도가 매번 DB까지 가지 않도록 짧게 보관합니다.
+     *
+     * @return 최대 보관 시간 (기본값 10초)
+     */
+    public long getNegativeTtlSeconds() {
+        return negativeTtlSeconds;
+    }
+
+    /**
+     * 존재하지 않는 초대 코드 조회 결과의 최대 보관 시간(초)을 설정합니다.
+     *
+     * @param negativeTtlSeconds 최대 보관 시간
+     */
+    public void setNegativeTtlSeconds(final long negativeTtlSeconds) {
+        this.negativeTtlSeconds = negativeTtlSeconds;
+    }
+
+    /**
+     * 존재하지 않는 초대 코드 조회 결과를 보관할 최대 항목 수를 반환합니다.
+     * 존재하는 초대와 별도로 제한하므로 코드 대입 시도가 많아도 존재하는 초대 항목은 밀려나지 않습니다.
+     *
+     * @return 최대 항목 수 (기본값 1,000)
+     */
+    public int getNegativeMaxSize() {
+        return negativeMaxSize;
+    }
+
+    /**
+     * 존재하지 않는 초대 코드 조회 결과를 보관할 최대 항목 수를 설정합니다.
+     *
+     * @param negativeMaxSize 최대 항목 수
+     */
+    public void setNegativeMaxSize(final int negativeMaxSize) {
+        this.negativeMaxSize = negativeMaxSize;
+    }
+}
@@ -2,6 +2,10 @@ package io.jhchoe.familytree.core.user.adapter.out.persistence;
 
 import io.jhchoe.familytree.common.auth.UserJpaEntity;
 import io.jhchoe.familytree.common.auth.UserJpaRepository;
+import io.jhchoe.familytree.common.util.NameSearchUtils;
+import io.jhchoe.familytree.common.util.NameSearchUtils.RankedItem;
+import io.jhchoe.familytree.common.util.NameSearchUtils.SearchCursor;
+import io.jhchoe.familytree.core.family.domain.CursorPage;
 import io.jhchoe.familytree.core.user.application.port.out.FindUserPort;
 import io.jhchoe.familytree.core.user.application.port.out.ModifyUserPort;
 import io.jhchoe.familytree.core.user.domain.User;
@@ -34,6 +38,44 @@ public class UserPersistenceAdapter implements FindUserPort, ModifyUserPort {
             .collect(Collectors.toList());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CursorPage<User> searchByName(String keyword, String cursor, int size) {
+        String normalizedKeyword = NameSearchUtils.normalize(keyword);
+        String containsPattern = NameSearchUtils.containsPattern(normalizedKeyword);
+        String prefixPattern = NameSearchUtils.prefixPattern(normalizedKeyword);
+        SearchCursor searchCursor = NameSearchUtils.decodeCursor(cursor);
+
+        // 요청된 size + 1만큼 가져오기 (다음 페이지 존재 여부 확인용)
+        List<RankedItem<UserJpaEntity>> pageData = NameSearchUtils.searchTiers(searchCursor, size + 1,
+            (rank, cursorId, limit) -> switch (rank) {
+                case NameSearchUtils.EXACT_MATCH ->
+                    userJpaRepository.searchByExactName(normalizedKeyword, cursorId, limit);
+                case NameSearchUtils.PREFIX_MATCH ->
+                    userJpaRepository.searchByNamePrefix(prefixPattern, normalizedKeyword, cursorId, limit);
+                default -> userJpaRepository.searchByNameInfix(containsPattern, prefixPattern, cursorId, limit);
+            });
+
+        boolean hasNext = pageData.size() > size;
+        if (hasNext) {
+            pageData = pageData.subList(0, size);
+        }
+
+        List<User> users = pageData.stream()
+            .map(row -> row.item().toUser())
+            .toList();
+
+        String nextCursor = null;
+        if (hasNext && !pageData.isEmpty()) {
+            RankedItem<UserJpaEntity> lastRow = pageData.get(pageData.size() - 1);
+            nextCursor = NameSearchUtils.encodeCursor(lastRow.rank(), lastRow.item().getId());
+        }
+
+        return new CursorPage<>(users, nextCursor, hasNext, size);
+    }
+
     @Override
     public Optional<User> findById(Long id) {
         Objects.requireNonNull(id, "id must not be null");
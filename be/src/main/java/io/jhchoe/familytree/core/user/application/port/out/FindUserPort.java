@@ -1,5 +1,6 @@
 package io.jhchoe.familytree.core.user.application.port.out;
 
+import io.jhchoe.familytree.core.family.domain.CursorPage;
 import io.jhchoe.familytree.core.user.domain.User;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +21,18 @@ public interface FindUserPort {
      */
     List<User> findByNameContaining(String name, Pageable pageable);
 
+    /**
+     * 이름에 키워드가 포함된 사용자를 관련도 순으로 검색합니다.
+     * 완전 일치, 앞부분 일치, 부분 일치 순으로 정렬하며 같은 순위는 ID 순입니다.
+     * 대소문자를 구분하지 않으며 한글은 한 글자부터 부분 일치로 검색됩니다. 탈퇴한 사용자는 제외됩니다.
+     *
+     * @param keyword 검색할 키워드 (공백 불가)
+     * @param cursor 페이징을 위한 커서 값 (null이거나 잘못된 경우 첫 페이지)
+     * @param size 조회할 사용자 수
+     * @return 커서 기반 페이징된 사용자 목록
+     */
+    CursorPage<User> searchByName(String keyword, String cursor, int size);
+
     /**
      * ID로 사용자를 조회합니다.
      * @param id 사용자 ID
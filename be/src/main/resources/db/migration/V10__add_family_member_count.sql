@@ -0,0 +1,24 @@
+-- Family 구성원 수 컬럼 추가
+-- 작성일: 2026-10-18
+-- 목적: 공개 Family 검색과 내 소속 Family 목록에서 구성원 수를 집계 쿼리 없이 제공
+
+-- 1. 전체·활성 구성원 수 컬럼 추가
+ALTER TABLE family ADD COLUMN member_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE family ADD COLUMN active_member_count INTEGER NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN family.member_count IS '전체 구성원 수 (구성원 저장 시 원자적 UPDATE로 증감)';
+COMMENT ON COLUMN family.active_member_count IS '활성(ACTIVE) 구성원 수 (구성원 저장·상태 변경 시 원자적 UPDATE로 증감)';
+
+-- 2. 기존 데이터 초기화
+UPDATE family f
+SET member_count = (
+        SELECT COUNT(*) FROM family_member m WHERE m.family_id = f.id
+    ),
+    active_member_count = (
+        SELECT COUNT(*) FROM family_member m WHERE m.family_id = f.id AND m.status = 'ACTIVE'
+    );
+
+-- 변경 사항 요약:
+-- 1. family.member_count, family.active_member_count 컬럼 추가 (기본값 0)
+-- 2. 기존 Family의 구성원 수를 family_member 기준으로 초기화
+-- 3. 이후 어긋난 값은 FamilyMemberCountReconciler가 주기적으로 보정
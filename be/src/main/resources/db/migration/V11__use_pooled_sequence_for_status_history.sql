@@ -0,0 +1,15 @@
+-- 구성원 상태 변경 이력 ID 시퀀스를 pooled 방식으로 전환
+-- 작성일: 2026-10-18
+-- 목적: 상태 변경 이력을 여러 건 저장할 때 INSERT를 JDBC 배치로 묶을 수 있도록
+--       애플리케이션이 ID를 50개 단위로 미리 할당받게 함
+
+-- 1. 시퀀스 증가 단위를 엔티티의 allocationSize(50)와 맞춤
+-- pooled 옵티마이저는 시퀀스 값을 할당 구간의 끝으로 사용하므로 기존 ID와 겹치지 않음
+ALTER SEQUENCE family_member_status_history_id_seq INCREMENT BY 50;
+
+COMMENT ON SEQUENCE family_member_status_history_id_seq IS '구성원 상태 변경 이력 ID 시퀀스 (pooled, 50개 단위 할당)';
+
+-- 변경 사항 요약:
+-- 1. family_member_status_history_id_seq 증가 단위 1 -> 50
+-- 2. id 컬럼 기본값(nextval)은 유지되므로 SQL로 직접 INSERT해도 ID가 충돌하지 않음
+-- 3. 배치 크기는 JpaBatchProperties(jpa.batch.size, 기본값 50)로 설정
@@ -0,0 +1,31 @@
+-- 백그라운드 작업 잠금 테이블 및 만료 정리용 인덱스 추가
+-- 작성일: 2026-10-18
+-- 목적: 여러 노드 중 하나만 만료 데이터 정리 작업을 실행하도록 작업 잠금을 저장하고,
+--       만료된 ACTIVE 초대를 묶음 단위로 찾을 때 전체 테이블을 읽지 않도록 함
+
+-- 1. scheduler_lock 테이블 생성
+CREATE TABLE scheduler_lock (
+    name VARCHAR(100) PRIMARY KEY,
+    locked_until TIMESTAMP NOT NULL,
+    locked_at TIMESTAMP NOT NULL,
+    locked_by VARCHAR(255) NOT NULL
+);
+
+COMMENT ON TABLE scheduler_lock IS '노드 간 공유되는 백그라운드 작업 잠금';
+COMMENT ON COLUMN scheduler_lock.name IS '작업 이름 (예: expired-data-sweep)';
+COMMENT ON COLUMN scheduler_lock.locked_until IS '잠금 임대 만료 일시 (이 시간이 지나면 다른 노드가 획득 가능)';
+COMMENT ON COLUMN scheduler_lock.locked_at IS '잠금 획득 일시';
+COMMENT ON COLUMN scheduler_lock.locked_by IS '잠금을 획득한 노드 식별자';
+
+-- 2. 만료 대상 초대 조회용 부분 인덱스
+--    정리 후에는 ACTIVE 초대만 남으므로 인덱스 크기가 작게 유지됨
+CREATE INDEX idx_family_invite_active_expires_at
+    ON family_invite (expires_at)
+    WHERE status = 'ACTIVE';
+
+-- 변경 사항 요약:
+-- 1. scheduler_lock 테이블 생성
+--    - name: PK, INSERT ... ON CONFLICT ... WHERE 로 임대 기간이 끝난 경우에만 원자적 획득
+--    - locked_until: 작업 종료 시 현재 시각으로 갱신하여 해제
+-- 2. 인덱스: idx_family_invite_active_expires_at (status = 'ACTIVE' 부분 인덱스)
+-- 3. refresh_tokens.expires_at 은 기존 idx_refresh_tokens_expires_at 을 사용
@@ -0,0 +1,45 @@
+-- 주요 조회 쿼리용 복합·부분 인덱스 추가
+-- 작성일: 2026-10-18
+-- 목적: 요청마다 실행되는 구성원·가입 신청·공지사항 조회가 순차 스캔 없이 인덱스로 처리되도록 함
+--       (FamilyQueryPlanTest에서 EXPLAIN으로 검증)
+
+-- 1. family_member
+--    (family_id, user_id): 구성원 여부 확인·단건 조회, family_id 단독 조회(목록·개수)는 선두 컬럼으로 처리
+CREATE INDEX IF NOT EXISTS idx_family_member_family_user
+    ON family_member (family_id, user_id);
+
+--    (user_id, status): 내 Family 목록, 활성 가입 수 집계
+--    user_id 단독 조회와 (user_id, role) 조회도 선두 컬럼으로 처리 (사용자당 행 수가 적어 role 컬럼은 따로 두지 않음)
+CREATE INDEX IF NOT EXISTS idx_family_member_user_status
+    ON family_member (user_id, status);
+
+-- 2. family
+--    이름 중복 확인: 삭제되지 않은 Family만 대상
+CREATE INDEX IF NOT EXISTS idx_family_name_active
+    ON family (name)
+    WHERE deleted = false;
+
+-- 3. family_join_request (삭제되지 않은 신청만 조회하므로 부분 인덱스)
+--    Family·신청자별 최신 신청 조회
+CREATE INDEX IF NOT EXISTS idx_family_join_request_family_requester
+    ON family_join_request (family_id, requester_id, id DESC)
+    WHERE deleted = false;
+
+--    Family별 신청 목록 (최신순)
+CREATE INDEX IF NOT EXISTS idx_family_join_request_family_created
+    ON family_join_request (family_id, created_at DESC)
+    WHERE deleted = false;
+
+-- 4. family_announcement
+--    Family별 공지사항 목록 (최신순), 같은 일시는 id로 순서를 고정
+CREATE INDEX IF NOT EXISTS idx_family_announcement_family_created
+    ON family_announcement (family_id, created_at DESC, id DESC);
+
+-- 변경 사항 요약:
+-- 1. idx_family_member_family_user - existsByFamilyIdAndUserId, findByFamilyIdAndUserId, findAllByFamilyId, countByFamilyId
+-- 2. idx_family_member_user_status - countByUserIdAndStatus, findAllByUserId, findByUserIdAndRole
+-- 3. idx_family_name_active - findByNameAndDeletedFalse
+-- 4. idx_family_join_request_family_requester - findTopByFamilyIdAndRequesterIdOrderByIdDesc
+-- 5. idx_family_join_request_family_created - FamilyJoinRequestJpaRepository.findAllByFamilyIdOrderByCreatedAtDesc
+-- 6. idx_family_announcement_family_created - AnnouncementJpaRepository.findAllByFamilyIdOrderByCreatedAtDesc
+-- 공개 Family 키워드 검색은 V9의 idx_family_public_id를 사용
@@ -0,0 +1,26 @@
+-- 이름 부분 일치 검색용 pg_trgm GIN 인덱스 추가
+-- 작성일: 2026-10-18
+-- 목적: LOWER(name) LIKE '%키워드%' 검색이 테이블 전체를 읽지 않도록 트라이그램 인덱스로 후보를 찾음
+--       (FamilyJpaRepository.searchPublicByName, UserJpaRepository.searchByName)
+
+-- 1. pg_trgm 확장 설치
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 2. 공개 Family 이름 검색용 부분 인덱스 (검색 대상인 공개·미삭제 Family만 포함)
+CREATE INDEX IF NOT EXISTS idx_family_public_name_trgm
+    ON family USING gin (LOWER(name) gin_trgm_ops)
+    WHERE is_public = true AND deleted = false;
+
+-- 3. 사용자 이름 검색용 부분 인덱스 (탈퇴하지 않은 사용자만 포함)
+CREATE INDEX IF NOT EXISTS idx_users_name_trgm
+    ON users USING gin (LOWER(name) gin_trgm_ops)
+    WHERE deleted = false;
+
+-- 변경 사항 요약:
+-- 1. pg_trgm 확장 설치
+-- 2. idx_family_public_name_trgm - 공개 Family 이름 부분 일치 검색
+-- 3. idx_users_name_trgm - 사용자 이름 부분 일치 검색
+-- 참고:
+-- - 한글 트라이그램은 데이터베이스 LC_CTYPE이 UTF-8 로케일이어야 생성됨 (C 로케일에서는 영숫자만 인덱싱)
+-- - 세 글자 미만 키워드는 트라이그램을 만들 수 없어 인덱스 전체를 훑은 뒤 재검사하지만 결과는 같음
+-- - 검색 SQL은 확장 함수를 사용하지 않으므로 H2(로컬)에서는 인덱스 없이 같은 쿼리로 동작
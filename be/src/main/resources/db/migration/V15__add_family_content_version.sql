@@ -0,0 +1,13 @@
+-- Family 내용 버전 컬럼 추가
+-- 작성일: 2026-10-18
+-- 목적: Family 조회 API가 구성원·태그·공지사항을 읽지 않고 버전 조회만으로 If-None-Match에 304를 응답
+
+-- 1. 내용 버전 컬럼 추가
+ALTER TABLE family ADD COLUMN content_version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN family.content_version IS 'Family 화면 내용 버전 (Family·구성원·태그·태그 매핑·공지사항 변경 시 원자적 UPDATE로 증가, ETag로 사용)';
+
+-- 변경 사항 요약:
+-- 1. family.content_version 컬럼 추가 (기본값 0)
+-- 2. 구성원·태그·태그 매핑·공지사항을 변경하는 어댑터가 같은 트랜잭션에서 버전을 1 증가
+-- 3. 버전은 PK로 조회하므로 추가 인덱스 없음
@@ -0,0 +1,43 @@
+-- 구성원 부모·자녀 관계 테이블 추가
+-- 작성일: 2026-10-18
+-- 목적: 깊은 가계도를 구성원 전체를 읽지 않고 WITH RECURSIVE 한 번으로 N세대까지만 조회
+--       (FamilyMemberAdapter.findLineage)
+
+-- 1. 부모·자녀 관계 테이블 생성
+CREATE TABLE family_member_parent (
+    id BIGSERIAL PRIMARY KEY,
+    family_id BIGINT NOT NULL,
+    child_member_id BIGINT NOT NULL,
+    parent_member_id BIGINT NOT NULL,
+    generations SMALLINT NOT NULL DEFAULT 1,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_member_parent_family FOREIGN KEY (family_id) REFERENCES family(id) ON DELETE CASCADE,
+    CONSTRAINT fk_member_parent_child FOREIGN KEY (child_member_id) REFERENCES family_member(id) ON DELETE CASCADE,
+    CONSTRAINT fk_member_parent_parent FOREIGN KEY (parent_member_id) REFERENCES family_member(id) ON DELETE CASCADE,
+    CONSTRAINT uk_member_parent UNIQUE (family_id, child_member_id, parent_member_id),
+    CONSTRAINT ck_member_parent_not_self CHECK (child_member_id <> parent_member_id),
+    CONSTRAINT ck_member_parent_generations CHECK (generations >= 1)
+);
+
+-- 2. 자손 방향 탐색용 인덱스
+-- UK(family_id, child_member_id, parent_member_id)가 조상 방향 탐색을 커버하므로 반대 방향만 추가
+CREATE INDEX idx_member_parent_parent ON family_member_parent (family_id, parent_member_id, child_member_id);
+
+COMMENT ON TABLE family_member_parent IS '구성원 간 부모·자녀 관계 (KinshipGraph.fromMembers가 소유자 기준 관계 타입에서 만드는 관계를 저장)';
+COMMENT ON COLUMN family_member_parent.family_id IS 'Family ID (FK → family, 탐색 범위를 Family 안으로 제한)';
+COMMENT ON COLUMN family_member_parent.child_member_id IS '자녀 쪽 구성원 ID (FK → family_member)';
+COMMENT ON COLUMN family_member_parent.parent_member_id IS '부모 쪽 구성원 ID (FK → family_member)';
+COMMENT ON COLUMN family_member_parent.generations IS '두 구성원 사이의 세대 수 (미등록 중간 친족을 건너뛰면 2 이상)';
+
+-- 변경 사항 요약:
+-- 1. family_member_parent 테이블 생성
+--    - family_id: FK → family(id) (ON DELETE CASCADE)
+--    - child_member_id, parent_member_id: FK → family_member(id) (ON DELETE CASCADE)
+--    - generations: 미등록 중간 친족(예: 등록되지 않은 형제의 자녀인 조카)을 건너뛴 세대 수
+-- 2. UNIQUE 제약조건: (family_id, child_member_id, parent_member_id) - 중복 관계 방지, 조상 방향 탐색 인덱스
+-- 3. 인덱스: idx_member_parent_parent - 자손 방향 탐색
+-- 참고:
+-- - 관계는 구성원 저장·수정과 같은 트랜잭션에서 FamilyMemberParentSynchronizer가 갱신
+-- - 기존 데이터는 FamilyMemberParentReconciler가 채움 (관계 테이블이 비어 있으면 기동 직후 한 번 실행)
+-- - 조회 SQL은 확장 함수를 사용하지 않으므로 H2(로컬)에서도 같은 쿼리로 동작
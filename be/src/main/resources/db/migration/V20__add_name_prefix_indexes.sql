@@ -0,0 +1,25 @@
+-- 이름 완전 일치·앞부분 일치 검색용 B-tree 인덱스 추가
+-- 작성일: 2026-10-18
+-- 목적: 트라이그램을 만들 수 없는 한두 글자 한글 키워드도 완전 일치·앞부분 일치 순위는 인덱스 범위 조회로 찾음
+--       (FamilyJpaRepository.searchPublicByExactName / searchPublicByNamePrefix,
+--        UserJpaRepository.searchByExactName / searchByNamePrefix)
+
+-- 1. 공개 Family 이름 검색용 부분 인덱스 (검색 대상인 공개·미삭제 Family만 포함)
+CREATE INDEX IF NOT EXISTS idx_family_public_name_prefix
+    ON family (LOWER(name) text_pattern_ops, id)
+    WHERE is_public = true AND deleted = false;
+
+-- 2. 사용자 이름 검색용 부분 인덱스 (탈퇴하지 않은 사용자만 포함)
+CREATE INDEX IF NOT EXISTS idx_users_name_prefix
+    ON users (LOWER(name) text_pattern_ops, id)
+    WHERE deleted = false;
+
+-- 변경 사항 요약:
+-- 1. idx_family_public_name_prefix - 공개 Family 이름 완전 일치·앞부분 일치 검색
+-- 2. idx_users_name_prefix - 사용자 이름 완전 일치·앞부분 일치 검색
+-- 참고:
+-- - text_pattern_ops는 데이터베이스 정렬 규칙과 무관하게 LIKE '키워드%'를 인덱스 범위 조건으로 바꿀 수 있게 함
+-- - 완전 일치 순위는 (LOWER(name), id) 순서 그대로 읽으므로 id 커서 이후 LIMIT건만 읽음
+-- - 앞부분 일치 범위 조건은 패턴 값이 정해진 실행 계획(custom plan)에서 만들어짐
+--   (PostgreSQL은 준비된 문장도 처음 다섯 번은 custom plan으로 실행하고, 이후에도 generic plan이 더 쌀 때만 바꿈)
+-- - 부분 일치 순위는 기존 idx_family_public_name_trgm / idx_users_name_trgm(V14)을 사용
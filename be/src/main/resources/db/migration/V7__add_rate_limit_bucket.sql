@@ -0,0 +1,30 @@
+-- 분산 Rate Limit 버킷 테이블 생성
+-- 작성일: 2026-10-18
+-- 목적: 여러 애플리케이션 노드가 Rate Limit 한도를 공유하도록 윈도우별 요청 수를 저장
+
+-- rate_limit_bucket 테이블 생성
+CREATE TABLE rate_limit_bucket (
+    bucket_key VARCHAR(300) PRIMARY KEY,
+    rate_key VARCHAR(255) NOT NULL,
+    request_count INTEGER NOT NULL DEFAULT 0,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- 인덱스 생성
+CREATE INDEX idx_rate_limit_bucket_rate_key ON rate_limit_bucket(rate_key);
+CREATE INDEX idx_rate_limit_bucket_expires_at ON rate_limit_bucket(expires_at);
+
+-- 테이블 및 컬럼 코멘트
+COMMENT ON TABLE rate_limit_bucket IS '노드 간 공유되는 Rate Limit 윈도우 버킷';
+COMMENT ON COLUMN rate_limit_bucket.bucket_key IS '버킷 키 (Rate Limit 키 + 윈도우 인덱스)';
+COMMENT ON COLUMN rate_limit_bucket.rate_key IS 'Rate Limit 키 (예: token_refresh:{ip})';
+COMMENT ON COLUMN rate_limit_bucket.request_count IS '모든 노드에서 반영된 윈도우 내 요청 수';
+COMMENT ON COLUMN rate_limit_bucket.expires_at IS '버킷 만료 일시 (다음 윈도우 종료 시점)';
+
+-- 변경 사항 요약:
+-- 1. rate_limit_bucket 테이블 생성
+--    - bucket_key: PK, INSERT ... ON CONFLICT 로 원자적 증가
+--    - rate_key: 키 단위 초기화(reset)용
+--    - request_count: 윈도우 내 누적 요청 수
+--    - expires_at: 만료 버킷 일괄 삭제 기준
+-- 2. 인덱스: idx_rate_limit_bucket_rate_key, idx_rate_limit_bucket_expires_at
@@ -0,0 +1,31 @@
+-- 보안 이벤트 테이블 생성
+-- 작성일: 2026-10-18
+-- 목적: 보안 이벤트를 비동기 JDBC 배치 INSERT로 저장
+
+-- security_event 테이블 생성
+CREATE TABLE security_event (
+    id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    user_id VARCHAR(100),
+    ip_address VARCHAR(45) NOT NULL,
+    user_agent TEXT,
+    description TEXT NOT NULL,
+    occurred_at TIMESTAMP NOT NULL
+);
+
+-- 인덱스 생성
+CREATE INDEX idx_security_event_occurred_at ON security_event(occurred_at);
+CREATE INDEX idx_security_event_ip_address ON security_event(ip_address, occurred_at);
+
+-- 테이블 및 컬럼 코멘트
+COMMENT ON TABLE security_event IS '보안 이벤트 감사 로그';
+COMMENT ON COLUMN security_event.event_type IS '이벤트 타입 (SecurityEventType)';
+COMMENT ON COLUMN security_event.user_id IS '사용자 ID (익명 요청이면 NULL)';
+COMMENT ON COLUMN security_event.ip_address IS '클라이언트 IP 주소';
+COMMENT ON COLUMN security_event.user_agent IS 'User-Agent';
+COMMENT ON COLUMN security_event.description IS '이벤트 설명';
+COMMENT ON COLUMN security_event.occurred_at IS '이벤트 발생 일시';
+
+-- 변경 사항 요약:
+-- 1. security_event 테이블 생성 (BatchSecurityEventAdapter가 배치 INSERT)
+-- 2. 인덱스: idx_security_event_occurred_at - 기간 조회, idx_security_event_ip_address - IP별 조회
@@ -0,0 +1,12 @@
+-- 공개 Family 키셋 페이징용 부분 인덱스 생성
+-- 작성일: 2026-10-18
+-- 목적: 공개 Family 검색을 id > :cursor ORDER BY id LIMIT :size + 1 키셋 페이징으로 처리
+
+-- 공개되고 삭제되지 않은 Family만 포함하는 부분 인덱스
+CREATE INDEX idx_family_public_id ON family(id)
+    WHERE is_public = true AND deleted = false;
+
+COMMENT ON INDEX idx_family_public_id IS '공개 Family 키셋 페이징용 부분 인덱스';
+
+-- 변경 사항 요약:
+-- 1. idx_family_public_id - 공개 Family를 ID 순으로 커서 이후부터 바로 읽도록 지원 (FamilyAdapter.findPublicFamiliesByKeyword)
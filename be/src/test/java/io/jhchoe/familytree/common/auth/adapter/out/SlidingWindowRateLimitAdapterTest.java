@@ -0,0 +1,265 @@
+package io.jhchoe.familytree.common.auth.adapter.out;
+
+import io.jhchoe.familytree.common.auth.application.port.out.RateLimitPort;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[Unit Test] SlidingWindowRateLimitAdapterTest")
+class SlidingWindowRateLimitAdapterTest {
+
+    private static final String KEY = "token_refresh:192.168.0.1";
+
+    @Test
+    @DisplayName("윈도우 내 제한 횟수까지 허용하고 이후 요청은 거부합니다")
+    void check_and_increment_denies_when_limit_reached() {
+        // given
+        MutableClock clock = new MutableClock(0L);
+        SlidingWindowRateLimitAdapter sut = new SlidingWindowRateLimitAdapter(clock, 100);
+
+        // when
+        int allowed = acquire(sut, KEY, 5, 60L, 10);
+
+        // then
+        assertThat(allowed).isEqualTo(5);
+        assertThat(sut.getCurrentCount(KEY)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("윈도우 경계에서 고정 윈도우와 달리 제한의 두 배 버스트를 허용하지 않습니다")
+    void check_and_increment_prevents_double_burst_at_window_boundary() {
+        // given
+        MutableClock clock = new MutableClock(0L);
+        RateLimitPort slidingWindow = new SlidingWindowRateLimitAdapter(clock, 100);
+        RateLimitPort fixedWindow = new InMemoryRateLimitAdapter(clock);
+
+        // 윈도우 시작에 1회, 윈도우 끝 직전에 9회 요청하여 제한(10)을 채운다
+        acquire(slidingWindow, KEY, 10, 60L, 1);
+        acquire(fixedWindow, KEY, 10, 60L, 1);
+        clock.setMillis(59_000L);
+        acquire(slidingWindow, KEY, 10, 60L, 9);
+        acquire(fixedWindow, KEY, 10, 60L, 9);
+
+        // when - 경계를 막 넘긴 시점에 다시 10회 요청
+        clock.setMillis(61_000L);
+        int slidingAllowed = acquire(slidingWindow, KEY, 10, 60L, 10);
+        int fixedAllowed = acquire(fixedWindow, KEY, 10, 60L, 10);
+
+        // then
+        assertThat(fixedAllowed).isEqualTo(10);
+        assertThat(slidingAllowed).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("직전 윈도우의 가중치가 줄어들수록 허용량이 회복됩니다")
+    void check_and_increment_recovers_as_previous_window_decays() {
+        // given
+        MutableClock clock = new MutableClock(0L);
+        SlidingWindowRateLimitAdapter sut = new SlidingWindowRateLimitAdapter(clock, 100);
+        acquire(sut, KEY, 10, 60L, 10);
+
+        // when - 다음 윈도우의 절반이 지난 시점 (직전 윈도우 가중치 0.5)
+        clock.setMillis(90_000L);
+        int allowed = acquire(sut, KEY, 10, 60L, 10);
+
+        // then
+        assertThat(allowed).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 요청해도 정확히 제한 횟수만큼만 허용합니다")
+    void check_and_increment_is_exact_under_concurrency() throws Exception {
+        // given
+        int threadCount = 16;
+        int attemptsPerThread = 2_000;
+        int limit = 5_000;
+        MutableClock clock = new MutableClock(0L);
+        SlidingWindowRateLimitAdapter sut = new SlidingWindowRateLimitAdapter(clock, 100);
+
+        // when
+        int allowed = acquireConcurrently(sut, threadCount, attemptsPerThread, limit);
+
+        // then
+        assertThat(allowed).isEqualTo(limit);
+    }
+
+    @Test
+    @DisplayName("두 윈도우 이상 요청이 없는 키는 유휴 키 정리 시 제거됩니다")
+    void evict_idle_keys_removes_keys_idle_for_two_windows() {
+        // given
+        MutableClock clock = new MutableClock(0L);
+        SlidingWindowRateLimitAdapter sut = new SlidingWindowRateLimitAdapter(clock, 100);
+        acquire(sut, "idle-key", 5, 60L, 1);
+        clock.setMillis(100_000L);
+        acquire(sut, "active-key", 5, 60L, 1);
+
+        // when
+        clock.setMillis(120_001L);
+        sut.evictIdleKeys();
+
+        // then
+        assertThat(sut.size()).isEqualTo(1);
+        assertThat(sut.getCurrentCount("idle-key")).isZero();
+    }
+
+    @Test
+    @DisplayName("키 수가 상한에 도달하면 가장 오래 사용되지 않은 키를 제거하고 새 키의 요청을 허용합니다")
+    void check_and_increment_evicts_least_recently_used_key_when_capacity_reached() {
+        // given
+        MutableClock clock = new MutableClock(0L);
+        SlidingWindowRateLimitAdapter sut = new SlidingWindowRateLimitAdapter(clock, 2);
+        acquire(sut, "key-1", 5, 60L, 1);
+        clock.setMillis(1_000L);
+        acquire(sut, "key-2", 5, 60L, 1);
+        clock.setMillis(2_000L);
+        acquire(sut, "key-1", 5, 60L, 1);
+
+        // when
+        boolean allowed = sut.checkAndIncrement("key-3", 5, 60L);
+
+        // then
+        assertThat(allowed).isTrue();
+        assertThat(sut.size()).isEqualTo(2);
+        assertThat(sut.getCurrentCount("key-1")).isEqualTo(2);
+        assertThat(sut.getCurrentCount("key-2")).isZero();
+    }
+
+    @Test
+    @DisplayName("키 수가 상한에 도달하면 유휴 키를 먼저 정리합니다")
+    void check_and_increment_evicts_idle_keys_first_when_capacity_reached() {
+        // given
+        MutableClock clock = new MutableClock(0L);
+        SlidingWindowRateLimitAdapter sut = new SlidingWindowRateLimitAdapter(clock, 2);
+        acquire(sut, "key-1", 5, 60L, 1);
+        acquire(sut, "key-2", 5, 60L, 1);
+
+        // when
+        clock.setMillis(120_001L);
+        boolean allowed = sut.checkAndIncrement("key-3", 5, 60L);
+
+        // then
+        assertThat(allowed).isTrue();
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("reset 호출 시 해당 키의 카운트가 초기화됩니다")
+    void reset_clears_key() {
+        // given
+        MutableClock clock = new MutableClock(0L);
+        SlidingWindowRateLimitAdapter sut = new SlidingWindowRateLimitAdapter(clock, 100);
+        acquire(sut, KEY, 5, 60L, 5);
+
+        // when
+        sut.reset(KEY);
+
+        // then
+        assertThat(sut.getCurrentCount(KEY)).isZero();
+        assertThat(sut.checkAndIncrement(KEY, 5, 60L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("키가 비어있으면 요청을 거부합니다")
+    void check_and_increment_denies_when_key_blank() {
+        SlidingWindowRateLimitAdapter sut = new SlidingWindowRateLimitAdapter(new MutableClock(0L), 100);
+
+        assertThat(sut.checkAndIncrement(" ", 5, 60L)).isFalse();
+        assertThat(sut.checkAndIncrement(null, 5, 60L)).isFalse();
+    }
+
+    private int acquire(
+        final RateLimitPort port,
+        final String key,
+        final int limit,
+        final long windowSeconds,
+        final int attempts
+    ) {
+        int allowed = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (port.checkAndIncrement(key, limit, windowSeconds)) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    private int acquireConcurrently(
+        final RateLimitPort port,
+        final int threadCount,
+        final int attemptsPerThread,
+        final int limit
+    ) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (port.checkAndIncrement(KEY, limit, 60L)) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return allowed.get();
+    }
+
+    /**
+     * 테스트에서 시간을 직접 이동시키기 위한 Clock 구현체입니다.
+     */
+    private static final class MutableClock extends Clock {
+        private volatile long millis;
+
+        MutableClock(final long millis) {
+            this.millis = millis;
+        }
+
+        void setMillis(final long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
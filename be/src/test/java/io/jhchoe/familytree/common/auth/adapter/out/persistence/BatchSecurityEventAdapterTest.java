@@ -0,0 +1,191 @@
+package io.jhchoe.familytree.common.auth.adapter.out.persistence;
+
+import io.jhchoe.familytree.common.auth.config.SecurityEventWriterProperties;
+import io.jhchoe.familytree.common.auth.config.SecurityEventWriterProperties.DropPolicy;
+import io.jhchoe.familytree.common.auth.domain.SecurityEvent;
+import io.jhchoe.familytree.common.auth.domain.SecurityEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[Unit Test] BatchSecurityEventAdapterTest")
+class BatchSecurityEventAdapterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SecurityEventWriterProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SecurityEventWriterProperties();
+        properties.setEnabled(true);
+        properties.setCapacity(3);
+        properties.setBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("저장 요청은 DB에 접근하지 않고 버퍼에 쌓입니다")
+    void save_only_buffers_event() {
+        // given
+        BatchSecurityEventAdapter sut = createAdapter();
+
+        // when
+        Long result = sut.save(createEvent("first"));
+
+        // then
+        assertThat(result).isNull();
+        assertThat(sut.pendingCount()).isEqualTo(1);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("flush 시 버퍼의 이벤트를 배치 크기 단위로 나누어 저장합니다")
+    void flush_writes_events_in_batches() {
+        // given
+        BatchSecurityEventAdapter sut = createAdapter();
+        List<Integer> batchSizes = captureBatchSizes();
+        sut.save(createEvent("first"));
+        sut.save(createEvent("second"));
+        sut.save(createEvent("third"));
+
+        // when
+        sut.flush();
+
+        // then
+        assertThat(batchSizes).containsExactly(2, 1);
+        assertThat(sut.pendingCount()).isZero();
+        assertThat(meterRegistry.counter("security.event.writer.written").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("flush는 호출 시점에 쌓여 있던 이벤트만 저장하고 저장 중 들어온 이벤트는 다음 주기로 넘깁니다")
+    void flush_writes_only_events_pending_at_start() {
+        // given
+        BatchSecurityEventAdapter sut = createAdapter();
+        List<Integer> batchSizes = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+            .thenAnswer(invocation -> {
+                batchSizes.add(invocation.<Collection<?>>getArgument(1).size());
+                sut.save(createEvent("late"));
+                return new int[0][0];
+            });
+        sut.save(createEvent("first"));
+        sut.save(createEvent("second"));
+        sut.save(createEvent("third"));
+
+        // when
+        sut.flush();
+
+        // then
+        assertThat(batchSizes).containsExactly(2, 1);
+        assertThat(sut.pendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("DROP_NEWEST 정책에서 버퍼가 가득 차면 새 이벤트를 버리고 카운트합니다")
+    void save_drops_newest_when_buffer_full() {
+        // given
+        BatchSecurityEventAdapter sut = createAdapter();
+        List<String> written = captureDescriptions();
+        sut.save(createEvent("first"));
+        sut.save(createEvent("second"));
+        sut.save(createEvent("third"));
+
+        // when
+        sut.save(createEvent("fourth"));
+        sut.flush();
+
+        // then
+        assertThat(written).containsExactly("first", "second", "third");
+        assertThat(meterRegistry.counter("security.event.writer.dropped").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST 정책에서 버퍼가 가득 차면 가장 오래된 이벤트를 버립니다")
+    void save_drops_oldest_when_buffer_full() {
+        // given
+        properties.setDropPolicy(DropPolicy.DROP_OLDEST);
+        BatchSecurityEventAdapter sut = createAdapter();
+        List<String> written = captureDescriptions();
+        sut.save(createEvent("first"));
+        sut.save(createEvent("second"));
+        sut.save(createEvent("third"));
+
+        // when
+        sut.save(createEvent("fourth"));
+        sut.flush();
+
+        // then
+        assertThat(written).containsExactly("second", "third", "fourth");
+        assertThat(meterRegistry.counter("security.event.writer.dropped").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("배치 저장에 실패해도 예외를 전파하지 않고 실패 수를 기록합니다")
+    void flush_records_failure_when_batch_update_fails() {
+        // given
+        BatchSecurityEventAdapter sut = createAdapter();
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+            .thenThrow(new DataAccessResourceFailureException("connection refused"));
+        sut.save(createEvent("first"));
+
+        // when
+        sut.flush();
+
+        // then
+        assertThat(sut.pendingCount()).isZero();
+        assertThat(meterRegistry.counter("security.event.writer.failed").count()).isEqualTo(1.0);
+    }
+
+    private BatchSecurityEventAdapter createAdapter() {
+        return new BatchSecurityEventAdapter(jdbcTemplate, properties, meterRegistry);
+    }
+
+    private SecurityEvent createEvent(final String description) {
+        return SecurityEvent.newEvent(
+            SecurityEventType.AUTHENTICATION_FAILURE, "user123", "192.168.1.1", "Mozilla/5.0", description
+        );
+    }
+
+    private List<Integer> captureBatchSizes() {
+        List<Integer> batchSizes = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+            .thenAnswer(invocation -> {
+                batchSizes.add(invocation.<Collection<?>>getArgument(1).size());
+                return new int[0][0];
+            });
+        return batchSizes;
+    }
+
+    private List<String> captureDescriptions() {
+        List<String> descriptions = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+            .thenAnswer(invocation -> {
+                for (Object event : invocation.<Collection<?>>getArgument(1)) {
+                    descriptions.add(((SecurityEvent) event).getDescription());
+                }
+                return new int[0][0];
+            });
+        return descriptions;
+    }
+}
@@ -0,0 +1,161 @@
+package io.jhchoe.familytree.common.auth.adapter.out.persistence;
+
+import io.jhchoe.familytree.helper.TestcontainersDataJpaTestBase;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[Adapter Test] DatabaseRateLimitAdapterTest")
+class DatabaseRateLimitAdapterTest extends TestcontainersDataJpaTestBase {
+
+    private static final String KEY = "token_refresh:192.168.0.1";
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:10Z");
+
+    @Autowired
+    private RateLimitBucketJpaRepository rateLimitBucketJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitBucketJpaRepository.deleteAll();
+        clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    }
+
+    @Test
+    @DisplayName("반영 전에는 DB 없이 로컬 카운트만으로 제한을 적용합니다")
+    void check_and_increment_applies_limit_locally_before_flush() {
+        // given
+        DatabaseRateLimitAdapter sut = new DatabaseRateLimitAdapter(rateLimitBucketJpaRepository, jdbcTemplate, clock);
+
+        // when
+        int allowed = acquire(sut, 5, 10);
+
+        // then
+        assertThat(allowed).isEqualTo(5);
+        assertThat(sut.getCurrentCount(KEY)).isEqualTo(5);
+        assertThat(rateLimitBucketJpaRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 반영한 요청 수를 읽어와 전체 한도를 공유합니다")
+    void check_and_increment_shares_limit_across_nodes_after_flush() {
+        // given
+        DatabaseRateLimitAdapter nodeA = new DatabaseRateLimitAdapter(rateLimitBucketJpaRepository, jdbcTemplate, clock);
+        DatabaseRateLimitAdapter nodeB = new DatabaseRateLimitAdapter(rateLimitBucketJpaRepository, jdbcTemplate, clock);
+        acquire(nodeA, 10, 6);
+        nodeA.flush();
+
+        // nodeB는 로컬 버킷이 있어야 전역 합계를 읽어오므로 한 번 요청 후 반영한다
+        acquire(nodeB, 10, 1);
+        nodeB.flush();
+
+        // when
+        int allowed = acquire(nodeB, 10, 10);
+
+        // then
+        assertThat(allowed).isEqualTo(3);
+        assertThat(nodeB.getCurrentCount(KEY)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("여러 번 반영해도 증가분만 누적되어 중복 집계되지 않습니다")
+    void flush_accumulates_only_deltas() {
+        // given
+        DatabaseRateLimitAdapter sut = new DatabaseRateLimitAdapter(rateLimitBucketJpaRepository, jdbcTemplate, clock);
+        acquire(sut, 10, 3);
+        sut.flush();
+        acquire(sut, 10, 2);
+
+        // when
+        sut.flush();
+        sut.flush();
+
+        // then
+        assertThat(rateLimitBucketJpaRepository.findAll())
+            .singleElement()
+            .satisfies(bucket -> assertThat(bucket.getRequestCount()).isEqualTo(5));
+        assertThat(sut.getCurrentCount(KEY)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("재조회 단위보다 많은 버킷도 모두 반영하고 전역 합계를 읽어옵니다")
+    void flush_upserts_and_rereads_buckets_beyond_one_chunk() {
+        // given
+        DatabaseRateLimitAdapter nodeA = new DatabaseRateLimitAdapter(rateLimitBucketJpaRepository, jdbcTemplate, clock);
+        DatabaseRateLimitAdapter nodeB = new DatabaseRateLimitAdapter(rateLimitBucketJpaRepository, jdbcTemplate, clock);
+        int keyCount = 1_200;
+        for (int i = 0; i < keyCount; i++) {
+            nodeA.checkAndIncrement(KEY + ":" + i, 10, 60L);
+            nodeB.checkAndIncrement(KEY + ":" + i, 10, 60L);
+        }
+
+        // when
+        nodeA.flush();
+        nodeB.flush();
+
+        // then
+        assertThat(rateLimitBucketJpaRepository.count()).isEqualTo(keyCount);
+        assertThat(nodeB.getCurrentCount(KEY + ":0")).isEqualTo(2);
+        assertThat(nodeB.getCurrentCount(KEY + ":" + (keyCount - 1))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("reset 호출 시 로컬 상태와 DB 버킷이 모두 초기화됩니다")
+    void reset_clears_local_and_persisted_buckets() {
+        // given
+        DatabaseRateLimitAdapter sut = new DatabaseRateLimitAdapter(rateLimitBucketJpaRepository, jdbcTemplate, clock);
+        acquire(sut, 5, 5);
+        sut.flush();
+
+        // when
+        sut.reset(KEY);
+
+        // then
+        assertThat(sut.getCurrentCount(KEY)).isZero();
+        assertThat(rateLimitBucketJpaRepository.count()).isZero();
+        assertThat(sut.checkAndIncrement(KEY, 5, 60L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 버킷 행을 삭제합니다")
+    void delete_expired_buckets_removes_expired_rows() {
+        // given
+        DatabaseRateLimitAdapter writer = new DatabaseRateLimitAdapter(rateLimitBucketJpaRepository, jdbcTemplate, clock);
+        acquire(writer, 5, 1);
+        writer.flush();
+
+        // 버킷 만료 시각은 다음 윈도우 종료 시점(00:02:00)이다
+        DatabaseRateLimitAdapter sut = new DatabaseRateLimitAdapter(
+            rateLimitBucketJpaRepository,
+            jdbcTemplate,
+            Clock.fixed(Instant.parse("2025-01-01T00:02:01Z"), ZoneOffset.UTC)
+        );
+
+        // when
+        sut.deleteExpiredBuckets();
+
+        // then
+        assertThat(rateLimitBucketJpaRepository.count()).isZero();
+    }
+
+    private int acquire(final DatabaseRateLimitAdapter adapter, final int limit, final int attempts) {
+        int allowed = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (adapter.checkAndIncrement(KEY, limit, 60L)) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+}
@@ -173,4 +173,39 @@ class RefreshTokenAdapterTest extends TestcontainersDataJpaTestBase {
         assertThatCode(() -> sut.deleteByUserId(nonExistentUserId))
             .doesNotThrowAnyException();
     }
+
+    @Test
+    @DisplayName("만료된 토큰을 limit 건까지만 삭제하고 유효한 토큰은 남깁니다")
+    void deleteExpiredTokens_deletes_up_to_limit_expired_tokens() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        for (long userId = 1L; userId <= 3L; userId++) {
+            refreshTokenJpaRepository.save(RefreshTokenJpaEntity.from(
+                RefreshToken.newRefreshToken(userId, "expired-token-" + userId, now.minusDays(1))
+            ));
+        }
+        refreshTokenJpaRepository.save(RefreshTokenJpaEntity.from(
+            RefreshToken.newRefreshToken(4L, "valid-token", now.plusDays(7))
+        ));
+
+        // when
+        int firstChunk = sut.deleteExpiredTokens(now, 2);
+        int secondChunk = sut.deleteExpiredTokens(now, 2);
+
+        // then
+        assertThat(firstChunk).isEqualTo(2);
+        assertThat(secondChunk).isEqualTo(1);
+        assertThat(refreshTokenJpaRepository.findAll())
+            .extracting(RefreshTokenJpaEntity::getUserId)
+            .containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("limit이 0 이하이면 예외가 발생합니다")
+    void deleteExpiredTokens_throws_exception_when_limit_is_not_positive() {
+        // when & then
+        assertThatThrownBy(() -> sut.deleteExpiredTokens(LocalDateTime.now(), 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("limit must be positive");
+    }
 }
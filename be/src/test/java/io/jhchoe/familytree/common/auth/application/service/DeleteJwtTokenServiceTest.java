@@ -2,6 +2,7 @@ package io.jhchoe.familytree.common.auth.application.service;
 
 import io.jhchoe.familytree.common.auth.application.port.in.DeleteRefreshTokenCommand;
 import io.jhchoe.familytree.common.auth.application.port.out.DeleteRefreshTokenPort;
+import io.jhchoe.familytree.common.auth.util.JwtTokenCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,6 +29,9 @@ class DeleteJwtTokenServiceTest {
     @Mock
     private DeleteRefreshTokenPort deleteRefreshTokenPort;
 
+    @Mock
+    private JwtTokenCache jwtTokenCache;
+
     @Test
     @DisplayName("유효한 사용자 ID로 JWT 토큰 삭제 시 성공합니다")
     void delete_success_when_valid_user_id() {
@@ -43,6 +47,7 @@ class DeleteJwtTokenServiceTest {
 
         // then
         verify(deleteRefreshTokenPort).deleteByUserId(userId);
+        verify(jwtTokenCache).deleteByUserId(userId);
     }
 
     @Test
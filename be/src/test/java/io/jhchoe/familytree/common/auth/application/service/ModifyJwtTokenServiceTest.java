@@ -6,6 +6,7 @@ import io.jhchoe.familytree.common.auth.application.port.in.SaveRefreshTokenComm
 import io.jhchoe.familytree.common.auth.application.port.in.SaveRefreshTokenUseCase;
 import io.jhchoe.familytree.common.auth.config.JwtProperties;
 import io.jhchoe.familytree.common.auth.domain.FTUser;
+import io.jhchoe.familytree.common.auth.domain.JwtClaims;
 import io.jhchoe.familytree.common.auth.dto.JwtTokenResponse;
 import io.jhchoe.familytree.common.auth.exception.AuthExceptionCode;
 import io.jhchoe.familytree.common.auth.exception.InvalidTokenException;
@@ -14,6 +15,7 @@ import io.jhchoe.familytree.common.exception.FTException;
 import io.jhchoe.familytree.core.user.application.port.out.FindUserPort;
 import io.jhchoe.familytree.core.user.domain.User;
 import io.jhchoe.familytree.test.fixture.UserFixture;
+import java.time.Instant;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -63,8 +65,6 @@ class ModifyJwtTokenServiceTest {
         ModifyJwtTokenCommand command = new ModifyJwtTokenCommand(validRefreshToken);
         
         Long userId = 1L;
-        String email = "test@example.com";
-        String name = "테스트사용자";
         String profileUrl = "https://example.com";
         String newAccessToken = "new.access.token";
         String newRefreshToken = "new.refresh.token";
@@ -73,13 +73,9 @@ class ModifyJwtTokenServiceTest {
 
         User user = UserFixture.withId(1L);
 
-        // Mocking: Refresh Token이 유효한 토큰임을 모킹
-        when(jwtTokenUtil.validateToken(validRefreshToken)).thenReturn(true);
-        
-        // Mocking: 토큰에서 사용자 정보 추출 모킹
-        when(jwtTokenUtil.extractUserId(validRefreshToken)).thenReturn(userId);
-        when(jwtTokenUtil.extractEmail(validRefreshToken)).thenReturn(email);
-        when(jwtTokenUtil.extractName(validRefreshToken)).thenReturn(name);
+        // Mocking: Refresh Token 검증 및 클레임 추출 모킹 (Refresh Token에는 email/name/role이 없음)
+        when(jwtTokenUtil.extractVerifiedClaims(validRefreshToken))
+            .thenReturn(new JwtClaims(userId, null, null, null, Instant.now().plusSeconds(refreshTokenExpiration)));
         
         // Mocking: 새로운 토큰 생성 모킹
         when(jwtTokenUtil.generateAccessToken(any(FTUser.class))).thenReturn(newAccessToken);
@@ -117,7 +113,7 @@ class ModifyJwtTokenServiceTest {
         ModifyJwtTokenCommand command = new ModifyJwtTokenCommand(invalidRefreshToken);
 
         // Mocking: Refresh Token이 유효하지 않으면 예외를 던지도록 모킹
-        when(jwtTokenUtil.validateToken(invalidRefreshToken)).thenThrow(new FTException(AuthExceptionCode.INVALID_TOKEN_FORMAT));
+        when(jwtTokenUtil.extractVerifiedClaims(invalidRefreshToken)).thenThrow(new FTException(AuthExceptionCode.INVALID_TOKEN_FORMAT));
 
         // when & then
         assertThatThrownBy(() -> modifyJwtTokenService.modify(command))
@@ -1,7 +1,9 @@
 package io.jhchoe.familytree.common.auth.filter;
 
 import io.jhchoe.familytree.common.auth.domain.FTUser;
+import io.jhchoe.familytree.common.auth.domain.JwtClaims;
 import io.jhchoe.familytree.common.auth.exception.AuthExceptionCode;
+import io.jhchoe.familytree.common.auth.util.JwtTokenCache;
 import io.jhchoe.familytree.common.auth.util.JwtTokenUtil;
 import io.jhchoe.familytree.common.exception.FTException;
 import jakarta.servlet.FilterChain;
@@ -9,6 +11,8 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.Instant;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,7 +27,9 @@ import org.springframework.security.core.context.SecurityContextHolder;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +42,9 @@ class JwtAuthenticationFilterTest {
     @Mock
     private JwtTokenUtil jwtTokenUtil;
 
+    @Mock
+    private JwtTokenCache jwtTokenCache;
+
     @Mock
     private HttpServletRequest request;
 
@@ -64,12 +73,9 @@ class JwtAuthenticationFilterTest {
         // HTTP 요청에 Authorization 헤더 설정
         when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
 
-        // JWT 토큰 검증 및 정보 추출 모킹
-        when(jwtTokenUtil.validateToken(validToken)).thenReturn(true);
-        when(jwtTokenUtil.extractUserId(validToken)).thenReturn(userId);
-        when(jwtTokenUtil.extractEmail(validToken)).thenReturn(email);
-        when(jwtTokenUtil.extractName(validToken)).thenReturn(name);
-        when(jwtTokenUtil.extractRole(validToken)).thenReturn(role);
+        // JWT 토큰 검증 및 정보 추출 모킹 (한 번의 파싱으로 모든 클레임 반환)
+        when(jwtTokenUtil.extractVerifiedClaims(validToken))
+            .thenReturn(new JwtClaims(userId, email, name, role, Instant.now().plusSeconds(3600)));
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -90,6 +96,49 @@ class JwtAuthenticationFilterTest {
         verify(filterChain).doFilter(request, response);
     }
 
+    @Test
+    @DisplayName("캐시에 검증 완료된 토큰이 있을 때 서명 검증 없이 인증 정보를 설정합니다")
+    void set_authentication_without_verification_when_token_cached() throws ServletException, IOException {
+        // given
+        String cachedToken = "cached.jwt.token";
+        FTUser cachedUser = FTUser.ofJwtUser(1L, "테스트 사용자", "test@example.com", "USER");
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + cachedToken);
+
+        // Mocking: 캐시 적중
+        when(jwtTokenCache.find(cachedToken)).thenReturn(Optional.of(cachedUser));
+
+        // when
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getPrincipal()).isSameAs(cachedUser);
+
+        verify(jwtTokenUtil, never()).extractVerifiedClaims(anyString());
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("캐시 미적중 시 토큰을 검증한 뒤 캐시에 저장합니다")
+    void save_to_cache_after_verification_when_cache_miss() throws ServletException, IOException {
+        // given
+        String validToken = "valid.jwt.token";
+        JwtClaims claims = new JwtClaims(1L, "test@example.com", "테스트 사용자", "USER", Instant.now().plusSeconds(3600));
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
+
+        // Mocking: 캐시 미적중 후 토큰 검증 성공
+        when(jwtTokenCache.find(validToken)).thenReturn(Optional.empty());
+        when(jwtTokenUtil.extractVerifiedClaims(validToken)).thenReturn(claims);
+
+        // when
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(jwtTokenCache).save(eq(validToken), eq(claims), any(FTUser.class));
+        verify(filterChain).doFilter(request, response);
+    }
+
     @Test
     @DisplayName("Authorization 헤더가 없을 때 인증 정보를 설정하지 않습니다")
     void not_set_authentication_when_no_authorization_header() throws ServletException, IOException {
@@ -103,7 +152,7 @@ class JwtAuthenticationFilterTest {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertThat(authentication).isNull();
 
-        verify(jwtTokenUtil, never()).validateToken(anyString());
+        verify(jwtTokenUtil, never()).extractVerifiedClaims(anyString());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -120,7 +169,7 @@ class JwtAuthenticationFilterTest {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertThat(authentication).isNull();
 
-        verify(jwtTokenUtil, never()).validateToken(anyString());
+        verify(jwtTokenUtil, never()).extractVerifiedClaims(anyString());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -132,7 +181,7 @@ class JwtAuthenticationFilterTest {
         when(request.getHeader("Authorization")).thenReturn("Bearer " + expiredToken);
 
         // 만료된 토큰 예외 모킹
-        when(jwtTokenUtil.validateToken(expiredToken)).thenThrow(new FTException(AuthExceptionCode.EXPIRED_TOKEN));
+        when(jwtTokenUtil.extractVerifiedClaims(expiredToken)).thenThrow(new FTException(AuthExceptionCode.EXPIRED_TOKEN));
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -157,7 +206,7 @@ class JwtAuthenticationFilterTest {
         when(request.getHeader("Authorization")).thenReturn("Bearer " + invalidToken);
 
         // 유효하지 않은 토큰 예외 모킹
-        when(jwtTokenUtil.validateToken(invalidToken)).thenThrow(new FTException(AuthExceptionCode.INVALID_TOKEN_FORMAT));
+        when(jwtTokenUtil.extractVerifiedClaims(invalidToken)).thenThrow(new FTException(AuthExceptionCode.INVALID_TOKEN_FORMAT));
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -193,7 +242,7 @@ class JwtAuthenticationFilterTest {
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // then
-        verify(jwtTokenUtil, never()).validateToken(anyString());
+        verify(jwtTokenUtil, never()).extractVerifiedClaims(anyString());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -220,9 +269,8 @@ class JwtAuthenticationFilterTest {
         String validToken = "valid.jwt.token";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
 
-        // 토큰 검증은 성공하지만 사용자 정보 추출에서 예외 발생
-        when(jwtTokenUtil.validateToken(validToken)).thenReturn(true);
-        when(jwtTokenUtil.extractUserId(validToken)).thenThrow(new RuntimeException("예상치 못한 오류"));
+        // 토큰 검증 및 사용자 정보 추출에서 예상치 못한 예외 발생
+        when(jwtTokenUtil.extractVerifiedClaims(validToken)).thenThrow(new RuntimeException("예상치 못한 오류"));
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -250,11 +298,8 @@ class JwtAuthenticationFilterTest {
         String role = "ADMIN";
 
         when(request.getHeader("Authorization")).thenReturn("Bearer " + adminToken);
-        when(jwtTokenUtil.validateToken(adminToken)).thenReturn(true);
-        when(jwtTokenUtil.extractUserId(adminToken)).thenReturn(userId);
-        when(jwtTokenUtil.extractEmail(adminToken)).thenReturn(email);
-        when(jwtTokenUtil.extractName(adminToken)).thenReturn(name);
-        when(jwtTokenUtil.extractRole(adminToken)).thenReturn(role);
+        when(jwtTokenUtil.extractVerifiedClaims(adminToken))
+            .thenReturn(new JwtClaims(userId, email, name, role, Instant.now().plusSeconds(3600)));
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
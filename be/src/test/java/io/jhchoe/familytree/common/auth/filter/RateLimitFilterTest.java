@@ -0,0 +1,161 @@
+package io.jhchoe.familytree.common.auth.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jhchoe.familytree.common.auth.application.port.in.CheckRateLimitCommand;
+import io.jhchoe.familytree.common.auth.application.port.in.CheckRateLimitUseCase;
+import io.jhchoe.familytree.common.auth.config.RateLimitProperties;
+import io.jhchoe.familytree.common.auth.domain.FTUser;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[Unit Test] RateLimitFilterTest")
+class RateLimitFilterTest {
+
+    @Mock
+    private CheckRateLimitUseCase checkRateLimitUseCase;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private RateLimitFilter sut;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.clearContext();
+        sut = new RateLimitFilter(checkRateLimitUseCase, new RateLimitProperties(), new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("정책이 없는 경로는 Rate Limit을 확인하지 않고 통과시킵니다")
+    void pass_through_when_no_policy_matches() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/families/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        sut.doFilter(request, response, filterChain);
+
+        // then
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(checkRateLimitUseCase);
+    }
+
+    @Test
+    @DisplayName("익명 요청은 클라이언트가 보낸 X-Forwarded-For가 아닌 원격 주소를 키로 Rate Limit을 확인합니다")
+    void check_rate_limit_by_remote_address_when_anonymous() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/refresh");
+        request.setRemoteAddr("198.51.100.7");
+        request.addHeader("X-Forwarded-For", "203.0.113.10, 10.0.0.1");
+        request.addHeader("X-Real-IP", "203.0.113.11");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(checkRateLimitUseCase.checkRateLimit(any())).thenReturn(true);
+
+        // when
+        sut.doFilter(request, response, filterChain);
+
+        // then
+        ArgumentCaptor<CheckRateLimitCommand> captor = ArgumentCaptor.forClass(CheckRateLimitCommand.class);
+        verify(checkRateLimitUseCase).checkRateLimit(captor.capture());
+        assertThat(captor.getValue().key()).isEqualTo("token_refresh:ip");
+        assertThat(captor.getValue().ipAddress()).isEqualTo("198.51.100.7");
+        assertThat(captor.getValue().limitCount()).isEqualTo(20);
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("인증된 요청은 사용자 ID를 키로 Rate Limit을 확인합니다")
+    void check_rate_limit_by_user_id_when_authenticated() throws Exception {
+        // given
+        FTUser ftUser = FTUser.ofJwtUser(42L, "테스트 사용자", "test@example.com", "USER");
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(ftUser, null, ftUser.getAuthorities())
+        );
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/families/public");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(checkRateLimitUseCase.checkRateLimit(any())).thenReturn(true);
+
+        // when
+        sut.doFilter(request, response, filterChain);
+
+        // then
+        ArgumentCaptor<CheckRateLimitCommand> captor = ArgumentCaptor.forClass(CheckRateLimitCommand.class);
+        verify(checkRateLimitUseCase).checkRateLimit(captor.capture());
+        assertThat(captor.getValue().key()).isEqualTo("public_family_search:user");
+        assertThat(captor.getValue().ipAddress()).isEqualTo("42");
+    }
+
+    @Test
+    @DisplayName("가족명 자동완성 요청도 기본 정책으로 Rate Limit을 확인합니다")
+    void check_rate_limit_for_family_name_suggestions() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/families/name-suggestions");
+        request.setRemoteAddr("198.51.100.7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(checkRateLimitUseCase.checkRateLimit(any())).thenReturn(true);
+
+        // when
+        sut.doFilter(request, response, filterChain);
+
+        // then
+        ArgumentCaptor<CheckRateLimitCommand> captor = ArgumentCaptor.forClass(CheckRateLimitCommand.class);
+        verify(checkRateLimitUseCase).checkRateLimit(captor.capture());
+        assertThat(captor.getValue().key()).isEqualTo("family_name_suggestion:ip");
+        assertThat(captor.getValue().limitCount()).isEqualTo(120);
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("Rate Limit을 초과하면 429 응답과 Retry-After 헤더를 반환하고 체인을 중단합니다")
+    void return_too_many_requests_when_limit_exceeded() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/refresh");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(checkRateLimitUseCase.checkRateLimit(any())).thenReturn(false);
+
+        // when
+        sut.doFilter(request, response, filterChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("60");
+        assertThat(response.getContentAsString()).contains("A007");
+        verifyNoInteractions(filterChain);
+    }
+
+    @Test
+    @DisplayName("정책의 HTTP 메서드와 다르면 Rate Limit을 확인하지 않습니다")
+    void pass_through_when_method_does_not_match() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/refresh");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        sut.doFilter(request, response, filterChain);
+
+        // then
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(checkRateLimitUseCase);
+    }
+}
@@ -0,0 +1,162 @@
+package io.jhchoe.familytree.common.auth.util;
+
+import io.jhchoe.familytree.common.auth.config.JwtTokenCacheProperties;
+import io.jhchoe.familytree.common.auth.domain.FTUser;
+import io.jhchoe.familytree.common.auth.domain.JwtClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[Unit Test] JwtTokenCacheTest")
+class JwtTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private JwtTokenCacheProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtTokenCacheProperties();
+        properties.setEnabled(true);
+        properties.setMaxSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("저장된 토큰을 조회하면 캐시된 FTUser를 반환하고 적중 횟수를 기록합니다")
+    void find_returns_cached_user_when_token_saved() {
+        // given
+        JwtTokenCache sut = createCache(NOW);
+        JwtClaims claims = createClaims(1L, NOW.plusSeconds(300));
+        FTUser user = claims.toFTUser();
+        sut.save("token-a", claims, user);
+
+        // when
+        Optional<FTUser> result = sut.find("token-a");
+
+        // then
+        assertThat(result).containsSame(user);
+        assertThat(meterRegistry.counter("jwt.token.cache.hits").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("토큰의 만료 시각이 지나면 캐시 항목을 반환하지 않습니다")
+    void find_returns_empty_when_token_expired() {
+        // given
+        JwtTokenCache sut = createCache(NOW);
+        JwtClaims claims = createClaims(1L, NOW);
+        sut.save("token-a", claims, claims.toFTUser());
+
+        // when
+        Optional<FTUser> result = sut.find("token-a");
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(sut.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 초과하면 가장 오래 사용되지 않은 항목을 제거합니다")
+    void save_evicts_least_recently_used_when_max_size_exceeded() {
+        // given
+        JwtTokenCache sut = createCache(NOW);
+        JwtClaims claims = createClaims(1L, NOW.plusSeconds(300));
+        sut.save("token-a", claims, claims.toFTUser());
+        sut.save("token-b", claims, claims.toFTUser());
+        sut.find("token-a");
+
+        // when
+        sut.save("token-c", claims, claims.toFTUser());
+
+        // then
+        assertThat(sut.size()).isEqualTo(2);
+        assertThat(sut.find("token-a")).isPresent();
+        assertThat(sut.find("token-b")).isEmpty();
+        assertThat(sut.find("token-c")).isPresent();
+    }
+
+    @Test
+    @DisplayName("사용자 ID로 삭제하면 해당 사용자의 항목만 제거합니다")
+    void delete_by_user_id_removes_only_that_users_entries() {
+        // given
+        JwtTokenCache sut = createCache(NOW);
+        JwtClaims firstUser = createClaims(1L, NOW.plusSeconds(300));
+        JwtClaims secondUser = createClaims(2L, NOW.plusSeconds(300));
+        sut.save("token-a", firstUser, firstUser.toFTUser());
+        sut.save("token-b", secondUser, secondUser.toFTUser());
+
+        // when
+        sut.deleteByUserId(1L);
+
+        // then
+        assertThat(sut.find("token-a")).isEmpty();
+        assertThat(sut.find("token-b")).isPresent();
+    }
+
+    @Test
+    @DisplayName("서명이 같아도 header·payload가 다른 토큰은 캐시 항목을 반환하지 않습니다")
+    void find_returns_empty_when_signing_input_differs() {
+        // given
+        JwtTokenCache sut = createCache(NOW);
+        JwtClaims claims = createClaims(1L, NOW.plusSeconds(300));
+        sut.save("header.payload-a.signature", claims, claims.toFTUser());
+
+        // when
+        Optional<FTUser> original = sut.find("header.payload-a.signature");
+        Optional<FTUser> tampered = sut.find("header.payload-b.signature");
+
+        // then
+        assertThat(original).isPresent();
+        assertThat(tampered).isEmpty();
+    }
+
+    @Test
+    @DisplayName("크기 초과로 제거된 항목이 있어도 사용자 ID로 남은 항목을 모두 제거합니다")
+    void delete_by_user_id_removes_remaining_entries_after_eviction() {
+        // given
+        JwtTokenCache sut = createCache(NOW);
+        JwtClaims claims = createClaims(1L, NOW.plusSeconds(300));
+        sut.save("token-a", claims, claims.toFTUser());
+        sut.save("token-b", claims, claims.toFTUser());
+        sut.save("token-c", claims, claims.toFTUser());
+
+        // when
+        sut.deleteByUserId(1L);
+
+        // then
+        assertThat(sut.size()).isZero();
+        assertThat(sut.find("token-c")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시가 비활성화되어 있으면 저장하지 않고 항상 미적중을 반환합니다")
+    void find_returns_empty_when_cache_disabled() {
+        // given
+        properties.setEnabled(false);
+        JwtTokenCache sut = createCache(NOW);
+        JwtClaims claims = createClaims(1L, NOW.plusSeconds(300));
+
+        // when
+        sut.save("token-a", claims, claims.toFTUser());
+
+        // then
+        assertThat(sut.find("token-a")).isEmpty();
+        assertThat(sut.size()).isZero();
+    }
+
+    private JwtTokenCache createCache(final Instant now) {
+        return new JwtTokenCache(properties, meterRegistry, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private JwtClaims createClaims(final Long userId, final Instant expiresAt) {
+        return new JwtClaims(userId, "user" + userId + "@example.com", "사용자" + userId, "USER", expiresAt);
+    }
+}
@@ -2,9 +2,11 @@ package io.jhchoe.familytree.common.auth.util;
 
 import io.jhchoe.familytree.common.auth.config.JwtProperties;
 import io.jhchoe.familytree.common.auth.domain.FTUser;
+import io.jhchoe.familytree.common.auth.domain.JwtClaims;
 import io.jhchoe.familytree.common.auth.domain.OAuth2Provider;
 import io.jhchoe.familytree.common.auth.exception.AuthExceptionCode;
 import io.jhchoe.familytree.common.exception.FTException;
+import java.time.Instant;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -203,4 +205,62 @@ class JwtTokenUtilTest {
             .extracting("code")
             .isEqualTo(AuthExceptionCode.INVALID_TOKEN_FORMAT.getCode());
     }
+
+    @Test
+    @DisplayName("유효한 Access Token에서 모든 클레임을 한 번에 추출합니다")
+    void extract_verified_claims_success_when_valid_access_token() {
+        // given
+        String token = jwtTokenUtil.generateAccessToken(testUser);
+
+        // when
+        JwtClaims claims = jwtTokenUtil.extractVerifiedClaims(token);
+
+        // then
+        assertThat(claims.userId()).isEqualTo(testUser.getId());
+        assertThat(claims.email()).isEqualTo(testUser.getEmail());
+        assertThat(claims.name()).isEqualTo(testUser.getName());
+        assertThat(claims.role()).isEqualTo("USER");
+        assertThat(claims.expiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    @DisplayName("Refresh Token에서 클레임 추출 시 사용자 ID만 포함됩니다")
+    void extract_verified_claims_contains_only_user_id_when_refresh_token() {
+        // given
+        String token = jwtTokenUtil.generateRefreshToken(1L);
+
+        // when
+        JwtClaims claims = jwtTokenUtil.extractVerifiedClaims(token);
+
+        // then
+        assertThat(claims.userId()).isEqualTo(1L);
+        assertThat(claims.email()).isNull();
+        assertThat(claims.role()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 토큰에서 클레임 추출 시 INVALID_TOKEN_FORMAT 예외가 발생합니다")
+    void throw_invalid_token_exception_when_extract_verified_claims_from_invalid_token() {
+        assertThatThrownBy(() -> jwtTokenUtil.extractVerifiedClaims("invalid.token.format"))
+            .isInstanceOf(FTException.class)
+            .extracting("code")
+            .isEqualTo(AuthExceptionCode.INVALID_TOKEN_FORMAT.getCode());
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰에서 클레임 추출 시 INVALID_TOKEN_FORMAT 예외가 발생합니다")
+    void throw_invalid_token_exception_when_token_signed_with_other_key() {
+        // given
+        JwtProperties otherProperties = new JwtProperties();
+        otherProperties.setSecret("another-secret-key-for-jwt-token-signing-must-be-at-least-256-bits");
+        otherProperties.setAccessTokenExpiration(3600L);
+        otherProperties.setIssuer("family-tree-test");
+        String foreignToken = new JwtTokenUtil(otherProperties).generateAccessToken(testUser);
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenUtil.extractVerifiedClaims(foreignToken))
+            .isInstanceOf(FTException.class)
+            .extracting("code")
+            .isEqualTo(AuthExceptionCode.INVALID_TOKEN_FORMAT.getCode());
+    }
 }
@@ -0,0 +1,108 @@
+package io.jhchoe.familytree.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("[Unit Test] BoundedLruCacheTest")
+class BoundedLruCacheTest {
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목을 제거합니다")
+    void put_evicts_least_recently_used_entry_when_full() {
+        // given
+        BoundedLruCache<String, Integer> sut = new BoundedLruCache<>(2);
+        sut.put("a", 1);
+        sut.put("b", 2);
+        sut.get("a");
+
+        // when
+        sut.put("c", 3);
+
+        // then
+        assertThat(sut.get("a")).isEqualTo(1);
+        assertThat(sut.get("b")).isNull();
+        assertThat(sut.get("c")).isEqualTo(3);
+        assertThat(sut.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("세그먼트로 나뉘어도 전체 항목 수는 최대 크기를 넘지 않습니다")
+    void put_keeps_total_size_within_max_size_across_segments() {
+        // given
+        BoundedLruCache<Integer, Integer> sut = new BoundedLruCache<>(1_000);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            sut.put(i, i);
+        }
+
+        // then
+        assertThat(sut.size()).isLessThanOrEqualTo(1_000);
+        assertThat(sut.get(9_999)).isEqualTo(9_999);
+    }
+
+    @Test
+    @DisplayName("compute는 현재 값을 기준으로 새 값을 저장하고 null을 반환하면 항목을 제거합니다")
+    void compute_stores_new_value_and_removes_when_null() {
+        // given
+        BoundedLruCache<String, Integer> sut = new BoundedLruCache<>(10);
+        sut.put("a", 1);
+
+        // when
+        Integer updated = sut.compute("a", (key, current) -> current + 1);
+        Integer absent = sut.compute("b", (key, current) -> current);
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(sut.get("a")).isEqualTo(2);
+        assertThat(absent).isNull();
+        assertThat(sut.get("b")).isNull();
+    }
+
+    @Test
+    @DisplayName("값을 지정한 제거는 현재 값이 같을 때만 항목을 제거합니다")
+    void remove_with_value_removes_only_when_value_matches() {
+        // given
+        BoundedLruCache<String, Integer> sut = new BoundedLruCache<>(10);
+        sut.put("a", 2);
+
+        // when
+        boolean staleRemoved = sut.remove("a", 1);
+        boolean currentRemoved = sut.remove("a", 2);
+
+        // then
+        assertThat(staleRemoved).isFalse();
+        assertThat(currentRemoved).isTrue();
+        assertThat(sut.get("a")).isNull();
+    }
+
+    @Test
+    @DisplayName("removeIf는 조건을 만족하는 항목만 제거하고 제거 수를 반환합니다")
+    void removeIf_removes_matching_entries_and_returns_count() {
+        // given
+        BoundedLruCache<Integer, Integer> sut = new BoundedLruCache<>(1_000);
+        for (int i = 0; i < 500; i++) {
+            sut.put(i, i);
+        }
+
+        // when
+        int removed = sut.removeIf((key, value) -> value % 2 == 0);
+
+        // then
+        assertThat(removed).isEqualTo(250);
+        assertThat(sut.size()).isEqualTo(250);
+        assertThat(sut.sum(value -> 1L)).isEqualTo(250L);
+    }
+
+    @Test
+    @DisplayName("최대 크기가 1보다 작으면 예외가 발생합니다")
+    void constructor_throws_when_max_size_not_positive() {
+        // when & then
+        assertThatThrownBy(() -> new BoundedLruCache<String, String>(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("maxSize must be positive");
+    }
+}
@@ -0,0 +1,139 @@
+package io.jhchoe.familytree.common.scheduling;
+
+import io.jhchoe.familytree.common.auth.application.port.out.DeleteRefreshTokenPort;
+import io.jhchoe.familytree.common.config.ExpiredDataSweepProperties;
+import io.jhchoe.familytree.common.scheduling.ExpiredDataSweeper.SweepResult;
+import io.jhchoe.familytree.core.invite.application.port.out.ModifyFamilyInvitePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[Unit Test] ExpiredDataSweeperTest")
+class ExpiredDataSweeperTest {
+
+    @Mock
+    private ModifyFamilyInvitePort modifyFamilyInvitePort;
+
+    @Mock
+    private DeleteRefreshTokenPort deleteRefreshTokenPort;
+
+    @Mock
+    private SchedulerLock schedulerLock;
+
+    private ExpiredDataSweepProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ExpiredDataSweeper sut;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ExpiredDataSweepProperties();
+        properties.setChunkSize(2);
+        properties.setMaxChunks(3);
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new ExpiredDataSweeper(
+            modifyFamilyInvitePort, deleteRefreshTokenPort, schedulerLock, properties, meterRegistry
+        );
+    }
+
+    @Test
+    @DisplayName("묶음 크기보다 적게 처리될 때까지 반복하고 처리 건수를 기록합니다")
+    void sweep_repeats_chunks_until_partial_chunk() {
+        // given
+        when(schedulerLock.tryLock(eq(ExpiredDataSweeper.LOCK_NAME), any(Duration.class))).thenReturn(true);
+        when(modifyFamilyInvitePort.expireAll(any(LocalDateTime.class), eq(2))).thenReturn(2, 1);
+        when(deleteRefreshTokenPort.deleteExpiredTokens(any(LocalDateTime.class), eq(2))).thenReturn(0);
+
+        // when
+        SweepResult result = sut.sweep();
+
+        // then
+        assertThat(result).isEqualTo(new SweepResult(3, 0));
+        verify(modifyFamilyInvitePort, times(2)).expireAll(any(LocalDateTime.class), eq(2));
+        verify(deleteRefreshTokenPort, times(1)).deleteExpiredTokens(any(LocalDateTime.class), eq(2));
+        verify(schedulerLock).unlock(ExpiredDataSweeper.LOCK_NAME);
+        assertThat(meterRegistry.counter("maintenance.sweep.invites.expired").count()).isEqualTo(3.0);
+        assertThat(meterRegistry.counter("maintenance.sweep.refresh.tokens.deleted").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 번 실행할 때 최대 묶음 수까지만 처리합니다")
+    void sweep_stops_at_max_chunks() {
+        // given
+        when(schedulerLock.tryLock(eq(ExpiredDataSweeper.LOCK_NAME), any(Duration.class))).thenReturn(true);
+        when(modifyFamilyInvitePort.expireAll(any(LocalDateTime.class), anyInt())).thenReturn(0);
+        when(deleteRefreshTokenPort.deleteExpiredTokens(any(LocalDateTime.class), eq(2))).thenReturn(2);
+
+        // when
+        SweepResult result = sut.sweep();
+
+        // then
+        assertThat(result.deletedRefreshTokens()).isEqualTo(6);
+        verify(deleteRefreshTokenPort, times(3)).deleteExpiredTokens(any(LocalDateTime.class), eq(2));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 잠금을 보유하고 있으면 정리하지 않고 건너뛴 횟수를 기록합니다")
+    void sweep_skips_when_lock_not_acquired() {
+        // given
+        when(schedulerLock.tryLock(eq(ExpiredDataSweeper.LOCK_NAME), any(Duration.class))).thenReturn(false);
+
+        // when
+        SweepResult result = sut.sweep();
+
+        // then
+        assertThat(result).isEqualTo(new SweepResult(0, 0));
+        verifyNoInteractions(modifyFamilyInvitePort, deleteRefreshTokenPort);
+        verify(schedulerLock, never()).unlock(any());
+        assertThat(meterRegistry.counter("maintenance.sweep.skipped").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("정리 도중 예외가 발생해도 잠금을 해제합니다")
+    void sweep_releases_lock_when_exception_thrown() {
+        // given
+        when(schedulerLock.tryLock(eq(ExpiredDataSweeper.LOCK_NAME), any(Duration.class))).thenReturn(true);
+        when(modifyFamilyInvitePort.expireAll(any(LocalDateTime.class), anyInt()))
+            .thenThrow(new IllegalStateException("db error"));
+
+        // when
+        try {
+            sut.sweep();
+        } catch (IllegalStateException ignored) {
+            // 예외는 스케줄러가 기록한다
+        }
+
+        // then
+        verify(schedulerLock).unlock(ExpiredDataSweeper.LOCK_NAME);
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 잠금을 시도하지 않습니다")
+    void sweep_does_nothing_when_disabled() {
+        // given
+        properties.setEnabled(false);
+
+        // when
+        SweepResult result = sut.sweep();
+
+        // then
+        assertThat(result).isEqualTo(new SweepResult(0, 0));
+        verifyNoInteractions(schedulerLock, modifyFamilyInvitePort, deleteRefreshTokenPort);
+    }
+}
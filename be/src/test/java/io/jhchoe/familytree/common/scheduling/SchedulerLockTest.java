@@ -0,0 +1,83 @@
+package io.jhchoe.familytree.common.scheduling;
+
+import io.jhchoe.familytree.helper.TestcontainersDataJpaTestBase;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[Adapter Test] SchedulerLockTest")
+class SchedulerLockTest extends TestcontainersDataJpaTestBase {
+
+    private static final String LOCK_NAME = "test-job";
+
+    @Autowired
+    private SchedulerLockJpaRepository schedulerLockJpaRepository;
+
+    private SchedulerLock node1;
+    private SchedulerLock node2;
+
+    @BeforeEach
+    void setUp() {
+        node1 = new SchedulerLock(schedulerLockJpaRepository);
+        node2 = new SchedulerLock(schedulerLockJpaRepository);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 임대 기간 내의 잠금을 보유하고 있으면 획득하지 못합니다")
+    void tryLock_fails_while_other_node_holds_lock() {
+        // given
+        boolean acquiredByNode1 = node1.tryLock(LOCK_NAME, Duration.ofMinutes(10));
+
+        // when
+        boolean acquiredByNode2 = node2.tryLock(LOCK_NAME, Duration.ofMinutes(10));
+
+        // then
+        assertThat(acquiredByNode1).isTrue();
+        assertThat(acquiredByNode2).isFalse();
+    }
+
+    @Test
+    @DisplayName("잠금을 해제하면 다른 노드가 획득할 수 있습니다")
+    void tryLock_succeeds_after_unlock() {
+        // given
+        node1.tryLock(LOCK_NAME, Duration.ofMinutes(10));
+        node1.unlock(LOCK_NAME);
+
+        // when
+        boolean acquired = node2.tryLock(LOCK_NAME, Duration.ofMinutes(10));
+
+        // then
+        assertThat(acquired).isTrue();
+        assertThat(schedulerLockJpaRepository.findById(LOCK_NAME)).isPresent();
+    }
+
+    @Test
+    @DisplayName("임대 기간이 지나면 해제하지 않은 잠금도 다른 노드가 획득할 수 있습니다")
+    void tryLock_succeeds_after_lease_expired() {
+        // given
+        node1.tryLock(LOCK_NAME, Duration.ZERO);
+
+        // when
+        boolean acquired = node2.tryLock(LOCK_NAME, Duration.ofMinutes(10));
+
+        // then
+        assertThat(acquired).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 보유한 잠금은 해제하지 않습니다")
+    void unlock_does_not_release_lock_held_by_other_node() {
+        // given
+        node1.tryLock(LOCK_NAME, Duration.ofMinutes(10));
+
+        // when
+        node2.unlock(LOCK_NAME);
+
+        // then
+        assertThat(node2.tryLock(LOCK_NAME, Duration.ofMinutes(10))).isFalse();
+    }
+}
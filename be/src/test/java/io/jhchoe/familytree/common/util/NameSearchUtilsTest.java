@@ -0,0 +1,127 @@
+package io.jhchoe.familytree.common.util;
+
+import io.jhchoe.familytree.common.util.NameSearchUtils.RankedItem;
+import io.jhchoe.familytree.common.util.NameSearchUtils.SearchCursor;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("[Unit Test] NameSearchUtils")
+class NameSearchUtilsTest {
+
+    @Test
+    @DisplayName("키워드 정규화: 앞뒤 공백을 제거하고 소문자로 변환한다")
+    void normalize_strips_and_lowercases_keyword() {
+        // when
+        String result = NameSearchUtils.normalize("  Kim 가족 ");
+
+        // then
+        assertThat(result).isEqualTo("kim 가족");
+    }
+
+    @DisplayName("키워드 정규화: null이거나 공백이면 예외가 발생한다")
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   "})
+    void normalize_throws_exception_when_keyword_is_blank(String keyword) {
+        // when & then
+        assertThatThrownBy(() -> NameSearchUtils.normalize(keyword))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("keyword must not be null or blank");
+    }
+
+    @Test
+    @DisplayName("LIKE 패턴: 와일드카드 문자와 이스케이프 문자를 이스케이프한다")
+    void patterns_escape_like_wildcards() {
+        // when
+        String contains = NameSearchUtils.containsPattern("100%_가\\족");
+        String prefix = NameSearchUtils.prefixPattern("100%_가\\족");
+
+        // then
+        assertThat(contains).isEqualTo("%100\\%\\_가\\\\족%");
+        assertThat(prefix).isEqualTo("100\\%\\_가\\\\족%");
+    }
+
+    @Test
+    @DisplayName("커서: 인코딩한 순위와 ID를 그대로 디코딩한다")
+    void cursor_round_trips_rank_and_id() {
+        // given
+        String cursor = NameSearchUtils.encodeCursor(NameSearchUtils.PREFIX_MATCH, 42L);
+
+        // when
+        SearchCursor result = NameSearchUtils.decodeCursor(cursor);
+
+        // then
+        assertThat(result).isEqualTo(new SearchCursor(1, 42L));
+    }
+
+    @DisplayName("커서: 없거나 잘못된 커서는 첫 페이지 위치로 디코딩한다")
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"invalid-cursor", "MTIz"})
+    void decodeCursor_returns_first_page_when_cursor_is_invalid(String cursor) {
+        // when
+        SearchCursor result = NameSearchUtils.decodeCursor(cursor);
+
+        // then
+        assertThat(result).isEqualTo(SearchCursor.FIRST);
+    }
+
+    @DisplayName("커서: 버전 접두사가 없거나 다르거나 순위가 범위를 벗어난 커서는 첫 페이지 위치로 디코딩한다")
+    @ParameterizedTest
+    @ValueSource(strings = {"Mzo0Mg==", "czE6NTo0Mg==", "czI6MTo0Mg=="})
+    void decodeCursor_returns_first_page_when_cursor_is_not_search_cursor(String cursor) {
+        // when
+        SearchCursor result = NameSearchUtils.decodeCursor(cursor);
+
+        // then
+        assertThat(result).isEqualTo(SearchCursor.FIRST);
+    }
+
+    @Test
+    @DisplayName("순위별 조회: 커서 순위의 커서 ID 이후부터 조회하고 다음 순위는 처음부터 limit까지 채운다")
+    void searchTiers_continues_from_cursor_tier_and_fills_next_tiers() {
+        // given
+        List<String> calls = new ArrayList<>();
+        SearchCursor cursor = new SearchCursor(NameSearchUtils.PREFIX_MATCH, 10L);
+
+        // when
+        List<RankedItem<Long>> result = NameSearchUtils.searchTiers(cursor, 3, (rank, cursorId, limit) -> {
+            calls.add(rank + ":" + cursorId + ":" + limit);
+            return rank == NameSearchUtils.PREFIX_MATCH ? List.of(11L) : List.of(1L, 2L);
+        });
+
+        // then
+        assertThat(calls).containsExactly("1:10:3", "2:0:2");
+        assertThat(result).containsExactly(
+            new RankedItem<>(11L, NameSearchUtils.PREFIX_MATCH),
+            new RankedItem<>(1L, NameSearchUtils.PARTIAL_MATCH),
+            new RankedItem<>(2L, NameSearchUtils.PARTIAL_MATCH)
+        );
+    }
+
+    @Test
+    @DisplayName("순위별 조회: 앞 순위에서 limit을 채우면 다음 순위 쿼리를 실행하지 않는다")
+    void searchTiers_skips_remaining_tiers_when_limit_is_filled() {
+        // given
+        List<Integer> ranks = new ArrayList<>();
+
+        // when
+        List<RankedItem<Long>> result = NameSearchUtils.searchTiers(SearchCursor.FIRST, 2, (rank, cursorId, limit) -> {
+            ranks.add(rank);
+            return List.of(1L, 2L);
+        });
+
+        // then
+        assertThat(ranks).containsExactly(NameSearchUtils.EXACT_MATCH);
+        assertThat(result).extracting(RankedItem::rank).containsOnly(NameSearchUtils.EXACT_MATCH);
+    }
+}
@@ -137,6 +137,116 @@ class AnnouncementControllerTest extends AcceptanceTestBase {
             .body("[1].content", notNullValue());
     }
 
+    @WithMockOAuth2User
+    @Test
+    @DisplayName("공지사항 피드 조회 시 최신순으로 커서 기반 페이징된 목록을 반환합니다")
+    void find_announcement_feed_returns_200_and_cursor_page() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        FamilyJpaEntity family = familyJpaRepository.save(
+            FamilyJpaEntity.from(FamilyFixture.newFamily())
+        );
+        familyMemberJpaRepository.save(
+            FamilyMemberJpaEntity.from(FamilyMember.newOwner(
+                family.getId(), 1L, "소유자", null, now, null
+            ))
+        );
+        for (int i = 1; i <= 3; i++) {
+            announcementJpaRepository.save(
+                AnnouncementJpaEntity.from(Announcement.create(
+                    family.getId(), "공지" + i, "내용" + i
+                ))
+            );
+        }
+
+        // when
+        String nextCursor = RestAssuredMockMvc
+            .given()
+            .when()
+            .get("/api/families/{familyId}/announcements/feed?size={size}", family.getId(), 2)
+            .then()
+            .statusCode(200)
+            .body("content.size()", equalTo(2))
+            .body("content[0].title", equalTo("공지3"))
+            .body("content[1].title", equalTo("공지2"))
+            .body("pagination.hasNext", equalTo(true))
+            .body("pagination.nextCursor", notNullValue())
+            .extract()
+            .path("pagination.nextCursor");
+
+        // then
+        RestAssuredMockMvc
+            .given()
+            .when()
+            .get("/api/families/{familyId}/announcements/feed?size={size}&cursor={cursor}",
+                family.getId(), 2, nextCursor)
+            .then()
+            .statusCode(200)
+            .body("content.size()", equalTo(1))
+            .body("content[0].title", equalTo("공지1"))
+            .body("pagination.hasNext", equalTo(false))
+            .body("pagination.nextCursor", nullValue());
+    }
+
+    @WithMockOAuth2User
+    @Test
+    @DisplayName("공지사항 목록 조회 시 ETag가 같으면 304를, 공지사항이 추가된 뒤에는 200을 반환합니다")
+    void find_announcements_returns_304_until_content_changes() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        FamilyJpaEntity family = familyJpaRepository.save(
+            FamilyJpaEntity.from(FamilyFixture.newFamily())
+        );
+        familyMemberJpaRepository.save(
+            FamilyMemberJpaEntity.from(FamilyMember.newOwner(
+                family.getId(), 1L, "소유자", null, now, null
+            ))
+        );
+        String eTag = RestAssuredMockMvc
+            .given()
+            .when()
+            .get("/api/families/{familyId}/announcements", family.getId())
+            .then()
+            .statusCode(200)
+            .header("ETag", notNullValue())
+            .extract()
+            .header("ETag");
+
+        // when & then
+        RestAssuredMockMvc
+            .given()
+            .header("If-None-Match", eTag)
+            .when()
+            .get("/api/families/{familyId}/announcements", family.getId())
+            .then()
+            .statusCode(304);
+
+        RestAssuredMockMvc
+            .given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .postProcessors(SecurityMockMvcRequestPostProcessors.csrf())
+            .body("""
+                {
+                    "title": "새 공지",
+                    "content": "공지사항 내용입니다."
+                }
+                """)
+            .when()
+            .post("/api/families/{familyId}/announcements", family.getId())
+            .then()
+            .statusCode(201);
+
+        RestAssuredMockMvc
+            .given()
+            .header("If-None-Match", eTag)
+            .when()
+            .get("/api/families/{familyId}/announcements", family.getId())
+            .then()
+            .statusCode(200)
+            .header("ETag", not(equalTo(eTag)))
+            .body("size()", equalTo(1));
+    }
+
     @Test
     @DisplayName("인증되지 않은 사용자의 공지사항 생성 요청 시 401 상태코드를 반환합니다")
     void save_announcement_returns_401_when_user_not_authenticated() {
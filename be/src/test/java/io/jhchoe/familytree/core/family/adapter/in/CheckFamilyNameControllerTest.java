@@ -1,5 +1,6 @@
 package io.jhchoe.familytree.core.family.adapter.in;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 
 import io.jhchoe.familytree.common.auth.UserJpaEntity;
@@ -186,6 +187,54 @@ class CheckFamilyNameControllerTest extends AcceptanceTestBase {
             .statusCode(401);
     }
 
+    @Test
+    @DisplayName("입력 중인 가족명으로 시작하는 기존 가족명을 사전순으로 반환한다")
+    void should_return_family_names_starting_with_prefix() {
+        // given
+        Long userId = createTestUserAndGetId();
+        createTestFamily("행복한집");
+        createTestFamily("행복가족");
+        createTestFamily("즐거운가족");
+
+        // when & then
+        RestAssuredMockMvc
+            .given()
+            .postProcessors(SecurityMockMvcRequestPostProcessors.user(createMockPrincipal(userId)))
+            .when()
+            .get("/api/families/name-suggestions?prefix={prefix}", "행복")
+            .then()
+            .statusCode(200)
+            .body("names", contains("행복가족", "행복한집"));
+    }
+
+    @Test
+    @DisplayName("비공개 가족명은 자동완성 후보에서 제외하지만 중복 확인에서는 사용 중으로 판단한다")
+    void should_exclude_private_family_names_from_suggestions_but_not_from_duplication_check() {
+        // given
+        Long userId = createTestUserAndGetId();
+        createTestFamily("행복가족");
+        familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("행복비밀", "비공개 가족", null, false)));
+
+        // when & then
+        RestAssuredMockMvc
+            .given()
+            .postProcessors(SecurityMockMvcRequestPostProcessors.user(createMockPrincipal(userId)))
+            .when()
+            .get("/api/families/name-suggestions?prefix={prefix}", "행복")
+            .then()
+            .statusCode(200)
+            .body("names", contains("행복가족"));
+
+        RestAssuredMockMvc
+            .given()
+            .postProcessors(SecurityMockMvcRequestPostProcessors.user(createMockPrincipal(userId)))
+            .when()
+            .get("/api/families/check-name?name={name}", "행복비밀")
+            .then()
+            .statusCode(200)
+            .body("available", equalTo(false));
+    }
+
     /**
      * 테스트용 Family를 생성하고 반환합니다.
      */
@@ -0,0 +1,188 @@
+package io.jhchoe.familytree.core.family.adapter.in;
+
+import io.jhchoe.familytree.core.family.config.FamilyHomeMemberSnapshotProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[Unit Test] FamilyHomeMemberSnapshotCacheTest")
+class FamilyHomeMemberSnapshotCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T00:00:00Z");
+
+    private FamilyHomeMemberSnapshotProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FamilyHomeMemberSnapshotProperties();
+        properties.setEnabled(true);
+        properties.setMaxSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("같은 버전으로 다시 조회하면 저장된 JSON을 그대로 반환합니다")
+    void find_returns_snapshot_for_same_version() {
+        // given
+        FamilyHomeMemberSnapshotCache sut = createCache(NOW);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        byte[] first = sut.find(1L, 3L, false, () -> load(loads, "[1]"));
+        byte[] second = sut.find(1L, 3L, false, () -> load(loads, "[2]"));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("family.home.snapshot.hits").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("family.home.snapshot.rebuilds").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("내용 버전이 바뀌면 스냅샷을 새로 만들어 교체합니다")
+    void find_rebuilds_snapshot_when_version_changes() {
+        // given
+        FamilyHomeMemberSnapshotCache sut = createCache(NOW);
+        AtomicInteger loads = new AtomicInteger();
+        sut.find(1L, 3L, false, () -> load(loads, "[1]"));
+
+        // when
+        byte[] result = sut.find(1L, 4L, false, () -> load(loads, "[2]"));
+
+        // then
+        assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo("[2]");
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("늦게 끝난 이전 버전의 조회는 더 최신 스냅샷을 덮어쓰지 않습니다")
+    void find_does_not_overwrite_newer_snapshot_with_older_version() {
+        // given
+        FamilyHomeMemberSnapshotCache sut = createCache(NOW);
+        AtomicInteger loads = new AtomicInteger();
+        sut.find(1L, 4L, false, () -> load(loads, "[new]"));
+
+        // when
+        sut.find(1L, 3L, false, () -> load(loads, "[old]"));
+        byte[] result = sut.find(1L, 4L, false, () -> load(loads, "[reloaded]"));
+
+        // then
+        assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo("[new]");
+    }
+
+    @Test
+    @DisplayName("조회 범위(전체·활성 구성원)별로 스냅샷을 따로 보관합니다")
+    void find_keeps_snapshot_per_visibility() {
+        // given
+        FamilyHomeMemberSnapshotCache sut = createCache(NOW);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        byte[] active = sut.find(1L, 3L, false, () -> load(loads, "[active]"));
+        byte[] all = sut.find(1L, 3L, true, () -> load(loads, "[all]"));
+
+        // then
+        assertThat(new String(active, StandardCharsets.UTF_8)).isEqualTo("[active]");
+        assertThat(new String(all, StandardCharsets.UTF_8)).isEqualTo("[all]");
+        assertThat(sut.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("해가 바뀌면 나이를 다시 계산하도록 스냅샷을 새로 만듭니다")
+    void find_rebuilds_snapshot_when_year_changes() {
+        // given
+        MutableClock clock = new MutableClock(Instant.parse("2025-12-31T23:59:59Z"));
+        FamilyHomeMemberSnapshotCache sut = new FamilyHomeMemberSnapshotCache(properties, meterRegistry, clock);
+        AtomicInteger loads = new AtomicInteger();
+        sut.find(1L, 3L, false, () -> load(loads, "[2025]"));
+
+        // when
+        clock.instant = Instant.parse("2026-01-01T00:00:00Z");
+        sut.find(1L, 3L, false, () -> load(loads, "[2026]"));
+        byte[] result = sut.find(1L, 3L, false, () -> load(loads, "[again]"));
+
+        // then
+        assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo("[2026]");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 스냅샷을 제거합니다")
+    void find_evicts_least_recently_used_snapshot() {
+        // given
+        FamilyHomeMemberSnapshotCache sut = createCache(NOW);
+        AtomicInteger loads = new AtomicInteger();
+        sut.find(1L, 1L, false, () -> load(loads, "[1]"));
+        sut.find(2L, 1L, false, () -> load(loads, "[2]"));
+        sut.find(1L, 1L, false, () -> load(loads, "[1]"));
+
+        // when
+        sut.find(3L, 1L, false, () -> load(loads, "[3]"));
+        sut.find(1L, 1L, false, () -> load(loads, "[1]"));
+        sut.find(2L, 1L, false, () -> load(loads, "[2]"));
+
+        // then
+        assertThat(sut.size()).isEqualTo(2);
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 비활성화되어 있으면 항상 새로 만듭니다")
+    void find_always_loads_when_disabled() {
+        // given
+        properties.setEnabled(false);
+        FamilyHomeMemberSnapshotCache sut = createCache(NOW);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        sut.find(1L, 3L, false, () -> load(loads, "[1]"));
+        sut.find(1L, 3L, false, () -> load(loads, "[1]"));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(sut.size()).isZero();
+    }
+
+    private FamilyHomeMemberSnapshotCache createCache(final Instant now) {
+        return new FamilyHomeMemberSnapshotCache(properties, meterRegistry, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private byte[] load(final AtomicInteger loads, final String json) {
+        loads.incrementAndGet();
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import io.jhchoe.familytree.config.WithMockOAuth2User;
 import io.jhchoe.familytree.core.family.adapter.in.response.FindFamilyResponse;
 import io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyJpaEntity;
 import io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyJpaRepository;
+import io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyMemberCountReconciler;
 import io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyMemberJpaEntity;
 import io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyMemberJpaRepository;
 import io.jhchoe.familytree.core.family.domain.Family;
@@ -39,6 +40,9 @@ class FindFamilyControllerTest extends AcceptanceTestBase {
     @Autowired
     private FamilyMemberJpaRepository familyMemberJpaRepository;
 
+    @Autowired
+    private FamilyMemberCountReconciler familyMemberCountReconciler;
+
     @AfterEach
     void tearDown() {
         // 테스트 데이터 정리
@@ -165,6 +169,8 @@ class FindFamilyControllerTest extends AcceptanceTestBase {
         
         familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(member1));
         familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(member2));
+        // 구성원 행을 직접 저장했으므로 Family의 구성원 수를 보정
+        familyMemberCountReconciler.reconcile();
 
         // when & then
         given()
@@ -175,7 +181,9 @@ class FindFamilyControllerTest extends AcceptanceTestBase {
             .statusCode(200)
             .body("$", hasSize(2))
             .body("id", containsInAnyOrder(savedFamily1.getId().intValue(), savedFamily2.getId().intValue()))
-            .body("name", containsInAnyOrder("우리가족", "친척가족"));
+            .body("name", containsInAnyOrder("우리가족", "친척가족"))
+            .body("myRole", containsInAnyOrder("OWNER", "MEMBER"))
+            .body("memberCount", containsInAnyOrder(1, 1));
     }
 
     @Test
@@ -215,10 +223,19 @@ class FindFamilyControllerTest extends AcceptanceTestBase {
         // 비공개 Family 생성 (검색 결과에 포함되지 않아야 함)
         Family privateFamily = FamilyFixture.newFamily("비공개가족", null, null, false);
         
-        familyJpaRepository.save(FamilyJpaEntity.from(publicFamily1));
+        FamilyJpaEntity savedPublicFamily1 = familyJpaRepository.save(FamilyJpaEntity.from(publicFamily1));
         familyJpaRepository.save(FamilyJpaEntity.from(publicFamily2));
         familyJpaRepository.save(FamilyJpaEntity.from(privateFamily));
 
+        // 공개가족1에 구성원 2명 추가
+        familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(FamilyMember.withRole(
+            savedPublicFamily1.getId(), 1L, "홍길동", null, null, null, FamilyMemberRole.OWNER
+        )));
+        familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(FamilyMember.withRole(
+            savedPublicFamily1.getId(), 2L, "김철수", null, null, null, FamilyMemberRole.MEMBER
+        )));
+        familyMemberCountReconciler.reconcile();
+
         // when & then
         given()
             .contentType(ContentType.JSON)
@@ -233,6 +250,8 @@ class FindFamilyControllerTest extends AcceptanceTestBase {
             .body("content[1].name", notNullValue())
             .body("content[0].canJoin", equalTo(true))
             .body("content[1].canJoin", equalTo(true))
+            .body("content.find { it.name == '공개가족1' }.memberCount", equalTo(2))
+            .body("content.find { it.name == '공개가족2' }.memberCount", equalTo(0))
             .body("pagination.hasNext", equalTo(false))
             .body("pagination.size", equalTo(10));
     }
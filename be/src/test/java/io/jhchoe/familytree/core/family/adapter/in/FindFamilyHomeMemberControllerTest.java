@@ -0,0 +1,104 @@
+package io.jhchoe.familytree.core.family.adapter.in;
+
+import static org.hamcrest.Matchers.*;
+
+import io.jhchoe.familytree.config.WithMockOAuth2User;
+import io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyJpaEntity;
+import io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyJpaRepository;
+import io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyMemberJpaEntity;
+import io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyMemberJpaRepository;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
+import io.jhchoe.familytree.docs.AcceptanceTestBase;
+import io.jhchoe.familytree.test.fixture.FamilyFixture;
+import io.jhchoe.familytree.test.fixture.FamilyMemberFixture;
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+/**
+ * FindFamilyHomeMemberController의 인수 테스트입니다.
+ */
+@DisplayName("[Acceptance Test] FindFamilyHomeMemberControllerTest")
+class FindFamilyHomeMemberControllerTest extends AcceptanceTestBase {
+
+    @Autowired
+    private FamilyJpaRepository familyJpaRepository;
+
+    @Autowired
+    private FamilyMemberJpaRepository familyMemberJpaRepository;
+
+    @WithMockOAuth2User
+    @Test
+    @DisplayName("OWNER가 홈 구성원 목록을 조회하면 정지된 구성원을 포함한 JSON 배열을 반환합니다")
+    void find_home_members_returns_json_array_including_suspended_members_for_owner() {
+        // given
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(
+            FamilyMemberFixture.newOwner(family.getId(), 1L)
+        ));
+        familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(
+            FamilyMemberFixture.newMember(family.getId(), 2L, "정지된구성원").updateStatus(FamilyMemberStatus.SUSPENDED)
+        ));
+
+        // when & then
+        RestAssuredMockMvc
+            .given()
+            .when()
+            .get("/api/families/{familyId}/home/members", family.getId())
+            .then()
+            .statusCode(200)
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .header("ETag", notNullValue())
+            .body("size()", equalTo(2))
+            .body("memberName", hasItems("테스트오너", "정지된구성원"));
+    }
+
+    @WithMockOAuth2User
+    @Test
+    @DisplayName("홈 구성원 목록 조회 시 ETag가 같으면 304를 반환합니다")
+    void find_home_members_returns_304_when_etag_matches() {
+        // given
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(
+            FamilyMemberFixture.newOwner(family.getId(), 1L)
+        ));
+        String eTag = RestAssuredMockMvc
+            .given()
+            .when()
+            .get("/api/families/{familyId}/home/members", family.getId())
+            .then()
+            .statusCode(200)
+            .extract()
+            .header("ETag");
+
+        // when & then
+        RestAssuredMockMvc
+            .given()
+            .header("If-None-Match", eTag)
+            .when()
+            .get("/api/families/{familyId}/home/members", family.getId())
+            .then()
+            .statusCode(304);
+    }
+
+    @WithMockOAuth2User
+    @Test
+    @DisplayName("구성원이 아닌 사용자가 홈 구성원 목록을 조회하면 403을 반환합니다")
+    void find_home_members_returns_403_when_user_is_not_member() {
+        // given
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(
+            FamilyMemberFixture.newOwner(family.getId(), 99L)
+        ));
+
+        // when & then
+        RestAssuredMockMvc
+            .given()
+            .when()
+            .get("/api/families/{familyId}/home/members", family.getId())
+            .then()
+            .statusCode(403);
+    }
+}
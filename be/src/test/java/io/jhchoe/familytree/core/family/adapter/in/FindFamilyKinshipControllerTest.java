@@ -0,0 +1,106 @@
+package io.jhchoe.familytree.core.family.adapter.in;
+
+import static org.hamcrest.Matchers.*;
+
+import io.jhchoe.familytree.config.WithMockOAuth2User;
+import io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyJpaEntity;
+import io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyJpaRepository;
+import io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyMemberJpaEntity;
+import io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyMemberJpaRepository;
+import io.jhchoe.familytree.core.family.application.port.out.SaveFamilyMemberPort;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType;
+import io.jhchoe.familytree.docs.AcceptanceTestBase;
+import io.jhchoe.familytree.test.fixture.FamilyFixture;
+import io.jhchoe.familytree.test.fixture.FamilyMemberFixture;
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * FindFamilyKinshipController의 인수 테스트입니다.
+ */
+@DisplayName("[Acceptance Test] FindFamilyKinshipControllerTest")
+class FindFamilyKinshipControllerTest extends AcceptanceTestBase {
+
+    @Autowired
+    private FamilyJpaRepository familyJpaRepository;
+
+    @Autowired
+    private FamilyMemberJpaRepository familyMemberJpaRepository;
+
+    @Autowired
+    private SaveFamilyMemberPort saveFamilyMemberPort;
+
+    @WithMockOAuth2User
+    @Test
+    @DisplayName("소유자와 아버지의 촌수를 조회하면 1촌 경로를 반환합니다")
+    void find_kinship_returns_one_degree_path_between_owner_and_father() {
+        // given
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        FamilyMemberJpaEntity owner = familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(
+            FamilyMemberFixture.newOwner(family.getId(), 1L)
+        ));
+        FamilyMemberJpaEntity father = familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(
+            FamilyMemberFixture.newMember(family.getId(), 2L, "아버지")
+                .updateRelationship(FamilyMemberRelationshipType.FATHER, null)
+        ));
+
+        // when & then
+        RestAssuredMockMvc
+            .given()
+            .when()
+            .get("/api/families/{familyId}/members/{memberId}/kinship/{targetMemberId}",
+                family.getId(), owner.getId(), father.getId())
+            .then()
+            .statusCode(200)
+            .body("connected", equalTo(true))
+            .body("degree", equalTo(1))
+            .body("degreeName", equalTo("1촌"))
+            .body("path.direction", contains("PARENT"));
+    }
+
+    @WithMockOAuth2User
+    @Test
+    @DisplayName("소유자의 계보를 조회하면 아버지를 1세대 조상으로 반환합니다")
+    void find_lineage_returns_father_as_first_generation_ancestor() {
+        // given
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        Long ownerId = saveFamilyMemberPort.save(FamilyMemberFixture.newOwner(family.getId(), 1L));
+        Long fatherId = saveFamilyMemberPort.save(
+            FamilyMemberFixture.newMember(family.getId(), 2L, "아버지")
+                .updateRelationship(FamilyMemberRelationshipType.FATHER, null)
+        );
+
+        // when & then
+        RestAssuredMockMvc
+            .given()
+            .when()
+            .get("/api/families/{familyId}/members/{memberId}/lineage", family.getId(), ownerId)
+            .then()
+            .statusCode(200)
+            .body("ancestors.memberId", contains(fatherId.intValue()))
+            .body("ancestors.generation", contains(1))
+            .body("descendants", empty());
+    }
+
+    @WithMockOAuth2User
+    @Test
+    @DisplayName("Family에 없는 구성원의 촌수를 조회하면 404를 반환합니다")
+    void find_kinship_returns_404_when_member_is_not_in_family() {
+        // given
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        FamilyMemberJpaEntity owner = familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(
+            FamilyMemberFixture.newOwner(family.getId(), 1L)
+        ));
+
+        // when & then
+        RestAssuredMockMvc
+            .given()
+            .when()
+            .get("/api/families/{familyId}/members/{memberId}/kinship/{targetMemberId}",
+                family.getId(), owner.getId(), 999_999L)
+            .then()
+            .statusCode(404);
+    }
+}
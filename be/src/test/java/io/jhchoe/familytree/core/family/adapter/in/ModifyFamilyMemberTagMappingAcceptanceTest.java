@@ -1,6 +1,7 @@
 package io.jhchoe.familytree.core.family.adapter.in;
 
 import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
@@ -14,11 +15,13 @@ import io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyMemberJpaE
 import io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyMemberJpaRepository;
 import io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyMemberTagJpaEntity;
 import io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyMemberTagJpaRepository;
+import io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyMemberTagMappingJpaEntity;
 import io.jhchoe.familytree.core.family.adapter.out.persistence.FamilyMemberTagMappingJpaRepository;
 import io.jhchoe.familytree.core.family.domain.Family;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberTag;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberTagMapping;
 import io.jhchoe.familytree.docs.AcceptanceTestBase;
 import io.jhchoe.familytree.test.fixture.FamilyFixture;
 import io.restassured.http.ContentType;
@@ -206,6 +209,154 @@ class ModifyFamilyMemberTagMappingAcceptanceTest extends AcceptanceTestBase {
             .statusCode(HttpStatus.BAD_REQUEST.value());
     }
 
+    @Test
+    @WithMockOAuth2User
+    @DisplayName("태그 일부만 변경하면 유지되는 태그의 매핑은 그대로 남습니다")
+    void modify_member_tags_keeps_unchanged_mappings() {
+        // given
+        Long userId = 1L;
+        Long familyId = createFamilyWithOwner(userId);
+        Long memberId = createMember(familyId, 2L, "김철수");
+        Long tagId1 = createTag(familyId, "친가", userId);
+        Long tagId2 = createTag(familyId, "외가", userId);
+        Long tagId3 = createTag(familyId, "조카들", userId);
+        Long keptMappingId = createMapping(tagId1, memberId);
+        createMapping(tagId2, memberId);
+
+        String requestBody = """
+            {
+                "tagIds": [%d, %d]
+            }
+            """.formatted(tagId1, tagId3);
+
+        // when
+        given()
+            .postProcessors(csrf())
+            .contentType(ContentType.JSON)
+            .body(requestBody)
+        .when()
+            .put("/api/families/{familyId}/members/{memberId}/tags", familyId, memberId)
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("tags.name", containsInAnyOrder("친가", "조카들"));
+
+        // then
+        List<FamilyMemberTagMappingJpaEntity> mappings = familyMemberTagMappingJpaRepository.findAllByMemberId(memberId);
+        assertThat(mappings)
+            .extracting(FamilyMemberTagMappingJpaEntity::getTagId)
+            .containsExactlyInAnyOrder(tagId1, tagId3);
+        assertThat(mappings)
+            .filteredOn(mapping -> mapping.getTagId().equals(tagId1))
+            .extracting(FamilyMemberTagMappingJpaEntity::getId)
+            .containsExactly(keptMappingId);
+    }
+
+    @Test
+    @WithMockOAuth2User
+    @DisplayName("OWNER가 여러 멤버의 태그를 한 번에 할당하면 200 OK와 멤버별 태그 정보를 반환합니다")
+    void modify_all_member_tags_returns_200_when_owner_assigns_tags() {
+        // given
+        Long userId = 1L;
+        Long familyId = createFamilyWithOwner(userId);
+        Long memberId1 = createMember(familyId, 2L, "김철수");
+        Long memberId2 = createMember(familyId, 3L, "이영희");
+        Long tagId1 = createTag(familyId, "친가", userId);
+        Long tagId2 = createTag(familyId, "외가", userId);
+        createMapping(tagId1, memberId2);
+
+        String requestBody = """
+            {
+                "members": [
+                    { "memberId": %d, "tagIds": [%d, %d] },
+                    { "memberId": %d, "tagIds": [] }
+                ]
+            }
+            """.formatted(memberId1, tagId1, tagId2, memberId2);
+
+        // when
+        given()
+            .postProcessors(csrf())
+            .contentType(ContentType.JSON)
+            .body(requestBody)
+        .when()
+            .put("/api/families/{familyId}/members/tags", familyId)
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("", hasSize(2))
+            .body("[0].memberId", equalTo(memberId1.intValue()))
+            .body("[0].tags.name", containsInAnyOrder("친가", "외가"))
+            .body("[1].memberId", equalTo(memberId2.intValue()))
+            .body("[1].tags", empty());
+
+        // then
+        assertThat(familyMemberTagMappingJpaRepository.findAllByMemberId(memberId1)).hasSize(2);
+        assertThat(familyMemberTagMappingJpaRepository.findAllByMemberId(memberId2)).isEmpty();
+    }
+
+    @Test
+    @WithMockOAuth2User
+    @DisplayName("여러 멤버 중 하나라도 다른 Family 소속이면 400 Bad Request를 반환하고 아무 것도 변경하지 않습니다")
+    void modify_all_member_tags_rolls_back_when_member_in_other_family() {
+        // given
+        Long userId = 1L;
+        Long familyId = createFamilyWithOwner(userId);
+        Long otherFamilyId = createFamilyWithOwner(9L);
+        Long memberId = createMember(familyId, 2L, "김철수");
+        Long otherFamilyMemberId = createMember(otherFamilyId, 3L, "이영희");
+        Long tagId = createTag(familyId, "친가", userId);
+
+        String requestBody = """
+            {
+                "members": [
+                    { "memberId": %d, "tagIds": [%d] },
+                    { "memberId": %d, "tagIds": [%d] }
+                ]
+            }
+            """.formatted(memberId, tagId, otherFamilyMemberId, tagId);
+
+        // when
+        given()
+            .postProcessors(csrf())
+            .contentType(ContentType.JSON)
+            .body(requestBody)
+        .when()
+            .put("/api/families/{familyId}/members/tags", familyId)
+        .then()
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+
+        // then
+        assertThat(familyMemberTagMappingJpaRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @WithMockOAuth2User
+    @DisplayName("같은 멤버가 중복되면 400 Bad Request를 반환합니다")
+    void modify_all_member_tags_returns_400_when_member_duplicated() {
+        // given
+        Long userId = 1L;
+        Long familyId = createFamilyWithOwner(userId);
+        Long memberId = createMember(familyId, 2L, "김철수");
+
+        String requestBody = """
+            {
+                "members": [
+                    { "memberId": %d, "tagIds": [] },
+                    { "memberId": %d, "tagIds": [] }
+                ]
+            }
+            """.formatted(memberId, memberId);
+
+        // when & then
+        given()
+            .postProcessors(csrf())
+            .contentType(ContentType.JSON)
+            .body(requestBody)
+        .when()
+            .put("/api/families/{familyId}/members/tags", familyId)
+        .then()
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
     private Long createFamilyWithOwner(Long ownerUserId) {
         Family family = FamilyFixture.newFamily();
         FamilyJpaEntity savedFamily = familyJpaRepository.save(FamilyJpaEntity.from(family));
@@ -265,4 +416,9 @@ class ModifyFamilyMemberTagMappingAcceptanceTest extends AcceptanceTestBase {
         FamilyMemberTagJpaEntity savedEntity = familyMemberTagJpaRepository.save(entity);
         return savedEntity.getId();
     }
+
+    private Long createMapping(Long tagId, Long memberId) {
+        FamilyMemberTagMapping mapping = FamilyMemberTagMapping.newMapping(tagId, memberId);
+        return familyMemberTagMappingJpaRepository.save(FamilyMemberTagMappingJpaEntity.from(mapping)).getId();
+    }
 }
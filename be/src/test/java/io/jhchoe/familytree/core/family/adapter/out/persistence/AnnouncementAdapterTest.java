@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.jhchoe.familytree.core.family.domain.Announcement;
+import io.jhchoe.familytree.core.family.domain.CursorPage;
 import io.jhchoe.familytree.helper.TestcontainersDataJpaTestBase;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -20,11 +21,14 @@ class AnnouncementAdapterTest extends TestcontainersDataJpaTestBase {
     @Autowired
     private AnnouncementJpaRepository announcementJpaRepository;
 
+    @Autowired
+    private FamilyJpaRepository familyJpaRepository;
+
     private AnnouncementAdapter sut;
 
     @BeforeEach
     void setUp() {
-        sut = new AnnouncementAdapter(announcementJpaRepository);
+        sut = new AnnouncementAdapter(announcementJpaRepository, familyJpaRepository);
     }
 
     @Test
@@ -149,6 +153,47 @@ class AnnouncementAdapterTest extends TestcontainersDataJpaTestBase {
             .hasMessageContaining("familyId must not be null");
     }
 
+    @Test
+    @DisplayName("findFeedByFamilyId 메서드는 최신순으로 커서 이후 공지사항을 중복·누락 없이 조회한다")
+    void return_announcement_feed_by_cursor_in_latest_order() {
+        // given
+        Long familyId = 1L;
+        for (int i = 1; i <= 5; i++) {
+            createAnnouncement(familyId, "공지 " + i, "내용 " + i);
+        }
+        createAnnouncement(2L, "다른 Family 공지", "다른 내용");
+
+        // when
+        CursorPage<Announcement> firstPage = sut.findFeedByFamilyId(familyId, null, 2);
+        CursorPage<Announcement> secondPage = sut.findFeedByFamilyId(familyId, firstPage.getNextCursor(), 2);
+        CursorPage<Announcement> lastPage = sut.findFeedByFamilyId(familyId, secondPage.getNextCursor(), 2);
+
+        // then
+        assertThat(firstPage.getContent()).extracting(Announcement::getTitle).containsExactly("공지 5", "공지 4");
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(secondPage.getContent()).extracting(Announcement::getTitle).containsExactly("공지 3", "공지 2");
+        assertThat(secondPage.isHasNext()).isTrue();
+        assertThat(lastPage.getContent()).extracting(Announcement::getTitle).containsExactly("공지 1");
+        assertThat(lastPage.isHasNext()).isFalse();
+        assertThat(lastPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("findFeedByFamilyId 메서드는 잘못된 커서가 전달되면 첫 페이지부터 조회한다")
+    void return_first_page_when_feed_cursor_is_invalid() {
+        // given
+        Long familyId = 1L;
+        createAnnouncement(familyId, "공지 1", "내용 1");
+        createAnnouncement(familyId, "공지 2", "내용 2");
+
+        // when
+        CursorPage<Announcement> result = sut.findFeedByFamilyId(familyId, "invalid-cursor", 10);
+
+        // then
+        assertThat(result.getContent()).extracting(Announcement::getTitle).containsExactly("공지 2", "공지 1");
+        assertThat(result.isHasNext()).isFalse();
+    }
+
     @Test
     @DisplayName("deleteById 메서드는 Announcement를 성공적으로 삭제한다")
     void delete_announcement_successfully() {
@@ -4,9 +4,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.jhchoe.familytree.common.exception.FTException;
+import io.jhchoe.familytree.core.family.config.FamilyNameIndexProperties;
+import io.jhchoe.familytree.core.family.domain.CursorPage;
 import io.jhchoe.familytree.core.family.domain.Family;
+import io.jhchoe.familytree.core.family.domain.FamilySummary;
 import io.jhchoe.familytree.test.fixture.FamilyFixture;
 import io.jhchoe.familytree.helper.TestcontainersDataJpaTestBase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import java.util.List;
 import java.util.Optional;
 import java.time.LocalDateTime;
@@ -14,6 +19,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 
 @DisplayName("[Adapter Test] FamilyAdapter")
 class FamilyAdapterTest extends TestcontainersDataJpaTestBase {
@@ -22,13 +28,19 @@ class FamilyAdapterTest extends TestcontainersDataJpaTestBase {
     private FamilyJpaRepository familyJpaRepository;
 
     @Autowired
-    private FamilyMemberJpaRepository familyMemberJpaRepository;
+    private EntityManager entityManager;
+
+    private FamilyNameIndexProperties familyNameIndexProperties;
+
+    private FamilyNameIndex familyNameIndex;
 
     private FamilyAdapter sut;
 
     @BeforeEach
     void setUp() {
-        sut = new FamilyAdapter(familyJpaRepository, familyMemberJpaRepository);
+        familyNameIndexProperties = new FamilyNameIndexProperties();
+        familyNameIndex = new FamilyNameIndex(familyNameIndexProperties, new SimpleMeterRegistry());
+        sut = new FamilyAdapter(familyJpaRepository, familyNameIndex);
     }
 
 
@@ -116,4 +128,184 @@ class FamilyAdapterTest extends TestcontainersDataJpaTestBase {
         assertThat(families).extracting("name")
             .containsExactlyInAnyOrder("가족 이름1", "가족 이름2");
     }
+
+    @Test
+    @DisplayName("findPublicFamiliesByKeyword 메서드는 커서 이후의 공개 Family만 size만큼 조회하고 다음 커서를 응답해야 한다.")
+    void given_cursor_when_find_public_families_then_return_next_page() {
+        // given
+        FamilyJpaEntity first = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("공개1", null, null, true)));
+        familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("비공개", null, null, false)));
+        FamilyJpaEntity second = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("공개2", null, null, true)));
+        FamilyJpaEntity third = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("공개3", null, null, true)));
+
+        // when
+        CursorPage<FamilySummary> firstPage = sut.findPublicFamiliesByKeyword(null, null, 2);
+        CursorPage<FamilySummary> secondPage = sut.findPublicFamiliesByKeyword(null, firstPage.getNextCursor(), 2);
+
+        // then
+        assertThat(firstPage.getContent()).extracting(summary -> summary.getFamily().getId())
+            .containsExactly(first.getId(), second.getId());
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(CursorUtils.decodeCursor(firstPage.getNextCursor()).familyId()).isEqualTo(second.getId());
+
+        assertThat(secondPage.getContent()).extracting(summary -> summary.getFamily().getId())
+            .containsExactly(third.getId());
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("findPublicFamiliesByKeyword 메서드는 키워드가 있으면 이름에 키워드를 포함한 공개 Family만 조회해야 한다.")
+    void given_keyword_when_find_public_families_then_return_matching_families() {
+        // given
+        familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("김씨 가족", null, null, true)));
+        familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("이씨 가족", null, null, true)));
+        familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("김씨 비공개", null, null, false)));
+
+        // when
+        CursorPage<FamilySummary> page = sut.findPublicFamiliesByKeyword("김씨", null, 10);
+
+        // then
+        assertThat(page.getContent()).extracting(summary -> summary.getFamily().getName())
+            .containsExactly("김씨 가족");
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("searchPublicFamiliesByName 메서드는 완전 일치, 앞부분 일치, 부분 일치 순으로 정렬해야 한다.")
+    void given_keyword_when_search_public_families_then_order_by_relevance() {
+        // given
+        FamilyJpaEntity partial = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("우리 김씨네", null, null, true)));
+        FamilyJpaEntity prefix = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("김씨네 가족", null, null, true)));
+        FamilyJpaEntity exact = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("김씨네", null, null, true)));
+        familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("김씨네 비공개", null, null, false)));
+        familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("이씨네", null, null, true)));
+
+        // when
+        CursorPage<FamilySummary> page = sut.searchPublicFamiliesByName("김씨네", null, 10);
+
+        // then
+        assertThat(page.getContent()).extracting(summary -> summary.getFamily().getId())
+            .containsExactly(exact.getId(), prefix.getId(), partial.getId());
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("searchPublicFamiliesByName 메서드는 관련도 순서를 유지하며 커서 이후 페이지를 조회해야 한다.")
+    void given_cursor_when_search_public_families_then_return_next_page_in_relevance_order() {
+        // given
+        FamilyJpaEntity partial1 = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("우리 가족", null, null, true)));
+        FamilyJpaEntity prefix = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("가족 모임", null, null, true)));
+        FamilyJpaEntity partial2 = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("행복한 가족", null, null, true)));
+
+        // when
+        CursorPage<FamilySummary> firstPage = sut.searchPublicFamiliesByName("가족", null, 2);
+        CursorPage<FamilySummary> secondPage = sut.searchPublicFamiliesByName("가족", firstPage.getNextCursor(), 2);
+
+        // then
+        assertThat(firstPage.getContent()).extracting(summary -> summary.getFamily().getId())
+            .containsExactly(prefix.getId(), partial1.getId());
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(secondPage.getContent()).extracting(summary -> summary.getFamily().getId())
+            .containsExactly(partial2.getId());
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("searchPublicFamiliesByName 메서드는 키워드의 LIKE 와일드카드를 문자 그대로 검색해야 한다.")
+    void given_wildcard_keyword_when_search_public_families_then_match_literally() {
+        // given
+        FamilyJpaEntity literal = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("100% 가족", null, null, true)));
+        familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("100점 가족", null, null, true)));
+
+        // when
+        CursorPage<FamilySummary> page = sut.searchPublicFamiliesByName("100%", null, 10);
+
+        // then
+        assertThat(page.getContent()).extracting(summary -> summary.getFamily().getId())
+            .containsExactly(literal.getId());
+    }
+
+    @Test
+    @DisplayName("findPublicFamiliesByKeyword 메서드는 잘못된 커서가 전달되면 첫 페이지부터 조회해야 한다.")
+    void given_invalid_cursor_when_find_public_families_then_return_first_page() {
+        // given
+        FamilyJpaEntity first = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("공개1", null, null, true)));
+
+        // when
+        CursorPage<FamilySummary> page = sut.findPublicFamiliesByKeyword(null, "invalid-cursor", 10);
+
+        // then
+        assertThat(page.getContent()).extracting(summary -> summary.getFamily().getId())
+            .containsExactly(first.getId());
+    }
+
+    @Test
+    @DisplayName("findPublicFamiliesByKeyword 메서드는 Family에 저장된 활성 구성원 수를 함께 응답해야 한다.")
+    void given_member_counts_when_find_public_families_then_return_stored_active_member_count() {
+        // given
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("공개1", null, null, true)));
+        familyJpaRepository.adjustMemberCounts(family.getId(), 3, 2);
+        entityManager.clear();
+
+        // when
+        CursorPage<FamilySummary> page = sut.findPublicFamiliesByKeyword(null, null, 10);
+
+        // then
+        assertThat(page.getContent()).extracting(FamilySummary::getMemberCount)
+            .containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("existsByName 메서드는 색인이 적재되지 않았으면 저장소에서 삭제되지 않은 Family만 확인해야 한다.")
+    void given_index_not_ready_when_exists_by_name_then_check_repository() {
+        // given
+        familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("기존가족")));
+        FamilyJpaEntity deleted = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("삭제가족")));
+        deleted.setDeleted(true);
+        familyJpaRepository.saveAndFlush(deleted);
+
+        // when & then
+        assertThat(sut.existsByName("기존가족")).isTrue();
+        assertThat(sut.existsByName("삭제가족")).isFalse();
+        assertThat(sut.existsByName("없는가족")).isFalse();
+    }
+
+    @Test
+    @DisplayName("existsByName 메서드는 색인이 적재되면 색인으로 확인하고, 저장한 가족명은 커밋 전에는 반영하지 않아야 한다.")
+    void given_index_ready_when_save_then_exists_by_name_reflects_after_commit() {
+        // given
+        familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("기존가족")));
+        familyNameIndexProperties.setEnabled(true);
+        familyNameIndex.reload(() -> familyJpaRepository.findNamesAfter(0L, Limit.of(100)));
+
+        // when
+        sut.save(FamilyFixture.newFamily("새가족"));
+
+        // then
+        assertThat(familyNameIndex.isReady()).isTrue();
+        assertThat(sut.existsByName("기존가족")).isTrue();
+        assertThat(sut.existsByName("새가족")).isFalse();
+    }
+
+    @Test
+    @DisplayName("findPublicNamesByPrefix 메서드는 색인 적재 여부와 관계없이 접두어로 시작하는 공개 Family의 가족명만 사전순으로 반환해야 한다.")
+    void given_prefix_when_find_public_names_by_prefix_then_return_public_names_in_order() {
+        // given
+        familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("행복한집")));
+        familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("행복가족")));
+        familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("행복비밀", "비공개", null, false)));
+        familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("즐거운가족")));
+
+        // when
+        List<String> fromRepository = sut.findPublicNamesByPrefix("행복", 10);
+        familyNameIndexProperties.setEnabled(true);
+        familyNameIndex.reload(() -> familyJpaRepository.findNamesAfter(0L, Limit.of(100)));
+        List<String> fromIndex = sut.findPublicNamesByPrefix("행복", 10);
+
+        // then
+        assertThat(fromRepository).containsExactly("행복가족", "행복한집");
+        assertThat(fromIndex).containsExactly("행복가족", "행복한집");
+    }
 }
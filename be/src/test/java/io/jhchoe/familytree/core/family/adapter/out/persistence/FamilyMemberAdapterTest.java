@@ -3,18 +3,38 @@ package io.jhchoe.familytree.core.family.adapter.out.persistence;
 import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
+import io.jhchoe.familytree.core.family.config.FamilyMemberCacheProperties;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberLineageNode;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType;
+import io.jhchoe.familytree.core.family.domain.FamilyMembership;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberTag;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberTagMapping;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberWithTags;
+import io.jhchoe.familytree.core.family.domain.FamilySummary;
+import io.jhchoe.familytree.core.family.domain.KinshipDirection;
 import io.jhchoe.familytree.helper.TestcontainersDataJpaTestBase;
+import io.jhchoe.familytree.test.fixture.FamilyFixture;
 import io.jhchoe.familytree.test.fixture.FamilyMemberFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @DisplayName("[Adapter Test] FamilyMemberAdapterTest")
 class FamilyMemberAdapterTest extends TestcontainersDataJpaTestBase {
@@ -22,11 +42,36 @@ class FamilyMemberAdapterTest extends TestcontainersDataJpaTestBase {
     @Autowired
     private FamilyMemberJpaRepository familyMemberJpaRepository;
 
+    @Autowired
+    private FamilyJpaRepository familyJpaRepository;
+
+    @Autowired
+    private FamilyMemberTagJpaRepository familyMemberTagJpaRepository;
+
+    @Autowired
+    private FamilyMemberTagMappingJpaRepository familyMemberTagMappingJpaRepository;
+
+    @Autowired
+    private FamilyMemberParentJpaRepository familyMemberParentJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private FamilyMemberAdapter sut;
 
     @BeforeEach
     void setUp() {
-        sut = new FamilyMemberAdapter(familyMemberJpaRepository);
+        sut = new FamilyMemberAdapter(
+            familyMemberJpaRepository,
+            familyJpaRepository,
+            new FamilyMemberCache(new FamilyMemberCacheProperties(), new SimpleMeterRegistry()),
+            new FamilyMemberParentSynchronizer(familyJpaRepository, familyMemberJpaRepository, familyMemberParentJpaRepository),
+            familyMemberParentJpaRepository,
+            jdbcTemplate
+        );
     }
 
     @Test
@@ -178,6 +223,252 @@ class FamilyMemberAdapterTest extends TestcontainersDataJpaTestBase {
         assertThat(result.get().getRole()).isEqualTo(FamilyMemberRole.MEMBER);
     }
     
+    @Test
+    @DisplayName("findMembership 메서드는 Family와 구성원 정보를 한 번에 조회할 수 있다")
+    void return_family_and_member_when_find_membership() {
+        // given
+        Long userId = 1L;
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(FamilyMemberFixture.newOwner(family.getId(), userId)));
+
+        // when
+        Optional<FamilyMembership> result = sut.findMembership(family.getId(), userId);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getFamily().getId()).isEqualTo(family.getId());
+        assertThat(result.get().findMember()).isPresent();
+        assertThat(result.get().findMember().get().getRole()).isEqualTo(FamilyMemberRole.OWNER);
+    }
+
+    @Test
+    @DisplayName("findMembership 메서드는 구성원이 아니면 Family만 담긴 결과를 반환한다")
+    void return_family_without_member_when_user_is_not_member() {
+        // given
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(FamilyMemberFixture.newOwner(family.getId(), 1L)));
+
+        // when
+        Optional<FamilyMembership> result = sut.findMembership(family.getId(), 2L);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().findMember()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findMembership 메서드는 Family가 존재하지 않으면 빈 Optional을 반환한다")
+    void return_empty_when_family_does_not_exist_for_find_membership() {
+        // when
+        Optional<FamilyMembership> result = sut.findMembership(999L, 1L);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findAllSummariesByUserId 메서드는 소속 Family와 내 역할, 활성 구성원 수를 가입 순서로 조회한다")
+    void return_summaries_with_role_and_active_member_count() {
+        // given
+        Long userId = 1L;
+        FamilyJpaEntity owned = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("우리가족")));
+        FamilyJpaEntity joined = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("친척가족")));
+        FamilyJpaEntity other = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("다른가족")));
+
+        sut.save(FamilyMemberFixture.newOwner(owned.getId(), userId));
+        sut.save(FamilyMemberFixture.newMember(owned.getId(), 2L, "구성원"));
+        sut.save(FamilyMemberFixture.newMember(owned.getId(), 3L, "정지된 구성원").updateStatus(FamilyMemberStatus.SUSPENDED));
+        sut.save(FamilyMemberFixture.newMember(joined.getId(), userId));
+        sut.save(FamilyMemberFixture.newOwner(other.getId(), 4L));
+        entityManager.clear();
+
+        // when
+        List<FamilySummary> result = sut.findAllSummariesByUserId(userId);
+
+        // then
+        assertThat(result).extracting(summary -> summary.getFamily().getName())
+            .containsExactly("우리가족", "친척가족");
+        assertThat(result).extracting(FamilySummary::getRole)
+            .containsExactly(FamilyMemberRole.OWNER, FamilyMemberRole.MEMBER);
+        assertThat(result).extracting(FamilySummary::getMemberCount)
+            .containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("findAllSummariesByUserId 메서드는 소속된 Family가 없으면 빈 목록을 반환한다")
+    void return_empty_summaries_when_user_has_no_family() {
+        // when
+        List<FamilySummary> result = sut.findAllSummariesByUserId(999L);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("save 메서드는 새 구성원을 저장하면 Family의 전체·활성 구성원 수를 증가시킨다")
+    void increase_member_counts_when_save_new_member() {
+        // given
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+
+        // when
+        sut.save(FamilyMemberFixture.newOwner(family.getId(), 1L));
+        sut.save(FamilyMemberFixture.newMember(family.getId(), 2L).updateStatus(FamilyMemberStatus.SUSPENDED));
+
+        // then
+        FamilyJpaEntity found = reloadFamily(family.getId());
+        assertThat(found.getMemberCount()).isEqualTo(2);
+        assertThat(found.getActiveMemberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("saveAll 메서드는 구성원을 배치 INSERT로 저장하고 Family별 구성원 수를 한 번에 증가시킨다")
+    void save_all_members_in_batch_and_increase_member_counts() {
+        // given
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        List<FamilyMember> members = LongStream.rangeClosed(1, 20)
+            .mapToObj(userId -> FamilyMemberFixture.newMember(family.getId(), userId))
+            .toList();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        List<Long> savedIds = sut.saveAll(members);
+        entityManager.flush();
+
+        // then: 시퀀스 조회, INSERT, 구성원 수 UPDATE 문장만 준비됨 (행마다 INSERT를 준비하지 않음)
+        assertThat(savedIds).hasSize(20).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(20);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+        statistics.setStatisticsEnabled(false);
+
+        FamilyJpaEntity found = reloadFamily(family.getId());
+        assertThat(found.getMemberCount()).isEqualTo(20);
+        assertThat(found.getActiveMemberCount()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("saveAll 메서드는 빈 목록이면 아무것도 저장하지 않는다")
+    void save_all_does_nothing_with_empty_list() {
+        // when
+        List<Long> savedIds = sut.saveAll(List.of());
+
+        // then
+        assertThat(savedIds).isEmpty();
+        assertThat(familyMemberJpaRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("modify 메서드는 구성원 상태가 활성에서 바뀌면 활성 구성원 수만 감소시킨다")
+    void decrease_active_member_count_when_member_is_suspended() {
+        // given
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        Long memberId = sut.save(FamilyMemberFixture.newMember(family.getId(), 1L));
+        FamilyMember member = sut.findById(memberId).orElseThrow();
+
+        // when
+        sut.modify(member.updateStatus(FamilyMemberStatus.SUSPENDED));
+
+        // then
+        FamilyJpaEntity found = reloadFamily(family.getId());
+        assertThat(found.getMemberCount()).isEqualTo(1);
+        assertThat(found.getActiveMemberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("modify 메서드는 구성원 상태가 그대로이면 구성원 수를 바꾸지 않는다")
+    void keep_member_counts_when_status_is_unchanged() {
+        // given
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        Long memberId = sut.save(FamilyMemberFixture.newMember(family.getId(), 1L));
+        FamilyMember member = sut.findById(memberId).orElseThrow();
+
+        // when
+        sut.modify(member.updateRole(FamilyMemberRole.ADMIN));
+
+        // then
+        FamilyJpaEntity found = reloadFamily(family.getId());
+        assertThat(found.getMemberCount()).isEqualTo(1);
+        assertThat(found.getActiveMemberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("save와 modify 메서드는 구성원 수 변화와 관계없이 Family의 내용 버전을 증가시킨다")
+    void increase_content_version_when_member_is_saved_or_modified() {
+        // given
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        Long memberId = sut.save(FamilyMemberFixture.newMember(family.getId(), 1L));
+        long versionAfterSave = reloadFamily(family.getId()).getContentVersion();
+        FamilyMember member = sut.findById(memberId).orElseThrow();
+
+        // when
+        sut.modify(member.updateRole(FamilyMemberRole.ADMIN));
+
+        // then
+        assertThat(versionAfterSave).isEqualTo(1L);
+        assertThat(reloadFamily(family.getId()).getContentVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("findAllByFamilyIdAndStatusIn 메서드는 지정된 상태의 구성원을 나이순으로 태그와 함께 조회한다")
+    void return_members_with_tags_filtered_by_status_and_sorted_by_age() {
+        // given
+        Long familyId = 1L;
+        FamilyMemberJpaEntity older = saveMember(familyId, 1L, "형", LocalDateTime.of(1985, 1, 1, 0, 0), FamilyMemberStatus.ACTIVE);
+        FamilyMemberJpaEntity younger = saveMember(familyId, 2L, "동생", LocalDateTime.of(1995, 1, 1, 0, 0), FamilyMemberStatus.ACTIVE);
+        FamilyMemberJpaEntity noBirthday = saveMember(familyId, 3L, "생일없음", null, FamilyMemberStatus.ACTIVE);
+        saveMember(familyId, 4L, "정지", LocalDateTime.of(2000, 1, 1, 0, 0), FamilyMemberStatus.SUSPENDED);
+
+        FamilyMemberTagJpaEntity tag1 = saveTag(familyId, "친가");
+        FamilyMemberTagJpaEntity tag2 = saveTag(familyId, "외가");
+        saveMapping(tag2.getId(), younger.getId());
+        saveMapping(tag1.getId(), younger.getId());
+        saveMapping(tag1.getId(), older.getId());
+        saveMapping(9999L, older.getId()); // 삭제된 태그를 가리키는 매핑
+
+        // when
+        List<FamilyMemberWithTags> result = sut.findAllByFamilyIdAndStatusIn(familyId, EnumSet.of(FamilyMemberStatus.ACTIVE));
+
+        // then
+        assertThat(result)
+            .extracting(memberWithTags -> memberWithTags.getMember().getId())
+            .containsExactly(younger.getId(), older.getId(), noBirthday.getId());
+        assertThat(result.get(0).getTags())
+            .extracting(FamilyMemberTag::getName)
+            .containsExactly("외가", "친가");
+        assertThat(result.get(1).getTags())
+            .extracting(FamilyMemberTag::getName)
+            .containsExactly("친가");
+        assertThat(result.get(2).getTags()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findAllByFamilyIdAndStatusIn 메서드는 수백 명 규모의 Family도 한 번에 조회한다")
+    void return_all_members_with_tags_for_large_family() {
+        // given
+        Long familyId = 1L;
+        int memberCount = 300;
+        FamilyMemberTagJpaEntity tag1 = saveTag(familyId, "친가");
+        FamilyMemberTagJpaEntity tag2 = saveTag(familyId, "외가");
+        for (int i = 0; i < memberCount; i++) {
+            FamilyMemberJpaEntity member = saveMember(
+                familyId, (long) i + 1, "구성원" + i, LocalDateTime.of(1950, 1, 1, 0, 0).plusDays(i), FamilyMemberStatus.ACTIVE
+            );
+            saveMapping(tag1.getId(), member.getId());
+            saveMapping(tag2.getId(), member.getId());
+        }
+
+        // when
+        List<FamilyMemberWithTags> result = sut.findAllByFamilyIdAndStatusIn(familyId, EnumSet.allOf(FamilyMemberStatus.class));
+
+        // then
+        assertThat(result).hasSize(memberCount);
+        assertThat(result).allSatisfy(memberWithTags -> assertThat(memberWithTags.getTags()).hasSize(2));
+        assertThat(result.get(0).getMember().getName()).isEqualTo("구성원" + (memberCount - 1));
+    }
+
     @Test
     @DisplayName("findAllByFamilyId 메서드는 Family ID로 모든 구성원을 조회할 수 있다")
     void return_all_family_members_by_family_id() {
@@ -335,12 +626,232 @@ class FamilyMemberAdapterTest extends TestcontainersDataJpaTestBase {
             .hasMessageContaining("familyMember must not be null");
     }
 
+    @Test
+    @DisplayName("findLineage 메서드는 지정한 세대 수까지의 조상을 세대와 경로와 함께 조회한다")
+    void return_ancestors_within_max_depth_with_path() {
+        // given
+        Long familyId = 1L;
+        Long me = saveMember(familyId, 1L, "나", null, FamilyMemberStatus.ACTIVE).getId();
+        Long father = saveMember(familyId, 2L, "아버지", null, FamilyMemberStatus.ACTIVE).getId();
+        Long mother = saveMember(familyId, 3L, "어머니", null, FamilyMemberStatus.ACTIVE).getId();
+        Long grandfather = saveMember(familyId, 4L, "할아버지", null, FamilyMemberStatus.ACTIVE).getId();
+        Long greatGrandfather = saveMember(familyId, 5L, "증조할아버지", null, FamilyMemberStatus.ACTIVE).getId();
+        saveParent(familyId, me, father);
+        saveParent(familyId, me, mother);
+        saveParent(familyId, father, grandfather);
+        saveParent(familyId, grandfather, greatGrandfather);
+
+        // when
+        List<FamilyMemberLineageNode> result = sut.findLineage(familyId, me, KinshipDirection.PARENT, 2);
+
+        // then
+        assertThat(result).containsExactly(
+            new FamilyMemberLineageNode(father, 1, List.of(me, father)),
+            new FamilyMemberLineageNode(mother, 1, List.of(me, mother)),
+            new FamilyMemberLineageNode(grandfather, 2, List.of(me, father, grandfather))
+        );
+    }
+
+    @Test
+    @DisplayName("findLineage 메서드는 여러 경로로 도달하는 자손을 가장 가까운 세대로 한 번만 조회한다")
+    void return_descendants_once_with_nearest_path() {
+        // given
+        Long familyId = 1L;
+        Long root = saveMember(familyId, 1L, "시조", null, FamilyMemberStatus.ACTIVE).getId();
+        Long son = saveMember(familyId, 2L, "아들", null, FamilyMemberStatus.ACTIVE).getId();
+        Long grandson = saveMember(familyId, 3L, "손자", null, FamilyMemberStatus.ACTIVE).getId();
+        Long greatGrandson = saveMember(familyId, 4L, "증손자", null, FamilyMemberStatus.ACTIVE).getId();
+        saveParent(familyId, son, root);
+        saveParent(familyId, grandson, son);
+        saveParent(familyId, greatGrandson, grandson);
+        saveParent(familyId, greatGrandson, root);
+
+        // when
+        List<FamilyMemberLineageNode> result = sut.findLineage(familyId, root, KinshipDirection.CHILD, 5);
+
+        // then
+        assertThat(result).extracting(FamilyMemberLineageNode::memberId, FamilyMemberLineageNode::depth)
+            .containsExactly(tuple(son, 1), tuple(greatGrandson, 1), tuple(grandson, 2));
+    }
+
+    @Test
+    @DisplayName("findLineage 메서드는 다른 Family의 관계와 순환 관계를 따라가지 않는다")
+    void ignore_other_family_edges_and_cycles() {
+        // given
+        Long familyId = 1L;
+        Long me = saveMember(familyId, 1L, "나", null, FamilyMemberStatus.ACTIVE).getId();
+        Long father = saveMember(familyId, 2L, "아버지", null, FamilyMemberStatus.ACTIVE).getId();
+        Long outsider = saveMember(2L, 3L, "다른가족", null, FamilyMemberStatus.ACTIVE).getId();
+        saveParent(familyId, me, father);
+        saveParent(familyId, father, me);
+        saveParent(2L, father, outsider);
+
+        // when
+        List<FamilyMemberLineageNode> result = sut.findLineage(familyId, me, KinshipDirection.PARENT, 10);
+        List<FamilyMemberLineageNode> otherFamily = sut.findLineage(2L, me, KinshipDirection.PARENT, 10);
+
+        // then
+        assertThat(result).containsExactly(new FamilyMemberLineageNode(father, 1, List.of(me, father)));
+        assertThat(otherFamily).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findLineage 메서드는 배우자 방향이거나 세대 수가 범위를 벗어나면 예외를 발생시킨다")
+    void throw_exception_when_lineage_arguments_are_invalid() {
+        // when & then
+        assertThatThrownBy(() -> sut.findLineage(1L, 1L, KinshipDirection.SPOUSE, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sut.findLineage(1L, 1L, KinshipDirection.PARENT, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sut.findLineage(1L, 1L, KinshipDirection.CHILD, FindFamilyMemberPort.MAX_LINEAGE_DEPTH + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("findLineage 메서드는 미등록 중간 친족을 건너뛴 관계의 세대 수를 더한다")
+    void add_generations_of_edges_skipping_unregistered_relatives() {
+        // given
+        Long familyId = 1L;
+        Long grandfather = saveMember(familyId, 1L, "할아버지", null, FamilyMemberStatus.ACTIVE).getId();
+        Long nephew = saveMember(familyId, 2L, "조카", null, FamilyMemberStatus.ACTIVE).getId();
+        Long grandNephew = saveMember(familyId, 3L, "종손", null, FamilyMemberStatus.ACTIVE).getId();
+        saveParent(familyId, nephew, grandfather, 2);
+        saveParent(familyId, grandNephew, nephew);
+
+        // when
+        List<FamilyMemberLineageNode> withinTwo = sut.findLineage(familyId, grandfather, KinshipDirection.CHILD, 2);
+        List<FamilyMemberLineageNode> withinThree = sut.findLineage(familyId, grandfather, KinshipDirection.CHILD, 3);
+
+        // then
+        assertThat(withinTwo).containsExactly(new FamilyMemberLineageNode(nephew, 2, List.of(grandfather, nephew)));
+        assertThat(withinThree).extracting(FamilyMemberLineageNode::memberId, FamilyMemberLineageNode::depth)
+            .containsExactly(tuple(nephew, 2), tuple(grandNephew, 3));
+    }
+
+    @Test
+    @DisplayName("findLineage 메서드는 WITH RECURSIVE를 쓸 수 없을 때 관계 목록 탐색으로 같은 결과를 반환한다")
+    void return_same_lineage_without_recursive_query() {
+        // given
+        Long familyId = 1L;
+        Long root = saveMember(familyId, 1L, "시조", null, FamilyMemberStatus.ACTIVE).getId();
+        Long son = saveMember(familyId, 2L, "아들", null, FamilyMemberStatus.ACTIVE).getId();
+        Long grandson = saveMember(familyId, 3L, "손자", null, FamilyMemberStatus.ACTIVE).getId();
+        Long greatGrandson = saveMember(familyId, 4L, "증손자", null, FamilyMemberStatus.ACTIVE).getId();
+        saveParent(familyId, son, root);
+        saveParent(familyId, grandson, son);
+        saveParent(familyId, greatGrandson, grandson);
+        saveParent(familyId, greatGrandson, root);
+        List<FamilyMemberLineageNode> recursive = sut.findLineage(familyId, root, KinshipDirection.CHILD, 5);
+        ReflectionTestUtils.setField(sut, "recursiveQuerySupported", false);
+
+        // when
+        List<FamilyMemberLineageNode> result = sut.findLineage(familyId, root, KinshipDirection.CHILD, 5);
+
+        // then
+        assertThat(result).isEqualTo(recursive);
+        assertThat(sut.findLineage(familyId, greatGrandson, KinshipDirection.PARENT, 1))
+            .containsExactly(
+                new FamilyMemberLineageNode(grandson, 1, List.of(greatGrandson, grandson)),
+                new FamilyMemberLineageNode(root, 1, List.of(greatGrandson, root))
+            );
+        assertThat(sut.findLineage(2L, root, KinshipDirection.CHILD, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("save 메서드는 구성원 관계 타입으로 부모·자녀 관계를 함께 저장한다")
+    void save_maintains_parent_edges() {
+        // given
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        Long owner = sut.save(FamilyMemberFixture.newOwner(family.getId(), 1L));
+
+        // when
+        Long father = sut.save(FamilyMemberFixture.newMember(family.getId(), 2L, "아버지")
+            .updateRelationship(FamilyMemberRelationshipType.FATHER, null));
+        Long nephew = sut.save(FamilyMemberFixture.newMember(family.getId(), 3L, "조카")
+            .updateRelationship(FamilyMemberRelationshipType.NEPHEW, null));
+
+        // then
+        assertThat(familyMemberParentJpaRepository.findAllByFamilyId(family.getId()))
+            .extracting(
+                FamilyMemberParentJpaEntity::getChildMemberId,
+                FamilyMemberParentJpaEntity::getParentMemberId,
+                FamilyMemberParentJpaEntity::getGenerations
+            )
+            .containsExactlyInAnyOrder(tuple(owner, father, 1), tuple(nephew, father, 2));
+    }
+
+    @Test
+    @DisplayName("modify 메서드는 관계 타입이 바뀌면 부모·자녀 관계를 다시 맞춘다")
+    void modify_replaces_parent_edges_when_relationship_changes() {
+        // given
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        Long owner = sut.save(FamilyMemberFixture.newOwner(family.getId(), 1L));
+        Long member = sut.save(FamilyMemberFixture.newMember(family.getId(), 2L, "가족")
+            .updateRelationship(FamilyMemberRelationshipType.FATHER, null));
+        FamilyMember saved = sut.findById(member).orElseThrow();
+
+        // when
+        sut.modify(saved.updateRelationship(FamilyMemberRelationshipType.SON, null));
+
+        // then
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(familyMemberParentJpaRepository.findAllByFamilyId(family.getId()))
+            .extracting(FamilyMemberParentJpaEntity::getChildMemberId, FamilyMemberParentJpaEntity::getParentMemberId)
+            .containsExactly(tuple(member, owner));
+    }
+
     /**
      * 테스트용 헬퍼 메서드: 특정 상태를 가진 FamilyMember를 생성합니다.
      * 참고: 이 방식은 테스트에서만 사용해야 합니다. 도메인 엔티티를 우선 생성 후 저장하는 것이
      * setter 사용을 피하는 정상적인 방법이지만, 테스트 코드에서는 현재 도메인 클래스에 상태를 설정하는
      * 메서드가 없어 불가피하게 리플렉션을 사용했습니다.
      */
+    private FamilyMemberJpaEntity saveMember(
+        Long familyId, Long userId, String name, LocalDateTime birthday, FamilyMemberStatus status
+    ) {
+        try {
+            FamilyMemberJpaEntity entity = FamilyMemberJpaEntity.from(FamilyMemberFixture.newMember(familyId, userId, name));
+
+            // 리플렉션을 사용해 생일과 상태를 설정 (테스트 코드에서만 사용)
+            Field birthdayField = FamilyMemberJpaEntity.class.getDeclaredField("birthday");
+            birthdayField.setAccessible(true);
+            birthdayField.set(entity, birthday);
+            Field statusField = FamilyMemberJpaEntity.class.getDeclaredField("status");
+            statusField.setAccessible(true);
+            statusField.set(entity, status);
+
+            return familyMemberJpaRepository.save(entity);
+        } catch (Exception e) {
+            throw new RuntimeException("테스트 데이터 생성 중 오류 발생: " + e.getMessage(), e);
+        }
+    }
+
+    private void saveParent(Long familyId, Long childMemberId, Long parentMemberId) {
+        saveParent(familyId, childMemberId, parentMemberId, 1);
+    }
+
+    private void saveParent(Long familyId, Long childMemberId, Long parentMemberId, int generations) {
+        familyMemberParentJpaRepository.saveAndFlush(
+            FamilyMemberParentJpaEntity.of(familyId, childMemberId, parentMemberId, generations)
+        );
+    }
+
+    private FamilyJpaEntity reloadFamily(Long familyId) {
+        entityManager.clear();
+        return familyJpaRepository.findById(familyId).orElseThrow();
+    }
+
+    private FamilyMemberTagJpaEntity saveTag(Long familyId, String name) {
+        return familyMemberTagJpaRepository.save(FamilyMemberTagJpaEntity.from(FamilyMemberTag.newTag(familyId, name, 1L)));
+    }
+
+    private void saveMapping(Long tagId, Long memberId) {
+        familyMemberTagMappingJpaRepository.save(
+            FamilyMemberTagMappingJpaEntity.from(FamilyMemberTagMapping.newMapping(tagId, memberId))
+        );
+    }
+
     private void createFamilyMemberWithStatus(Long familyId, Long userId, String name, FamilyMemberStatus status) {
         try {
             // FamilyMemberFixture를 사용하여 FamilyMember 도메인 객체 생성
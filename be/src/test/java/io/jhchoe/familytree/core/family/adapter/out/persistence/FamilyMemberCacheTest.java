@@ -0,0 +1,211 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+import io.jhchoe.familytree.core.family.config.FamilyMemberCacheProperties;
+import io.jhchoe.familytree.core.family.domain.FamilyMember;
+import io.jhchoe.familytree.test.fixture.FamilyMemberFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[Unit Test] FamilyMemberCacheTest")
+class FamilyMemberCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private FamilyMemberCacheProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FamilyMemberCacheProperties();
+        properties.setEnabled(true);
+        properties.setMaxSize(2);
+        properties.setTtlSeconds(60);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("같은 구성원을 다시 조회하면 캐시된 값을 반환하고 적중 횟수를 기록합니다")
+    void find_returns_cached_member_on_second_lookup() {
+        // given
+        FamilyMemberCache sut = createCache(NOW);
+        FamilyMember member = FamilyMemberFixture.newMember(1L, 10L);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        sut.find(1L, 10L, () -> load(loads, member));
+        Optional<FamilyMember> result = sut.find(1L, 10L, () -> load(loads, member));
+
+        // then
+        assertThat(result).containsSame(member);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("family.member.cache.hits").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("family.member.cache.misses").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("구성원이 아닌 결과도 캐시합니다")
+    void find_caches_empty_result() {
+        // given
+        FamilyMemberCache sut = createCache(NOW);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        sut.find(1L, 10L, () -> load(loads, null));
+        Optional<FamilyMember> result = sut.find(1L, 10L, () -> load(loads, null));
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제거된 항목은 다음 조회 시 다시 적재합니다")
+    void find_reloads_after_evict() {
+        // given
+        FamilyMemberCache sut = createCache(NOW);
+        FamilyMember member = FamilyMemberFixture.newMember(1L, 10L);
+        AtomicInteger loads = new AtomicInteger();
+        sut.find(1L, 10L, () -> load(loads, member));
+
+        // when
+        sut.evict(1L, 10L);
+        sut.find(1L, 10L, () -> load(loads, member));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("family.member.cache.evictions").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("조회 도중 제거 요청이 들어오면 조회 결과를 캐시하지 않습니다")
+    void find_does_not_cache_when_evicted_during_load() {
+        // given
+        FamilyMemberCache sut = createCache(NOW);
+        FamilyMember member = FamilyMemberFixture.newMember(1L, 10L);
+
+        // when
+        sut.find(1L, 10L, () -> {
+            sut.evict(1L, 10L);
+            return Optional.of(member);
+        });
+
+        // then
+        assertThat(sut.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 제거한 뒤 다시 적재한 값은 롤백되면 제거합니다")
+    void evict_again_when_transaction_rolls_back() {
+        // given
+        FamilyMemberCache sut = createCache(NOW);
+        FamilyMember uncommitted = FamilyMemberFixture.newMember(1L, 10L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.evict(1L, 10L);
+            sut.find(1L, 10L, () -> Optional.of(uncommitted));
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(sut.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 다시 적재합니다")
+    void find_reloads_when_entry_expired() {
+        // given
+        MutableClock clock = new MutableClock(NOW);
+        FamilyMemberCache sut = new FamilyMemberCache(properties, meterRegistry, clock);
+        FamilyMember member = FamilyMemberFixture.newMember(1L, 10L);
+        AtomicInteger loads = new AtomicInteger();
+        sut.find(1L, 10L, () -> load(loads, member));
+
+        // when
+        clock.instant = NOW.plusSeconds(60);
+        sut.find(1L, 10L, () -> load(loads, member));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목을 제거합니다")
+    void evicts_least_recently_used_when_max_size_exceeded() {
+        // given
+        FamilyMemberCache sut = createCache(NOW);
+
+        // when
+        sut.find(1L, 10L, Optional::empty);
+        sut.find(1L, 20L, Optional::empty);
+        sut.find(1L, 30L, Optional::empty);
+
+        // then
+        assertThat(sut.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 항상 조회 함수를 호출합니다")
+    void find_always_loads_when_disabled() {
+        // given
+        properties.setEnabled(false);
+        FamilyMemberCache sut = createCache(NOW);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        sut.find(1L, 10L, () -> load(loads, null));
+        sut.find(1L, 10L, () -> load(loads, null));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(sut.size()).isZero();
+    }
+
+    private Optional<FamilyMember> load(final AtomicInteger loads, final FamilyMember member) {
+        loads.incrementAndGet();
+        return Optional.ofNullable(member);
+    }
+
+    private FamilyMemberCache createCache(final Instant now) {
+        return new FamilyMemberCache(properties, meterRegistry, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jhchoe.familytree.core.family.config.FamilyMemberCountProperties;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
+import io.jhchoe.familytree.helper.TestcontainersDataJpaTestBase;
+import io.jhchoe.familytree.test.fixture.FamilyFixture;
+import io.jhchoe.familytree.test.fixture.FamilyMemberFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@DisplayName("[Adapter Test] FamilyMemberCountReconciler")
+class FamilyMemberCountReconcilerTest extends TestcontainersDataJpaTestBase {
+
+    @Autowired
+    private FamilyJpaRepository familyJpaRepository;
+
+    @Autowired
+    private FamilyMemberJpaRepository familyMemberJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private FamilyMemberCountProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private FamilyMemberCountReconciler sut;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FamilyMemberCountProperties();
+        properties.setReconcileChunkSize(1);
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new FamilyMemberCountReconciler(
+            familyJpaRepository, new FamilyMemberCountSynchronizer(familyJpaRepository), properties, meterRegistry
+        );
+    }
+
+    @Test
+    @DisplayName("reconcile 메서드는 실제 구성원 행과 다른 구성원 수를 ID 범위 단위로 보정한다")
+    void reconcile_repairs_drifted_member_counts() {
+        // given
+        FamilyJpaEntity drifted = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("가족1")));
+        FamilyJpaEntity overCounted = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("가족2")));
+        FamilyJpaEntity consistent = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily("가족3")));
+
+        // 구성원 수 증감 없이 구성원 행만 직접 저장하여 어긋난 상태를 만든다
+        familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(FamilyMemberFixture.newOwner(drifted.getId(), 1L)));
+        familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(
+            FamilyMemberFixture.newMember(drifted.getId(), 2L).updateStatus(FamilyMemberStatus.SUSPENDED)
+        ));
+        familyJpaRepository.adjustMemberCounts(overCounted.getId(), 2, 2);
+
+        // when
+        int reconciled = sut.reconcile();
+
+        // then
+        assertThat(reconciled).isEqualTo(2);
+        assertThat(meterRegistry.counter("family.member.count.reconciled").count()).isEqualTo(2.0);
+
+        entityManager.clear();
+        FamilyJpaEntity repaired = familyJpaRepository.findById(drifted.getId()).orElseThrow();
+        assertThat(repaired.getMemberCount()).isEqualTo(2);
+        assertThat(repaired.getActiveMemberCount()).isEqualTo(1);
+        FamilyJpaEntity reset = familyJpaRepository.findById(overCounted.getId()).orElseThrow();
+        assertThat(reset.getMemberCount()).isZero();
+        assertThat(reset.getActiveMemberCount()).isZero();
+        assertThat(familyJpaRepository.findById(consistent.getId()).orElseThrow().getMemberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("reconcile 메서드는 구성원 수가 실제 값과 같은 Family는 잠그거나 수정하지 않는다")
+    void reconcile_skips_consistent_families() {
+        // given
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(FamilyMemberFixture.newOwner(family.getId(), 1L)));
+        familyJpaRepository.adjustMemberCounts(family.getId(), 1, 1);
+        entityManager.clear();
+        long contentVersion = familyJpaRepository.findById(family.getId()).orElseThrow().getContentVersion();
+
+        // when
+        int reconciled = sut.reconcile();
+
+        // then
+        assertThat(reconciled).isZero();
+        assertThat(familyJpaRepository.lockDriftedMemberCountIds(0L, family.getId())).isEmpty();
+        entityManager.clear();
+        FamilyJpaEntity unchanged = familyJpaRepository.findById(family.getId()).orElseThrow();
+        assertThat(unchanged.getMemberCount()).isEqualTo(1);
+        assertThat(unchanged.getContentVersion()).isEqualTo(contentVersion);
+    }
+
+    @Test
+    @DisplayName("reconcile 메서드는 이미 보정된 상태에서 다시 실행하면 아무것도 수정하지 않는다")
+    void reconcile_is_idempotent() {
+        // given
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(FamilyMemberFixture.newOwner(family.getId(), 1L)));
+        sut.reconcile();
+
+        // when
+        int reconciled = sut.reconcile();
+
+        // then
+        assertThat(reconciled).isZero();
+    }
+
+    @Test
+    @DisplayName("reconcile 메서드는 비활성화되어 있으면 보정하지 않는다")
+    void reconcile_does_nothing_when_disabled() {
+        // given
+        properties.setReconcileEnabled(false);
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(FamilyMemberFixture.newOwner(family.getId(), 1L)));
+
+        // when
+        int reconciled = sut.reconcile();
+
+        // then
+        assertThat(reconciled).isZero();
+    }
+}
@@ -0,0 +1,107 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.jhchoe.familytree.core.family.config.FamilyMemberParentProperties;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType;
+import io.jhchoe.familytree.helper.TestcontainersDataJpaTestBase;
+import io.jhchoe.familytree.test.fixture.FamilyFixture;
+import io.jhchoe.familytree.test.fixture.FamilyMemberFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@DisplayName("[Adapter Test] FamilyMemberParentReconciler")
+class FamilyMemberParentReconcilerTest extends TestcontainersDataJpaTestBase {
+
+    @Autowired
+    private FamilyJpaRepository familyJpaRepository;
+
+    @Autowired
+    private FamilyMemberJpaRepository familyMemberJpaRepository;
+
+    @Autowired
+    private FamilyMemberParentJpaRepository familyMemberParentJpaRepository;
+
+    private FamilyMemberParentProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private FamilyMemberParentReconciler sut;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FamilyMemberParentProperties();
+        properties.setReconcileChunkSize(1);
+        meterRegistry = new SimpleMeterRegistry();
+        FamilyMemberParentSynchronizer synchronizer = new FamilyMemberParentSynchronizer(
+            familyJpaRepository, familyMemberJpaRepository, familyMemberParentJpaRepository
+        );
+        sut = new FamilyMemberParentReconciler(
+            familyJpaRepository, familyMemberParentJpaRepository, synchronizer, properties, meterRegistry
+        );
+    }
+
+    @Test
+    @DisplayName("backfill 메서드는 관계 테이블이 비어 있으면 기존 구성원의 관계 타입으로 관계를 채운다")
+    void backfill_fills_edges_from_existing_members() {
+        // given
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        FamilyMemberJpaEntity owner = familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(
+            FamilyMemberFixture.newOwner(family.getId(), 1L)
+        ));
+        FamilyMemberJpaEntity father = familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(
+            FamilyMemberFixture.newMember(family.getId(), 2L, "아버지")
+                .updateRelationship(FamilyMemberRelationshipType.FATHER, null)
+        ));
+
+        // when
+        sut.backfill();
+
+        // then
+        assertThat(familyMemberParentJpaRepository.findAllByFamilyId(family.getId()))
+            .extracting("childMemberId", "parentMemberId", "generations")
+            .containsExactly(tuple(owner.getId(), father.getId(), 1));
+        assertThat(meterRegistry.counter("family.member.parent.reconciled").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("reconcile 메서드는 이미 보정된 상태에서 다시 실행하면 아무것도 수정하지 않는다")
+    void reconcile_is_idempotent() {
+        // given
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(FamilyMemberFixture.newOwner(family.getId(), 1L)));
+        familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(
+            FamilyMemberFixture.newMember(family.getId(), 2L, "어머니")
+                .updateRelationship(FamilyMemberRelationshipType.MOTHER, null)
+        ));
+        sut.reconcile();
+
+        // when
+        int reconciled = sut.reconcile();
+
+        // then
+        assertThat(reconciled).isZero();
+    }
+
+    @Test
+    @DisplayName("reconcile 메서드는 비활성화되어 있으면 관계를 수정하지 않는다")
+    void reconcile_does_nothing_when_disabled() {
+        // given
+        properties.setReconcileEnabled(false);
+        FamilyJpaEntity family = familyJpaRepository.save(FamilyJpaEntity.from(FamilyFixture.newFamily()));
+        familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(FamilyMemberFixture.newOwner(family.getId(), 1L)));
+        familyMemberJpaRepository.save(FamilyMemberJpaEntity.from(
+            FamilyMemberFixture.newMember(family.getId(), 2L, "아버지")
+                .updateRelationship(FamilyMemberRelationshipType.FATHER, null)
+        ));
+
+        // when
+        int reconciled = sut.reconcile();
+
+        // then
+        assertThat(reconciled).isZero();
+        assertThat(familyMemberParentJpaRepository.findAllByFamilyId(family.getId())).isEmpty();
+    }
+}
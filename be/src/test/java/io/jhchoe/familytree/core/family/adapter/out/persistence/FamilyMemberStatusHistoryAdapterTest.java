@@ -3,21 +3,32 @@ package io.jhchoe.familytree.core.family.adapter.out.persistence;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.jhchoe.familytree.common.config.JpaBatchConfig;
+import io.jhchoe.familytree.common.config.JpaBatchProperties;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberStatusHistory;
 import io.jhchoe.familytree.helper.TestcontainersDataJpaTestBase;
+import jakarta.persistence.EntityManager;
 import java.util.List;
+import java.util.stream.LongStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
 
+@Import({JpaBatchConfig.class, JpaBatchProperties.class})
 @DisplayName("[Adapter Test] FamilyMemberStatusHistoryAdapterTest")
 class FamilyMemberStatusHistoryAdapterTest extends TestcontainersDataJpaTestBase {
 
     @Autowired
     private FamilyMemberStatusHistoryJpaRepository familyMemberStatusHistoryJpaRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private FamilyMemberStatusHistoryAdapter sut;
 
     @BeforeEach
@@ -65,6 +76,69 @@ class FamilyMemberStatusHistoryAdapterTest extends TestcontainersDataJpaTestBase
             .hasMessageContaining("history must not be null");
     }
 
+    @Test
+    @DisplayName("saveAll 메서드는 여러 이력을 저장하고 입력 순서대로 ID를 반환한다")
+    void saveAll_family_member_status_histories_successfully() {
+        // given
+        List<FamilyMemberStatusHistory> histories = List.of(
+            FamilyMemberStatusHistory.create(1L, 2L, FamilyMemberStatus.SUSPENDED, "규칙 위반"),
+            FamilyMemberStatusHistory.create(1L, 3L, FamilyMemberStatus.BANNED, "스팸 행위")
+        );
+
+        // when
+        List<Long> savedIds = sut.saveAll(histories);
+
+        // then
+        assertThat(savedIds).hasSize(2).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(familyMemberStatusHistoryJpaRepository.findById(savedIds.get(0)).orElseThrow().getMemberId())
+            .isEqualTo(2L);
+        assertThat(familyMemberStatusHistoryJpaRepository.findById(savedIds.get(1)).orElseThrow().getMemberId())
+            .isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("saveAll 메서드는 여러 이력을 하나의 배치 INSERT로 저장한다")
+    void saveAll_writes_histories_in_single_batch() {
+        // given
+        List<FamilyMemberStatusHistory> histories = LongStream.rangeClosed(1, 20)
+            .mapToObj(memberId -> FamilyMemberStatusHistory.create(1L, memberId, FamilyMemberStatus.SUSPENDED, "일괄 정지"))
+            .toList();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        sut.saveAll(histories);
+        entityManager.flush();
+
+        // then: 시퀀스 조회와 INSERT 문장만 준비됨 (행마다 INSERT를 준비하지 않음)
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(20);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("saveAll 메서드는 빈 목록이면 아무것도 저장하지 않는다")
+    void saveAll_empty_list() {
+        // when
+        List<Long> savedIds = sut.saveAll(List.of());
+
+        // then
+        assertThat(savedIds).isEmpty();
+        assertThat(familyMemberStatusHistoryJpaRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("saveAll 메서드는 null 목록으로 호출 시 예외를 발생시킨다")
+    void throw_exception_when_saveAll_with_null_histories() {
+        // when & then
+        assertThatThrownBy(() -> sut.saveAll(null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("histories must not be null");
+    }
+
     @Test
     @DisplayName("findAllByMemberId 메서드는 특정 구성원의 모든 상태 변경 이력을 조회한다")
     void return_all_status_history_by_member_id() {
@@ -19,11 +19,14 @@ class FamilyMemberTagAdapterTest extends TestcontainersDataJpaTestBase {
     @Autowired
     private FamilyMemberTagJpaRepository familyMemberTagJpaRepository;
 
+    @Autowired
+    private FamilyJpaRepository familyJpaRepository;
+
     private FamilyMemberTagAdapter sut;
 
     @BeforeEach
     void setUp() {
-        sut = new FamilyMemberTagAdapter(familyMemberTagJpaRepository);
+        sut = new FamilyMemberTagAdapter(familyMemberTagJpaRepository, familyJpaRepository);
     }
 
     @Nested
@@ -5,7 +5,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.jhchoe.familytree.core.family.domain.FamilyMemberTagMapping;
 import io.jhchoe.familytree.helper.TestcontainersDataJpaTestBase;
+import jakarta.persistence.EntityManager;
 import java.util.List;
+import java.util.stream.LongStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,11 +22,17 @@ class FamilyMemberTagMappingAdapterTest extends TestcontainersDataJpaTestBase {
     @Autowired
     private FamilyMemberTagMappingJpaRepository familyMemberTagMappingJpaRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private FamilyJpaRepository familyJpaRepository;
+
     private FamilyMemberTagMappingAdapter sut;
 
     @BeforeEach
     void setUp() {
-        sut = new FamilyMemberTagMappingAdapter(familyMemberTagMappingJpaRepository);
+        sut = new FamilyMemberTagMappingAdapter(familyMemberTagMappingJpaRepository, familyJpaRepository);
     }
 
     @Nested
@@ -55,6 +65,29 @@ class FamilyMemberTagMappingAdapterTest extends TestcontainersDataJpaTestBase {
                 .containsOnly(memberId);
         }
 
+        @Test
+        @DisplayName("여러 매핑을 행마다 INSERT하지 않고 배치 INSERT로 전송한다")
+        void saveAll_mappings_in_batch() {
+            // given
+            List<FamilyMemberTagMapping> mappings = LongStream.rangeClosed(1, 20)
+                .mapToObj(memberId -> FamilyMemberTagMapping.newMapping(1L, memberId))
+                .toList();
+            Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+
+            // when
+            sut.saveAll(mappings);
+            entityManager.flush();
+
+            // then: 시퀀스 조회, INSERT, 내용 버전 UPDATE 문장만 준비됨
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(20);
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+            statistics.setStatisticsEnabled(false);
+        }
+
         @Test
         @DisplayName("빈 목록이면 아무것도 저장하지 않는다")
         void saveAll_empty_list() {
@@ -122,12 +155,58 @@ class FamilyMemberTagMappingAdapterTest extends TestcontainersDataJpaTestBase {
         }
     }
 
+    @Nested
+    @DisplayName("deleteAllByIds 메서드는")
+    class DeleteAllByIdsMethod {
+
+        @Test
+        @DisplayName("지정된 매핑만 삭제한다")
+        void deleteAllByIds_successfully() {
+            // given
+            Long memberId = 10L;
+            Long deletingId1 = createMapping(1L, memberId);
+            Long deletingId2 = createMapping(2L, memberId);
+            Long remainingId = createMapping(3L, memberId);
+
+            // when
+            sut.deleteAllByIds(List.of(deletingId1, deletingId2));
+
+            // then
+            List<FamilyMemberTagMappingJpaEntity> remainingEntities = familyMemberTagMappingJpaRepository.findAll();
+            assertThat(remainingEntities)
+                .extracting(FamilyMemberTagMappingJpaEntity::getId)
+                .containsExactly(remainingId);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 아무것도 삭제하지 않는다")
+        void deleteAllByIds_empty_list() {
+            // given
+            createMapping(1L, 10L);
+
+            // when
+            sut.deleteAllByIds(List.of());
+
+            // then
+            assertThat(familyMemberTagMappingJpaRepository.findAll()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("null 목록으로 호출 시 예외를 발생시킨다")
+        void throw_exception_when_deleteAllByIds_with_null_ids() {
+            // when & then
+            assertThatThrownBy(() -> sut.deleteAllByIds(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("mappingIds must not be null");
+        }
+    }
+
     /**
      * 테스트용 헬퍼 메서드: 태그 매핑을 생성합니다.
      */
-    private void createMapping(Long tagId, Long memberId) {
+    private Long createMapping(Long tagId, Long memberId) {
         FamilyMemberTagMapping mapping = FamilyMemberTagMapping.newMapping(tagId, memberId);
         FamilyMemberTagMappingJpaEntity entity = FamilyMemberTagMappingJpaEntity.from(mapping);
-        familyMemberTagMappingJpaRepository.save(entity);
+        return familyMemberTagMappingJpaRepository.save(entity).getId();
     }
 }
@@ -0,0 +1,178 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+import io.jhchoe.familytree.core.family.config.FamilyNameIndexProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("[Unit Test] FamilyNameIndexTest")
+class FamilyNameIndexTest {
+
+    private FamilyNameIndexProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private FamilyNameIndex sut;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FamilyNameIndexProperties();
+        properties.setEnabled(true);
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new FamilyNameIndex(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("적재하기 전에는 사용할 수 없고, 적재하면 가족명 존재 여부를 확인할 수 있습니다")
+    void reload_makes_index_ready() {
+        // given
+        assertThat(sut.isReady()).isFalse();
+
+        // when
+        sut.reload(() -> List.of(new FamilyNameRow(1L, "행복가족", true), new FamilyNameRow(2L, "즐거운가족", true)));
+
+        // then
+        assertThat(sut.isReady()).isTrue();
+        assertThat(sut.contains("행복가족")).isTrue();
+        assertThat(sut.contains("행복")).isFalse();
+        assertThat(sut.size()).isEqualTo(2);
+        assertThat(meterRegistry.counter("family.name.index.reloads").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("family.name.index.size").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 적재해도 사용할 수 없고 변경도 반영하지 않습니다")
+    void disabled_index_is_never_ready() {
+        // given
+        properties.setEnabled(false);
+
+        // when
+        sut.reload(List::of);
+        sut.put(1L, "행복가족", true);
+
+        // then
+        assertThat(sut.isReady()).isFalse();
+        assertThat(sut.contains("행복가족")).isFalse();
+    }
+
+    @Test
+    @DisplayName("접두어로 시작하는 가족명을 사전순으로 최대 개수만큼 반환하고 같은 이름은 한 번만 반환합니다")
+    void findPublicByPrefix_returns_distinct_names_in_order() {
+        // given
+        sut.reload(() -> List.of(
+            new FamilyNameRow(1L, "행복한집", true),
+            new FamilyNameRow(2L, "행복가족", true),
+            new FamilyNameRow(3L, "행복가족", true),
+            new FamilyNameRow(4L, "행운가족", true),
+            new FamilyNameRow(5L, "행복마을", true)
+        ));
+
+        // when
+        List<String> result = sut.findPublicByPrefix("행복", 2);
+
+        // then
+        assertThat(result).containsExactly("행복가족", "행복마을");
+        assertThat(sut.findPublicByPrefix("행복", 10)).containsExactly("행복가족", "행복마을", "행복한집");
+        assertThat(sut.findPublicByPrefix("없음", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비공개 Family의 가족명은 자동완성에서 제외하지만 중복 확인에는 포함합니다")
+    void findPublicByPrefix_excludes_private_families() {
+        // given
+        sut.reload(() -> List.of(
+            new FamilyNameRow(1L, "행복가족", true),
+            new FamilyNameRow(2L, "행복비밀", false)
+        ));
+
+        // when
+        List<String> result = sut.findPublicByPrefix("행복", 10);
+
+        // then
+        assertThat(result).containsExactly("행복가족");
+        assertThat(sut.contains("행복비밀")).isTrue();
+    }
+
+    @Test
+    @DisplayName("공개 여부가 바뀌면 자동완성 후보에 바로 반영합니다")
+    void put_reflects_visibility_change() {
+        // given
+        sut.reload(() -> List.of(new FamilyNameRow(1L, "행복가족", true)));
+
+        // when
+        sut.put(1L, "행복가족", false);
+        List<String> afterHidden = sut.findPublicByPrefix("행복", 10);
+        sut.put(1L, "행복가족", true);
+
+        // then
+        assertThat(afterHidden).isEmpty();
+        assertThat(sut.contains("행복가족")).isTrue();
+        assertThat(sut.findPublicByPrefix("행복", 10)).containsExactly("행복가족");
+    }
+
+    @Test
+    @DisplayName("limit이 0 이하이면 예외가 발생합니다")
+    void findPublicByPrefix_throws_exception_when_limit_is_not_positive() {
+        // when & then
+        assertThatThrownBy(() -> sut.findPublicByPrefix("행복", 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("limit must be positive");
+    }
+
+    @Test
+    @DisplayName("이름이 변경되면 이전 이름을 제거하되, 같은 이름의 다른 Family가 있으면 유지합니다")
+    void put_moves_family_to_new_name() {
+        // given
+        sut.reload(() -> List.of(new FamilyNameRow(1L, "행복가족", true), new FamilyNameRow(2L, "행복가족", true)));
+
+        // when
+        sut.put(1L, "즐거운가족", true);
+        boolean stillUsed = sut.contains("행복가족");
+        sut.put(2L, "평화가족", true);
+
+        // then
+        assertThat(stillUsed).isTrue();
+        assertThat(sut.contains("행복가족")).isFalse();
+        assertThat(sut.contains("즐거운가족")).isTrue();
+        assertThat(sut.contains("평화가족")).isTrue();
+        assertThat(sut.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("적재 도중 반영된 변경은 적재 결과에 없어도 유지합니다")
+    void reload_keeps_changes_applied_while_loading() {
+        // given
+        sut.reload(() -> List.of(new FamilyNameRow(1L, "행복가족", true)));
+
+        // when
+        sut.reload(() -> {
+            sut.put(2L, "새가족", true);
+            sut.put(1L, "바뀐가족", true);
+            return List.of(new FamilyNameRow(1L, "행복가족", true));
+        });
+
+        // then
+        assertThat(sut.contains("새가족")).isTrue();
+        assertThat(sut.contains("바뀐가족")).isTrue();
+        assertThat(sut.contains("행복가족")).isFalse();
+    }
+
+    @Test
+    @DisplayName("적재에 실패하면 기존 색인을 유지합니다")
+    void reload_keeps_previous_index_when_loader_fails() {
+        // given
+        sut.reload(() -> List.of(new FamilyNameRow(1L, "행복가족", true)));
+
+        // when
+        assertThatThrownBy(() -> sut.reload(() -> {
+            throw new IllegalStateException("load failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(sut.isReady()).isTrue();
+        assertThat(sut.contains("행복가족")).isTrue();
+    }
+}
@@ -0,0 +1,268 @@
+package io.jhchoe.familytree.core.family.adapter.out.persistence;
+
+import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
+import io.jhchoe.familytree.helper.TestcontainersDataJpaTestBase;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주요 조회 쿼리가 db/migration의 인덱스를 사용하는지 실행 계획으로 검증합니다.
+ *
+ * <p>테스트 스키마는 Hibernate DDL로 생성되므로 인덱스 마이그레이션을 직접 적용한 뒤,
+ * 리포지토리 메서드가 생성한 SQL을 그대로 PREPARE하여 일반(generic) 실행 계획을 확인합니다.
+ * 빈 테이블에서는 순차 스캔이 항상 더 싸므로 순차 스캔을 비활성화하고,
+ * 그래도 순차 스캔이 선택되면 사용할 수 있는 인덱스가 없는 것으로 판단합니다.
+ * 짧은 키워드 검색은 데이터를 채우고 순차 스캔을 켠 상태에서 값이 정해진(custom) 실행 계획을 확인합니다.</p>
+ */
+@Import(FamilyQueryPlanTest.SqlCaptureConfig.class)
+@DisplayName("[Adapter Test] FamilyQueryPlanTest")
+class FamilyQueryPlanTest extends TestcontainersDataJpaTestBase {
+
+    private static final List<String> INDEX_MIGRATIONS = List.of(
+        "db/migration/V9__add_family_public_partial_index.sql",
+        "db/migration/V13__add_hot_query_indexes.sql",
+        "db/migration/V14__add_name_trigram_indexes.sql",
+        "db/migration/V20__add_name_prefix_indexes.sql"
+    );
+
+    @Autowired
+    private FamilyMemberJpaRepository familyMemberJpaRepository;
+
+    @Autowired
+    private FamilyJpaRepository familyJpaRepository;
+
+    @Autowired
+    private FamilyJoinRequestJpaRepository familyJoinRequestJpaRepository;
+
+    @Autowired
+    private AnnouncementJpaRepository announcementJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            for (String migration : INDEX_MIGRATIONS) {
+                ScriptUtils.executeSqlScript(connection, new ClassPathResource(migration));
+            }
+            return null;
+        });
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+        sqlCapture.clear();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    @DisplayName("주요 조회 쿼리는 순차 스캔 없이 인덱스로 실행됩니다")
+    void hot_query_does_not_fall_back_to_sequential_scan(final String name, final HotQuery query) {
+        // given
+        query.run(this);
+        String sql = sqlCapture.first();
+
+        // when
+        String plan = explain(sql);
+
+        // then
+        assertThat(plan)
+            .as("%s 실행 계획%n%s", name, plan)
+            .doesNotContain("Seq Scan");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("shortKeywordSearches")
+    @DisplayName("한두 글자 키워드의 완전 일치·앞부분 일치 검색은 순차 스캔을 끄지 않아도 이름 B-tree 인덱스를 사용합니다")
+    void short_keyword_search_uses_name_prefix_index(final String name, final HotQuery query, final List<String> arguments) {
+        // given
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = on");
+        jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_custom_plan");
+        jdbcTemplate.update("""
+            INSERT INTO family (name, is_public, deleted, member_count, active_member_count, content_version,
+                                created_by, created_at)
+            SELECT chr(44032 + (g * 7919) % 11172) || chr(44032 + (g * 104729) % 11172) || '네',
+                   true, false, 0, 0, 0, 1, CURRENT_TIMESTAMP
+            FROM generate_series(1, 20000) g
+            """);
+        jdbcTemplate.execute("ANALYZE family");
+        query.run(this);
+        String sql = sqlCapture.first();
+
+        // when
+        String plan = explain(sql, arguments);
+
+        // then
+        assertThat(plan)
+            .as("%s 실행 계획%n%s", name, plan)
+            .contains("idx_family_public_name_prefix")
+            .doesNotContain("Seq Scan");
+    }
+
+    static Stream<Arguments> shortKeywordSearches() {
+        return Stream.of(
+            Arguments.of("family.searchPublicByExactName (두 글자)",
+                (HotQuery) t -> t.familyJpaRepository.searchPublicByExactName("가각", 0L, 21),
+                List.of("'가각'", "0", "21")),
+            Arguments.of("family.searchPublicByNamePrefix (한 글자)",
+                (HotQuery) t -> t.familyJpaRepository.searchPublicByNamePrefix("가%", "가", 0L, 21),
+                List.of("'가%'", "'가'", "0", "21")),
+            Arguments.of("family.searchPublicByNamePrefix (두 글자)",
+                (HotQuery) t -> t.familyJpaRepository.searchPublicByNamePrefix("가각%", "가각", 0L, 21),
+                List.of("'가각%'", "'가각'", "0", "21"))
+        );
+    }
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+            Arguments.of("family_member.existsByFamilyIdAndUserId",
+                (HotQuery) t -> t.familyMemberJpaRepository.existsByFamilyIdAndUserId(1L, 1L)),
+            Arguments.of("family_member.findByFamilyIdAndUserId",
+                (HotQuery) t -> t.familyMemberJpaRepository.findByFamilyIdAndUserId(1L, 1L)),
+            Arguments.of("family_member.findAllByFamilyId",
+                (HotQuery) t -> t.familyMemberJpaRepository.findAllByFamilyId(1L)),
+            Arguments.of("family_member.countByFamilyId",
+                (HotQuery) t -> t.familyMemberJpaRepository.countByFamilyId(1L)),
+            Arguments.of("family_member.countByUserIdAndStatus",
+                (HotQuery) t -> t.familyMemberJpaRepository.countByUserIdAndStatus(1L, FamilyMemberStatus.ACTIVE)),
+            Arguments.of("family_member.findAllByUserId",
+                (HotQuery) t -> t.familyMemberJpaRepository.findAllByUserId(1L)),
+            Arguments.of("family_member.findByUserIdAndRole",
+                (HotQuery) t -> t.familyMemberJpaRepository.findByUserIdAndRole(1L, FamilyMemberRole.OWNER)),
+            Arguments.of("family.findByNameAndDeletedFalse",
+                (HotQuery) t -> t.familyJpaRepository.findByNameAndDeletedFalse("가족")),
+            Arguments.of("family.findByIsPublicTrueAndIdGreaterThanOrderByIdAsc",
+                (HotQuery) t -> t.familyJpaRepository.findByIsPublicTrueAndIdGreaterThanOrderByIdAsc(0L, Limit.of(21))),
+            Arguments.of("family.searchPublicByExactName",
+                (HotQuery) t -> t.familyJpaRepository.searchPublicByExactName("가족", 0L, 21)),
+            Arguments.of("family.searchPublicByNamePrefix",
+                (HotQuery) t -> t.familyJpaRepository.searchPublicByNamePrefix("가족%", "가족", 0L, 21)),
+            Arguments.of("family.searchPublicByNameInfix",
+                (HotQuery) t -> t.familyJpaRepository.searchPublicByNameInfix("%가족%", "가족%", 0L, 21)),
+            Arguments.of("family_join_request.findTopByFamilyIdAndRequesterIdOrderByIdDesc",
+                (HotQuery) t -> t.familyJoinRequestJpaRepository.findTopByFamilyIdAndRequesterIdOrderByIdDesc(1L, 1L)),
+            Arguments.of("family_join_request.findAllByFamilyIdOrderByCreatedAtDesc",
+                (HotQuery) t -> t.familyJoinRequestJpaRepository.findAllByFamilyIdOrderByCreatedAtDesc(1L)),
+            Arguments.of("family_announcement.findAllByFamilyIdOrderByCreatedAtDesc",
+                (HotQuery) t -> t.announcementJpaRepository.findAllByFamilyIdOrderByCreatedAtDesc(1L)),
+            Arguments.of("family_announcement.findByFamilyIdOrderByCreatedAtDescIdDesc",
+                (HotQuery) t -> t.announcementJpaRepository.findByFamilyIdOrderByCreatedAtDescIdDesc(
+                    1L, PageRequest.ofSize(10)
+                )),
+            Arguments.of("family_announcement.findFeedAfter",
+                (HotQuery) t -> t.announcementJpaRepository.findFeedAfter(
+                    1L, LocalDateTime.of(2025, 1, 1, 0, 0), 1L, PageRequest.ofSize(10)
+                ))
+        );
+    }
+
+    /**
+     * Hibernate가 생성한 SQL의 JDBC 파라미터(?)를 PREPARE 파라미터($n)로 바꾸어 일반 실행 계획을 조회합니다.
+     * 일반 실행 계획은 파라미터 값과 무관하므로 모든 값을 NULL로 전달합니다.
+     */
+    private String explain(final String sql) {
+        return explain(sql, List.of());
+    }
+
+    /**
+     * Hibernate가 생성한 SQL을 PREPARE하여 주어진 파라미터 값(SQL 리터럴)으로 실행 계획을 조회합니다.
+     * 값이 없으면 모든 파라미터를 NULL로 전달합니다.
+     */
+    private String explain(final String sql, final List<String> arguments) {
+        final StringBuilder prepared = new StringBuilder();
+        int parameterCount = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                prepared.append('$').append(++parameterCount);
+            } else {
+                prepared.append(c);
+            }
+        }
+
+        jdbcTemplate.execute("PREPARE hot_query AS " + prepared);
+        try {
+            final List<String> values = arguments.isEmpty()
+                ? Stream.generate(() -> "NULL").limit(parameterCount).toList()
+                : arguments;
+            final String executeArguments = parameterCount == 0
+                ? ""
+                : values.stream().collect(Collectors.joining(", ", "(", ")"));
+            return String.join("\n", jdbcTemplate.queryForList("EXPLAIN EXECUTE hot_query" + executeArguments, String.class));
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE hot_query");
+        }
+    }
+
+    @FunctionalInterface
+    interface HotQuery {
+        void run(FamilyQueryPlanTest test);
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL을 기록하는 StatementInspector입니다.
+     */
+    static class SqlCapture implements StatementInspector {
+
+        private final List<String> statements = new ArrayList<>();
+
+        @Override
+        public synchronized String inspect(final String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        /**
+         * 마지막으로 꺼낸 이후 처음 실행된 SQL을 반환하고 기록을 비웁니다.
+         */
+        synchronized String first() {
+            assertThat(statements).as("실행된 SQL").isNotEmpty();
+            final String first = statements.get(0);
+            statements.clear();
+            return first;
+        }
+
+        synchronized void clear() {
+            statements.clear();
+        }
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer(final SqlCapture sqlCapture) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+}
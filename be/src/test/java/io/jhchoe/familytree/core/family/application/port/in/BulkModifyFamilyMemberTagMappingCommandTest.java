@@ -0,0 +1,119 @@
+package io.jhchoe.familytree.core.family.application.port.in;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.jhchoe.familytree.core.family.application.port.in.BulkModifyFamilyMemberTagMappingCommand.MemberTagAssignment;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BulkModifyFamilyMemberTagMappingCommand 단위 테스트.
+ */
+@DisplayName("[Unit Test] BulkModifyFamilyMemberTagMappingCommandTest")
+class BulkModifyFamilyMemberTagMappingCommandTest {
+
+    @Nested
+    @DisplayName("생성 테스트")
+    class CreateTest {
+
+        @Test
+        @DisplayName("유효한 입력으로 Command를 생성합니다")
+        void create_command_with_valid_inputs() {
+            // given
+            List<MemberTagAssignment> assignments = List.of(
+                new MemberTagAssignment(10L, List.of(1L, 2L)),
+                new MemberTagAssignment(20L, List.of())
+            );
+
+            // when
+            BulkModifyFamilyMemberTagMappingCommand command = new BulkModifyFamilyMemberTagMappingCommand(1L, assignments);
+
+            // then
+            assertThat(command.familyId()).isEqualTo(1L);
+            assertThat(command.assignments())
+                .extracting(MemberTagAssignment::memberId)
+                .containsExactly(10L, 20L);
+        }
+
+        @Test
+        @DisplayName("null tagIds는 빈 리스트로 변환됩니다")
+        void create_assignment_with_null_tagIds_converts_to_empty_list() {
+            // when
+            MemberTagAssignment assignment = new MemberTagAssignment(10L, null);
+
+            // then
+            assertThat(assignment.tagIds()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("유효성 검증 테스트")
+    class ValidationTest {
+
+        @Test
+        @DisplayName("멤버 목록이 비어 있으면 예외가 발생합니다")
+        void throw_exception_when_assignments_empty() {
+            // when & then
+            assertThatThrownBy(() -> new BulkModifyFamilyMemberTagMappingCommand(1L, List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("태그를 할당할 멤버는 1명 이상이어야 합니다.");
+        }
+
+        @Test
+        @DisplayName("멤버가 100명을 초과하면 예외가 발생합니다")
+        void throw_exception_when_assignments_exceed_max() {
+            // given
+            List<MemberTagAssignment> assignments = LongStream.rangeClosed(1, 101)
+                .mapToObj(memberId -> new MemberTagAssignment(memberId, List.of()))
+                .toList();
+
+            // when & then
+            assertThatThrownBy(() -> new BulkModifyFamilyMemberTagMappingCommand(1L, assignments))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("한 번에 최대 100명의 멤버 태그만 변경할 수 있습니다.");
+        }
+
+        @Test
+        @DisplayName("같은 멤버가 중복되면 예외가 발생합니다")
+        void throw_exception_when_member_duplicated() {
+            // given
+            List<MemberTagAssignment> assignments = List.of(
+                new MemberTagAssignment(10L, List.of(1L)),
+                new MemberTagAssignment(10L, List.of(2L))
+            );
+
+            // when & then
+            assertThatThrownBy(() -> new BulkModifyFamilyMemberTagMappingCommand(1L, assignments))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("같은 멤버가 중복되었습니다.");
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 familyId면 예외가 발생합니다")
+        void throw_exception_when_invalid_familyId() {
+            // given
+            List<MemberTagAssignment> assignments = List.of(new MemberTagAssignment(10L, List.of()));
+
+            // when & then
+            assertThatThrownBy(() -> new BulkModifyFamilyMemberTagMappingCommand(0L, assignments))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 가족 ID입니다.");
+        }
+
+        @Test
+        @DisplayName("한 멤버에 10개를 초과하는 태그를 할당하면 예외가 발생합니다")
+        void throw_exception_when_tag_count_exceeds_max() {
+            // given
+            List<Long> tagIds = LongStream.rangeClosed(1, 11).boxed().toList();
+
+            // when & then
+            assertThatThrownBy(() -> new MemberTagAssignment(10L, tagIds))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("한 멤버에 최대 10개의 태그만 할당할 수 있습니다.");
+        }
+    }
+}
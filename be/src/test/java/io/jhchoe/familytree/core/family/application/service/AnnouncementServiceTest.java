@@ -3,9 +3,10 @@ package io.jhchoe.familytree.core.family.application.service;
 import io.jhchoe.familytree.common.exception.FTException;
 import io.jhchoe.familytree.core.family.application.port.in.*;
 import io.jhchoe.familytree.core.family.application.port.out.FindAnnouncementPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
 import io.jhchoe.familytree.core.family.application.port.out.SaveAnnouncementPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
 import io.jhchoe.familytree.core.family.domain.Announcement;
+import io.jhchoe.familytree.core.family.domain.CursorPage;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
@@ -25,6 +26,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -33,7 +35,7 @@ import static org.mockito.Mockito.*;
 class AnnouncementServiceTest {
 
     @Mock
-    private FindFamilyMemberPort findFamilyMemberPort;
+    private FamilyMembershipResolver familyMembershipResolver;
 
     @Mock
     private SaveAnnouncementPort saveAnnouncementPort;
@@ -61,7 +63,7 @@ class AnnouncementServiceTest {
         );
 
         // Mock 설정
-        when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+        when(familyMembershipResolver.findMember(familyId, currentUserId))
             .thenReturn(Optional.of(currentMember));
         when(saveAnnouncementPort.save(any(Announcement.class)))
             .thenReturn(1L);
@@ -94,7 +96,7 @@ class AnnouncementServiceTest {
         );
 
         // Mock 설정
-        when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+        when(familyMembershipResolver.findMember(familyId, currentUserId))
             .thenReturn(Optional.of(currentMember));
         when(saveAnnouncementPort.save(any(Announcement.class)))
             .thenReturn(1L);
@@ -127,7 +129,7 @@ class AnnouncementServiceTest {
         );
 
         // Mock 설정
-        when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+        when(familyMembershipResolver.findMember(familyId, currentUserId))
             .thenReturn(Optional.of(currentMember));
 
         // when & then
@@ -169,7 +171,7 @@ class AnnouncementServiceTest {
         );
 
         // Mock 설정
-        when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+        when(familyMembershipResolver.findMember(familyId, currentUserId))
             .thenReturn(Optional.of(currentMember));
         when(findAnnouncementPort.findAllByFamilyId(familyId, page, size))
             .thenReturn(announcements);
@@ -195,7 +197,7 @@ class AnnouncementServiceTest {
         int size = 10;
 
         // 구성원이 아닌 경우를 시뮬레이션
-        when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+        when(familyMembershipResolver.findMember(familyId, currentUserId))
             .thenReturn(Optional.empty());
 
         // when & then
@@ -206,6 +208,59 @@ class AnnouncementServiceTest {
             .hasFieldOrPropertyWithValue("exceptionCodeType", FamilyExceptionCode.NOT_FAMILY_MEMBER);
     }
 
+    @Test
+    @DisplayName("구성원은 공지사항 피드를 커서 기반으로 조회할 수 있다")
+    void find_announcement_feed_should_succeed() {
+        // given
+        Long familyId = 1L;
+        Long currentUserId = 2L;
+        String cursor = "cursor";
+
+        FamilyMember currentMember = FamilyMember.withId(
+            2L, familyId, currentUserId, "일반 구성원", null, null, "profile.jpg",
+            LocalDateTime.now(), null, FamilyMemberStatus.ACTIVE, FamilyMemberRole.MEMBER,
+            null, null, null, null
+        );
+        CursorPage<Announcement> page = new CursorPage<>(
+            List.of(Announcement.withId(1L, familyId, "공지1", "내용1", 3L, LocalDateTime.now(), null, null)),
+            "next-cursor",
+            true,
+            1
+        );
+
+        when(familyMembershipResolver.findMember(familyId, currentUserId))
+            .thenReturn(Optional.of(currentMember));
+        when(findAnnouncementPort.findFeedByFamilyId(familyId, cursor, 1))
+            .thenReturn(page);
+
+        // when
+        CursorPage<Announcement> result = sut.findFeed(
+            new FindAnnouncementFeedQuery(familyId, currentUserId, cursor, 1)
+        );
+
+        // then
+        assertThat(result).isSameAs(page);
+    }
+
+    @Test
+    @DisplayName("구성원이 아닌 사용자는 공지사항 피드를 조회할 수 없다")
+    void find_announcement_feed_by_non_member_should_throw_exception() {
+        // given
+        Long familyId = 1L;
+        Long currentUserId = 2L;
+
+        when(familyMembershipResolver.findMember(familyId, currentUserId))
+            .thenReturn(Optional.empty());
+
+        // when & then
+        FindAnnouncementFeedQuery query = new FindAnnouncementFeedQuery(familyId, currentUserId, null, 10);
+
+        assertThatThrownBy(() -> sut.findFeed(query))
+            .isInstanceOf(FTException.class)
+            .hasFieldOrPropertyWithValue("exceptionCodeType", FamilyExceptionCode.NOT_FAMILY_MEMBER);
+        verify(findAnnouncementPort, never()).findFeedByFamilyId(any(), any(), anyInt());
+    }
+
     @Test
     @DisplayName("OWNER가 공지사항을 삭제할 수 있다")
     void delete_announcement_by_owner_should_succeed() {
@@ -227,7 +282,7 @@ class AnnouncementServiceTest {
         );
 
         // Mock 설정
-        when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+        when(familyMembershipResolver.findMember(familyId, currentUserId))
             .thenReturn(Optional.of(currentMember));
         when(findAnnouncementPort.findById(announcementId))
             .thenReturn(Optional.of(announcement));
@@ -264,7 +319,7 @@ class AnnouncementServiceTest {
         );
 
         // Mock 설정
-        when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+        when(familyMembershipResolver.findMember(familyId, currentUserId))
             .thenReturn(Optional.of(currentMember));
         when(findAnnouncementPort.findById(announcementId))
             .thenReturn(Optional.of(announcement));
@@ -301,7 +356,7 @@ class AnnouncementServiceTest {
         );
 
         // Mock 설정
-        when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+        when(familyMembershipResolver.findMember(familyId, currentUserId))
             .thenReturn(Optional.of(currentMember));
         when(findAnnouncementPort.findById(announcementId))
             .thenReturn(Optional.of(announcement));
@@ -334,7 +389,7 @@ class AnnouncementServiceTest {
         );
 
         // Mock 설정
-        when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+        when(familyMembershipResolver.findMember(familyId, currentUserId))
             .thenReturn(Optional.of(currentMember));
 
         // when & then
@@ -365,7 +420,7 @@ class AnnouncementServiceTest {
         );
 
         // 존재하지 않는 공지사항
-        when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+        when(familyMembershipResolver.findMember(familyId, currentUserId))
             .thenReturn(Optional.of(currentMember));
         when(findAnnouncementPort.findById(announcementId))
             .thenReturn(Optional.empty());
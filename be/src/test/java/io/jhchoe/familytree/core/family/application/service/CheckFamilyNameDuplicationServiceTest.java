@@ -2,8 +2,6 @@ package io.jhchoe.familytree.core.family.application.service;
 
 import io.jhchoe.familytree.core.family.application.port.in.FamilyNameAvailabilityResult;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyPort;
-import io.jhchoe.familytree.core.family.domain.Family;
-import io.jhchoe.familytree.test.fixture.FamilyFixture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,8 +9,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -37,7 +34,7 @@ class CheckFamilyNameDuplicationServiceTest {
     void should_return_available_true_when_family_name_is_not_duplicated() {
         // given
         String familyName = "새로운가족";
-        given(findFamilyPort.findByName(familyName)).willReturn(Optional.empty());
+        given(findFamilyPort.existsByName(familyName)).willReturn(false);
 
         // when
         FamilyNameAvailabilityResult result = checkFamilyNameDuplicationService.checkDuplication(familyName);
@@ -45,7 +42,7 @@ class CheckFamilyNameDuplicationServiceTest {
         // then
         assertThat(result.available()).isTrue();
         assertThat(result.message()).isEqualTo("사용 가능한 가족명입니다");
-        verify(findFamilyPort).findByName(familyName);
+        verify(findFamilyPort).existsByName(familyName);
     }
 
     @Test
@@ -53,9 +50,7 @@ class CheckFamilyNameDuplicationServiceTest {
     void should_return_available_false_when_family_name_already_exists() {
         // given
         String familyName = "기존가족";
-        Family existingFamily = FamilyFixture.withId(1L, familyName, true);
-        
-        given(findFamilyPort.findByName(familyName)).willReturn(Optional.of(existingFamily));
+        given(findFamilyPort.existsByName(familyName)).willReturn(true);
 
         // when
         FamilyNameAvailabilityResult result = checkFamilyNameDuplicationService.checkDuplication(familyName);
@@ -63,7 +58,7 @@ class CheckFamilyNameDuplicationServiceTest {
         // then
         assertThat(result.available()).isFalse();
         assertThat(result.message()).isEqualTo("이미 사용 중인 가족명입니다");
-        verify(findFamilyPort).findByName(familyName);
+        verify(findFamilyPort).existsByName(familyName);
     }
 
     @Test
@@ -119,7 +114,7 @@ class CheckFamilyNameDuplicationServiceTest {
     void should_process_family_name_with_max_length_successfully() {
         // given
         String familyName = "a".repeat(20); // 정확히 20자
-        given(findFamilyPort.findByName(familyName)).willReturn(Optional.empty());
+        given(findFamilyPort.existsByName(familyName)).willReturn(false);
 
         // when
         FamilyNameAvailabilityResult result = checkFamilyNameDuplicationService.checkDuplication(familyName);
@@ -127,6 +122,29 @@ class CheckFamilyNameDuplicationServiceTest {
         // then
         assertThat(result.available()).isTrue();
         assertThat(result.message()).isEqualTo("사용 가능한 가족명입니다");
-        verify(findFamilyPort).findByName(familyName);
+        verify(findFamilyPort).existsByName(familyName);
+    }
+
+    @Test
+    @DisplayName("입력 중인 가족명으로 시작하는 공개 Family의 가족명을 자동완성 후보로 반환한다")
+    void should_return_existing_family_names_starting_with_prefix() {
+        // given
+        String prefix = "행복";
+        given(findFamilyPort.findPublicNamesByPrefix(prefix, 10)).willReturn(List.of("행복가족", "행복한집"));
+
+        // when
+        List<String> result = checkFamilyNameDuplicationService.suggestFamilyNames(prefix);
+
+        // then
+        assertThat(result).containsExactly("행복가족", "행복한집");
+    }
+
+    @Test
+    @DisplayName("자동완성 입력값이 빈 문자열인 경우 IllegalArgumentException을 던진다")
+    void should_throw_exception_when_suggestion_prefix_is_empty() {
+        // when & then
+        assertThatThrownBy(() -> checkFamilyNameDuplicationService.suggestFamilyNames(""))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("가족명은 필수값입니다");
     }
 }
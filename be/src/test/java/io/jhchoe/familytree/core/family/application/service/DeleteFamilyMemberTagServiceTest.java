@@ -9,9 +9,8 @@ import static org.mockito.Mockito.when;
 import io.jhchoe.familytree.common.exception.FTException;
 import io.jhchoe.familytree.core.family.application.port.in.DeleteFamilyMemberTagCommand;
 import io.jhchoe.familytree.core.family.application.port.out.DeleteFamilyMemberTagPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberTagPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
@@ -44,10 +43,7 @@ class DeleteFamilyMemberTagServiceTest {
     private FindFamilyMemberTagPort findFamilyMemberTagPort;
 
     @Mock
-    private FindFamilyPort findFamilyPort;
-
-    @Mock
-    private FindFamilyMemberPort findFamilyMemberPort;
+    private FamilyMembershipResolver familyMembershipResolver;
 
     @Nested
     @DisplayName("태그 삭제 테스트")
@@ -68,9 +64,7 @@ class DeleteFamilyMemberTagServiceTest {
             );
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(ownerMember));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(ownerMember);
             when(findFamilyMemberTagPort.findById(tagId)).thenReturn(Optional.of(existingTag));
 
             // when & then
@@ -92,9 +86,7 @@ class DeleteFamilyMemberTagServiceTest {
             FamilyMember memberOnly = createMemberOnly(familyId, currentUserId);
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(memberOnly));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(memberOnly);
 
             // when & then
             assertThatThrownBy(() -> sut.delete(command, currentUserId))
@@ -117,9 +109,7 @@ class DeleteFamilyMemberTagServiceTest {
             FamilyMember ownerMember = createOwnerMember(familyId, currentUserId);
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(ownerMember));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(ownerMember);
             when(findFamilyMemberTagPort.findById(tagId)).thenReturn(Optional.empty());
 
             // when & then
@@ -147,9 +137,7 @@ class DeleteFamilyMemberTagServiceTest {
             );
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(ownerMember));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(ownerMember);
             when(findFamilyMemberTagPort.findById(tagId)).thenReturn(Optional.of(tagFromOtherFamily));
 
             // when & then
@@ -0,0 +1,145 @@
+package io.jhchoe.familytree.core.family.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.jhchoe.familytree.common.exception.FTException;
+import io.jhchoe.familytree.core.family.application.port.in.FamilyHomeMembersVersion;
+import io.jhchoe.familytree.core.family.application.port.in.FindFamilyContentVersionQuery;
+import io.jhchoe.familytree.core.family.application.port.in.FindMyFamiliesQuery;
+import io.jhchoe.familytree.core.family.application.port.out.FindFamilyPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
+import io.jhchoe.familytree.core.family.domain.FamilyContentVersion;
+import io.jhchoe.familytree.core.family.exception.FamilyExceptionCode;
+import io.jhchoe.familytree.test.fixture.FamilyMemberFixture;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("[Unit Test] FindFamilyContentVersionServiceTest")
+@ExtendWith(MockitoExtension.class)
+class FindFamilyContentVersionServiceTest {
+
+    @Mock
+    private FamilyMembershipResolver familyMembershipResolver;
+
+    @Mock
+    private FindFamilyPort findFamilyPort;
+
+    @InjectMocks
+    private FindFamilyContentVersionService sut;
+
+    @Test
+    @DisplayName("find 메서드는 구성원이면 Family의 내용 버전을 반환한다")
+    void return_content_version_when_user_is_member() {
+        // given
+        Long familyId = 1L;
+        Long currentUserId = 2L;
+        when(familyMembershipResolver.findMember(familyId, currentUserId))
+            .thenReturn(Optional.of(FamilyMemberFixture.newMember(familyId, currentUserId)));
+        when(findFamilyPort.findContentVersion(familyId)).thenReturn(Optional.of(7L));
+
+        // when
+        long result = sut.find(new FindFamilyContentVersionQuery(familyId, currentUserId));
+
+        // then
+        assertThat(result).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("find 메서드는 구성원이 아니면 버전을 조회하지 않고 NOT_FAMILY_MEMBER 예외를 발생시킨다")
+    void throw_exception_when_user_is_not_member() {
+        // given
+        Long familyId = 1L;
+        Long currentUserId = 2L;
+        when(familyMembershipResolver.findMember(familyId, currentUserId)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> sut.find(new FindFamilyContentVersionQuery(familyId, currentUserId)))
+            .isInstanceOf(FTException.class)
+            .satisfies(ex -> {
+                FTException ftEx = (FTException) ex;
+                assertThat(ftEx.getCode()).isEqualTo(FamilyExceptionCode.NOT_FAMILY_MEMBER.getCode());
+            });
+        verify(findFamilyPort, never()).findContentVersion(familyId);
+    }
+
+    @Test
+    @DisplayName("find 메서드는 Family가 삭제되었으면 FAMILY_NOT_FOUND 예외를 발생시킨다")
+    void throw_exception_when_family_is_deleted() {
+        // given
+        Long familyId = 1L;
+        Long currentUserId = 2L;
+        when(familyMembershipResolver.findMember(familyId, currentUserId))
+            .thenReturn(Optional.of(FamilyMemberFixture.newMember(familyId, currentUserId)));
+        when(findFamilyPort.findContentVersion(familyId)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> sut.find(new FindFamilyContentVersionQuery(familyId, currentUserId)))
+            .isInstanceOf(FTException.class)
+            .satisfies(ex -> {
+                FTException ftEx = (FTException) ex;
+                assertThat(ftEx.getCode()).isEqualTo(FamilyExceptionCode.FAMILY_NOT_FOUND.getCode());
+            });
+    }
+
+    @Test
+    @DisplayName("findHomeMembers 메서드는 ADMIN 이상이면 활성 상태가 아닌 구성원도 보이는 범위로 반환한다")
+    void return_all_members_visibility_when_user_is_admin() {
+        // given
+        Long familyId = 1L;
+        Long currentUserId = 2L;
+        when(familyMembershipResolver.findMember(familyId, currentUserId))
+            .thenReturn(Optional.of(FamilyMemberFixture.newAdmin(familyId, currentUserId)));
+        when(findFamilyPort.findContentVersion(familyId)).thenReturn(Optional.of(7L));
+
+        // when
+        FamilyHomeMembersVersion result = sut.findHomeMembers(new FindFamilyContentVersionQuery(familyId, currentUserId));
+
+        // then
+        assertThat(result).isEqualTo(new FamilyHomeMembersVersion(7L, true));
+    }
+
+    @Test
+    @DisplayName("findHomeMembers 메서드는 일반 구성원이면 활성 구성원만 보이는 범위로 반환한다")
+    void return_active_members_visibility_when_user_is_member() {
+        // given
+        Long familyId = 1L;
+        Long currentUserId = 2L;
+        when(familyMembershipResolver.findMember(familyId, currentUserId))
+            .thenReturn(Optional.of(FamilyMemberFixture.newMember(familyId, currentUserId)));
+        when(findFamilyPort.findContentVersion(familyId)).thenReturn(Optional.of(7L));
+
+        // when
+        FamilyHomeMembersVersion result = sut.findHomeMembers(new FindFamilyContentVersionQuery(familyId, currentUserId));
+
+        // then
+        assertThat(result).isEqualTo(new FamilyHomeMembersVersion(7L, false));
+    }
+
+    @Test
+    @DisplayName("findAll 메서드는 소속 Family들의 내용 버전을 반환한다")
+    void return_content_versions_of_my_families() {
+        // given
+        Long userId = 2L;
+        List<FamilyContentVersion> versions = List.of(
+            new FamilyContentVersion(1L, 3L),
+            new FamilyContentVersion(5L, 0L)
+        );
+        when(findFamilyPort.findContentVersionsByUserId(userId)).thenReturn(versions);
+
+        // when
+        List<FamilyContentVersion> result = sut.findAll(new FindMyFamiliesQuery(userId));
+
+        // then
+        assertThat(result).containsExactlyElementsOf(versions);
+    }
+}
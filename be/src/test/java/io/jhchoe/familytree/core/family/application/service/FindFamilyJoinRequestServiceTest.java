@@ -8,8 +8,7 @@ import static org.mockito.Mockito.verify;
 import io.jhchoe.familytree.common.exception.FTException;
 import io.jhchoe.familytree.core.family.application.port.in.FindFamilyJoinRequestQuery;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyJoinRequestPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
 import io.jhchoe.familytree.core.family.domain.FamilyJoinRequest;
 import io.jhchoe.familytree.core.family.domain.FamilyJoinRequestStatus;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
@@ -19,7 +18,6 @@ import io.jhchoe.familytree.core.family.exception.FamilyExceptionCode;
 import io.jhchoe.familytree.test.fixture.FamilyMemberFixture;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,10 +34,7 @@ class FindFamilyJoinRequestServiceTest {
     private FindFamilyJoinRequestPort findFamilyJoinRequestPort;
     
     @Mock
-    private FindFamilyMemberPort findFamilyMemberPort;
-    
-    @Mock
-    private FindFamilyPort findFamilyPort;
+    private FamilyMembershipResolver familyMembershipResolver;
     
     @InjectMocks
     private FindFamilyJoinRequestService findFamilyJoinRequestService;
@@ -72,9 +67,7 @@ class FindFamilyJoinRequestServiceTest {
     @DisplayName("ADMIN 권한을 가진 사용자가 가입 신청 목록을 성공적으로 조회할 수 있다")
     void should_find_join_requests_when_user_is_admin() {
         // given
-        given(findFamilyPort.existsById(query.getFamilyId())).willReturn(true);
-        given(findFamilyMemberPort.findByFamilyIdAndUserId(query.getFamilyId(), query.getCurrentUserId()))
-            .willReturn(Optional.of(adminMember));
+        given(familyMembershipResolver.resolveMember(query.getFamilyId(), query.getCurrentUserId())).willReturn(adminMember);
         given(findFamilyJoinRequestPort.findAllByFamilyId(query.getFamilyId()))
             .willReturn(joinRequests);
 
@@ -84,8 +77,7 @@ class FindFamilyJoinRequestServiceTest {
         // then
         assertThat(result).hasSize(2);
         assertThat(result).containsExactlyElementsOf(joinRequests);
-        verify(findFamilyPort).existsById(query.getFamilyId());
-        verify(findFamilyMemberPort).findByFamilyIdAndUserId(query.getFamilyId(), query.getCurrentUserId());
+        verify(familyMembershipResolver).resolveMember(query.getFamilyId(), query.getCurrentUserId());
         verify(findFamilyJoinRequestPort).findAllByFamilyId(query.getFamilyId());
     }
 
@@ -93,9 +85,7 @@ class FindFamilyJoinRequestServiceTest {
     @DisplayName("OWNER 권한을 가진 사용자가 가입 신청 목록을 성공적으로 조회할 수 있다")
     void should_find_join_requests_when_user_is_owner() {
         // given
-        given(findFamilyPort.existsById(query.getFamilyId())).willReturn(true);
-        given(findFamilyMemberPort.findByFamilyIdAndUserId(query.getFamilyId(), query.getCurrentUserId()))
-            .willReturn(Optional.of(ownerMember));
+        given(familyMembershipResolver.resolveMember(query.getFamilyId(), query.getCurrentUserId())).willReturn(ownerMember);
         given(findFamilyJoinRequestPort.findAllByFamilyId(query.getFamilyId()))
             .willReturn(joinRequests);
 
@@ -105,8 +95,7 @@ class FindFamilyJoinRequestServiceTest {
         // then
         assertThat(result).hasSize(2);
         assertThat(result).containsExactlyElementsOf(joinRequests);
-        verify(findFamilyPort).existsById(query.getFamilyId());
-        verify(findFamilyMemberPort).findByFamilyIdAndUserId(query.getFamilyId(), query.getCurrentUserId());
+        verify(familyMembershipResolver).resolveMember(query.getFamilyId(), query.getCurrentUserId());
         verify(findFamilyJoinRequestPort).findAllByFamilyId(query.getFamilyId());
     }
 
@@ -126,48 +115,44 @@ class FindFamilyJoinRequestServiceTest {
     @DisplayName("존재하지 않는 Family ID로 조회하면 FAMILY_NOT_FOUND 예외를 발생시킨다")
     void should_throw_family_not_found_exception_when_family_does_not_exist() {
         // given
-        given(findFamilyPort.existsById(query.getFamilyId())).willReturn(false);
+        given(familyMembershipResolver.resolveMember(query.getFamilyId(), query.getCurrentUserId()))
+            .willThrow(new FTException(FamilyExceptionCode.FAMILY_NOT_FOUND));
 
         // when & then
         assertThatThrownBy(() -> findFamilyJoinRequestService.findAllByFamilyId(query))
             .isInstanceOf(FTException.class)
             .hasFieldOrPropertyWithValue("exceptionCodeType", FamilyExceptionCode.FAMILY_NOT_FOUND);
         
-        verify(findFamilyPort).existsById(query.getFamilyId());
+        verify(familyMembershipResolver).resolveMember(query.getFamilyId(), query.getCurrentUserId());
     }
 
     @Test
     @DisplayName("Family 구성원이 아닌 사용자가 조회하면 NOT_FAMILY_MEMBER 예외를 발생시킨다")
     void should_throw_not_family_member_exception_when_user_is_not_member() {
         // given
-        given(findFamilyPort.existsById(query.getFamilyId())).willReturn(true);
-        given(findFamilyMemberPort.findByFamilyIdAndUserId(query.getFamilyId(), query.getCurrentUserId()))
-            .willReturn(Optional.empty());
+        given(familyMembershipResolver.resolveMember(query.getFamilyId(), query.getCurrentUserId()))
+            .willThrow(new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
 
         // when & then
         assertThatThrownBy(() -> findFamilyJoinRequestService.findAllByFamilyId(query))
             .isInstanceOf(FTException.class)
             .hasFieldOrPropertyWithValue("exceptionCodeType", FamilyExceptionCode.NOT_FAMILY_MEMBER);
         
-        verify(findFamilyPort).existsById(query.getFamilyId());
-        verify(findFamilyMemberPort).findByFamilyIdAndUserId(query.getFamilyId(), query.getCurrentUserId());
+        verify(familyMembershipResolver).resolveMember(query.getFamilyId(), query.getCurrentUserId());
     }
 
     @Test
     @DisplayName("MEMBER 권한을 가진 사용자가 조회하면 NOT_AUTHORIZED 예외를 발생시킨다")
     void should_throw_not_authorized_exception_when_user_is_regular_member() {
         // given
-        given(findFamilyPort.existsById(query.getFamilyId())).willReturn(true);
-        given(findFamilyMemberPort.findByFamilyIdAndUserId(query.getFamilyId(), query.getCurrentUserId()))
-            .willReturn(Optional.of(regularMember));
+        given(familyMembershipResolver.resolveMember(query.getFamilyId(), query.getCurrentUserId())).willReturn(regularMember);
 
         // when & then
         assertThatThrownBy(() -> findFamilyJoinRequestService.findAllByFamilyId(query))
             .isInstanceOf(FTException.class)
             .hasFieldOrPropertyWithValue("exceptionCodeType", FamilyExceptionCode.NOT_AUTHORIZED);
         
-        verify(findFamilyPort).existsById(query.getFamilyId());
-        verify(findFamilyMemberPort).findByFamilyIdAndUserId(query.getFamilyId(), query.getCurrentUserId());
+        verify(familyMembershipResolver).resolveMember(query.getFamilyId(), query.getCurrentUserId());
     }
 
     @Test
@@ -178,26 +163,21 @@ class FindFamilyJoinRequestServiceTest {
             1L, FamilyMemberRole.ADMIN, FamilyMemberStatus.SUSPENDED
         );
         
-        given(findFamilyPort.existsById(query.getFamilyId())).willReturn(true);
-        given(findFamilyMemberPort.findByFamilyIdAndUserId(query.getFamilyId(), query.getCurrentUserId()))
-            .willReturn(Optional.of(inactiveMember));
+        given(familyMembershipResolver.resolveMember(query.getFamilyId(), query.getCurrentUserId())).willReturn(inactiveMember);
 
         // when & then
         assertThatThrownBy(() -> findFamilyJoinRequestService.findAllByFamilyId(query))
             .isInstanceOf(FTException.class)
             .hasFieldOrPropertyWithValue("exceptionCodeType", FamilyExceptionCode.MEMBER_NOT_ACTIVE);
         
-        verify(findFamilyPort).existsById(query.getFamilyId());
-        verify(findFamilyMemberPort).findByFamilyIdAndUserId(query.getFamilyId(), query.getCurrentUserId());
+        verify(familyMembershipResolver).resolveMember(query.getFamilyId(), query.getCurrentUserId());
     }
 
     @Test
     @DisplayName("가입 신청이 없는 경우 빈 목록을 반환한다")
     void should_return_empty_list_when_no_join_requests_exist() {
         // given
-        given(findFamilyPort.existsById(query.getFamilyId())).willReturn(true);
-        given(findFamilyMemberPort.findByFamilyIdAndUserId(query.getFamilyId(), query.getCurrentUserId()))
-            .willReturn(Optional.of(adminMember));
+        given(familyMembershipResolver.resolveMember(query.getFamilyId(), query.getCurrentUserId())).willReturn(adminMember);
         given(findFamilyJoinRequestPort.findAllByFamilyId(query.getFamilyId()))
             .willReturn(List.of());
 
@@ -206,8 +186,7 @@ class FindFamilyJoinRequestServiceTest {
 
         // then
         assertThat(result).isEmpty();
-        verify(findFamilyPort).existsById(query.getFamilyId());
-        verify(findFamilyMemberPort).findByFamilyIdAndUserId(query.getFamilyId(), query.getCurrentUserId());
+        verify(familyMembershipResolver).resolveMember(query.getFamilyId(), query.getCurrentUserId());
         verify(findFamilyJoinRequestPort).findAllByFamilyId(query.getFamilyId());
     }
 }
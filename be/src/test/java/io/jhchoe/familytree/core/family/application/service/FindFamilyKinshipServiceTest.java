@@ -0,0 +1,164 @@
+package io.jhchoe.familytree.core.family.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.jhchoe.familytree.common.exception.FTException;
+import io.jhchoe.familytree.core.family.application.port.in.FamilyLineageInfo;
+import io.jhchoe.familytree.core.family.application.port.in.FindFamilyKinshipQuery;
+import io.jhchoe.familytree.core.family.application.port.in.FindFamilyLineageQuery;
+import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
+import io.jhchoe.familytree.core.family.application.port.out.FindFamilyPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberLineageNode;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
+import io.jhchoe.familytree.core.family.domain.KinshipDirection;
+import io.jhchoe.familytree.core.family.domain.KinshipGraph;
+import io.jhchoe.familytree.core.family.domain.KinshipPath;
+import io.jhchoe.familytree.core.family.domain.KinshipRelative;
+import io.jhchoe.familytree.core.family.exception.FamilyExceptionCode;
+import io.jhchoe.familytree.test.fixture.FamilyMemberFixture;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("[Unit Test] FindFamilyKinshipServiceTest")
+@ExtendWith(MockitoExtension.class)
+class FindFamilyKinshipServiceTest {
+
+    private static final Long FAMILY_ID = 1L;
+    private static final Long CURRENT_USER_ID = 2L;
+
+    @Mock
+    private FamilyMembershipResolver familyMembershipResolver;
+
+    @Mock
+    private FindFamilyPort findFamilyPort;
+
+    @Mock
+    private FindFamilyMemberPort findFamilyMemberPort;
+
+    @Mock
+    private KinshipGraphCache kinshipGraphCache;
+
+    @InjectMocks
+    private FindFamilyKinshipService sut;
+
+    @BeforeEach
+    void setUp() {
+        when(familyMembershipResolver.findMember(FAMILY_ID, CURRENT_USER_ID))
+            .thenReturn(Optional.of(FamilyMemberFixture.newMember(FAMILY_ID, CURRENT_USER_ID)));
+    }
+
+    @Test
+    @DisplayName("find 메서드는 현재 내용 버전의 그래프로 두 구성원의 경로와 촌수를 반환한다")
+    void return_kinship_path_from_graph_of_current_version() {
+        // given
+        givenGraph(7L);
+
+        // when
+        Optional<KinshipPath> result = sut.find(new FindFamilyKinshipQuery(FAMILY_ID, 10L, 12L, CURRENT_USER_ID));
+
+        // then
+        assertThat(result).hasValueSatisfying(path -> assertThat(path.degree()).isEqualTo(2));
+        verify(kinshipGraphCache).find(eq(FAMILY_ID), eq(7L), any());
+    }
+
+    @Test
+    @DisplayName("find 메서드는 Family에 없는 구성원이면 MEMBER_NOT_FOUND 예외를 발생시킨다")
+    void throw_exception_when_member_is_not_in_family() {
+        // given
+        givenGraph(7L);
+
+        // when & then
+        assertThatThrownBy(() -> sut.find(new FindFamilyKinshipQuery(FAMILY_ID, 10L, 99L, CURRENT_USER_ID)))
+            .isInstanceOf(FTException.class)
+            .satisfies(ex -> {
+                FTException ftEx = (FTException) ex;
+                assertThat(ftEx.getCode()).isEqualTo(FamilyExceptionCode.MEMBER_NOT_FOUND.getCode());
+            });
+    }
+
+    @Test
+    @DisplayName("find 메서드는 구성원이 아니면 그래프를 만들지 않고 NOT_FAMILY_MEMBER 예외를 발생시킨다")
+    void throw_exception_when_user_is_not_member() {
+        // given
+        when(familyMembershipResolver.findMember(FAMILY_ID, CURRENT_USER_ID)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> sut.find(new FindFamilyKinshipQuery(FAMILY_ID, 10L, 12L, CURRENT_USER_ID)))
+            .isInstanceOf(FTException.class)
+            .satisfies(ex -> {
+                FTException ftEx = (FTException) ex;
+                assertThat(ftEx.getCode()).isEqualTo(FamilyExceptionCode.NOT_FAMILY_MEMBER.getCode());
+            });
+        verify(kinshipGraphCache, never()).find(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("find 메서드는 그래프를 만들지 않고 부모·자녀 관계에서 조상과 자손을 조회한다")
+    void return_lineage_of_member() {
+        // given
+        when(findFamilyMemberPort.findById(10L))
+            .thenReturn(Optional.of(FamilyMemberFixture.withIdAndRole(10L, FamilyMemberRole.OWNER)));
+        when(findFamilyMemberPort.findLineage(FAMILY_ID, 10L, KinshipDirection.PARENT, 5))
+            .thenReturn(List.of(new FamilyMemberLineageNode(11L, 1, List.of(10L, 11L))));
+        when(findFamilyMemberPort.findLineage(FAMILY_ID, 10L, KinshipDirection.CHILD, 5))
+            .thenReturn(List.of());
+
+        // when
+        FamilyLineageInfo result = sut.find(new FindFamilyLineageQuery(FAMILY_ID, 10L, CURRENT_USER_ID, 5));
+
+        // then
+        assertThat(result.ancestors()).containsExactly(new KinshipRelative(11L, 1));
+        assertThat(result.descendants()).isEmpty();
+        verify(kinshipGraphCache, never()).find(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("find 메서드는 조상·자손 조회 대상이 다른 Family 구성원이면 MEMBER_NOT_FOUND 예외를 발생시킨다")
+    void throw_exception_when_lineage_member_is_in_other_family() {
+        // given
+        when(findFamilyMemberPort.findById(10L))
+            .thenReturn(Optional.of(FamilyMemberFixture.withIdAndRole(10L, FAMILY_ID + 1, 2L, FamilyMemberRole.MEMBER)));
+
+        // when & then
+        assertThatThrownBy(() -> sut.find(new FindFamilyLineageQuery(FAMILY_ID, 10L, CURRENT_USER_ID, 5)))
+            .isInstanceOf(FTException.class)
+            .satisfies(ex -> {
+                FTException ftEx = (FTException) ex;
+                assertThat(ftEx.getCode()).isEqualTo(FamilyExceptionCode.MEMBER_NOT_FOUND.getCode());
+            });
+        verify(findFamilyMemberPort, never()).findLineage(any(), any(), any(), anyInt());
+    }
+
+    /**
+     * 소유자(10)와 그 아버지(11), 형(12)으로 이루어진 Family를 현재 버전의 그래프로 준비합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private void givenGraph(long version) {
+        when(findFamilyPort.findContentVersion(FAMILY_ID)).thenReturn(Optional.of(version));
+        when(findFamilyMemberPort.findAllByFamilyId(FAMILY_ID)).thenReturn(List.of(
+            FamilyMemberFixture.withIdAndRole(10L, FamilyMemberRole.OWNER),
+            FamilyMemberFixture.withIdAndRelationship(11L, FamilyMemberRelationshipType.FATHER),
+            FamilyMemberFixture.withIdAndRelationship(12L, FamilyMemberRelationshipType.ELDER_BROTHER)
+        ));
+        when(kinshipGraphCache.find(eq(FAMILY_ID), eq(version), any()))
+            .thenAnswer(invocation -> ((Supplier<KinshipGraph>) invocation.getArgument(2)).get());
+    }
+}
@@ -6,14 +6,13 @@ import static org.mockito.BDDMockito.*;
 import io.jhchoe.familytree.common.exception.FTException;
 import io.jhchoe.familytree.core.family.application.port.in.FindFamilyMembersRoleQuery;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.exception.FamilyExceptionCode;
 import io.jhchoe.familytree.test.fixture.FamilyMemberFixture;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,7 +34,7 @@ class FindFamilyMemberRoleServiceTest {
     private FindFamilyMemberPort findFamilyMemberPort;
 
     @Mock
-    private FindFamilyPort findFamilyPort;
+    private FamilyMembershipResolver familyMembershipResolver;
 
     @Test
     @DisplayName("Family 구성원이 요청한 경우 모든 구성원의 역할 정보를 조회할 수 있습니다")
@@ -46,8 +45,8 @@ class FindFamilyMemberRoleServiceTest {
         
         // 현재 사용자는 Family 구성원
         FamilyMember currentMember = FamilyMemberFixture.withIdAndRole(15L, familyId, currentUserId, FamilyMemberRole.MEMBER);
-        given(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-            .willReturn(Optional.of(currentMember));
+        given(familyMembershipResolver.resolveMember(familyId, currentUserId))
+            .willReturn(currentMember);
         
         // Family의 모든 구성원 목록
         List<FamilyMember> familyMembers = Arrays.asList(
@@ -55,8 +54,6 @@ class FindFamilyMemberRoleServiceTest {
             FamilyMemberFixture.withIdAndRole(2L, familyId, 200L, FamilyMemberRole.ADMIN),
             FamilyMemberFixture.withIdAndRole(3L, familyId, 300L, FamilyMemberRole.MEMBER)
         );
-        given(findFamilyPort.existsById(familyId))
-            .willReturn(true);
         given(findFamilyMemberPort.findAllByFamilyId(familyId))
             .willReturn(familyMembers);
 
@@ -70,9 +67,8 @@ class FindFamilyMemberRoleServiceTest {
         assertThat(result).extracting(FamilyMember::getRole)
             .containsExactly(FamilyMemberRole.OWNER, FamilyMemberRole.ADMIN, FamilyMemberRole.MEMBER);
         
-        // findFamilyPort, findFamilyMemberPort 호출 검증
-        then(findFamilyPort).should().existsById(familyId);
-        then(findFamilyMemberPort).should().findByFamilyIdAndUserId(familyId, currentUserId);
+        // familyMembershipResolver, findFamilyMemberPort 호출 검증
+        then(familyMembershipResolver).should().resolveMember(familyId, currentUserId);
         then(findFamilyMemberPort).should().findAllByFamilyId(familyId);
     }
 
@@ -83,11 +79,9 @@ class FindFamilyMemberRoleServiceTest {
         Long familyId = 1L;
         Long currentUserId = 10L;
         
-        given(findFamilyPort.existsById(familyId))
-            .willReturn(true);
         // 현재 사용자가 Family 구성원이 아님
-        given(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-            .willReturn(Optional.empty());
+        given(familyMembershipResolver.resolveMember(familyId, currentUserId))
+            .willThrow(new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
 
         FindFamilyMembersRoleQuery query = new FindFamilyMembersRoleQuery(familyId, currentUserId);
 
@@ -98,7 +92,7 @@ class FindFamilyMemberRoleServiceTest {
             .isEqualTo(FamilyExceptionCode.NOT_FAMILY_MEMBER);
         
         // findAllByFamilyId는 호출되지 않아야 함
-        then(findFamilyPort).should().existsById(familyId);
+        then(familyMembershipResolver).should().resolveMember(familyId, currentUserId);
         then(findFamilyMemberPort).should(never()).findAllByFamilyId(any());
     }
 
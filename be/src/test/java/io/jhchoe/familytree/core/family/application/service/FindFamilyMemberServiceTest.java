@@ -11,16 +11,16 @@ import io.jhchoe.familytree.core.family.application.port.in.FindActiveFamilyMemb
 import io.jhchoe.familytree.core.family.application.port.in.FindFamilyMemberByIdQuery;
 import io.jhchoe.familytree.core.family.application.port.in.FindFamilyMembersWithTagsQuery;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberTagMappingPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberTagPort;
+import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberWithTagsPort;
 import io.jhchoe.familytree.core.family.application.validation.FamilyValidationService;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberTag;
-import io.jhchoe.familytree.core.family.domain.FamilyMemberTagMapping;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberWithTags;
 import io.jhchoe.familytree.test.fixture.FamilyMemberFixture;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -48,10 +48,7 @@ class FindFamilyMemberServiceTest {
     private FamilyValidationService familyValidationService;
 
     @Mock
-    private FindFamilyMemberTagPort findFamilyMemberTagPort;
-
-    @Mock
-    private FindFamilyMemberTagMappingPort findFamilyMemberTagMappingPort;
+    private FindFamilyMemberWithTagsPort findFamilyMemberWithTagsPort;
 
     @Test
     @DisplayName("일반 구성원이 조회할 때 ACTIVE 상태 구성원만 나이순으로 반환합니다")
@@ -419,27 +416,16 @@ class FindFamilyMemberServiceTest {
             FamilyMemberTag tag2 = FamilyMemberTag.withId(2L, familyId, "친척", "#00FF00",
                 currentUserId, LocalDateTime.now(), currentUserId, LocalDateTime.now());
 
-            // 태그 매핑 데이터 (otherMember에 tag1, tag2 할당)
-            FamilyMemberTagMapping mapping1 = FamilyMemberTagMapping.withId(1L, 1L, 3L, LocalDateTime.now());
-            FamilyMemberTagMapping mapping2 = FamilyMemberTagMapping.withId(2L, 2L, 3L, LocalDateTime.now());
-
-            List<FamilyMember> allMembers = List.of(currentMember, otherMember);
-
             // Mocking: 현재 사용자 조회
             when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
                 .thenReturn(Optional.of(currentMember));
 
-            // Mocking: 전체 구성원 조회
-            when(findFamilyMemberPort.findAllByFamilyId(familyId))
-                .thenReturn(allMembers);
-
-            // Mocking: Family의 모든 태그 조회
-            when(findFamilyMemberTagPort.findAllByFamilyId(familyId))
-                .thenReturn(List.of(tag1, tag2));
-
-            // Mocking: 배치 조회로 모든 멤버의 태그 매핑 한번에 조회
-            when(findFamilyMemberTagMappingPort.findAllByMemberIds(List.of(3L, 2L)))
-                .thenReturn(List.of(mapping1, mapping2)); // 다른 구성원(3L)에만 태그 2개
+            // Mocking: ACTIVE 구성원과 태그를 나이순으로 한 번에 조회 (다른 구성원에만 태그 2개)
+            when(findFamilyMemberWithTagsPort.findAllByFamilyIdAndStatusIn(familyId, EnumSet.of(FamilyMemberStatus.ACTIVE)))
+                .thenReturn(List.of(
+                    FamilyMemberWithTags.of(otherMember, List.of(tag1, tag2)),
+                    FamilyMemberWithTags.of(currentMember, List.of())
+                ));
 
             // when
             List<FamilyMemberWithTagsInfo> result = findFamilyMemberService.findAll(query);
@@ -458,6 +444,35 @@ class FindFamilyMemberServiceTest {
             assertThat(second.tags()).isEmpty();
         }
 
+        @Test
+        @DisplayName("ADMIN 권한 사용자는 모든 상태의 구성원을 조회합니다")
+        void find_all_statuses_when_current_user_is_admin() {
+            // given
+            Long familyId = 1L;
+            Long currentUserId = 2L;
+            FindFamilyMembersWithTagsQuery query = new FindFamilyMembersWithTagsQuery(familyId, currentUserId);
+
+            FamilyMember adminMember = FamilyMemberFixture.withIdRoleNameAndBirthday(
+                2L, familyId, currentUserId, FamilyMemberRole.ADMIN, "관리자",
+                LocalDateTime.of(1990, 5, 15, 0, 0)
+            );
+
+            // Mocking: 현재 사용자 조회 (ADMIN)
+            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+                .thenReturn(Optional.of(adminMember));
+
+            // Mocking: 모든 상태의 구성원 조회
+            when(findFamilyMemberWithTagsPort.findAllByFamilyIdAndStatusIn(familyId, EnumSet.allOf(FamilyMemberStatus.class)))
+                .thenReturn(List.of(FamilyMemberWithTags.of(adminMember, List.of())));
+
+            // when
+            List<FamilyMemberWithTagsInfo> result = findFamilyMemberService.findAll(query);
+
+            // then
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).member().getName()).isEqualTo("관리자");
+        }
+
         @Test
         @DisplayName("query가 null일 때 NullPointerException이 발생합니다")
         void throw_exception_when_query_is_null() {
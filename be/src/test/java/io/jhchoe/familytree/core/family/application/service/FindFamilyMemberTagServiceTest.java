@@ -7,9 +7,8 @@ import static org.mockito.Mockito.when;
 import io.jhchoe.familytree.common.exception.FTException;
 import io.jhchoe.familytree.core.family.application.port.in.FamilyMemberTagInfo;
 import io.jhchoe.familytree.core.family.application.port.in.FindFamilyMemberTagsQuery;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberTagPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
@@ -18,7 +17,6 @@ import io.jhchoe.familytree.core.family.exception.FamilyExceptionCode;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -41,10 +39,7 @@ class FindFamilyMemberTagServiceTest {
     private FindFamilyMemberTagPort findFamilyMemberTagPort;
 
     @Mock
-    private FindFamilyPort findFamilyPort;
-
-    @Mock
-    private FindFamilyMemberPort findFamilyMemberPort;
+    private FamilyMembershipResolver familyMembershipResolver;
 
     @Nested
     @DisplayName("태그 목록 조회 테스트")
@@ -67,9 +62,7 @@ class FindFamilyMemberTagServiceTest {
             );
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(member));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(member);
             when(findFamilyMemberTagPort.findAllByFamilyId(familyId))
                 .thenReturn(List.of(tag1, tag2));
 
@@ -96,9 +89,7 @@ class FindFamilyMemberTagServiceTest {
             FamilyMember member = createMember(familyId, currentUserId);
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(member));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(member);
             when(findFamilyMemberTagPort.findAllByFamilyId(familyId))
                 .thenReturn(Collections.emptyList());
 
@@ -129,9 +120,7 @@ class FindFamilyMemberTagServiceTest {
             );
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(member));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(member);
             when(findFamilyMemberTagPort.findAllByFamilyId(familyId))
                 .thenReturn(List.of(tagA, tagB, tagC)); // 정렬 안 된 상태
 
@@ -154,9 +143,8 @@ class FindFamilyMemberTagServiceTest {
             FindFamilyMemberTagsQuery query = new FindFamilyMemberTagsQuery(familyId);
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.empty());
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId))
+                .thenThrow(new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
 
             // when & then
             assertThatThrownBy(() -> sut.findAll(query, currentUserId))
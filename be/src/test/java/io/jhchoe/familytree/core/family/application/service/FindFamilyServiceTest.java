@@ -2,14 +2,22 @@ package io.jhchoe.familytree.core.family.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.jhchoe.familytree.common.exception.FTException;
 import io.jhchoe.familytree.core.family.application.port.in.FindFamilyByIdQuery;
 import io.jhchoe.familytree.core.family.application.port.in.FindFamilyByNameContainingQuery;
+import io.jhchoe.familytree.core.family.application.port.in.FindMyFamiliesQuery;
+import io.jhchoe.familytree.core.family.application.port.in.FindPublicFamiliesQuery;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyPort;
+import io.jhchoe.familytree.core.family.domain.CursorPage;
 import io.jhchoe.familytree.core.family.domain.Family;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
+import io.jhchoe.familytree.core.family.domain.FamilySummary;
 import io.jhchoe.familytree.test.fixture.FamilyFixture;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -143,6 +151,44 @@ public class FindFamilyServiceTest {
             .containsExactlyInAnyOrder("가족 이름1", "가족 이름2");
     }
 
+    @Test
+    @DisplayName("findAll 메서드는 내 소속 Family 목록을 역할과 구성원 수와 함께 한 번에 조회해야 한다")
+    void given_user_id_when_find_my_families_then_return_summaries_from_single_query() {
+        // given
+        Long userId = 1L;
+        FindMyFamiliesQuery query = new FindMyFamiliesQuery(userId);
+        FamilySummary owned = FamilySummary.of(FamilyFixture.withId(10L), FamilyMemberRole.OWNER, 3);
+        FamilySummary joined = FamilySummary.of(FamilyFixture.withId(20L), FamilyMemberRole.MEMBER, 5);
+        when(findFamilyMemberPort.findAllSummariesByUserId(userId)).thenReturn(List.of(owned, joined));
+
+        // when
+        List<FamilySummary> result = sut.findAll(query);
+
+        // then
+        assertThat(result).containsExactly(owned, joined);
+        verify(findFamilyPort, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("findAll 메서드는 공개 Family 페이지를 구성원 수와 함께 반환해야 한다")
+    void given_public_families_when_find_all_then_return_page_with_member_counts() {
+        // given
+        FindPublicFamiliesQuery query = new FindPublicFamiliesQuery("가족", null, 10, 1L);
+        CursorPage<FamilySummary> page = new CursorPage<>(
+            List.of(FamilySummary.of(FamilyFixture.withId(10L), null, 4)), "next", true, 10
+        );
+        when(findFamilyPort.findPublicFamiliesByKeyword("가족", null, 10)).thenReturn(page);
+
+        // when
+        CursorPage<FamilySummary> result = sut.findAll(query);
+
+        // then
+        assertThat(result.getContent()).extracting(FamilySummary::getMemberCount)
+            .containsExactly(4);
+        assertThat(result.getNextCursor()).isEqualTo("next");
+        assertThat(result.isHasNext()).isTrue();
+    }
+
     @Test
     @DisplayName("FindFamilyByIdQuery는 null ID로 생성할 수 없다")
     void given_null_id_when_create_query_then_throw_exception() {
@@ -0,0 +1,116 @@
+package io.jhchoe.familytree.core.family.application.service;
+
+import io.jhchoe.familytree.core.family.config.KinshipGraphCacheProperties;
+import io.jhchoe.familytree.core.family.domain.KinshipGraph;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[Unit Test] KinshipGraphCacheTest")
+class KinshipGraphCacheTest {
+
+    private KinshipGraphCacheProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KinshipGraphCacheProperties();
+        properties.setEnabled(true);
+        properties.setMaxSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("같은 내용 버전으로 다시 조회하면 캐시된 그래프를 반환합니다")
+    void find_returns_cached_graph_for_same_version() {
+        // given
+        KinshipGraphCache sut = new KinshipGraphCache(properties, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        KinshipGraph first = sut.find(1L, 3L, () -> load(loads));
+        KinshipGraph second = sut.find(1L, 3L, () -> load(loads));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("family.kinship.graph.cache.hits").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("내용 버전이 바뀌면 그래프를 다시 만듭니다")
+    void find_reloads_when_version_changes() {
+        // given
+        KinshipGraphCache sut = new KinshipGraphCache(properties, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        sut.find(1L, 3L, () -> load(loads));
+
+        // when
+        sut.find(1L, 4L, () -> load(loads));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제거된 Family는 같은 버전이라도 다시 만듭니다")
+    void find_reloads_after_evict() {
+        // given
+        KinshipGraphCache sut = new KinshipGraphCache(properties, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        sut.find(1L, 3L, () -> load(loads));
+
+        // when
+        sut.evict(1L);
+        sut.find(1L, 3L, () -> load(loads));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("family.kinship.graph.cache.evictions").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 Family를 제거합니다")
+    void find_evicts_least_recently_used_family() {
+        // given
+        KinshipGraphCache sut = new KinshipGraphCache(properties, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        sut.find(1L, 1L, () -> load(loads));
+        sut.find(2L, 1L, () -> load(loads));
+
+        // when
+        sut.find(3L, 1L, () -> load(loads));
+        sut.find(1L, 1L, () -> load(loads));
+
+        // then
+        assertThat(sut.size()).isEqualTo(2);
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("캐시가 비활성화되어 있으면 항상 그래프를 만듭니다")
+    void find_always_loads_when_disabled() {
+        // given
+        properties.setEnabled(false);
+        KinshipGraphCache sut = new KinshipGraphCache(properties, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        sut.find(1L, 3L, () -> load(loads));
+        sut.find(1L, 3L, () -> load(loads));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(sut.size()).isZero();
+    }
+
+    private KinshipGraph load(final AtomicInteger loads) {
+        loads.incrementAndGet();
+        return KinshipGraph.builder().addMember(1L).build();
+    }
+}
@@ -37,6 +37,9 @@ class ModifyFamilyMemberRelationshipServiceTest {
     @Mock
     private ModifyFamilyMemberPort modifyFamilyMemberPort;
 
+    @Mock
+    private KinshipGraphCache kinshipGraphCache;
+
     @Test
     @DisplayName("구성원이 관계를 변경할 수 있습니다")
     void modify_relationship_should_succeed() {
@@ -72,6 +75,7 @@ class ModifyFamilyMemberRelationshipServiceTest {
         then(modifyFamilyMemberPort).should().modify(argThat(member ->
             member.getRelationshipType() == newRelationshipType
         ));
+        then(kinshipGraphCache).should().evict(familyId);
     }
 
     @Test
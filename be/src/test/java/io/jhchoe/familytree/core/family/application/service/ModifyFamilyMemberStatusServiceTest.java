@@ -9,6 +9,7 @@ import io.jhchoe.familytree.core.family.application.port.in.ModifyFamilyMemberSt
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
 import io.jhchoe.familytree.core.family.application.port.out.ModifyFamilyMemberPort;
 import io.jhchoe.familytree.core.family.application.port.out.SaveFamilyMemberStatusHistoryPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
@@ -36,6 +37,9 @@ class ModifyFamilyMemberStatusServiceTest {
     @Mock
     private FindFamilyMemberPort findFamilyMemberPort;
 
+    @Mock
+    private FamilyMembershipResolver familyMembershipResolver;
+
     @Mock
     private ModifyFamilyMemberPort modifyFamilyMemberPort;
 
@@ -54,7 +58,7 @@ class ModifyFamilyMemberStatusServiceTest {
 
         // OWNER 권한을 가진 현재 사용자
         FamilyMember currentMember = FamilyMemberFixture.withIdAndRole(3L, familyId, currentUserId, FamilyMemberRole.OWNER);
-        given(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+        given(familyMembershipResolver.findMember(familyId, currentUserId))
             .willReturn(Optional.of(currentMember));
 
         // 대상 구성원 (ACTIVE -> SUSPENDED로 변경할 대상)
@@ -95,7 +99,7 @@ class ModifyFamilyMemberStatusServiceTest {
 
         // ADMIN 권한을 가진 현재 사용자
         FamilyMember currentMember = FamilyMemberFixture.withIdAndRole(3L, familyId, currentUserId, FamilyMemberRole.ADMIN);
-        given(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+        given(familyMembershipResolver.findMember(familyId, currentUserId))
             .willReturn(Optional.of(currentMember));
 
         // 대상 구성원 (일반 구성원)
@@ -131,7 +135,7 @@ class ModifyFamilyMemberStatusServiceTest {
         String reason = "장기 미접속";
 
         // 현재 사용자가 Family 구성원이 아님
-        given(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+        given(familyMembershipResolver.findMember(familyId, currentUserId))
             .willReturn(Optional.empty());
 
         ModifyFamilyMemberStatusCommand command = new ModifyFamilyMemberStatusCommand(
@@ -157,7 +161,7 @@ class ModifyFamilyMemberStatusServiceTest {
 
         // 일반 구성원 권한을 가진 현재 사용자
         FamilyMember currentMember = FamilyMemberFixture.withIdAndRole(3L, familyId, currentUserId, FamilyMemberRole.MEMBER);
-        given(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+        given(familyMembershipResolver.findMember(familyId, currentUserId))
             .willReturn(Optional.of(currentMember));
 
         ModifyFamilyMemberStatusCommand command = new ModifyFamilyMemberStatusCommand(
@@ -183,7 +187,7 @@ class ModifyFamilyMemberStatusServiceTest {
 
         // ADMIN 권한을 가진 현재 사용자
         FamilyMember currentMember = FamilyMemberFixture.withIdAndRole(3L, familyId, currentUserId, FamilyMemberRole.ADMIN);
-        given(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+        given(familyMembershipResolver.findMember(familyId, currentUserId))
             .willReturn(Optional.of(currentMember));
 
         // 대상 구성원 (다른 ADMIN)
@@ -214,7 +218,7 @@ class ModifyFamilyMemberStatusServiceTest {
 
         // OWNER 권한을 가진 현재 사용자
         FamilyMember currentMember = FamilyMemberFixture.withIdAndRole(3L, familyId, currentUserId, FamilyMemberRole.OWNER);
-        given(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+        given(familyMembershipResolver.findMember(familyId, currentUserId))
             .willReturn(Optional.of(currentMember));
 
         // 대상 구성원 (다른 OWNER)
@@ -245,7 +249,7 @@ class ModifyFamilyMemberStatusServiceTest {
 
         // OWNER 권한을 가진 현재 사용자
         FamilyMember currentMember = FamilyMemberFixture.withIdAndRole(3L, familyId, currentUserId, FamilyMemberRole.OWNER);
-        given(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+        given(familyMembershipResolver.findMember(familyId, currentUserId))
             .willReturn(Optional.of(currentMember));
 
         // 대상 구성원이 존재하지 않음
@@ -2,23 +2,29 @@ package io.jhchoe.familytree.core.family.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.jhchoe.familytree.common.exception.FTException;
+import io.jhchoe.familytree.core.family.application.port.in.BulkModifyFamilyMemberTagMappingCommand;
+import io.jhchoe.familytree.core.family.application.port.in.BulkModifyFamilyMemberTagMappingCommand.MemberTagAssignment;
 import io.jhchoe.familytree.core.family.application.port.in.FamilyMemberTagMappingInfo;
 import io.jhchoe.familytree.core.family.application.port.in.ModifyFamilyMemberTagMappingCommand;
 import io.jhchoe.familytree.core.family.application.port.out.DeleteFamilyMemberTagMappingPort;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
+import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberTagMappingPort;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberTagPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyPort;
 import io.jhchoe.familytree.core.family.application.port.out.SaveFamilyMemberTagMappingPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberTag;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberTagMapping;
 import io.jhchoe.familytree.core.family.exception.FamilyExceptionCode;
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -28,6 +34,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -43,7 +51,7 @@ class ModifyFamilyMemberTagMappingServiceTest {
     private ModifyFamilyMemberTagMappingService sut;
 
     @Mock
-    private FindFamilyPort findFamilyPort;
+    private FamilyMembershipResolver familyMembershipResolver;
 
     @Mock
     private FindFamilyMemberPort findFamilyMemberPort;
@@ -51,12 +59,18 @@ class ModifyFamilyMemberTagMappingServiceTest {
     @Mock
     private FindFamilyMemberTagPort findFamilyMemberTagPort;
 
+    @Mock
+    private FindFamilyMemberTagMappingPort findFamilyMemberTagMappingPort;
+
     @Mock
     private SaveFamilyMemberTagMappingPort saveFamilyMemberTagMappingPort;
 
     @Mock
     private DeleteFamilyMemberTagMappingPort deleteFamilyMemberTagMappingPort;
 
+    @Captor
+    private ArgumentCaptor<List<FamilyMemberTagMapping>> mappingsCaptor;
+
     @Nested
     @DisplayName("태그 할당 성공 테스트")
     class SuccessTest {
@@ -78,9 +92,7 @@ class ModifyFamilyMemberTagMappingServiceTest {
             FamilyMemberTag tag2 = createTag(2L, familyId, "외가");
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(currentMember));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(currentMember);
             when(findFamilyMemberPort.findById(memberId)).thenReturn(Optional.of(targetMember));
             when(findFamilyMemberTagPort.findAllByIds(tagIds)).thenReturn(List.of(tag1, tag2));
 
@@ -92,7 +104,7 @@ class ModifyFamilyMemberTagMappingServiceTest {
             assertThat(result.memberName()).isEqualTo("홍길동");
             assertThat(result.tags()).hasSize(2);
 
-            verify(deleteFamilyMemberTagMappingPort).deleteAllByMemberId(memberId);
+            verify(deleteFamilyMemberTagMappingPort, never()).deleteAllByIds(anyList());
             verify(saveFamilyMemberTagMappingPort).saveAll(anyList());
         }
 
@@ -111,10 +123,12 @@ class ModifyFamilyMemberTagMappingServiceTest {
             FamilyMember currentMember = createOwnerMember(familyId, currentUserId);
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(currentMember));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(currentMember);
             when(findFamilyMemberPort.findById(memberId)).thenReturn(Optional.of(targetMember));
+            when(findFamilyMemberTagMappingPort.findAllByMemberId(memberId)).thenReturn(List.of(
+                createMapping(1000L, 1L, memberId),
+                createMapping(1001L, 2L, memberId)
+            ));
 
             // when
             FamilyMemberTagMappingInfo result = sut.modify(command, currentUserId);
@@ -123,42 +137,222 @@ class ModifyFamilyMemberTagMappingServiceTest {
             assertThat(result.memberId()).isEqualTo(memberId);
             assertThat(result.tags()).isEmpty();
 
-            verify(deleteFamilyMemberTagMappingPort).deleteAllByMemberId(memberId);
+            verify(deleteFamilyMemberTagMappingPort).deleteAllByIds(List.of(1000L, 1001L));
             verify(saveFamilyMemberTagMappingPort, never()).saveAll(anyList());
         }
 
         @Test
-        @DisplayName("전체 교체 방식으로 태그를 변경합니다")
-        void modify_replaces_all_tags() {
+        @DisplayName("기존 매핑과 달라진 태그만 삭제하고 추가합니다")
+        void modify_applies_only_changed_tags() {
             // given
             Long familyId = 1L;
             Long memberId = 10L;
             Long currentUserId = 100L;
-            List<Long> tagIds = List.of(3L); // 새 태그만
+            List<Long> tagIds = List.of(2L, 3L); // 1 해제, 2 유지, 3 추가
 
             ModifyFamilyMemberTagMappingCommand command = new ModifyFamilyMemberTagMappingCommand(familyId, memberId, tagIds);
 
             FamilyMember targetMember = createMember(memberId, familyId, 200L, "홍길동");
             FamilyMember currentMember = createOwnerMember(familyId, currentUserId);
+            FamilyMemberTag tag2 = createTag(2L, familyId, "외가");
             FamilyMemberTag tag3 = createTag(3L, familyId, "조카들");
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(currentMember));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(currentMember);
+            when(findFamilyMemberPort.findById(memberId)).thenReturn(Optional.of(targetMember));
+            when(findFamilyMemberTagPort.findAllByIds(tagIds)).thenReturn(List.of(tag2, tag3));
+            when(findFamilyMemberTagMappingPort.findAllByMemberId(memberId)).thenReturn(List.of(
+                createMapping(1000L, 1L, memberId),
+                createMapping(1001L, 2L, memberId)
+            ));
+
+            // when
+            FamilyMemberTagMappingInfo result = sut.modify(command, currentUserId);
+
+            // then
+            assertThat(result.tags())
+                .extracting(FamilyMemberTagMappingInfo.TagSimpleInfo::name)
+                .containsExactly("외가", "조카들");
+
+            verify(deleteFamilyMemberTagMappingPort).deleteAllByIds(List.of(1000L));
+            verify(deleteFamilyMemberTagMappingPort, never()).deleteAllByMemberId(any());
+            verify(saveFamilyMemberTagMappingPort).saveAll(mappingsCaptor.capture());
+            assertThat(mappingsCaptor.getValue())
+                .extracting(FamilyMemberTagMapping::getTagId)
+                .containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("태그가 바뀌지 않았으면 매핑을 변경하지 않습니다")
+        void modify_does_nothing_when_tags_unchanged() {
+            // given
+            Long familyId = 1L;
+            Long memberId = 10L;
+            Long currentUserId = 100L;
+            List<Long> tagIds = List.of(1L);
+
+            ModifyFamilyMemberTagMappingCommand command = new ModifyFamilyMemberTagMappingCommand(familyId, memberId, tagIds);
+
+            FamilyMember targetMember = createMember(memberId, familyId, 200L, "홍길동");
+            FamilyMember currentMember = createOwnerMember(familyId, currentUserId);
+            FamilyMemberTag tag1 = createTag(1L, familyId, "친가");
+
+            // Mocking
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(currentMember);
             when(findFamilyMemberPort.findById(memberId)).thenReturn(Optional.of(targetMember));
-            when(findFamilyMemberTagPort.findAllByIds(tagIds)).thenReturn(List.of(tag3));
+            when(findFamilyMemberTagPort.findAllByIds(tagIds)).thenReturn(List.of(tag1));
+            when(findFamilyMemberTagMappingPort.findAllByMemberId(memberId))
+                .thenReturn(List.of(createMapping(1000L, 1L, memberId)));
 
             // when
             FamilyMemberTagMappingInfo result = sut.modify(command, currentUserId);
 
             // then
             assertThat(result.tags()).hasSize(1);
-            assertThat(result.tags().get(0).name()).isEqualTo("조카들");
+            verify(deleteFamilyMemberTagMappingPort, never()).deleteAllByIds(anyList());
+            verify(saveFamilyMemberTagMappingPort, never()).saveAll(anyList());
+        }
+    }
 
-            // 기존 매핑 삭제 후 새 매핑 저장
-            verify(deleteFamilyMemberTagMappingPort).deleteAllByMemberId(memberId);
-            verify(saveFamilyMemberTagMappingPort).saveAll(anyList());
+    @Nested
+    @DisplayName("여러 멤버 태그 할당 테스트")
+    class ModifyAllTest {
+
+        @Test
+        @DisplayName("여러 멤버의 변경분을 모아 한 번에 반영합니다")
+        void modifyAll_applies_changes_of_all_members_at_once() {
+            // given
+            Long familyId = 1L;
+            Long currentUserId = 100L;
+            Long memberId1 = 10L;
+            Long memberId2 = 20L;
+
+            BulkModifyFamilyMemberTagMappingCommand command = new BulkModifyFamilyMemberTagMappingCommand(
+                familyId,
+                List.of(
+                    new MemberTagAssignment(memberId1, List.of(1L, 2L)),
+                    new MemberTagAssignment(memberId2, List.of())
+                )
+            );
+
+            FamilyMember currentMember = createOwnerMember(familyId, currentUserId);
+            FamilyMember member1 = createMember(memberId1, familyId, 200L, "홍길동");
+            FamilyMember member2 = createMember(memberId2, familyId, 300L, "김철수");
+            FamilyMemberTag tag1 = createTag(1L, familyId, "친가");
+            FamilyMemberTag tag2 = createTag(2L, familyId, "외가");
+
+            // Mocking
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(currentMember);
+            when(findFamilyMemberPort.findAllByIds(List.of(memberId1, memberId2))).thenReturn(List.of(member2, member1));
+            when(findFamilyMemberTagPort.findAllByIds(List.of(1L, 2L))).thenReturn(List.of(tag1, tag2));
+            when(findFamilyMemberTagMappingPort.findAllByMemberIds(List.of(memberId1, memberId2))).thenReturn(List.of(
+                createMapping(1000L, 1L, memberId1),
+                createMapping(2000L, 1L, memberId2)
+            ));
+
+            // when
+            List<FamilyMemberTagMappingInfo> results = sut.modifyAll(command, currentUserId);
+
+            // then
+            assertThat(results)
+                .extracting(FamilyMemberTagMappingInfo::memberId)
+                .containsExactly(memberId1, memberId2);
+            assertThat(results.get(0).tags()).hasSize(2);
+            assertThat(results.get(1).tags()).isEmpty();
+
+            verify(deleteFamilyMemberTagMappingPort).deleteAllByIds(List.of(2000L));
+            verify(saveFamilyMemberTagMappingPort).saveAll(mappingsCaptor.capture());
+            assertThat(mappingsCaptor.getValue())
+                .extracting(FamilyMemberTagMapping::getMemberId, FamilyMemberTagMapping::getTagId)
+                .containsExactly(tuple(memberId1, 2L));
+        }
+
+        @Test
+        @DisplayName("다른 Family 소속 멤버가 있으면 T007 예외가 발생하고 아무 것도 변경하지 않습니다")
+        void modifyAll_throws_T007_when_member_belongs_to_other_family() {
+            // given
+            Long familyId = 1L;
+            Long currentUserId = 100L;
+
+            BulkModifyFamilyMemberTagMappingCommand command = new BulkModifyFamilyMemberTagMappingCommand(
+                familyId,
+                List.of(
+                    new MemberTagAssignment(10L, List.of(1L)),
+                    new MemberTagAssignment(20L, List.of(1L))
+                )
+            );
+
+            FamilyMember currentMember = createOwnerMember(familyId, currentUserId);
+
+            // Mocking
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(currentMember);
+            when(findFamilyMemberPort.findAllByIds(List.of(10L, 20L))).thenReturn(List.of(
+                createMember(10L, familyId, 200L, "홍길동"),
+                createMember(20L, 2L, 300L, "김철수")
+            ));
+
+            // when & then
+            assertThatThrownBy(() -> sut.modifyAll(command, currentUserId))
+                .isInstanceOf(FTException.class)
+                .satisfies(ex -> {
+                    FTException ftEx = (FTException) ex;
+                    assertThat(ftEx.getCode()).isEqualTo(FamilyExceptionCode.MEMBER_NOT_IN_FAMILY.getCode());
+                });
+
+            verify(deleteFamilyMemberTagMappingPort, never()).deleteAllByIds(anyList());
+            verify(saveFamilyMemberTagMappingPort, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 멤버가 있으면 F009 예외가 발생합니다")
+        void modifyAll_throws_F009_when_member_not_found() {
+            // given
+            Long familyId = 1L;
+            Long currentUserId = 100L;
+
+            BulkModifyFamilyMemberTagMappingCommand command = new BulkModifyFamilyMemberTagMappingCommand(
+                familyId,
+                List.of(new MemberTagAssignment(999L, List.of(1L)))
+            );
+
+            FamilyMember currentMember = createOwnerMember(familyId, currentUserId);
+
+            // Mocking
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(currentMember);
+            when(findFamilyMemberPort.findAllByIds(List.of(999L))).thenReturn(List.of());
+
+            // when & then
+            assertThatThrownBy(() -> sut.modifyAll(command, currentUserId))
+                .isInstanceOf(FTException.class)
+                .satisfies(ex -> {
+                    FTException ftEx = (FTException) ex;
+                    assertThat(ftEx.getCode()).isEqualTo(FamilyExceptionCode.MEMBER_NOT_FOUND.getCode());
+                });
+        }
+
+        @Test
+        @DisplayName("OWNER가 아니면 F010 예외가 발생합니다")
+        void modifyAll_throws_F010_when_not_owner() {
+            // given
+            Long familyId = 1L;
+            Long currentUserId = 100L;
+
+            BulkModifyFamilyMemberTagMappingCommand command = new BulkModifyFamilyMemberTagMappingCommand(
+                familyId,
+                List.of(new MemberTagAssignment(10L, List.of(1L)))
+            );
+
+            // Mocking
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId))
+                .thenReturn(createMemberOnly(familyId, currentUserId));
+
+            // when & then
+            assertThatThrownBy(() -> sut.modifyAll(command, currentUserId))
+                .isInstanceOf(FTException.class)
+                .satisfies(ex -> {
+                    FTException ftEx = (FTException) ex;
+                    assertThat(ftEx.getCode()).isEqualTo(FamilyExceptionCode.NOT_AUTHORIZED.getCode());
+                });
         }
     }
 
@@ -180,9 +374,7 @@ class ModifyFamilyMemberTagMappingServiceTest {
             FamilyMember memberOnly = createMemberOnly(familyId, currentUserId);
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(memberOnly));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(memberOnly);
 
             // when & then
             assertThatThrownBy(() -> sut.modify(command, currentUserId))
@@ -205,9 +397,8 @@ class ModifyFamilyMemberTagMappingServiceTest {
             ModifyFamilyMemberTagMappingCommand command = new ModifyFamilyMemberTagMappingCommand(familyId, memberId, tagIds);
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.empty());
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId))
+                .thenThrow(new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
 
             // when & then
             assertThatThrownBy(() -> sut.modify(command, currentUserId))
@@ -237,9 +428,7 @@ class ModifyFamilyMemberTagMappingServiceTest {
             FamilyMember currentMember = createOwnerMember(familyId, currentUserId);
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(currentMember));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(currentMember);
             when(findFamilyMemberPort.findById(memberId)).thenReturn(Optional.empty());
 
             // when & then
@@ -267,9 +456,7 @@ class ModifyFamilyMemberTagMappingServiceTest {
             FamilyMember memberInOtherFamily = createMember(memberId, otherFamilyId, 200L, "홍길동");
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(currentMember));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(currentMember);
             when(findFamilyMemberPort.findById(memberId)).thenReturn(Optional.of(memberInOtherFamily));
 
             // when & then
@@ -302,9 +489,7 @@ class ModifyFamilyMemberTagMappingServiceTest {
             FamilyMemberTag tag1 = createTag(1L, familyId, "친가");
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(currentMember));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(currentMember);
             when(findFamilyMemberPort.findById(memberId)).thenReturn(Optional.of(targetMember));
             when(findFamilyMemberTagPort.findAllByIds(tagIds)).thenReturn(List.of(tag1)); // 1개만 반환
 
@@ -335,9 +520,7 @@ class ModifyFamilyMemberTagMappingServiceTest {
             FamilyMemberTag tagFromOtherFamily = createTag(2L, otherFamilyId, "외가");
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(currentMember));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(currentMember);
             when(findFamilyMemberPort.findById(memberId)).thenReturn(Optional.of(targetMember));
             when(findFamilyMemberTagPort.findAllByIds(tagIds)).thenReturn(List.of(tag1, tagFromOtherFamily));
 
@@ -376,6 +559,10 @@ class ModifyFamilyMemberTagMappingServiceTest {
         );
     }
 
+    private FamilyMemberTagMapping createMapping(Long id, Long tagId, Long memberId) {
+        return FamilyMemberTagMapping.withId(id, tagId, memberId, LocalDateTime.now());
+    }
+
     private FamilyMemberTag createTag(Long id, Long familyId, String name) {
         return FamilyMemberTag.withId(
             id, familyId, name, "#D3E5EF", 100L, LocalDateTime.now(), null, null
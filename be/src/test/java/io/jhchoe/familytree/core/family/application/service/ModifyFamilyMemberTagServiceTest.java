@@ -9,10 +9,9 @@ import static org.mockito.Mockito.when;
 
 import io.jhchoe.familytree.common.exception.FTException;
 import io.jhchoe.familytree.core.family.application.port.in.ModifyFamilyMemberTagCommand;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberTagPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyPort;
 import io.jhchoe.familytree.core.family.application.port.out.SaveFamilyMemberTagPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
@@ -45,10 +44,7 @@ class ModifyFamilyMemberTagServiceTest {
     private FindFamilyMemberTagPort findFamilyMemberTagPort;
 
     @Mock
-    private FindFamilyPort findFamilyPort;
-
-    @Mock
-    private FindFamilyMemberPort findFamilyMemberPort;
+    private FamilyMembershipResolver familyMembershipResolver;
 
     @Nested
     @DisplayName("태그 수정 테스트")
@@ -71,9 +67,7 @@ class ModifyFamilyMemberTagServiceTest {
             );
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(ownerMember));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(ownerMember);
             when(findFamilyMemberTagPort.findById(tagId)).thenReturn(Optional.of(existingTag));
             when(findFamilyMemberTagPort.findByFamilyIdAndName(familyId, "외가"))
                 .thenReturn(Optional.empty());
@@ -103,9 +97,7 @@ class ModifyFamilyMemberTagServiceTest {
             );
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(ownerMember));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(ownerMember);
             when(findFamilyMemberTagPort.findById(tagId)).thenReturn(Optional.of(existingTag));
             when(findFamilyMemberTagPort.findByFamilyIdAndName(familyId, "친가"))
                 .thenReturn(Optional.of(existingTag)); // 본인은 중복 체크에서 제외
@@ -130,9 +122,7 @@ class ModifyFamilyMemberTagServiceTest {
             FamilyMember memberOnly = createMemberOnly(familyId, currentUserId);
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(memberOnly));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(memberOnly);
 
             // when & then
             assertThatThrownBy(() -> sut.modify(command, currentUserId))
@@ -157,9 +147,7 @@ class ModifyFamilyMemberTagServiceTest {
             FamilyMember ownerMember = createOwnerMember(familyId, currentUserId);
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(ownerMember));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(ownerMember);
             when(findFamilyMemberTagPort.findById(tagId)).thenReturn(Optional.empty());
 
             // when & then
@@ -189,9 +177,7 @@ class ModifyFamilyMemberTagServiceTest {
             );
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(ownerMember));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(ownerMember);
             when(findFamilyMemberTagPort.findById(tagId)).thenReturn(Optional.of(tagFromOtherFamily));
 
             // when & then
@@ -223,9 +209,7 @@ class ModifyFamilyMemberTagServiceTest {
             );
 
             // Mocking
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(ownerMember));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(ownerMember);
             when(findFamilyMemberTagPort.findById(tagId)).thenReturn(Optional.of(existingTag));
             when(findFamilyMemberTagPort.findByFamilyIdAndName(familyId, "외가"))
                 .thenReturn(Optional.of(duplicateTag)); // 다른 태그가 이미 "외가" 사용 중
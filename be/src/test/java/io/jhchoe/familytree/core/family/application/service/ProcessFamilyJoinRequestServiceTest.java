@@ -3,9 +3,9 @@ package io.jhchoe.familytree.core.family.application.service;
 import io.jhchoe.familytree.common.exception.FTException;
 import io.jhchoe.familytree.core.family.application.port.in.ProcessFamilyJoinRequestCommand;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyJoinRequestPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
 import io.jhchoe.familytree.core.family.application.port.out.ModifyFamilyJoinRequestPort;
 import io.jhchoe.familytree.core.family.application.port.out.SaveFamilyMemberPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
 import io.jhchoe.familytree.core.family.domain.FamilyJoinRequest;
 import io.jhchoe.familytree.core.family.domain.FamilyJoinRequestStatus;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
@@ -40,7 +40,7 @@ class ProcessFamilyJoinRequestServiceTest {
     private ProcessFamilyJoinRequestService processService;
 
     @Mock
-    private FindFamilyMemberPort findFamilyMemberPort;
+    private FamilyMembershipResolver familyMembershipResolver;
 
     @Mock
     private FindFamilyJoinRequestPort findFamilyJoinRequestPort;
@@ -80,7 +80,7 @@ class ProcessFamilyJoinRequestServiceTest {
         FamilyJoinRequest approvedRequest = pendingRequest.approve();
 
         // Mocking: 현재 사용자가 Family 구성원인지 확인
-        when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+        when(familyMembershipResolver.findMember(familyId, currentUserId))
             .thenReturn(Optional.of(ownerMember));
 
         // Mocking: 가입 신청 조회
@@ -135,7 +135,7 @@ class ProcessFamilyJoinRequestServiceTest {
         FamilyMember memberMember = FamilyMemberFixture.withIdAndRole(1L, familyId, currentUserId, FamilyMemberRole.MEMBER);
 
         // Mocking: 현재 사용자가 Family 구성원인지 확인
-        when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
+        when(familyMembershipResolver.findMember(familyId, currentUserId))
             .thenReturn(Optional.of(memberMember));
 
         // when & then
@@ -7,10 +7,9 @@ import static org.mockito.Mockito.when;
 
 import io.jhchoe.familytree.common.exception.FTException;
 import io.jhchoe.familytree.core.family.application.port.in.SaveFamilyMemberTagCommand;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
 import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberTagPort;
-import io.jhchoe.familytree.core.family.application.port.out.FindFamilyPort;
 import io.jhchoe.familytree.core.family.application.port.out.SaveFamilyMemberTagPort;
+import io.jhchoe.familytree.core.family.application.validation.FamilyMembershipResolver;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
@@ -43,10 +42,7 @@ class SaveFamilyMemberTagServiceTest {
     private FindFamilyMemberTagPort findFamilyMemberTagPort;
 
     @Mock
-    private FindFamilyPort findFamilyPort;
-
-    @Mock
-    private FindFamilyMemberPort findFamilyMemberPort;
+    private FamilyMembershipResolver familyMembershipResolver;
 
     @Nested
     @DisplayName("태그 생성 테스트")
@@ -62,11 +58,8 @@ class SaveFamilyMemberTagServiceTest {
 
             FamilyMember ownerMember = createOwnerMember(familyId, currentUserId);
 
-            // Mocking: Family 존재
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
             // Mocking: 현재 사용자가 Family의 OWNER
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(ownerMember));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(ownerMember);
             // Mocking: 태그 수 제한 미초과
             when(findFamilyMemberTagPort.countByFamilyId(familyId)).thenReturn(5);
             // Mocking: 이름 중복 없음
@@ -92,11 +85,8 @@ class SaveFamilyMemberTagServiceTest {
 
             FamilyMember memberOnly = createMemberOnly(familyId, currentUserId);
 
-            // Mocking: Family 존재
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
             // Mocking: 현재 사용자가 MEMBER (OWNER 아님)
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(memberOnly));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(memberOnly);
 
             // when & then
             assertThatThrownBy(() -> sut.save(command, currentUserId))
@@ -117,11 +107,8 @@ class SaveFamilyMemberTagServiceTest {
 
             FamilyMember ownerMember = createOwnerMember(familyId, currentUserId);
 
-            // Mocking: Family 존재
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
             // Mocking: 현재 사용자가 OWNER
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(ownerMember));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(ownerMember);
             // Mocking: 태그 수 제한 초과 (이미 10개)
             when(findFamilyMemberTagPort.countByFamilyId(familyId)).thenReturn(10);
 
@@ -147,11 +134,8 @@ class SaveFamilyMemberTagServiceTest {
                 1L, familyId, "친가", "#D3E5EF", currentUserId, LocalDateTime.now(), null, null
             );
 
-            // Mocking: Family 존재
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
             // Mocking: 현재 사용자가 OWNER
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.of(ownerMember));
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId)).thenReturn(ownerMember);
             // Mocking: 태그 수 제한 미초과
             when(findFamilyMemberTagPort.countByFamilyId(familyId)).thenReturn(5);
             // Mocking: 이름 중복 존재
@@ -175,11 +159,9 @@ class SaveFamilyMemberTagServiceTest {
             Long currentUserId = 100L;
             SaveFamilyMemberTagCommand command = new SaveFamilyMemberTagCommand(familyId, "친가");
 
-            // Mocking: Family 존재
-            when(findFamilyPort.existsById(familyId)).thenReturn(true);
             // Mocking: 현재 사용자가 Family 구성원이 아님
-            when(findFamilyMemberPort.findByFamilyIdAndUserId(familyId, currentUserId))
-                .thenReturn(Optional.empty());
+            when(familyMembershipResolver.resolveMember(familyId, currentUserId))
+                .thenThrow(new FTException(FamilyExceptionCode.NOT_FAMILY_MEMBER));
 
             // when & then
             assertThatThrownBy(() -> sut.save(command, currentUserId))
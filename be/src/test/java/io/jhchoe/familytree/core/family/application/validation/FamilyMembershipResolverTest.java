@@ -0,0 +1,128 @@
+package io.jhchoe.familytree.core.family.application.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.jhchoe.familytree.common.exception.FTException;
+import io.jhchoe.familytree.core.family.application.port.out.FindFamilyMemberPort;
+import io.jhchoe.familytree.core.family.domain.Family;
+import io.jhchoe.familytree.core.family.domain.FamilyMember;
+import io.jhchoe.familytree.core.family.domain.FamilyMembership;
+import io.jhchoe.familytree.core.family.exception.FamilyExceptionCode;
+import io.jhchoe.familytree.test.fixture.FamilyFixture;
+import io.jhchoe.familytree.test.fixture.FamilyMemberFixture;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[Unit Test] FamilyMembershipResolverTest")
+class FamilyMembershipResolverTest {
+
+    private static final Long FAMILY_ID = 1L;
+    private static final Long USER_ID = 10L;
+
+    @InjectMocks
+    private FamilyMembershipResolver sut;
+
+    @Mock
+    private FindFamilyMemberPort findFamilyMemberPort;
+
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("구성원이면 구성원 정보를 반환합니다")
+    void resolve_member_returns_member_when_user_is_member() {
+        // given
+        Family family = FamilyFixture.withId(FAMILY_ID);
+        FamilyMember member = FamilyMemberFixture.newOwner(FAMILY_ID, USER_ID);
+        when(findFamilyMemberPort.findMembership(FAMILY_ID, USER_ID))
+            .thenReturn(Optional.of(FamilyMembership.of(family, member)));
+
+        // when
+        FamilyMember result = sut.resolveMember(FAMILY_ID, USER_ID);
+
+        // then
+        assertThat(result).isEqualTo(member);
+    }
+
+    @Test
+    @DisplayName("Family가 존재하지 않으면 FAMILY_NOT_FOUND 예외가 발생합니다")
+    void resolve_member_throws_when_family_does_not_exist() {
+        // given
+        when(findFamilyMemberPort.findMembership(FAMILY_ID, USER_ID)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> sut.resolveMember(FAMILY_ID, USER_ID))
+            .isInstanceOf(FTException.class)
+            .hasFieldOrPropertyWithValue("exceptionCodeType", FamilyExceptionCode.FAMILY_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("구성원이 아니면 NOT_FAMILY_MEMBER 예외가 발생합니다")
+    void resolve_member_throws_when_user_is_not_member() {
+        // given
+        when(findFamilyMemberPort.findMembership(FAMILY_ID, USER_ID))
+            .thenReturn(Optional.of(FamilyMembership.of(FamilyFixture.withId(FAMILY_ID), null)));
+
+        // when & then
+        assertThatThrownBy(() -> sut.resolveMember(FAMILY_ID, USER_ID))
+            .isInstanceOf(FTException.class)
+            .hasFieldOrPropertyWithValue("exceptionCodeType", FamilyExceptionCode.NOT_FAMILY_MEMBER);
+    }
+
+    @Test
+    @DisplayName("같은 요청 안에서는 구성원 정보를 한 번만 조회합니다")
+    void query_membership_once_per_request() {
+        // given
+        FamilyMember member = FamilyMemberFixture.newOwner(FAMILY_ID, USER_ID);
+        when(findFamilyMemberPort.findMembership(FAMILY_ID, USER_ID))
+            .thenReturn(Optional.of(FamilyMembership.of(FamilyFixture.withId(FAMILY_ID), member)));
+
+        // when
+        sut.resolveMember(FAMILY_ID, USER_ID);
+        sut.resolveMember(FAMILY_ID, USER_ID);
+        Optional<FamilyMember> found = sut.findMember(FAMILY_ID, USER_ID);
+
+        // then
+        assertThat(found).contains(member);
+        verify(findFamilyMemberPort, times(1)).findMembership(FAMILY_ID, USER_ID);
+        verify(findFamilyMemberPort, never()).findByFamilyIdAndUserId(FAMILY_ID, USER_ID);
+    }
+
+    @Test
+    @DisplayName("요청 밖에서는 매번 조회합니다")
+    void query_every_time_outside_request() {
+        // given
+        RequestContextHolder.resetRequestAttributes();
+        when(findFamilyMemberPort.findByFamilyIdAndUserId(FAMILY_ID, USER_ID)).thenReturn(Optional.empty());
+
+        // when
+        sut.findMember(FAMILY_ID, USER_ID);
+        sut.findMember(FAMILY_ID, USER_ID);
+
+        // then
+        verify(findFamilyMemberPort, times(2)).findByFamilyIdAndUserId(FAMILY_ID, USER_ID);
+    }
+}
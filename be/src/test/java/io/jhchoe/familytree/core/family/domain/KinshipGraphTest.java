@@ -0,0 +1,284 @@
+package io.jhchoe.familytree.core.family.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.jhchoe.familytree.test.fixture.FamilyMemberFixture;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[Unit Test] KinshipGraphTest")
+class KinshipGraphTest {
+
+    @Nested
+    @DisplayName("findAncestors와 findDescendants 메서드는")
+    class TraverseMethod {
+
+        @Test
+        @DisplayName("세대가 가까운 순서로 조상과 자손을 반환한다")
+        void return_relatives_ordered_by_generation() {
+            // given
+            KinshipGraph sut = KinshipGraph.builder()
+                .addParent(1L, 2L)
+                .addParent(1L, 3L)
+                .addParent(2L, 4L)
+                .build();
+
+            // when
+            List<KinshipRelative> ancestors = sut.findAncestors(1L);
+            List<KinshipRelative> descendants = sut.findDescendants(4L);
+
+            // then
+            assertThat(ancestors).containsExactly(
+                new KinshipRelative(2L, 1),
+                new KinshipRelative(3L, 1),
+                new KinshipRelative(4L, 2)
+            );
+            assertThat(descendants).containsExactly(
+                new KinshipRelative(2L, 1),
+                new KinshipRelative(1L, 2)
+            );
+        }
+
+        @Test
+        @DisplayName("미등록 친족은 결과에서 제외하지만 세대 계산에는 포함한다")
+        void skip_virtual_nodes_but_count_their_generation() {
+            // given
+            KinshipGraph.Builder builder = KinshipGraph.builder();
+            long unknownParent = builder.addVirtualNode();
+            KinshipGraph sut = builder
+                .addParent(1L, unknownParent)
+                .addParent(unknownParent, 3L)
+                .build();
+
+            // when
+            List<KinshipRelative> ancestors = sut.findAncestors(1L);
+
+            // then
+            assertThat(ancestors).containsExactly(new KinshipRelative(3L, 2));
+        }
+
+        @Test
+        @DisplayName("그래프에 없는 구성원이면 빈 목록을 반환한다")
+        void return_empty_when_member_is_unknown() {
+            // given
+            KinshipGraph sut = KinshipGraph.builder().addMember(1L).build();
+
+            // when & then
+            assertThat(sut.findAncestors(99L)).isEmpty();
+            assertThat(sut.findDescendants(99L)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("findPath 메서드는")
+    class FindPathMethod {
+
+        @Test
+        @DisplayName("공통 조상을 거치는 경로와 촌수를 반환한다")
+        void return_path_through_common_ancestor() {
+            // given
+            KinshipGraph sut = KinshipGraph.builder()
+                .addParent(20L, 10L)
+                .addParent(21L, 10L)
+                .addParent(30L, 20L)
+                .addParent(31L, 21L)
+                .build();
+
+            // when
+            KinshipPath result = sut.findPath(30L, 31L).orElseThrow();
+
+            // then
+            assertThat(result.degree()).isEqualTo(4);
+            assertThat(result.getDegreeName()).isEqualTo("4촌");
+            assertThat(result.steps()).containsExactly(
+                new KinshipStep(20L, KinshipDirection.PARENT),
+                new KinshipStep(10L, KinshipDirection.PARENT),
+                new KinshipStep(21L, KinshipDirection.CHILD),
+                new KinshipStep(31L, KinshipDirection.CHILD)
+            );
+        }
+
+        @Test
+        @DisplayName("배우자는 무촌이며 배우자의 혈족은 그 혈족의 촌수를 따른다")
+        void spouse_step_does_not_add_degree() {
+            // given
+            KinshipGraph sut = KinshipGraph.builder()
+                .addSpouse(1L, 2L)
+                .addParent(2L, 5L)
+                .build();
+
+            // when
+            KinshipPath spouse = sut.findPath(1L, 2L).orElseThrow();
+            KinshipPath spouseParent = sut.findPath(1L, 5L).orElseThrow();
+
+            // then
+            assertThat(spouse.degree()).isZero();
+            assertThat(spouse.getDegreeName()).isEqualTo("무촌");
+            assertThat(spouseParent.degree()).isEqualTo(1);
+            assertThat(spouseParent.steps()).containsExactly(
+                new KinshipStep(2L, KinshipDirection.SPOUSE),
+                new KinshipStep(5L, KinshipDirection.PARENT)
+            );
+        }
+
+        @Test
+        @DisplayName("촌수가 더 작은 경로가 있으면 단계가 많더라도 그 경로를 선택한다")
+        void prefer_lower_degree_over_fewer_steps() {
+            // given
+            KinshipGraph sut = KinshipGraph.builder()
+                .addParent(1L, 2L)
+                .addParent(2L, 3L)
+                .addParent(4L, 3L)
+                .addParent(5L, 4L)
+                .addSpouse(1L, 6L)
+                .addSpouse(6L, 5L)
+                .build();
+
+            // when
+            KinshipPath result = sut.findPath(1L, 5L).orElseThrow();
+
+            // then
+            assertThat(result.degree()).isZero();
+            assertThat(result.steps()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("같은 구성원이면 단계 없는 본인 경로를 반환한다")
+        void return_self_path() {
+            // given
+            KinshipGraph sut = KinshipGraph.builder().addMember(1L).build();
+
+            // when
+            KinshipPath result = sut.findPath(1L, 1L).orElseThrow();
+
+            // then
+            assertThat(result.steps()).isEmpty();
+            assertThat(result.getDegreeName()).isEqualTo("본인");
+        }
+
+        @Test
+        @DisplayName("이어져 있지 않거나 그래프에 없는 구성원이면 빈 Optional을 반환한다")
+        void return_empty_when_not_connected() {
+            // given
+            KinshipGraph sut = KinshipGraph.builder()
+                .addMember(1L)
+                .addMember(2L)
+                .build();
+
+            // when & then
+            assertThat(sut.findPath(1L, 2L)).isEmpty();
+            assertThat(sut.findPath(1L, 99L)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("fromMembers 메서드는")
+    class FromMembersMethod {
+
+        private final List<FamilyMember> members = List.of(
+            FamilyMemberFixture.withIdAndRole(1L, FamilyMemberRole.OWNER),
+            FamilyMemberFixture.withIdAndRelationship(2L, FamilyMemberRelationshipType.FATHER),
+            FamilyMemberFixture.withIdAndRelationship(3L, FamilyMemberRelationshipType.MOTHER),
+            FamilyMemberFixture.withIdAndRelationship(4L, FamilyMemberRelationshipType.SON),
+            FamilyMemberFixture.withIdAndRelationship(5L, FamilyMemberRelationshipType.NEPHEW),
+            FamilyMemberFixture.withIdAndRelationship(6L, FamilyMemberRelationshipType.COUSIN),
+            FamilyMemberFixture.withIdAndRelationship(7L, FamilyMemberRelationshipType.CUSTOM),
+            FamilyMemberFixture.withIdAndRelationship(8L, FamilyMemberRelationshipType.WIFE)
+        );
+
+        @Test
+        @DisplayName("소유자 기준 관계 타입으로 촌수를 계산한다")
+        void compute_degree_relative_to_owner() {
+            // when
+            KinshipGraph sut = KinshipGraph.fromMembers(members);
+
+            // then
+            assertThat(sut.findPath(1L, 2L).orElseThrow().degree()).isEqualTo(1);
+            assertThat(sut.findPath(1L, 4L).orElseThrow().degree()).isEqualTo(1);
+            assertThat(sut.findPath(1L, 5L).orElseThrow().degree()).isEqualTo(3);
+            assertThat(sut.findPath(1L, 6L).orElseThrow().degree()).isEqualTo(4);
+            assertThat(sut.findPath(1L, 8L).orElseThrow().degree()).isZero();
+        }
+
+        @Test
+        @DisplayName("미등록 중간 친족을 건너뛴 세대 수로 등록된 구성원 사이의 부모 관계를 반환한다")
+        void return_parent_links_between_registered_members() {
+            // when
+            List<KinshipParentLink> links = KinshipGraph.fromMembers(members).findParentLinks();
+
+            // then
+            assertThat(links).containsExactly(
+                new KinshipParentLink(1L, 2L, 1),
+                new KinshipParentLink(1L, 3L, 1),
+                new KinshipParentLink(4L, 1L, 1),
+                new KinshipParentLink(4L, 8L, 1),
+                new KinshipParentLink(5L, 2L, 2),
+                new KinshipParentLink(5L, 3L, 2)
+            );
+        }
+
+        @Test
+        @DisplayName("등록되지 않은 중간 친족은 구성원 ID 없는 단계로 잇는다")
+        void link_missing_relatives_with_virtual_nodes() {
+            // when
+            KinshipGraph sut = KinshipGraph.fromMembers(members);
+
+            // then
+            assertThat(sut.findPath(1L, 5L).orElseThrow().steps())
+                .extracting(KinshipStep::memberId)
+                .containsExactly(2L, null, 5L);
+        }
+
+        @Test
+        @DisplayName("소유자의 배우자를 자녀의 부모로, 부모를 배우자의 1촌 인척으로 잇는다")
+        void link_owner_spouse_as_parent_of_children() {
+            // when
+            KinshipGraph sut = KinshipGraph.fromMembers(members);
+
+            // then
+            assertThat(sut.findPath(4L, 8L).orElseThrow().steps())
+                .containsExactly(new KinshipStep(8L, KinshipDirection.PARENT));
+            assertThat(sut.findPath(8L, 2L).orElseThrow().degree()).isEqualTo(1);
+            assertThat(sut.findAncestors(4L)).containsExactly(
+                new KinshipRelative(1L, 1),
+                new KinshipRelative(8L, 1),
+                new KinshipRelative(2L, 2),
+                new KinshipRelative(3L, 2)
+            );
+        }
+
+        @Test
+        @DisplayName("CUSTOM 관계이거나 소유자가 없으면 다른 구성원과 잇지 않는다")
+        void keep_members_isolated_without_known_relationship() {
+            // given
+            List<FamilyMember> withoutOwner = List.of(
+                FamilyMemberFixture.withIdAndRelationship(2L, FamilyMemberRelationshipType.FATHER),
+                FamilyMemberFixture.withIdAndRelationship(4L, FamilyMemberRelationshipType.SON)
+            );
+
+            // when
+            KinshipGraph sut = KinshipGraph.fromMembers(members);
+            KinshipGraph ownerless = KinshipGraph.fromMembers(withoutOwner);
+
+            // then
+            assertThat(sut.findPath(1L, 7L)).isEmpty();
+            assertThat(sut.contains(7L)).isTrue();
+            assertThat(ownerless.findPath(2L, 4L)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("빌더는 양수가 아닌 구성원 ID와 자기 자신을 잇는 관계를 거부한다")
+    void builder_rejects_invalid_ids() {
+        // when & then
+        assertThatThrownBy(() -> KinshipGraph.builder().addMember(0L))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KinshipGraph.builder().addParent(1L, 1L))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KinshipGraph.builder().addSpouse(1L, 1L))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
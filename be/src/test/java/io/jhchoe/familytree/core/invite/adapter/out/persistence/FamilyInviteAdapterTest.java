@@ -1,16 +1,27 @@
 package io.jhchoe.familytree.core.invite.adapter.out.persistence;
 
+import io.jhchoe.familytree.core.invite.config.FamilyInviteCacheProperties;
 import io.jhchoe.familytree.core.invite.domain.FamilyInvite;
 import io.jhchoe.familytree.core.invite.domain.FamilyInviteStatus;
 import io.jhchoe.familytree.helper.TestcontainersDataJpaTestBase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -25,7 +36,12 @@ class FamilyInviteAdapterTest extends TestcontainersDataJpaTestBase {
 
     @BeforeEach
     void setUp() {
-        sut = new FamilyInviteAdapter(familyInviteJpaRepository);
+        FamilyInviteCacheProperties cacheProperties = new FamilyInviteCacheProperties();
+        cacheProperties.setEnabled(true);
+        sut = new FamilyInviteAdapter(
+            familyInviteJpaRepository,
+            new FamilyInviteCache(cacheProperties, new SimpleMeterRegistry())
+        );
     }
 
     @Test
@@ -86,6 +102,37 @@ class FamilyInviteAdapterTest extends TestcontainersDataJpaTestBase {
         assertThat(foundInvite.get().getInviteCode()).isEqualTo(inviteCode);
     }
 
+    @Test
+    @DisplayName("사용 횟수가 증가하면 캐시에 적중해도 증가한 사용 횟수를 반환합니다")
+    void findByInviteCode_reflects_incremented_used_count() {
+        // given
+        FamilyInvite savedInvite = sut.save(FamilyInvite.newInvite(10L, 1L, 5));
+        sut.findByInviteCode(savedInvite.getInviteCode());
+
+        // when
+        sut.incrementUsedCount(savedInvite.getInviteCode(), 2L);
+        Optional<FamilyInvite> foundInvite = sut.findByInviteCode(savedInvite.getInviteCode());
+
+        // then
+        assertThat(foundInvite).isPresent();
+        assertThat(foundInvite.get().getUsedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않던 초대 코드로 초대가 저장되면 다음 조회에서 초대를 반환합니다")
+    void findByInviteCode_returns_invite_saved_after_negative_lookup() {
+        // given
+        FamilyInvite invite = FamilyInvite.newInvite(10L, 1L, 5);
+        assertThat(sut.findByInviteCode(invite.getInviteCode())).isEmpty();
+
+        // when
+        sut.save(invite);
+        Optional<FamilyInvite> foundInvite = sut.findByInviteCode(invite.getInviteCode());
+
+        // then
+        assertThat(foundInvite).isPresent();
+    }
+
     @Test
     @DisplayName("요청자 ID로 초대 목록을 조회할 수 있습니다")
     void findByRequesterId_returns_invite_list() {
@@ -142,4 +189,155 @@ class FamilyInviteAdapterTest extends TestcontainersDataJpaTestBase {
             .isInstanceOf(NullPointerException.class)
             .hasMessage("requesterId must not be null");
     }
+
+    @Test
+    @DisplayName("사용 가능한 초대의 사용 횟수를 1 증가시킵니다")
+    void incrementUsedCount_increments_when_available() {
+        // given
+        FamilyInvite savedInvite = sut.save(FamilyInvite.newInvite(10L, 1L, 5));
+
+        // when
+        boolean result = sut.incrementUsedCount(savedInvite.getInviteCode(), 2L);
+
+        // then
+        assertThat(result).isTrue();
+        FamilyInvite foundInvite = sut.findById(savedInvite.getId()).orElseThrow();
+        assertThat(foundInvite.getUsedCount()).isEqualTo(1);
+        assertThat(foundInvite.getStatus()).isEqualTo(FamilyInviteStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("마지막 사용 횟수를 사용하면 COMPLETED로 변경하고 이후 증가는 실패합니다")
+    void incrementUsedCount_completes_when_max_uses_reached() {
+        // given
+        FamilyInvite savedInvite = sut.save(FamilyInvite.newInvite(10L, 1L, 1));
+
+        // when
+        boolean first = sut.incrementUsedCount(savedInvite.getInviteCode(), 2L);
+        boolean second = sut.incrementUsedCount(savedInvite.getInviteCode(), 3L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        FamilyInvite foundInvite = sut.findById(savedInvite.getId()).orElseThrow();
+        assertThat(foundInvite.getUsedCount()).isEqualTo(1);
+        assertThat(foundInvite.getStatus()).isEqualTo(FamilyInviteStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("만료된 초대는 사용 횟수를 증가시키지 않습니다")
+    void incrementUsedCount_returns_false_when_expired() {
+        // given
+        FamilyInvite savedInvite = sut.save(FamilyInvite.newInvite(10L, 1L, 5));
+        sut.modify(savedInvite.expire());
+
+        // when
+        boolean result = sut.incrementUsedCount(savedInvite.getInviteCode(), 2L);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(sut.findById(savedInvite.getId()).orElseThrow().getUsedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 일시가 지난 ACTIVE 초대를 limit 건까지만 EXPIRED로 변경합니다")
+    void expireAll_expires_up_to_limit_active_invites() {
+        // given
+        FamilyInvite first = sut.save(FamilyInvite.newInvite(10L, 1L, 5));
+        FamilyInvite second = sut.save(FamilyInvite.newInvite(10L, 1L, 5));
+        FamilyInvite completed = sut.save(FamilyInvite.newInvite(10L, 1L, 1));
+        sut.incrementUsedCount(completed.getInviteCode(), 2L);
+        LocalDateTime afterExpiry = LocalDateTime.now().plusDays(2);
+
+        // when
+        int firstChunk = sut.expireAll(afterExpiry, 1);
+        int secondChunk = sut.expireAll(afterExpiry, 1);
+        int thirdChunk = sut.expireAll(afterExpiry, 1);
+
+        // then
+        assertThat(firstChunk).isEqualTo(1);
+        assertThat(secondChunk).isEqualTo(1);
+        assertThat(thirdChunk).isZero();
+        assertThat(sut.findById(first.getId()).orElseThrow().getStatus()).isEqualTo(FamilyInviteStatus.EXPIRED);
+        assertThat(sut.findById(second.getId()).orElseThrow().getStatus()).isEqualTo(FamilyInviteStatus.EXPIRED);
+        assertThat(sut.findById(completed.getId()).orElseThrow().getStatus()).isEqualTo(FamilyInviteStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("만료 일괄 처리로 만료된 초대는 캐시에 적중해도 만료 상태로 조회됩니다")
+    void expireAll_is_reflected_in_cached_invite_lookup() {
+        // given
+        FamilyInvite savedInvite = sut.save(FamilyInvite.newInvite(10L, 1L, 5));
+        sut.findByInviteCode(savedInvite.getInviteCode());
+
+        // when
+        sut.expireAll(LocalDateTime.now().plusDays(2), 10);
+
+        // then
+        assertThat(sut.findByInviteCode(savedInvite.getInviteCode()).orElseThrow().getStatus())
+            .isEqualTo(FamilyInviteStatus.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("만료 일시가 지나지 않은 초대는 변경하지 않습니다")
+    void expireAll_ignores_unexpired_invites() {
+        // given
+        FamilyInvite savedInvite = sut.save(FamilyInvite.newInvite(10L, 1L, 5));
+
+        // when
+        int result = sut.expireAll(LocalDateTime.now(), 10);
+
+        // then
+        assertThat(result).isZero();
+        assertThat(sut.findById(savedInvite.getId()).orElseThrow().getStatus()).isEqualTo(FamilyInviteStatus.ACTIVE);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("여러 사용자가 동시에 수락해도 최대 사용 횟수만큼만 증가합니다")
+    void incrementUsedCount_never_exceeds_max_uses_under_contention() throws Exception {
+        // given: 각 요청이 별도 트랜잭션에서 커밋되도록 테스트 트랜잭션 없이 실행
+        int maxUses = 10;
+        int requestCount = 100;
+        FamilyInvite savedInvite = sut.save(FamilyInvite.newInvite(10L, 1L, maxUses));
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long userId = 1; userId <= requestCount; userId++) {
+                final long acceptedBy = 1_000L + userId;
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    if (sut.incrementUsedCount(savedInvite.getInviteCode(), acceptedBy)) {
+                        accepted.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+
+            // when
+            startLatch.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+
+            // then
+            assertThat(accepted.get()).isEqualTo(maxUses);
+            FamilyInvite foundInvite = sut.findById(savedInvite.getId()).orElseThrow();
+            assertThat(foundInvite.getUsedCount()).isEqualTo(maxUses);
+            assertThat(foundInvite.getStatus()).isEqualTo(FamilyInviteStatus.COMPLETED);
+        } finally {
+            familyInviteJpaRepository.deleteById(savedInvite.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("null 파라미터로 incrementUsedCount 호출 시 NPE가 발생합니다")
+    void incrementUsedCount_throws_npe_when_code_is_null() {
+        // when & then
+        assertThatThrownBy(() -> sut.incrementUsedCount(null, 1L))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("inviteCode must not be null");
+    }
 }
@@ -0,0 +1,322 @@
+package io.jhchoe.familytree.core.invite.adapter.out.persistence;
+
+import io.jhchoe.familytree.core.invite.config.FamilyInviteCacheProperties;
+import io.jhchoe.familytree.core.invite.domain.FamilyInvite;
+import io.jhchoe.familytree.core.invite.domain.FamilyInviteStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[Unit Test] FamilyInviteCacheTest")
+class FamilyInviteCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final String INVITE_CODE = "invite-code";
+
+    private FamilyInviteCacheProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private Map<Long, FamilyInviteStateRow> states;
+
+    @BeforeEach
+    void setUp() {
+        states = new HashMap<>();
+        properties = new FamilyInviteCacheProperties();
+        properties.setEnabled(true);
+        properties.setMaxSize(2);
+        properties.setTtlSeconds(60);
+        properties.setNegativeTtlSeconds(10);
+        properties.setNegativeMaxSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("같은 초대 코드를 다시 조회하면 캐시된 값을 반환하고 적중 횟수를 기록합니다")
+    void find_returns_cached_invite_on_second_lookup() {
+        // given
+        FamilyInviteCache sut = createCache(NOW);
+        FamilyInvite invite = createInvite(1L);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        sut.find(INVITE_CODE, () -> load(loads, invite), this::findState);
+        Optional<FamilyInvite> result = sut.find(INVITE_CODE, () -> load(loads, invite), this::findState);
+
+        // then
+        assertThat(result).map(FamilyInvite::getId).contains(invite.getId());
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("family.invite.cache.hits").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("family.invite.cache.misses").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 초대 코드도 캐시하고 별도 적중 횟수를 기록합니다")
+    void find_caches_empty_result() {
+        // given
+        FamilyInviteCache sut = createCache(NOW);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        sut.find(INVITE_CODE, () -> load(loads, null), this::findState);
+        Optional<FamilyInvite> result = sut.find(INVITE_CODE, () -> load(loads, null), this::findState);
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("family.invite.cache.negative.hits").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("family.invite.cache.hits").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 초대 코드는 짧은 TTL이 지나면 다시 적재합니다")
+    void find_reloads_empty_result_after_negative_ttl() {
+        // given
+        MutableClock clock = new MutableClock(NOW);
+        FamilyInviteCache sut = new FamilyInviteCache(properties, meterRegistry, clock);
+        FamilyInvite invite = createInvite(1L);
+        AtomicInteger loads = new AtomicInteger();
+        sut.find(INVITE_CODE, () -> load(loads, null), this::findState);
+        sut.find("other-code", () -> load(loads, invite), this::findState);
+
+        // when
+        clock.instant = NOW.plusSeconds(10);
+        Optional<FamilyInvite> missing = sut.find(INVITE_CODE, () -> load(loads, null), this::findState);
+        Optional<FamilyInvite> present = sut.find("other-code", () -> load(loads, invite), this::findState);
+
+        // then
+        assertThat(missing).isEmpty();
+        assertThat(present).map(FamilyInvite::getId).contains(invite.getId());
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 다시 적재합니다")
+    void find_reloads_when_entry_expired() {
+        // given
+        MutableClock clock = new MutableClock(NOW);
+        FamilyInviteCache sut = new FamilyInviteCache(properties, meterRegistry, clock);
+        FamilyInvite invite = createInvite(1L);
+        AtomicInteger loads = new AtomicInteger();
+        sut.find(INVITE_CODE, () -> load(loads, invite), this::findState);
+
+        // when
+        clock.instant = NOW.plusSeconds(60);
+        sut.find(INVITE_CODE, () -> load(loads, invite), this::findState);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("제거된 항목은 다음 조회 시 다시 적재합니다")
+    void find_reloads_after_evict() {
+        // given
+        FamilyInviteCache sut = createCache(NOW);
+        FamilyInvite invite = createInvite(1L);
+        AtomicInteger loads = new AtomicInteger();
+        sut.find(INVITE_CODE, () -> load(loads, invite), this::findState);
+
+        // when
+        sut.evict(INVITE_CODE);
+        sut.find(INVITE_CODE, () -> load(loads, invite), this::findState);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("family.invite.cache.evictions").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("조회 도중 제거 요청이 들어오면 조회 결과를 캐시하지 않습니다")
+    void find_does_not_cache_when_evicted_during_load() {
+        // given
+        FamilyInviteCache sut = createCache(NOW);
+        FamilyInvite invite = createInvite(1L);
+
+        // when
+        sut.find(INVITE_CODE, () -> {
+            sut.evict(INVITE_CODE);
+            return Optional.of(invite);
+        }, this::findState);
+
+        // then
+        assertThat(sut.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목을 제거합니다")
+    void evicts_least_recently_used_when_max_size_exceeded() {
+        // given
+        FamilyInviteCache sut = createCache(NOW);
+        AtomicInteger loads = new AtomicInteger();
+        FamilyInvite invite = createInvite(1L);
+
+        // when
+        sut.find("code-1", () -> load(loads, invite), this::findState);
+        sut.find("code-2", () -> load(loads, invite), this::findState);
+        sut.find("code-3", () -> load(loads, invite), this::findState);
+        sut.find("code-1", () -> load(loads, invite), this::findState);
+
+        // then
+        assertThat(sut.size()).isEqualTo(2);
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 코드 항목은 별도 크기로 제한되어 존재하는 초대 항목을 밀어내지 않습니다")
+    void negative_entries_do_not_evict_invites() {
+        // given
+        FamilyInviteCache sut = createCache(NOW);
+        AtomicInteger loads = new AtomicInteger();
+        FamilyInvite invite = createInvite(1L);
+        sut.find(INVITE_CODE, () -> load(loads, invite), this::findState);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            sut.find("guess-" + i, Optional::empty, this::findState);
+        }
+        Optional<FamilyInvite> result = sut.find(INVITE_CODE, () -> load(loads, invite), this::findState);
+
+        // then
+        assertThat(result).map(FamilyInvite::getId).contains(invite.getId());
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(sut.negativeSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시에 적중해도 상태와 사용 횟수는 최신 값을 반환합니다")
+    void find_returns_fresh_status_and_used_count_on_hit() {
+        // given
+        FamilyInviteCache sut = createCache(NOW);
+        AtomicInteger loads = new AtomicInteger();
+        FamilyInvite invite = createInvite(1L);
+        sut.find(INVITE_CODE, () -> load(loads, invite), this::findState);
+
+        // when
+        states.put(invite.getId(), new FamilyInviteStateRow(FamilyInviteStatus.COMPLETED, 5, invite.getModifiedAt()));
+        Optional<FamilyInvite> result = sut.find(INVITE_CODE, () -> load(loads, invite), this::findState);
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(result).isPresent();
+        assertThat(result.get().getStatus()).isEqualTo(FamilyInviteStatus.COMPLETED);
+        assertThat(result.get().getUsedCount()).isEqualTo(5);
+        assertThat(result.get().getMaxUses()).isEqualTo(invite.getMaxUses());
+        assertThat(result.get().getFamilyId()).isEqualTo(invite.getFamilyId());
+    }
+
+    @Test
+    @DisplayName("캐시된 초대가 삭제되었으면 항목을 제거하고 다시 조회합니다")
+    void find_reloads_when_cached_invite_deleted() {
+        // given
+        FamilyInviteCache sut = createCache(NOW);
+        AtomicInteger loads = new AtomicInteger();
+        FamilyInvite invite = createInvite(1L);
+        sut.find(INVITE_CODE, () -> load(loads, invite), this::findState);
+
+        // when
+        states.remove(invite.getId());
+        Optional<FamilyInvite> result = sut.find(INVITE_CODE, () -> load(loads, null), this::findState);
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(sut.negativeSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 제거한 뒤 다시 적재한 값은 롤백되면 제거합니다")
+    void evict_again_when_transaction_rolls_back() {
+        // given
+        FamilyInviteCache sut = createCache(NOW);
+        FamilyInvite uncommitted = createInvite(1L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.evict(INVITE_CODE);
+            sut.find(INVITE_CODE, () -> Optional.of(uncommitted), this::findState);
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(sut.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 항상 조회 함수를 호출합니다")
+    void find_always_loads_when_disabled() {
+        // given
+        properties.setEnabled(false);
+        FamilyInviteCache sut = createCache(NOW);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        sut.find(INVITE_CODE, () -> load(loads, null), this::findState);
+        sut.find(INVITE_CODE, () -> load(loads, null), this::findState);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(sut.size()).isZero();
+    }
+
+    private Optional<FamilyInvite> load(final AtomicInteger loads, final FamilyInvite invite) {
+        loads.incrementAndGet();
+        return Optional.ofNullable(invite);
+    }
+
+    private Optional<FamilyInviteStateRow> findState(final Long id) {
+        return Optional.ofNullable(states.get(id));
+    }
+
+    private FamilyInvite createInvite(final Long id) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        FamilyInvite invite = FamilyInvite.withId(
+            id, 10L, 1L, INVITE_CODE + "-" + id, now.plusDays(1), 5, 0, FamilyInviteStatus.ACTIVE, now, now
+        );
+        states.put(id, new FamilyInviteStateRow(invite.getStatus(), invite.getUsedCount(), invite.getModifiedAt()));
+        return invite;
+    }
+
+    private FamilyInviteCache createCache(final Instant now) {
+        return new FamilyInviteCache(properties, meterRegistry, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -109,9 +109,9 @@ class SaveInviteResponseWithKakaoServiceTest {
         when(saveFamilyMemberPort.save(any(FamilyMember.class)))
             .thenReturn(2L); // 저장된 멤버의 ID 반환
 
-        // FamilyInvite 수정 모킹
-        when(modifyFamilyInvitePort.modify(any(FamilyInvite.class)))
-            .thenReturn(activeInvite);
+        // 초대 사용 횟수 증가 모킹
+        when(modifyFamilyInvitePort.incrementUsedCount("invite-code-123", 200L))
+            .thenReturn(true);
 
         // when
         Long result = saveInviteResponseWithKakaoService.save(command);
@@ -121,7 +121,47 @@ class SaveInviteResponseWithKakaoServiceTest {
         assertThat(result).isEqualTo(2L);
 
         verify(saveFamilyMemberPort).save(any(FamilyMember.class));
-        verify(modifyFamilyInvitePort).modify(any(FamilyInvite.class));
+        verify(modifyFamilyInvitePort).incrementUsedCount("invite-code-123", 200L);
+    }
+
+    @Test
+    @DisplayName("동시 수락으로 사용 횟수를 증가시키지 못하면 사용 횟수 초과 예외가 발생한다")
+    void throw_exception_when_used_count_not_incremented() {
+        // given
+        FamilyInvite exhaustedInvite = FamilyInvite.withId(
+            1L,
+            10L,
+            100L,
+            "invite-code-123",
+            LocalDateTime.now().plusDays(1),
+            5,
+            5,
+            FamilyInviteStatus.COMPLETED,
+            LocalDateTime.now(),
+            LocalDateTime.now()
+        );
+
+        // 사전 검증 시점에는 사용 가능, 증가 시점에는 다른 요청이 마지막 횟수를 사용한 상황
+        when(findFamilyInvitePort.findByCode("invite-code-123"))
+            .thenReturn(Optional.of(activeInvite), Optional.of(exhaustedInvite));
+        when(findUserPort.findByKakaoId("kakao_12345"))
+            .thenReturn(Optional.of(UserFixture.withIdAndKakaoId(200L, "kakao_12345")));
+        when(findFamilyMemberPort.findByFamilyIdAndUserId(10L, 100L))
+            .thenReturn(Optional.of(requesterMember));
+        when(findFamilyMemberPort.existsByFamilyIdAndUserId(10L, 200L))
+            .thenReturn(false);
+        when(saveFamilyMemberPort.save(any(FamilyMember.class)))
+            .thenReturn(2L);
+        when(modifyFamilyInvitePort.incrementUsedCount("invite-code-123", 200L))
+            .thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> saveInviteResponseWithKakaoService.save(command))
+            .isInstanceOf(FTException.class)
+            .satisfies(exception -> {
+                FTException ftException = (FTException) exception;
+                assertThat(ftException.getCode()).isEqualTo(InviteExceptionCode.INVITE_MAX_USES_EXCEEDED.getCode());
+            });
     }
 
     @Test
@@ -2,6 +2,7 @@ package io.jhchoe.familytree.core.user.adapter.out.persistence;
 
 import io.jhchoe.familytree.common.auth.UserJpaEntity;
 import io.jhchoe.familytree.common.auth.domain.OAuth2Provider;
+import io.jhchoe.familytree.core.family.domain.CursorPage;
 import io.jhchoe.familytree.core.user.domain.User;
 import io.jhchoe.familytree.helper.TestcontainersDataJpaTestBase;
 import io.jhchoe.familytree.test.fixture.UserFixture;
@@ -52,6 +53,37 @@ class UserPersistenceAdapterTest extends TestcontainersDataJpaTestBase {
             .containsExactlyInAnyOrder("홍길동", "홍길순");
     }
     
+    @Test
+    @DisplayName("이름 검색 시 완전 일치, 앞부분 일치, 부분 일치 순으로 정렬하고 커서로 다음 페이지를 조회한다")
+    void given_keyword_when_search_by_name_then_return_users_in_relevance_order() {
+        // given
+        UserJpaEntity partial = entityManager.persist(UserJpaEntity.ofOAuth2User(
+            UserFixture.newOAuth2User("test1@example.com", "김길동", OAuth2Provider.GOOGLE)
+        ));
+        UserJpaEntity prefix = entityManager.persist(UserJpaEntity.ofOAuth2User(
+            UserFixture.newOAuth2User("test2@example.com", "길동이", OAuth2Provider.GOOGLE)
+        ));
+        UserJpaEntity exact = entityManager.persist(UserJpaEntity.ofOAuth2User(
+            UserFixture.newOAuth2User("test3@example.com", "길동", OAuth2Provider.GOOGLE)
+        ));
+        entityManager.persist(UserJpaEntity.ofOAuth2User(
+            UserFixture.newOAuth2User("test4@example.com", "홍길순", OAuth2Provider.GOOGLE)
+        ));
+        entityManager.flush();
+
+        // when
+        CursorPage<User> firstPage = sut.searchByName("길동", null, 2);
+        CursorPage<User> secondPage = sut.searchByName("길동", firstPage.getNextCursor(), 2);
+
+        // then
+        assertThat(firstPage.getContent()).extracting(User::getId)
+            .containsExactly(exact.getId(), prefix.getId());
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(secondPage.getContent()).extracting(User::getId)
+            .containsExactly(partial.getId());
+        assertThat(secondPage.isHasNext()).isFalse();
+    }
+
     @Test
     @DisplayName("이름 검색 시 결과가 없으면 빈 목록을 반환한다")
     void given_non_existent_name_when_find_by_name_containing_then_return_empty_list() {
@@ -2,6 +2,7 @@ package io.jhchoe.familytree.test.fixture;
 
 import io.jhchoe.familytree.core.family.domain.BirthdayType;
 import io.jhchoe.familytree.core.family.domain.FamilyMember;
+import io.jhchoe.familytree.core.family.domain.FamilyMemberRelationshipType;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberRole;
 import io.jhchoe.familytree.core.family.domain.FamilyMemberStatus;
 import java.time.LocalDateTime;
@@ -126,6 +127,16 @@ public final class FamilyMemberFixture {
             1L, LocalDateTime.now(), 1L, LocalDateTime.now());
     }
 
+    /**
+     * 지정된 ID와 관계 타입으로 MEMBER 역할의 FamilyMember를 생성합니다.
+     */
+    public static FamilyMember withIdAndRelationship(Long id, FamilyMemberRelationshipType relationshipType) {
+        return FamilyMember.withId(id, DEFAULT_FAMILY_ID, DEFAULT_USER_ID, DEFAULT_NAME, relationshipType, null,
+            DEFAULT_PROFILE_URL, DEFAULT_BIRTHDAY, DEFAULT_BIRTHDAY_TYPE,
+            FamilyMemberStatus.ACTIVE, FamilyMemberRole.MEMBER,
+            1L, LocalDateTime.now(), 1L, LocalDateTime.now());
+    }
+
     /**
      * 지정된 ID, 역할, 상태로 FamilyMember를 생성합니다.
      */